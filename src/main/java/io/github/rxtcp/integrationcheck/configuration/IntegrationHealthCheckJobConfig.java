@@ -1,7 +1,10 @@
 package io.github.rxtcp.integrationcheck.configuration;
 
 import io.github.rxtcp.integrationcheck.configuration.properties.IntegrationHealthCheckJobProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.IntegrationHealthCheckJobProps.WorkerStepProps.PartitionMode;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
 import io.github.rxtcp.integrationcheck.service.CheckExecution;
+import io.github.rxtcp.integrationcheck.service.DueCheckHandoff;
 import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,14 +25,20 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * Конфигурация пакетной задачи проверки интеграций.
  *
  * <p>Модель: master/worker c партиционированием по идентификатору проверки.
  * Master-ступень генерирует партиции на основе списка просроченных/должных к запуску проверок,
- * worker-ступень исполняет каждую проверку параллельно с заданным лимитом.</p>
+ * worker-ступень исполняет партиции параллельно с заданным лимитом. В режиме
+ * {@link PartitionMode#PER_CHECK} партиция соответствует одной проверке, в режиме
+ * {@link PartitionMode#GROUPED} — срезу проверок, выполняемому пачкой.</p>
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -43,10 +52,16 @@ public class IntegrationHealthCheckJobConfig {
     private static final String MASTER_STEP = "masterStep";
     private static final String WORKER_STEP = "workerStep";
     private static final String PARTITION_PREFIX = "check-";
+    private static final String GROUPED_PARTITION_PREFIX = "checks-";
     /**
      * Ключ параметра партиции: идентификатор проверки.
      */
     private static final String PARAM_CHECK_ID = "checkId";
+    /**
+     * Ключ параметра партиции: идентификаторы проверок среза через запятую.
+     */
+    private static final String PARAM_CHECK_IDS = "checkIds";
+    private static final String ID_DELIMITER = ",";
 
     /**
      * Определение пакетной задачи.
@@ -67,6 +82,7 @@ public class IntegrationHealthCheckJobConfig {
      * @param workerStep         исполняемая ступень для каждой партиции
      * @param checkIdPartitioner стратегія партиционирования по идентификаторам проверок
      * @param partitionExecutor  исполнитель для параллельного запуска партиций
+     * @param props              параметры worker-ступени (используется {@code gridSize})
      * @param jobRepository      репозиторий метаданных
      */
     @Bean
@@ -74,30 +90,38 @@ public class IntegrationHealthCheckJobConfig {
             Step workerStep,
             Partitioner checkIdPartitioner,
             TaskExecutor partitionExecutor,
+            IntegrationHealthCheckJobProps.WorkerStepProps props,
             JobRepository jobRepository
     ) {
         return new StepBuilder(MASTER_STEP, jobRepository)
                 .partitioner(WORKER_STEP, checkIdPartitioner)
                 .step(workerStep)
+                .gridSize(props.gridSize())
                 .taskExecutor(partitionExecutor)
                 .build();
     }
 
     /**
-     * Партиционирование по {@code checkId}: на каждую проверку формируется отдельный {@link ExecutionContext}.
+     * Партиционирование должных проверок.
      *
-     * <p>Источник идентификаторов — {@link CheckReader#findDueIds()}.</p>
+     * <p>Должные проверки читаются одним запросом сразу в DTO ({@link CheckReader#findDueChecks()}) и передаются
+     * worker-ступеням через {@link DueCheckHandoff}; в контекст партиции попадают только идентификаторы.
+     * В режиме {@link PartitionMode#PER_CHECK}
+     * на каждую проверку формируется отдельный {@link ExecutionContext} с {@code checkId}. В режиме
+     * {@link PartitionMode#GROUPED} упорядоченные идентификаторы делятся на не более чем {@code gridSize}
+     * непрерывных срезов почти равного размера; контекст среза содержит {@code checkIds}.</p>
      */
     @Bean
-    public Partitioner checkIdPartitioner(CheckReader checkReader) {
+    public Partitioner checkIdPartitioner(CheckReader checkReader,
+                                          DueCheckHandoff dueCheckHandoff,
+                                          IntegrationHealthCheckJobProps.WorkerStepProps props) {
         return gridSize -> {
-            var partitionContexts = new HashMap<String, ExecutionContext>();
-            checkReader.findDueIds().forEach(checkId -> {
-                var ctx = new ExecutionContext();
-                ctx.putLong(PARAM_CHECK_ID, checkId);
-                partitionContexts.put(PARTITION_PREFIX + checkId, ctx);
-            });
-            return partitionContexts;
+            final List<CheckDto> dueChecks = checkReader.findDueChecks();
+            dueCheckHandoff.offer(dueChecks);
+            final List<Long> dueIds = dueChecks.stream().map(CheckDto::id).toList();
+            return props.partitionMode() == PartitionMode.GROUPED
+                    ? groupedPartitions(dueIds, gridSize)
+                    : perCheckPartitions(dueIds);
         };
     }
 
@@ -130,20 +154,78 @@ public class IntegrationHealthCheckJobConfig {
     }
 
     /**
-     * Tasklet, запускающий исполнение одной проверки.
+     * Tasklet, запускающий исполнение проверок партиции: одной проверки или среза пачкой.
+     *
+     * <p>DTO, переданные партиционером через {@link DueCheckHandoff}, исполняются без повторного чтения;
+     * недостающие (например, при перезапуске шага) читаются из БД по идентификаторам.</p>
      *
-     * @param checkId        идентификатор проверки, внедряется из {@code stepExecutionContext}
-     * @param checkExecution сервис доменного исполнения проверки
+     * @param checkId         идентификатор проверки (режим {@code PER_CHECK}), внедряется из {@code stepExecutionContext}
+     * @param checkIds        идентификаторы среза через запятую (режим {@code GROUPED}), внедряются из {@code stepExecutionContext}
+     * @param checkExecution  сервис доменного исполнения проверки
+     * @param dueCheckHandoff DTO должных проверок текущего тика
      */
     @StepScope
     @Bean
     public Tasklet checkTasklet(
             @Value("#{stepExecutionContext['" + PARAM_CHECK_ID + "']}") Long checkId,
-            CheckExecution checkExecution
+            @Value("#{stepExecutionContext['" + PARAM_CHECK_IDS + "']}") String checkIds,
+            CheckExecution checkExecution,
+            DueCheckHandoff dueCheckHandoff
     ) {
         return (contribution, chunkContext) -> {
-            checkExecution.execute(checkId);
+            var taken = dueCheckHandoff.take(checkIds != null ? parseIds(checkIds) : List.of(checkId));
+            if (!taken.found().isEmpty()) {
+                checkExecution.executeChecks(taken.found());
+            }
+            if (!taken.missing().isEmpty()) {
+                if (checkIds != null) {
+                    checkExecution.executeBatch(taken.missing());
+                } else {
+                    checkExecution.execute(checkId);
+                }
+            }
             return RepeatStatus.FINISHED;
         };
     }
+
+    private static Map<String, ExecutionContext> perCheckPartitions(List<Long> checkIds) {
+        var partitionContexts = new HashMap<String, ExecutionContext>();
+        checkIds.forEach(checkId -> {
+            var ctx = new ExecutionContext();
+            ctx.putLong(PARAM_CHECK_ID, checkId);
+            partitionContexts.put(PARTITION_PREFIX + checkId, ctx);
+        });
+        return partitionContexts;
+    }
+
+    /**
+     * Делит упорядоченные идентификаторы на {@code min(gridSize, n)} непрерывных срезов;
+     * размеры срезов отличаются не более чем на единицу. Имя партиции — {@code checks-<первый id>-<последний id>}.
+     */
+    private static Map<String, ExecutionContext> groupedPartitions(List<Long> checkIds, int gridSize) {
+        var partitionContexts = new HashMap<String, ExecutionContext>();
+        if (checkIds.isEmpty()) {
+            return partitionContexts;
+        }
+        final List<Long> sorted = checkIds.stream().sorted().toList();
+        final int partitions = Math.min(Math.max(gridSize, 1), sorted.size());
+        final int baseSize = sorted.size() / partitions;
+        final int remainder = sorted.size() % partitions;
+        int from = 0;
+        for (int i = 0; i < partitions; i++) {
+            final int to = from + baseSize + (i < remainder ? 1 : 0);
+            final List<Long> slice = sorted.subList(from, to);
+            var ctx = new ExecutionContext();
+            ctx.putString(PARAM_CHECK_IDS, slice.stream().map(String::valueOf).collect(Collectors.joining(ID_DELIMITER)));
+            partitionContexts.put(GROUPED_PARTITION_PREFIX + slice.getFirst() + "-" + slice.getLast(), ctx);
+            from = to;
+        }
+        return partitionContexts;
+    }
+
+    private static List<Long> parseIds(String checkIds) {
+        return Arrays.stream(checkIds.split(ID_DELIMITER))
+                .map(Long::valueOf)
+                .toList();
+    }
 }
\ No newline at end of file
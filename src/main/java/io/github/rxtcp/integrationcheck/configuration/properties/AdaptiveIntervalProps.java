@@ -0,0 +1,27 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Свойства адаптивного интервала запусков (префикс: {@code application.integration.adaptive-interval}).
+ * <p>
+ * Интервал адаптируется только у проверок с заданной нижней границей ({@code adaptive_min_interval_sec});
+ * границы задаются на проверке, здесь — темп изменения.
+ *
+ * @param successThreshold число успешных запусков подряд, после которого интервал расширяется (≥ 1)
+ * @param factor           во сколько раз интервал сужается после сбоя и расширяется после серии успехов (≥ 2)
+ * @param pruneInterval    период очистки метрики сэкономленных запусков от удалённых и выключенных проверок
+ */
+@Validated
+@ConfigurationProperties("application.integration.adaptive-interval")
+public record AdaptiveIntervalProps(
+        @Min(1) int successThreshold,
+        @Min(2) int factor,
+        @NotNull Duration pruneInterval
+) {
+}
@@ -0,0 +1,24 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Свойства кэша определений проверок (префикс: {@code application.integration.check-cache}).
+ *
+ * @param enabled             включить кэш; выключенный — должные проверки каждый тик читаются целиком
+ * @param fullRefreshInterval период полной перезагрузки кэша; только она убирает удалённые проверки
+ * @param deltaOverlap        насколько раньше отметки последнего изменения начинать дельта-чтение:
+ *                            покрывает транзакции, зафиксированные позже, чем проставлен их {@code updated_at}
+ */
+@Validated
+@ConfigurationProperties("application.integration.check-cache")
+public record CheckCacheProps(
+        boolean enabled,
+        @NotNull Duration fullRefreshInterval,
+        @NotNull Duration deltaOverlap
+) {
+}
@@ -0,0 +1,31 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Свойства аренды должных проверок узлами прямого движка (префикс: {@code application.integration.lease}).
+ * <p>
+ * С арендой несколько узлов выполняют одно окно параллельно: каждый захватывает свою порцию должных проверок
+ * ({@code FOR UPDATE SKIP LOCKED}) вместо защиты окна строкой {@code h_engine_tick}.
+ *
+ * @param enabled   захватывать должные проверки арендой; при {@code false} окно выполняет один узел
+ * @param owner     идентификатор узла в {@code h_check.lease_owner}; уникален в кластере
+ * @param batchSize число проверок, захватываемых одним запросом
+ * @param duration  срок аренды; должен превышать время выполнения порции, иначе проверку захватит другой узел
+ */
+@Validated
+@ConfigurationProperties("application.integration.lease")
+public record CheckLeaseProps(
+        boolean enabled,
+        @NotBlank @Size(max = 128) String owner,
+        @Min(1) int batchSize,
+        @NotNull Duration duration
+) {
+}
@@ -0,0 +1,46 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Свойства движка исполнения тиков (префикс: {@code application.integration.engine}).
+ *
+ * @param type             движок: {@link Type#BATCH} — Spring Batch job, {@link Type#DIRECT} — прямой запуск
+ * @param sliceSize        число проверок в одной пачке прямого движка (≥ 1)
+ * @param concurrencyLimit число одновременно выполняемых пачек прямого движка (≥ 1)
+ * @param threadNamePrefix префикс имён виртуальных потоков прямого движка
+ */
+@Validated
+@ConfigurationProperties("application.integration.engine")
+public record ExecutionEngineProps(
+        @NotNull Type type,
+        @Min(1) int sliceSize,
+        @Min(1) int concurrencyLimit,
+        @NotBlank String threadNamePrefix
+) {
+
+    /**
+     * Имя свойства выбора движка (для {@code @ConditionalOnProperty}).
+     */
+    public static final String TYPE_PROPERTY = "application.integration.engine.type";
+
+    /**
+     * Движок исполнения тиков.
+     */
+    public enum Type {
+
+        /**
+         * Spring Batch job с партиционированием (метаданные запуска в таблицах {@code BATCH_*}).
+         */
+        BATCH,
+
+        /**
+         * Прямой запуск должных проверок на виртуальных потоках; одна строка-сводка на тик.
+         */
+        DIRECT
+    }
+}
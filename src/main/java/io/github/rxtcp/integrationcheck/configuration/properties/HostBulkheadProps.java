@@ -0,0 +1,45 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Свойства ограничения параллельных проверок на один хост (префикс: {@code application.integration.http.host-bulkhead}).
+ * <p>
+ * Общий лимит шага ({@code worker-step.concurrency-limit}) не мешает всем проверкам одного партнёра
+ * стартовать одновременно; этот лимит сглаживает такие всплески.
+ *
+ * @param defaultLimit лимит одновременных запросов к хосту по умолчанию (≥ 1)
+ * @param limits       переопределения лимита по имени хоста (регистр не важен)
+ * @param maxWait      наибольшее ожидание разрешения; по его истечении проверка завершается таймаутом
+ */
+@Validated
+@ConfigurationProperties("application.integration.http.host-bulkhead")
+public record HostBulkheadProps(
+        @Min(1) int defaultLimit,
+        Map<String, @Min(1) Integer> limits,
+        @NotNull Duration maxWait
+) {
+
+    public HostBulkheadProps {
+        limits = limits == null ? Map.of() : limits.entrySet().stream()
+                .collect(Collectors.toUnmodifiableMap(e -> e.getKey().toLowerCase(Locale.ROOT), Map.Entry::getValue));
+    }
+
+    /**
+     * Лимит для хоста: переопределение или значение по умолчанию.
+     *
+     * @param host имя хоста
+     * @return лимит одновременных запросов
+     */
+    public int limitFor(String host) {
+        return limits.getOrDefault(host.toLowerCase(Locale.ROOT), defaultLimit);
+    }
+}
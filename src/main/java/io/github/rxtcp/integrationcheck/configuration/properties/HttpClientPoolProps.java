@@ -0,0 +1,35 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Свойства пула HTTP-клиентов REST-проверок (префикс: {@code application.integration.http.client-pool}).
+ * <p>
+ * Клиенты переиспользуются между запусками проверок: соединения keep-alive и TLS-сессии
+ * сохраняются, пока клиент не простаивает дольше {@code idleTimeout}.
+ *
+ * @param httpVersion      предпочитаемая версия протокола HTTP
+ * @param redirect         политика следования редиректам
+ * @param proxyHost        хост HTTP-прокси; пусто — без прокси
+ * @param proxyPort        порт HTTP-прокси (0–65535), учитывается только при заданном {@code proxyHost}
+ * @param idleTimeout      время простоя, после которого клиент вытесняется из пула
+ * @param evictionInterval период фоновой проверки простаивающих клиентов
+ */
+@Validated
+@ConfigurationProperties("application.integration.http.client-pool")
+public record HttpClientPoolProps(
+        @NotNull HttpClient.Version httpVersion,
+        @NotNull HttpClient.Redirect redirect,
+        String proxyHost,
+        @Min(0) @Max(65535) int proxyPort,
+        @NotNull Duration idleTimeout,
+        @NotNull Duration evictionInterval
+) {
+}
@@ -2,6 +2,7 @@ package io.github.rxtcp.integrationcheck.configuration.properties;
 
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.validation.annotation.Validated;
 
@@ -23,14 +24,35 @@ public record IntegrationHealthCheckJobProps() {
      * @param concurrencyLimit      предел параллелизма шага (кол-во одновременных обработчиков), значение ≥ 1
      * @param threadNamePrefix      префикс имени потоков исполнителей шага (для удобной трассировки в логах/метриках)
      * @param virtualThreadsEnabled включить виртуальные потоки для исполнителей шага
+     * @param partitionMode         способ разбиения должных проверок на партиции
+     * @param gridSize              число партиций в режиме {@link PartitionMode#GROUPED}, значение ≥ 1
      */
     @Validated
     @ConfigurationProperties("application.spring-batch.jobs.integration-health-check-job.worker-step")
     public record WorkerStepProps(
             @Min(1) int concurrencyLimit,
             @NotBlank String threadNamePrefix,
-            boolean virtualThreadsEnabled
+            boolean virtualThreadsEnabled,
+            @NotNull PartitionMode partitionMode,
+            @Min(1) int gridSize
     ) {
+
+        /**
+         * Способ разбиения должных проверок на партиции.
+         */
+        public enum PartitionMode {
+
+            /**
+             * Отдельная партиция (и {@code StepExecution}) на каждую проверку.
+             */
+            PER_CHECK,
+
+            /**
+             * Не более {@code gridSize} партиций; каждая получает непрерывный по id срез проверок
+             * и выполняет его пачкой. Объём метаданных Spring Batch растёт с числом партиций, а не проверок.
+             */
+            GROUPED
+        }
     }
 
     /**
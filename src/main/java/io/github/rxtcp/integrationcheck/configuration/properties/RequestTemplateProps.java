@@ -0,0 +1,25 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Свойства кэша скомпилированных шаблонов запросов REST-проверок
+ * (префикс: {@code application.integration.http.request-template}).
+ * <p>
+ * Шаблон собирается из профиля один раз и переиспользуется запусками проверки; шаблоны удалённых,
+ * отключённых и перенастроенных проверок вытесняются по простою.
+ *
+ * @param idleTimeout      время простоя, после которого шаблон вытесняется из кэша
+ * @param evictionInterval период фоновой проверки простаивающих шаблонов
+ */
+@Validated
+@ConfigurationProperties("application.integration.http.request-template")
+public record RequestTemplateProps(
+        @NotNull Duration idleTimeout,
+        @NotNull Duration evictionInterval
+) {
+}
@@ -0,0 +1,21 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Свойства захвата тела ответа REST-проверок (префикс: {@code application.integration.http.response-capture}).
+ * <p>
+ * В результат проверки попадает только начало тела; остаток читается потоково (для подсчёта размера
+ * и хеша) и отбрасывается, не накапливаясь в памяти.
+ *
+ * @param maxBytes максимальный объём тела, сохраняемый в {@code details} результата
+ */
+@Validated
+@ConfigurationProperties("application.integration.http.response-capture")
+public record ResponseCaptureProps(
+        @NotNull DataSize maxBytes
+) {
+}
@@ -0,0 +1,36 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Свойства обслуживания секций {@code h_check_result} (префикс: {@code application.integration.result-partitioning}).
+ * <p>
+ * Секционирование создаёт миграция для PostgreSQL; на других СУБД обслуживание нужно выключить.
+ *
+ * @param enabled             включить обслуживание секций
+ * @param schema              схема таблицы {@code h_check_result}
+ * @param premakeDays         на сколько суток вперёд держать созданные секции (≥ 1)
+ * @param retention           срок хранения: секция удаляется, когда её верхняя граница старше {@code now - retention}
+ * @param maintenanceInterval период обслуживания; первый проход — при старте
+ */
+@Validated
+@ConfigurationProperties("application.integration.result-partitioning")
+public record ResultPartitioningProps(
+        boolean enabled,
+        @NotBlank String schema,
+        @Min(1) int premakeDays,
+        @NotNull Duration retention,
+        @NotNull Duration maintenanceInterval
+) {
+
+    /**
+     * Имя свойства включения обслуживания (для {@code @ConditionalOnProperty}).
+     */
+    public static final String ENABLED_PROPERTY = "application.integration.result-partitioning.enabled";
+}
@@ -0,0 +1,41 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Свойства хранения деталей результатов проверок (префикс: {@code application.integration.result-payload}).
+ * <p>
+ * Детали хранятся один раз на уникальное содержимое в {@code h_check_result_payload}, результат ссылается
+ * на них по SHA-256.
+ *
+ * @param enabled           выносить детали в {@code h_check_result_payload}; при {@code false} детали пишутся в строку результата
+ * @param schema            схема таблицы {@code h_check_result_payload}
+ * @param compressionLevel  уровень сжатия DEFLATE (1 — быстрее всего, 9 — плотнее всего)
+ * @param compressThreshold детали меньше этого размера хранятся без сжатия
+ * @param cacheSize         число хешей уже сохранённых деталей, запоминаемых в памяти
+ * @param touchInterval     как часто обновлять {@code last_seen_at} деталей, которые продолжают встречаться
+ * @param retention         срок хранения деталей после последнего использования; не меньше срока хранения
+ *                          результатов плюс сутки и два {@code touchInterval}
+ * @param purgeInterval     период удаления деталей, не использовавшихся дольше {@code retention}
+ */
+@Validated
+@ConfigurationProperties("application.integration.result-payload")
+public record ResultPayloadProps(
+        boolean enabled,
+        @NotBlank String schema,
+        @Min(1) @Max(9) int compressionLevel,
+        @NotNull DataSize compressThreshold,
+        @Min(1) int cacheSize,
+        @NotNull Duration touchInterval,
+        @NotNull Duration retention,
+        @NotNull Duration purgeInterval
+) {
+}
@@ -0,0 +1,38 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Свойства агрегатов результатов проверок (префикс: {@code application.integration.result-rollup}).
+ *
+ * @param enabled            включить накопление агрегатов и их компактизацию
+ * @param schema             схема таблиц {@code h_check_rollup_*}
+ * @param flushInterval      период сброса накопленных минутных агрегатов в БД
+ * @param compactionInterval период компактизации минут в часы и часов в сутки
+ * @param compactionDelay    отставание компактизации от текущего времени: минуты моложе {@code now - compactionDelay}
+ *                           ещё могут дописываться и в часы не сворачиваются
+ * @param minuteRetention    срок хранения минутных агрегатов (удаляются только уже свёрнутые в часы)
+ * @param hourRetention      срок хранения часовых агрегатов (удаляются только уже свёрнутые в сутки)
+ */
+@Validated
+@ConfigurationProperties("application.integration.result-rollup")
+public record ResultRollupProps(
+        boolean enabled,
+        @NotBlank String schema,
+        @NotNull Duration flushInterval,
+        @NotNull Duration compactionInterval,
+        @NotNull Duration compactionDelay,
+        @NotNull Duration minuteRetention,
+        @NotNull Duration hourRetention
+) {
+
+    /**
+     * Имя свойства включения агрегатов (для {@code @ConditionalOnProperty}).
+     */
+    public static final String ENABLED_PROPERTY = "application.integration.result-rollup.enabled";
+}
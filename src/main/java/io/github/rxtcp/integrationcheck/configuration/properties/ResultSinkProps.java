@@ -0,0 +1,57 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Свойства записи результатов проверок (префикс: {@code application.integration.result-sink}).
+ *
+ * @param mode          режим записи: {@link Mode#SYNC} — транзакция на старт и на завершение,
+ *                      {@link Mode#WRITE_BEHIND} — завершённые результаты копятся в буфере и пишутся пачками
+ * @param schema        схема таблицы {@code h_check_result} для пакетной вставки
+ * @param capacity      ёмкость буфера завершённых результатов (≥ 1)
+ * @param batchSize     максимальный размер одной пакетной вставки (≥ 1)
+ * @param flushInterval максимальное время ожидания неполной пачки перед записью
+ * @param offerTimeout  сколько ждать места в заполненном буфере, прежде чем записать результат в потоке проверки
+ * @param retryAttempts повторы неудавшейся пакетной вставки перед построчной записью (≥ 0)
+ * @param retryBackoff  пауза перед первым повтором; каждая следующая вдвое длиннее
+ */
+@Validated
+@ConfigurationProperties("application.integration.result-sink")
+public record ResultSinkProps(
+        @NotNull Mode mode,
+        @NotBlank String schema,
+        @Min(1) int capacity,
+        @Min(1) int batchSize,
+        @NotNull Duration flushInterval,
+        @NotNull Duration offerTimeout,
+        @Min(0) int retryAttempts,
+        @NotNull Duration retryBackoff
+) {
+
+    /**
+     * Имя свойства выбора режима (для {@code @ConditionalOnProperty}).
+     */
+    public static final String MODE_PROPERTY = "application.integration.result-sink.mode";
+
+    /**
+     * Режим записи результатов.
+     */
+    public enum Mode {
+
+        /**
+         * Строка {@code PROCESSING} на старте и её обновление на завершении, каждая операция в своей транзакции.
+         */
+        SYNC,
+
+        /**
+         * Одна строка на запуск после завершения; строки пишутся пакетной вставкой по размеру или таймеру.
+         */
+        WRITE_BEHIND
+    }
+}
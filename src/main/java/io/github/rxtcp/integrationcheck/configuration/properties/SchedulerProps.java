@@ -0,0 +1,57 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Свойства планировщика запусков (префикс: {@code application.integration.scheduler}).
+ *
+ * @param mode               режим: {@link Mode#CRON} — тики по cron, {@link Mode#WHEEL} — колесо таймеров по {@code next_run_at}
+ * @param tick               размер ячейки нижнего уровня колеса — точность срабатывания (≥ 1 мс)
+ * @param wheelSize          число ячеек на уровне колеса (≥ 2)
+ * @param deltaInterval      период дельта-сверки колеса с БД по {@code updated_at}
+ * @param fullResyncInterval период полной сверки колеса с БД; только она убирает удалённые проверки
+ *                           и подхватывает {@code next_run_at}, изменённый в обход узла
+ * @param deltaOverlap       насколько раньше отметки последнего изменения начинать дельта-чтение
+ * @param retryDelay         через сколько повторить проверку, которая наступила, но не захвачена
+ *                           (арендована другим узлом) или не перенесена после запуска
+ */
+@Validated
+@ConfigurationProperties("application.integration.scheduler")
+public record SchedulerProps(
+        @NotNull Mode mode,
+        @NotNull Duration tick,
+        @Min(2) int wheelSize,
+        @NotNull Duration deltaInterval,
+        @NotNull Duration fullResyncInterval,
+        @NotNull Duration deltaOverlap,
+        @NotNull Duration retryDelay
+) {
+
+    /**
+     * Имя свойства выбора режима (для {@code @ConditionalOnProperty}).
+     */
+    public static final String MODE_PROPERTY = "application.integration.scheduler.mode";
+
+    /**
+     * Режим планировщика.
+     */
+    public enum Mode {
+
+        /**
+         * Тики по cron-расписанию job'а: каждый тик читает должные проверки и передаёт их движку исполнения.
+         * Наступивший срок ждёт ближайшего тика, поэтому интервалы короче периода cron не выдерживаются.
+         */
+        CRON,
+
+        /**
+         * Колесо таймеров в памяти: каждая проверка запускается в момент своего {@code next_run_at},
+         * с БД сверяются только изменения. Подходит для интервалов в секундах ({@code run_interval_sec}).
+         */
+        WHEEL
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Свойства расчёта следующего запуска проверки (префикс: {@code application.integration.scheduling-policy}).
+ * <p>
+ * Политика {@link #type()} применяется к проверкам с режимом {@code FIXED_DELAY}; проверки {@code FIXED_RATE}
+ * отсчитывают следующий запуск от запланированного и используют только {@link #catchUp()}.
+ *
+ * @param type          политика: {@link Type#INTERVAL}, {@link Type#PHASED} или {@link Type#BALANCED}
+ * @param maxJitter     наибольший случайный сдвиг срока вперёд для {@link Type#INTERVAL} и {@link Type#PHASED};
+ *                      не больше половины интервала проверки; {@code 0} — без сдвига
+ * @param balanceWindow насколько раньше или позже расчётного срока {@link Type#BALANCED} ищет наименее занятую секунду;
+ *                      не больше половины интервала проверки
+ * @param catchUp       обработка слотов, пропущенных проверкой с режимом {@code FIXED_RATE}
+ */
+@Validated
+@ConfigurationProperties("application.integration.scheduling-policy")
+public record SchedulingPolicyProps(
+        @NotNull Type type,
+        @NotNull Duration maxJitter,
+        @NotNull Duration balanceWindow,
+        @NotNull CatchUp catchUp
+) {
+
+    /**
+     * Имя свойства выбора политики (для {@code @ConditionalOnProperty}).
+     */
+    public static final String TYPE_PROPERTY = "application.integration.scheduling-policy.type";
+
+    /**
+     * Политика расчёта следующего запуска.
+     */
+    public enum Type {
+
+        /**
+         * {@code finishedAt + интервал}: проверки, созданные или освобождённые вместе, так и запускаются вместе.
+         */
+        INTERVAL,
+
+        /**
+         * Постоянная фаза проверки внутри интервала, вычисленная по её идентификатору: сроки проверок
+         * с одинаковым интервалом равномерно распределены по интервалу и не сходятся после простоя.
+         */
+        PHASED,
+
+        /**
+         * Наименее занятая секунда вокруг {@code finishedAt + интервал} по запланированным узлом запускам.
+         */
+        BALANCED
+    }
+
+    /**
+     * Обработка слотов, пропущенных проверкой с режимом {@code FIXED_RATE} (простой, очередь, долгий запуск).
+     */
+    public enum CatchUp {
+
+        /**
+         * Пропущенные слоты схлопываются: следующий запуск — первый слот после завершения.
+         */
+        COALESCE,
+
+        /**
+         * Каждый пропущенный слот выполняется: следующий запуск — следующий по порядку слот, даже прошедший;
+         * проверка догоняет расписание запусками подряд.
+         */
+        RUN_ALL
+    }
+}
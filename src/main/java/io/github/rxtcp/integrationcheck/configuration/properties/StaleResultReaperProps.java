@@ -0,0 +1,36 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Свойства восстановления зависших запусков (префикс: {@code application.integration.stale-result-reaper}).
+ * <p>
+ * Запуск, оставшийся в {@code PROCESSING} дольше таймаута профиля плюс {@code grace}, считается брошенным.
+ *
+ * @param enabled   включить восстановление
+ * @param schema    схема таблиц {@code h_check_result} и {@code h_check}
+ * @param grace     запас сверх таймаута профиля: покрывает ожидание проверки внутри пачки и запись итога
+ * @param batchSize число зависших запусков, завершаемых одной транзакцией (≥ 1)
+ * @param interval  период прохода; первый проход — при старте
+ */
+@Validated
+@ConfigurationProperties("application.integration.stale-result-reaper")
+public record StaleResultReaperProps(
+        boolean enabled,
+        @NotBlank String schema,
+        @NotNull Duration grace,
+        @Min(1) int batchSize,
+        @NotNull Duration interval
+) {
+
+    /**
+     * Имя свойства включения восстановления (для {@code @ConditionalOnProperty}).
+     */
+    public static final String ENABLED_PROPERTY = "application.integration.stale-result-reaper.enabled";
+}
@@ -10,5 +10,10 @@ public enum CheckType {
     /**
      * Проверка REST API.
      */
-    REST_API
+    REST_API,
+
+    /**
+     * Проверка установки TCP-соединения.
+     */
+    TCP_CONNECT
 }
@@ -15,5 +15,9 @@ public enum FailureReason {
     /**
      * Несоответствие HTTP-кода ожиданиям.
      */
-    HTTP_STATUS_MISMATCH
+    HTTP_STATUS_MISMATCH,
+    /**
+     * Запуск брошен: узел остановился, не записав итог (проставляется восстановлением зависших запусков).
+     */
+    ABANDONED
 }
@@ -0,0 +1,16 @@
+package io.github.rxtcp.integrationcheck.domain;
+
+/**
+ * Режим расписания проверки: от чего отсчитывается следующий запуск.
+ */
+public enum ScheduleMode {
+    /**
+     * От завершения запуска: период — интервал плюс время выполнения и ожидания в очереди.
+     */
+    FIXED_DELAY,
+    /**
+     * От запланированного времени запуска: период не зависит от времени выполнения,
+     * пропущенные слоты обрабатываются по политике догоняния.
+     */
+    FIXED_RATE
+}
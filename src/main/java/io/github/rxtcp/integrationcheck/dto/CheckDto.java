@@ -1,6 +1,7 @@
 package io.github.rxtcp.integrationcheck.dto;
 
 import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
@@ -19,6 +20,12 @@ import java.time.LocalDateTime;
  * @param nextRunAt      время следующего запуска
  * @param type           тип проверки
  * @param profile        профиль проверки
+ * @param scheduleMode   режим расписания
+ * @param runIntervalSec интервал, с (1–604800); если задан, заменяет {@code runIntervalMin}
+ * @param adaptiveMinIntervalSec нижняя граница адаптивного интервала, с; {@code null} — интервал не адаптируется
+ * @param adaptiveMaxIntervalSec верхняя граница адаптивного интервала, с; {@code null} — заданный интервал
+ * @param adaptiveIntervalSec    текущий адаптивный интервал, с; {@code null} — заданный интервал
+ * @param successStreak          успешные запуски подряд с последнего изменения адаптивного интервала
  */
 public record CheckDto(
         Long id,
@@ -28,6 +35,20 @@ public record CheckDto(
         @Min(1) @Max(10080) int runIntervalMin,
         @NotNull LocalDateTime nextRunAt,
         @NotNull CheckType type,
-        @NotNull CheckProfileDto profile
+        @NotNull CheckProfileDto profile,
+        @NotNull ScheduleMode scheduleMode,
+        @Min(1) @Max(604800) Integer runIntervalSec,
+        @Min(1) @Max(604800) Integer adaptiveMinIntervalSec,
+        @Min(1) @Max(604800) Integer adaptiveMaxIntervalSec,
+        Integer adaptiveIntervalSec,
+        @Min(0) int successStreak
 ) {
+
+    /**
+     * Та же проверка с другим текущим состоянием расписания.
+     */
+    public CheckDto withRunState(LocalDateTime nextRunAt, Integer adaptiveIntervalSec, int successStreak) {
+        return new CheckDto(id, name, description, enabled, runIntervalMin, nextRunAt, type, profile, scheduleMode,
+                runIntervalSec, adaptiveMinIntervalSec, adaptiveMaxIntervalSec, adaptiveIntervalSec, successStreak);
+    }
 }
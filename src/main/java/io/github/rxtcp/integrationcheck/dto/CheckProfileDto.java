@@ -1,7 +1,8 @@
 package io.github.rxtcp.integrationcheck.dto;
 
 /**
- * Базовый профиль проверки (sealed). Используется в {@link CheckDto}. Разрешённый подтип: {@link RestApiProfileDto}.
+ * Базовый профиль проверки (sealed). Используется в {@link CheckDto}.
+ * Разрешённые подтипы: {@link RestApiProfileDto}, {@link TcpConnectProfileDto}.
  */
-public sealed interface CheckProfileDto permits RestApiProfileDto {
+public sealed interface CheckProfileDto permits RestApiProfileDto, TcpConnectProfileDto {
 }
@@ -10,10 +10,19 @@ import jakarta.validation.constraints.NotNull;
  * @param status        обязательный статус
  * @param failureReason причина неуспеха (для {@code SUCCEEDED} обычно {@code null})
  * @param details       детали ответа/ошибки
+ * @param timings       тайминги фаз сетевого обмена
  */
 public record CheckResultDto(
         @NotNull CheckRunStatus status,
         FailureReason failureReason,
-        String details
+        String details,
+        @NotNull CheckTimings timings
 ) {
+
+    /**
+     * Результат без таймингов.
+     */
+    public CheckResultDto(CheckRunStatus status, FailureReason failureReason, String details) {
+        this(status, failureReason, details, CheckTimings.EMPTY);
+    }
 }
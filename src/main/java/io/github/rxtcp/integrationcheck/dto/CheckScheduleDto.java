@@ -0,0 +1,23 @@
+package io.github.rxtcp.integrationcheck.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * Расписание проверки без определения и профиля.
+ *
+ * @param id        идентификатор проверки
+ * @param enabled   признак активности
+ * @param nextRunAt время следующего запуска
+ * @param updatedAt время последнего изменения определения
+ * @param adaptiveIntervalSec текущий адаптивный интервал, с; {@code null} — заданный интервал
+ * @param successStreak       успешные запуски подряд с последнего изменения адаптивного интервала
+ */
+public record CheckScheduleDto(
+        Long id,
+        boolean enabled,
+        LocalDateTime nextRunAt,
+        LocalDateTime updatedAt,
+        Integer adaptiveIntervalSec,
+        int successStreak
+) {
+}
@@ -0,0 +1,25 @@
+package io.github.rxtcp.integrationcheck.dto;
+
+/**
+ * Тайминги фаз сетевого обмена проверки, микросекунды.
+ * {@code null} — фаза не измерялась или не была достигнута.
+ *
+ * @param dnsMicros     разрешение имени хоста
+ * @param connectMicros установка TCP-соединения (TCP-проверки; у HTTP-проверок входит в {@code ttfbMicros})
+ * @param ttfbMicros    от отправки запроса до заголовков ответа
+ * @param bodyMicros    чтение тела ответа
+ * @param totalMicros   полное время обмена
+ */
+public record CheckTimings(
+        Integer dnsMicros,
+        Integer connectMicros,
+        Integer ttfbMicros,
+        Integer bodyMicros,
+        Integer totalMicros
+) {
+
+    /**
+     * Тайминги отсутствуют.
+     */
+    public static final CheckTimings EMPTY = new CheckTimings(null, null, null, null, null);
+}
@@ -0,0 +1,24 @@
+package io.github.rxtcp.integrationcheck.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * DTO профиля проверки TCP-соединения.
+ *
+ * @param checkId          идентификатор проверки (владелец)
+ * @param profileId        идентификатор профиля (nullable при создании)
+ * @param host             имя хоста или IP-адрес
+ * @param port             TCP-порт (1–65535)
+ * @param connectTimeoutMs таймаут установки соединения, мс (1–60000)
+ */
+public record TcpConnectProfileDto(
+        @NotNull Long checkId,
+        Long profileId,
+        @NotBlank String host,
+        @Min(1) @Max(65535) int port,
+        @Min(1) @Max(60000) int connectTimeoutMs
+) implements CheckProfileDto {
+}
@@ -3,6 +3,7 @@ package io.github.rxtcp.integrationcheck.entity;
 import io.github.rxtcp.integrationcheck.common.contract.Identifiable;
 import io.github.rxtcp.integrationcheck.entity.support.HibernateEntityUtil;
 import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -12,6 +13,9 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.Max;
@@ -26,6 +30,8 @@ import org.hibernate.Hibernate;
 
 import java.time.LocalDateTime;
 
+import static io.github.rxtcp.integrationcheck.entity.support.HibernateEntityUtil.ID_ALLOCATION_SIZE;
+
 /**
  * Проверка интеграции (сущность планировщика). 1:1 профиль, уникальное имя.
  */
@@ -45,7 +51,8 @@ public class Check implements Identifiable<Long> {
      * Идентификатор (PK).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "h_check_id_seq")
+    @SequenceGenerator(name = "h_check_id_seq", sequenceName = "h_check_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -76,12 +83,65 @@ public class Check implements Identifiable<Long> {
     @Column(name = "run_interval_min", nullable = false)
     private int runIntervalMin;
 
+    /**
+     * Интервал запусков, с (1–604800); если задан, заменяет {@link #runIntervalMin}.
+     */
+    @Min(1)
+    @Max(604800)
+    @Column(name = "run_interval_sec")
+    private Integer runIntervalSec;
+
     /**
      * Время следующего запуска.
      */
     @Column(name = "next_run_at", nullable = false)
     private LocalDateTime nextRunAt;
 
+    /**
+     * Режим расписания: от чего отсчитывается следующий запуск.
+     */
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "schedule_mode", nullable = false, length = 16)
+    private ScheduleMode scheduleMode = ScheduleMode.FIXED_DELAY;
+
+    /**
+     * Нижняя граница адаптивного интервала, с; {@code null} — интервал не адаптируется.
+     */
+    @Min(1)
+    @Max(604800)
+    @Column(name = "adaptive_min_interval_sec")
+    private Integer adaptiveMinIntervalSec;
+
+    /**
+     * Верхняя граница адаптивного интервала, с; {@code null} — заданный интервал проверки.
+     */
+    @Min(1)
+    @Max(604800)
+    @Column(name = "adaptive_max_interval_sec")
+    private Integer adaptiveMaxIntervalSec;
+
+    /**
+     * Текущий адаптивный интервал, с; {@code null} — заданный интервал проверки.
+     */
+    @Column(name = "adaptive_interval_sec")
+    private Integer adaptiveIntervalSec;
+
+    /**
+     * Успешные запуски подряд с последнего изменения адаптивного интервала.
+     */
+    @Builder.Default
+    @Column(name = "success_streak", nullable = false)
+    private int successStreak = 0;
+
+    /**
+     * Время последнего изменения определения; ставится при вставке и обновлении сущности.
+     * Массовый перенос {@code next_run_at} его не меняет. Изменения определения SQL-ом в обход JPA
+     * проставляет триггер БД (миграция V16).
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
     /**
      * Тип проверки.
      */
@@ -106,6 +166,15 @@ public class Check implements Identifiable<Long> {
         return profile;
     }
 
+    /**
+     * Отмечает изменение определения для дельта-чтения кэша определений.
+     */
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     /**
      * Равенство по идентификатору с учётом прокси Hibernate.
      * Сущности без id не равны.
@@ -140,7 +209,13 @@ public class Check implements Identifiable<Long> {
                 ", description='" + description + '\'' +
                 ", enabled=" + enabled +
                 ", runIntervalMin=" + runIntervalMin +
+                ", runIntervalSec=" + runIntervalSec +
                 ", nextRunAt=" + nextRunAt +
+                ", scheduleMode=" + scheduleMode +
+                ", adaptiveMinIntervalSec=" + adaptiveMinIntervalSec +
+                ", adaptiveMaxIntervalSec=" + adaptiveMaxIntervalSec +
+                ", adaptiveIntervalSec=" + adaptiveIntervalSec +
+                ", successStreak=" + successStreak +
                 ", type=" + type +
                 ", profileId=" + HibernateEntityUtil.idOf(profile) +
                 '}';
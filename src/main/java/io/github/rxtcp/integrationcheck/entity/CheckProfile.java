@@ -17,6 +17,9 @@ import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotNull;
@@ -27,6 +30,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.Hibernate;
 
+import java.time.LocalDateTime;
+
+import static io.github.rxtcp.integrationcheck.entity.support.HibernateEntityUtil.ID_ALLOCATION_SIZE;
+
 /**
  * Базовый профиль проверки. JOINED-наследование, дискриминатор {@code type_code}, связь 1:1 с {@link Check}.
  */
@@ -47,7 +54,8 @@ public abstract class CheckProfile implements Identifiable<Long> {
      * Идентификатор профиля (PK).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "h_check_profile_id_seq")
+    @SequenceGenerator(name = "h_check_profile_id_seq", sequenceName = "h_check_profile_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     @EqualsAndHashCode.Include
     @Column(name = "id")
     private Long id;
@@ -67,6 +75,21 @@ public abstract class CheckProfile implements Identifiable<Long> {
     @Column(name = "type_code", insertable = false, updatable = false, nullable = false)
     private CheckType type;
 
+    /**
+     * Время последнего изменения профиля, включая поля подтипа; ставится при вставке и обновлении.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Отмечает изменение профиля для дельта-чтения кэша определений.
+     */
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     /**
      * Равенство по id с учётом прокси Hibernate; сущности без id не равны.
      */
@@ -14,6 +14,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -24,6 +25,9 @@ import lombok.Setter;
 import org.hibernate.Hibernate;
 
 import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+import static io.github.rxtcp.integrationcheck.entity.support.HibernateEntityUtil.ID_ALLOCATION_SIZE;
 
 /**
  * Результат выполнения проверки.
@@ -41,7 +45,8 @@ public class CheckResult implements Identifiable<Long> {
      * PK.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "h_check_result_id_seq")
+    @SequenceGenerator(name = "h_check_result_id_seq", sequenceName = "h_check_result_id_seq", allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "id")
     private Long id;
 
@@ -80,11 +85,48 @@ public class CheckResult implements Identifiable<Long> {
     private FailureReason failureReason;
 
     /**
-     * Детали результата/ошибки.
+     * Детали результата/ошибки, хранимые в самой строке: записи до выноса деталей в
+     * {@code h_check_result_payload} и записи при выключенном выносе. До записи — детали итога.
      */
     @Column(name = "details")
     private String details;
 
+    /**
+     * SHA-256 деталей в {@code h_check_result_payload}; {@code null}, если деталей нет или они в {@link #details}.
+     */
+    @Column(name = "details_hash")
+    private byte[] detailsHash;
+
+    /**
+     * Разрешение имени хоста, мкс.
+     */
+    @Column(name = "dns_us")
+    private Integer dnsMicros;
+
+    /**
+     * Установка TCP-соединения, мкс; у HTTP-проверок входит в {@link #ttfbMicros}.
+     */
+    @Column(name = "connect_us")
+    private Integer connectMicros;
+
+    /**
+     * От отправки запроса до заголовков ответа, мкс.
+     */
+    @Column(name = "ttfb_us")
+    private Integer ttfbMicros;
+
+    /**
+     * Чтение тела ответа, мкс.
+     */
+    @Column(name = "body_us")
+    private Integer bodyMicros;
+
+    /**
+     * Полное время сетевого обмена, мкс.
+     */
+    @Column(name = "total_us")
+    private Integer totalMicros;
+
     /**
      * Равенство по id с учётом прокси Hibernate; без id не равны.
      */
@@ -120,6 +162,8 @@ public class CheckResult implements Identifiable<Long> {
                 ", status=" + status +
                 ", failureReason=" + failureReason +
                 ", details='" + details + '\'' +
+                ", detailsHash=" + (detailsHash != null ? HexFormat.of().formatHex(detailsHash) : null) +
+                ", totalMicros=" + totalMicros +
                 '}';
     }
 }
\ No newline at end of file
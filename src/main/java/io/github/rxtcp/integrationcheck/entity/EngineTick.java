@@ -0,0 +1,124 @@
+package io.github.rxtcp.integrationcheck.entity;
+
+import io.github.rxtcp.integrationcheck.common.contract.Identifiable;
+import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
+import io.github.rxtcp.integrationcheck.entity.support.HibernateEntityUtil;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.Hibernate;
+
+import java.time.LocalDateTime;
+
+import static io.github.rxtcp.integrationcheck.entity.support.HibernateEntityUtil.ID_ALLOCATION_SIZE;
+
+/**
+ * Сводка одного тика прямого движка исполнения.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "h_engine_tick")
+public class EngineTick implements Identifiable<Long> {
+
+    /**
+     * PK.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "h_engine_tick_id_seq")
+    @SequenceGenerator(name = "h_engine_tick_id_seq", sequenceName = "h_engine_tick_id_seq", allocationSize = ID_ALLOCATION_SIZE)
+    @Column(name = "id")
+    private Long id;
+
+    /**
+     * Начало окна планировщика (UTC); уникально.
+     */
+    @NotNull
+    @Column(name = "window_start", nullable = false, unique = true)
+    private LocalDateTime windowStart;
+
+    /**
+     * Время старта.
+     */
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    /**
+     * Время завершения.
+     */
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * Статус тика.
+     */
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private CheckRunStatus status;
+
+    /**
+     * Число должных проверок.
+     */
+    @Column(name = "due_count", nullable = false)
+    private int dueCount;
+
+    /**
+     * Число пачек с необработанной ошибкой.
+     */
+    @Column(name = "error_count", nullable = false)
+    private int errorCount;
+
+    /**
+     * Равенство по id с учётом прокси Hibernate; без id не равны.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null) return false;
+        if (Hibernate.getClass(this) != Hibernate.getClass(o)) return false;
+
+        Long thisId = HibernateEntityUtil.idOf(this);
+        Long otherId = HibernateEntityUtil.idOf(o);
+        return thisId != null && thisId.equals(otherId);
+    }
+
+    /**
+     * Хеш по фактическому классу Hibernate.
+     */
+    @Override
+    public int hashCode() {
+        return Hibernate.getClass(this).hashCode();
+    }
+
+    /**
+     * Диагностическое представление.
+     */
+    @Override
+    public String toString() {
+        return "EngineTick{" +
+                "id=" + id +
+                ", windowStart=" + windowStart +
+                ", startedAt=" + startedAt +
+                ", finishedAt=" + finishedAt +
+                ", status=" + status +
+                ", dueCount=" + dueCount +
+                ", errorCount=" + errorCount +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.rxtcp.integrationcheck.entity;
+
+import io.github.rxtcp.integrationcheck.entity.support.HibernateEntityUtil;
+import jakarta.persistence.Column;
+import jakarta.persistence.DiscriminatorValue;
+import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.PrimaryKeyJoinColumn;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Профиль проверки TCP-соединения (подтип {@link CheckProfile}); JOINED, дискриминатор {@code TCP_CONNECT}.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "h_check_tcp_connect")
+@DiscriminatorValue("TCP_CONNECT")
+@PrimaryKeyJoinColumn(name = "id", foreignKey = @ForeignKey(name = "fk_h_check_tcp_connect__profile"))
+public class TcpConnectProfile extends CheckProfile {
+
+    /**
+     * Имя хоста или IP-адрес.
+     */
+    @NotBlank
+    @Column(name = "host", nullable = false)
+    private String host;
+
+    /**
+     * TCP-порт (1–65535).
+     */
+    @Min(1)
+    @Max(65535)
+    @Column(name = "port", nullable = false)
+    private int port;
+
+    /**
+     * Таймаут установки соединения, мс (1–60000); по умолчанию 3000.
+     */
+    @Min(1)
+    @Max(60000)
+    @Column(name = "connect_timeout_ms", nullable = false)
+    private int connectTimeoutMs = 3000;
+
+    /**
+     * Диагностический вывод.
+     */
+    @Override
+    public String toString() {
+        return "TcpConnectProfile{" +
+                "id=" + getId() +
+                ", type=" + getType() +
+                ", checkId=" + HibernateEntityUtil.idOf(getCheck()) +
+                ", host='" + host + '\'' +
+                ", port=" + port +
+                ", connectTimeoutMs=" + connectTimeoutMs +
+                '}';
+    }
+}
@@ -17,6 +17,12 @@ import java.util.Objects;
  */
 public final class HibernateEntityUtil {
 
+    /**
+     * Размер блока идентификаторов последовательностей {@code *_id_seq} (pooled-lo): одно обращение
+     * к последовательности на столько вставок. Совпадает с {@code INCREMENT BY} в миграции V8.
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     private HibernateEntityUtil() {
     }
 
@@ -0,0 +1,32 @@
+package io.github.rxtcp.integrationcheck.integration.http;
+
+/**
+ * Ограниченный снимок тела HTTP-ответа.
+ *
+ * @param text       начало тела, декодированное в строку (не более лимита захвата)
+ * @param totalBytes полный размер тела в байтах
+ * @param truncated  признак того, что тело длиннее лимита и было обрезано
+ * @param sha256     SHA-256 всего тела (hex)
+ */
+public record CapturedBody(
+        String text,
+        long totalBytes,
+        boolean truncated,
+        String sha256
+) {
+
+    /**
+     * Представление для {@code details} результата проверки.
+     *
+     * @return {@code null} для пустого тела; текст тела; для обрезанного — текст с отметкой о размере и хеше
+     */
+    public String details() {
+        if (totalBytes == 0) {
+            return null;
+        }
+        if (!truncated) {
+            return text;
+        }
+        return "%s... [тело обрезано: %d байт, sha256 = %s]".formatted(text, totalBytes, sha256);
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.rxtcp.integrationcheck.integration.http;
+
+import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+
+import java.net.URI;
+
+/**
+ * Скомпилированный шаблон запроса REST-проверки: всё, что не меняется между запусками профиля.
+ *
+ * @param source  профиль, из которого построен шаблон; служит версией записи кэша
+ * @param method  HTTP-метод Spring
+ * @param uri     разобранный и закодированный URI
+ * @param headers неизменяемые заголовки (включая {@code Content-Type} по умолчанию для тела)
+ * @param body    тело в UTF-8 или {@code null}, если тело не отправляется
+ */
+record CompiledRestRequest(
+        RestApiProfileDto source,
+        HttpMethod method,
+        URI uri,
+        HttpHeaders headers,
+        byte[] body
+) {
+
+    /**
+     * Признак наличия тела запроса.
+     */
+    boolean hasBody() {
+        return body != null;
+    }
+}
@@ -0,0 +1,270 @@
+package io.github.rxtcp.integrationcheck.integration.http;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.HostBulkheadProps;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpTimeoutException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Ограничитель одновременных запросов к одному хосту (bulkhead).
+ * <p>
+ * Разрешение выдаётся как {@link CompletableFuture}: асинхронный вызов продолжается, когда разрешение
+ * освободится, не занимая поток; синхронный вызов ждёт future и на виртуальном потоке паркуется,
+ * не удерживая платформенный поток. Ожидающие обслуживаются в порядке очереди.
+ * <p>
+ * Освободившееся разрешение передаётся следующему ожидающему на виртуальном потоке: продолжение ожидающего
+ * (подготовка запроса, DNS) не выполняется в потоке завершения предыдущего запроса, и цепочка передач по очереди
+ * хоста не растит его стек. Ожидание ограничено {@link HostBulkheadProps#maxWait()}: по истечении ожидающий
+ * покидает очередь, а future разрешения завершается {@link HttpTimeoutException}.
+ * <p>
+ * Метрики (тег {@code host}):
+ * <ul>
+ *   <li>{@code integration.http.host.bulkhead.queue} — число ожидающих запросов;</li>
+ *   <li>{@code integration.http.host.bulkhead.active} — число выполняющихся запросов;</li>
+ *   <li>{@code integration.http.host.bulkhead.wait} — время ожидания разрешения.</li>
+ * </ul>
+ * Потокобезопасен.
+ */
+@Slf4j
+@Component
+public class HostBulkhead {
+
+    private final HostBulkheadProps props;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Разрешения по хосту (имя в нижнем регистре).
+     */
+    private final Map<String, HostPermits> permitsByHost = new ConcurrentHashMap<>();
+
+    /**
+     * Исполнитель передачи разрешений и истечения ожидания: виртуальный поток на каждую передачу.
+     */
+    private final ExecutorService handoffExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("host-bulkhead-", 0).factory());
+
+    /**
+     * Отложенный запуск истечения ожидания через {@link #handoffExecutor}.
+     */
+    private final Executor expiryExecutor;
+
+    public HostBulkhead(HostBulkheadProps props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.meterRegistry = meterRegistry;
+        this.expiryExecutor = CompletableFuture.delayedExecutor(
+                props.maxWait().toNanos(), TimeUnit.NANOSECONDS, handoffExecutor);
+    }
+
+    /**
+     * Выполняет синхронное действие, удерживая разрешение хоста.
+     *
+     * @param host   имя хоста; {@code null} — без ограничения
+     * @param action действие
+     * @return результат действия
+     * @throws Exception исключение действия, {@link HttpTimeoutException} при истечении ожидания
+     *                   или {@link InterruptedException} при прерывании ожидания
+     */
+    public <T> T call(String host, Callable<T> action) throws Exception {
+        if (host == null) {
+            return action.call();
+        }
+        final HostPermits permits = permitsFor(host);
+        final CompletableFuture<Void> permit = permits.acquire();
+        try {
+            permit.get();
+        } catch (InterruptedException exception) {
+            permits.abandon(permit);
+            throw exception;
+        } catch (ExecutionException exception) {
+            if (exception.getCause() instanceof HttpTimeoutException timeout) {
+                throw timeout;
+            }
+            throw new IllegalStateException("Разрешение bulkhead завершилось ошибкой", exception.getCause());
+        }
+        try {
+            return action.call();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Запускает асинхронное действие, когда появится разрешение хоста; разрешение освобождается
+     * по завершении future действия.
+     *
+     * @param host   имя хоста; {@code null} — без ограничения
+     * @param action поставщик future действия
+     * @return future результата действия; при истечении ожидания — исключительно с {@link HttpTimeoutException}
+     */
+    public <T> CompletableFuture<T> executeAsync(String host, Supplier<CompletableFuture<T>> action) {
+        if (host == null) {
+            return action.get();
+        }
+        final HostPermits permits = permitsFor(host);
+        return permits.acquire().thenCompose(granted -> {
+            final CompletableFuture<T> result;
+            try {
+                result = action.get();
+            } catch (RuntimeException exception) {
+                permits.release();
+                throw exception;
+            }
+            return result.whenComplete((value, error) -> permits.release());
+        });
+    }
+
+    /**
+     * Число ожидающих разрешения запросов к хосту.
+     */
+    int queued(String host) {
+        final HostPermits permits = permitsByHost.get(host.toLowerCase(Locale.ROOT));
+        return permits == null ? 0 : permits.queued();
+    }
+
+    /**
+     * Останавливает исполнитель передачи разрешений.
+     */
+    @PreDestroy
+    public void close() {
+        handoffExecutor.shutdownNow();
+    }
+
+    private HostPermits permitsFor(String host) {
+        return permitsByHost.computeIfAbsent(host.toLowerCase(Locale.ROOT), HostPermits::new);
+    }
+
+    /**
+     * Завершает future разрешения на виртуальном потоке; после остановки исполнителя — в текущем потоке.
+     */
+    private void handOff(Runnable completion) {
+        try {
+            handoffExecutor.execute(completion);
+        } catch (RejectedExecutionException exception) {
+            completion.run();
+        }
+    }
+
+    /**
+     * Разрешения одного хоста: счётчик занятых и очередь ожидающих.
+     */
+    private final class HostPermits {
+
+        private final String host;
+        private final int limit;
+        private final Deque<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+        private final Timer waitTimer;
+        private int inUse;
+
+        private HostPermits(String host) {
+            this.host = host;
+            this.limit = props.limitFor(host);
+            this.waitTimer = Timer.builder("integration.http.host.bulkhead.wait")
+                    .description("Ожидание разрешения на запрос к хосту")
+                    .tag("host", host)
+                    .register(meterRegistry);
+            Gauge.builder("integration.http.host.bulkhead.queue", this, HostPermits::queued)
+                    .description("Запросы к хосту, ожидающие разрешения")
+                    .tag("host", host)
+                    .register(meterRegistry);
+            Gauge.builder("integration.http.host.bulkhead.active", this, HostPermits::active)
+                    .description("Выполняющиеся запросы к хосту")
+                    .tag("host", host)
+                    .register(meterRegistry);
+            log.debug("Bulkhead для хоста {}: лимит = {}", host, limit);
+        }
+
+        CompletableFuture<Void> acquire() {
+            final long startNanos = System.nanoTime();
+            final CompletableFuture<Void> permit;
+            synchronized (this) {
+                if (inUse < limit) {
+                    inUse++;
+                    permit = CompletableFuture.completedFuture(null);
+                } else {
+                    permit = new CompletableFuture<>();
+                    waiters.addLast(permit);
+                }
+            }
+            if (!permit.isDone()) {
+                expiryExecutor.execute(() -> expire(permit));
+            }
+            permit.whenComplete((granted, error) ->
+                    waitTimer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS));
+            return permit;
+        }
+
+        /**
+         * Передаёт разрешение следующему ожидающему или возвращает его в пул.
+         * Извлечённый из очереди ожидающий уже не может истечь или отказаться, поэтому разрешение переходит
+         * к нему без повторов; его future завершается на виртуальном потоке, а не в освобождающем.
+         */
+        void release() {
+            final CompletableFuture<Void> next;
+            synchronized (this) {
+                next = waiters.pollFirst();
+                if (next == null) {
+                    inUse--;
+                    return;
+                }
+            }
+            handOff(() -> next.complete(null));
+        }
+
+        /**
+         * Истечение ожидания: если разрешение ещё не передано, убирает из очереди и завершает future таймаутом.
+         */
+        private void expire(CompletableFuture<Void> permit) {
+            synchronized (this) {
+                if (!waiters.remove(permit)) {
+                    return;
+                }
+            }
+            permit.completeExceptionally(new HttpTimeoutException(
+                    "Host bulkhead wait timed out after %s: %s".formatted(props.maxWait(), host)));
+        }
+
+        /**
+         * Отказ от ожидания: убирает из очереди или, если разрешение уже передано, освобождает его
+         * по завершении передачи. Истёкшее ожидание разрешения не занимало.
+         */
+        void abandon(CompletableFuture<Void> permit) {
+            synchronized (this) {
+                if (waiters.remove(permit)) {
+                    return;
+                }
+            }
+            permit.whenComplete((granted, error) -> {
+                if (error == null) {
+                    release();
+                }
+            });
+        }
+
+        synchronized int queued() {
+            return waiters.size();
+        }
+
+        synchronized int active() {
+            return inUse;
+        }
+    }
+}
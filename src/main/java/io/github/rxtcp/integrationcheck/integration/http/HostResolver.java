@@ -0,0 +1,66 @@
+package io.github.rxtcp.integrationcheck.integration.http;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Разрешение имён хостов через системный резолвер JVM.
+ * <p>
+ * Вынесено в отдельный компонент, чтобы фазу DNS можно было измерить отдельно от запроса:
+ * JDK {@link java.net.http.HttpClient} не сообщает о ней. Результат попадает в кэш адресов JVM,
+ * поэтому последующее подключение клиента повторно сеть не опрашивает.
+ * <p>
+ * Системный резолвер блокирует поток, поэтому асинхронные пути разрешают имена через
+ * {@link #resolveAsync(String)} на виртуальных потоках, не занимая потоки вызова и завершения запросов.
+ */
+@Component
+public class HostResolver {
+
+    /**
+     * Исполнитель асинхронного разрешения: виртуальный поток на каждое имя.
+     */
+    private final ExecutorService resolveExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("host-resolver-", 0).factory());
+
+    /**
+     * Разрешает хост во все известные адреса.
+     *
+     * @param host имя хоста или IP-литерал
+     * @return адреса хоста
+     * @throws UnknownHostException если имя не разрешается
+     */
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+        return InetAddress.getAllByName(host);
+    }
+
+    /**
+     * Разрешает хост во все известные адреса на виртуальном потоке.
+     *
+     * @param host имя хоста или IP-литерал
+     * @return future с адресами хоста; {@link UnknownHostException} — причина исключительного завершения
+     */
+    public CompletableFuture<InetAddress[]> resolveAsync(String host) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return resolve(host);
+            } catch (UnknownHostException exception) {
+                throw new CompletionException(exception);
+            }
+        }, resolveExecutor);
+    }
+
+    /**
+     * Останавливает исполнитель асинхронного разрешения.
+     */
+    @PreDestroy
+    public void close() {
+        resolveExecutor.shutdownNow();
+    }
+}
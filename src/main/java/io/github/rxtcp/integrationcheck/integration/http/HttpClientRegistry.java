@@ -0,0 +1,229 @@
+package io.github.rxtcp.integrationcheck.integration.http;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.HttpClientPoolProps;
+import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.net.InetSocketAddress;
+import java.net.ProxySelector;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Реестр переиспользуемых HTTP-клиентов для REST-проверок.
+ * <p>
+ * {@link HttpClient} (селектор, пул соединений, кэш TLS-сессий) создаётся один раз на ключ
+ * эффективной конфигурации клиента: таймаут подключения, версия HTTP, политика редиректов, прокси.
+ * Поверх него для каждого таймаута чтения создаётся лёгкий {@link RestClient}: таймаут чтения
+ * {@link JdkClientHttpRequestFactory} проставляет в каждый запрос, поэтому общий клиент не меняется.
+ * <p>
+ * Клиенты, простаивающие дольше {@link HttpClientPoolProps#idleTimeout()}, вытесняются фоновой задачей.
+ * Метрики:
+ * <ul>
+ *   <li>{@code integration.http.client.pool.requests} с тегом {@code result=hit|miss};</li>
+ *   <li>{@code integration.http.client.pool.evictions} — число вытесненных клиентов;</li>
+ *   <li>{@code integration.http.client.pool.size} — текущее число клиентов.</li>
+ * </ul>
+ * Потокобезопасен.
+ */
+@Slf4j
+@Component
+public class HttpClientRegistry {
+
+    private final RestClient.Builder restClientBuilder;
+    private final HttpClientPoolProps props;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Клиенты по ключу конфигурации.
+     */
+    private final Map<ClientKey, PooledClient> clients = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    @Autowired
+    public HttpClientRegistry(RestClient.Builder restClientBuilder,
+                              HttpClientPoolProps props,
+                              MeterRegistry meterRegistry) {
+        this(restClientBuilder, props, meterRegistry, System::nanoTime);
+    }
+
+    HttpClientRegistry(RestClient.Builder restClientBuilder,
+                       HttpClientPoolProps props,
+                       MeterRegistry meterRegistry,
+                       LongSupplier nanoClock) {
+        this.restClientBuilder = restClientBuilder;
+        this.props = props;
+        this.nanoClock = nanoClock;
+        this.hits = Counter.builder("integration.http.client.pool.requests")
+                .description("Обращения к пулу HTTP-клиентов")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("integration.http.client.pool.requests")
+                .description("Обращения к пулу HTTP-клиентов")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.evictions = Counter.builder("integration.http.client.pool.evictions")
+                .description("Вытесненные по простою HTTP-клиенты")
+                .register(meterRegistry);
+        Gauge.builder("integration.http.client.pool.size", clients, Map::size)
+                .description("Число HTTP-клиентов в пуле")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Возвращает {@link RestClient} для профиля: общий {@link HttpClient} и заданный таймаут чтения.
+     *
+     * @param profile профиль REST-проверки (используется {@code timeoutSeconds})
+     * @return переиспользуемый {@link RestClient}
+     */
+    public RestClient restClient(RestApiProfileDto profile) {
+        final Duration timeout = Duration.ofSeconds(profile.timeoutSeconds());
+        return acquire(keyOf(timeout)).restClient(timeout);
+    }
+
+    /**
+     * Возвращает общий {@link HttpClient} для профиля.
+     *
+     * @param profile профиль REST-проверки (используется {@code timeoutSeconds})
+     * @return переиспользуемый {@link HttpClient}
+     */
+    public HttpClient httpClient(RestApiProfileDto profile) {
+        return acquire(keyOf(Duration.ofSeconds(profile.timeoutSeconds()))).httpClient();
+    }
+
+    /**
+     * Вытесняет клиенты, простаивающие дольше {@code idleTimeout}, и закрывает их.
+     * Запросы, уже выполняющиеся на закрываемом клиенте, завершаются штатно.
+     */
+    @Scheduled(
+            fixedDelayString = "${application.integration.http.client-pool.eviction-interval}",
+            initialDelayString = "${application.integration.http.client-pool.eviction-interval}"
+    )
+    public void evictIdle() {
+        final long now = nanoClock.getAsLong();
+        final long idleNanos = props.idleTimeout().toNanos();
+        clients.keySet().forEach(key -> clients.computeIfPresent(key, (k, pooled) -> {
+            if (now - pooled.lastAccessNanos() < idleNanos) {
+                return pooled;
+            }
+            pooled.httpClient().shutdown();
+            evictions.increment();
+            log.debug("HTTP-клиент вытеснен из пула по простою: {}", k);
+            return null;
+        }));
+    }
+
+    /**
+     * Закрывает все клиенты при остановке контекста.
+     */
+    @PreDestroy
+    public void close() {
+        clients.values().forEach(pooled -> pooled.httpClient().shutdownNow());
+        clients.clear();
+    }
+
+    /**
+     * Текущее число клиентов в пуле.
+     */
+    int size() {
+        return clients.size();
+    }
+
+    /**
+     * Находит клиент по ключу или создаёт новый; отмечает время обращения и считает hit/miss.
+     */
+    private PooledClient acquire(ClientKey key) {
+        final long now = nanoClock.getAsLong();
+        return clients.compute(key, (k, pooled) -> {
+            if (pooled == null) {
+                misses.increment();
+                return new PooledClient(buildHttpClient(k), now);
+            }
+            hits.increment();
+            pooled.touch(now);
+            return pooled;
+        });
+    }
+
+    private ClientKey keyOf(Duration connectTimeout) {
+        return new ClientKey(connectTimeout, props.httpVersion(), props.redirect(), props.proxyHost(), props.proxyPort());
+    }
+
+    private static HttpClient buildHttpClient(ClientKey key) {
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .connectTimeout(key.connectTimeout())
+                .version(key.version())
+                .followRedirects(key.redirect());
+        if (key.hasProxy()) {
+            builder.proxy(ProxySelector.of(new InetSocketAddress(key.proxyHost(), key.proxyPort())));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Ключ эффективной конфигурации {@link HttpClient}.
+     */
+    record ClientKey(
+            Duration connectTimeout,
+            HttpClient.Version version,
+            HttpClient.Redirect redirect,
+            String proxyHost,
+            int proxyPort
+    ) {
+        boolean hasProxy() {
+            return proxyHost != null && !proxyHost.isBlank();
+        }
+    }
+
+    /**
+     * Клиент пула: общий {@link HttpClient} и построенные на нём {@link RestClient} по таймауту чтения.
+     */
+    private final class PooledClient {
+
+        private final HttpClient httpClient;
+        private final Map<Duration, RestClient> restClients = new ConcurrentHashMap<>();
+        private volatile long lastAccessNanos;
+
+        private PooledClient(HttpClient httpClient, long now) {
+            this.httpClient = httpClient;
+            this.lastAccessNanos = now;
+        }
+
+        HttpClient httpClient() {
+            return httpClient;
+        }
+
+        long lastAccessNanos() {
+            return lastAccessNanos;
+        }
+
+        void touch(long now) {
+            lastAccessNanos = now;
+        }
+
+        RestClient restClient(Duration readTimeout) {
+            return restClients.computeIfAbsent(readTimeout, timeout -> {
+                JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+                requestFactory.setReadTimeout(timeout);
+                return restClientBuilder.clone()
+                        .requestFactory(requestFactory)
+                        .build();
+            });
+        }
+    }
+}
@@ -0,0 +1,187 @@
+package io.github.rxtcp.integrationcheck.integration.http;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResponseCaptureProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+/**
+ * Потоковый захват тела HTTP-ответа с ограничением объёма.
+ * <p>
+ * Сохраняет первые {@link ResponseCaptureProps#maxBytes()} байт, считает полный размер и SHA-256,
+ * остальные байты отбрасывает сразу после чтения. Работает как с блокирующим {@link InputStream},
+ * так и с неблокирующим {@link HttpResponse.BodyHandler}.
+ * <p>
+ * Метрики:
+ * <ul>
+ *   <li>{@code integration.http.response.bytes.read} — прочитано байт тела;</li>
+ *   <li>{@code integration.http.response.bytes.truncated} — отброшено байт сверх лимита.</li>
+ * </ul>
+ * Потокобезопасен.
+ */
+@Component
+public class ResponseCapture {
+
+    private static final int READ_BUFFER_SIZE = 8192;
+
+    private final int maxBytes;
+    private final Counter bytesRead;
+    private final Counter bytesTruncated;
+
+    public ResponseCapture(ResponseCaptureProps props, MeterRegistry meterRegistry) {
+        this.maxBytes = (int) Math.min(props.maxBytes().toBytes(), Integer.MAX_VALUE - 8);
+        this.bytesRead = Counter.builder("integration.http.response.bytes.read")
+                .description("Прочитано байт тел HTTP-ответов")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.bytesTruncated = Counter.builder("integration.http.response.bytes.truncated")
+                .description("Отброшено байт тел HTTP-ответов сверх лимита захвата")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Вычитывает поток тела до конца, сохраняя только его начало.
+     *
+     * @param body    поток тела ответа (не закрывается)
+     * @param headers заголовки ответа (для определения кодировки)
+     * @return снимок тела
+     * @throws IOException ошибка чтения потока
+     */
+    public CapturedBody capture(InputStream body, HttpHeaders headers) throws IOException {
+        final Accumulator accumulator = new Accumulator(charsetOf(headers.getFirst(HttpHeaders.CONTENT_TYPE)));
+        final byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int read;
+        while ((read = body.read(buffer)) != -1) {
+            accumulator.update(ByteBuffer.wrap(buffer, 0, read));
+        }
+        return accumulator.finish();
+    }
+
+    /**
+     * Обработчик тела для {@link java.net.http.HttpClient#sendAsync}: байты обрабатываются по мере поступления.
+     *
+     * @return обработчик, завершающийся снимком тела
+     */
+    public HttpResponse.BodyHandler<CapturedBody> bodyHandler() {
+        return responseInfo -> {
+            final Accumulator accumulator = new Accumulator(
+                    charsetOf(responseInfo.headers().firstValue(HttpHeaders.CONTENT_TYPE).orElse(null)));
+            return HttpResponse.BodySubscribers.fromSubscriber(
+                    new AccumulatingSubscriber(accumulator), AccumulatingSubscriber::finish);
+        };
+    }
+
+    /**
+     * Кодировка из {@code Content-Type}; по умолчанию UTF-8.
+     */
+    static Charset charsetOf(String contentType) {
+        if (contentType == null || contentType.isBlank()) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            final Charset charset = MediaType.parseMediaType(contentType).getCharset();
+            return charset != null ? charset : StandardCharsets.UTF_8;
+        } catch (IllegalArgumentException exception) {
+            return StandardCharsets.UTF_8;
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 недоступен", exception);
+        }
+    }
+
+    /**
+     * Накопитель одного тела: начало тела, размер и хеш. Не потокобезопасен.
+     */
+    private final class Accumulator {
+
+        private final Charset charset;
+        private final ByteArrayOutputStream head = new ByteArrayOutputStream();
+        private final MessageDigest digest = sha256();
+        private long totalBytes;
+
+        private Accumulator(Charset charset) {
+            this.charset = charset;
+        }
+
+        void update(ByteBuffer chunk) {
+            final int length = chunk.remaining();
+            final int room = maxBytes - head.size();
+            if (room > 0) {
+                final byte[] part = new byte[Math.min(room, length)];
+                chunk.duplicate().get(part);
+                head.writeBytes(part);
+            }
+            digest.update(chunk);
+            totalBytes += length;
+        }
+
+        CapturedBody finish() {
+            final long truncatedBytes = totalBytes - head.size();
+            bytesRead.increment(totalBytes);
+            bytesTruncated.increment(truncatedBytes);
+            return new CapturedBody(
+                    head.toString(charset),
+                    totalBytes,
+                    truncatedBytes > 0,
+                    HexFormat.of().formatHex(digest.digest())
+            );
+        }
+    }
+
+    /**
+     * Подписчик на фрагменты тела {@link java.net.http.HttpClient}, передающий их в {@link Accumulator}.
+     */
+    private static final class AccumulatingSubscriber implements Flow.Subscriber<List<ByteBuffer>> {
+
+        private final Accumulator accumulator;
+
+        private AccumulatingSubscriber(Accumulator accumulator) {
+            this.accumulator = accumulator;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            items.forEach(accumulator::update);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            // ошибка доставляется в future тела самим HttpClient
+        }
+
+        @Override
+        public void onComplete() {
+            // результат формируется в finish()
+        }
+
+        CapturedBody finish() {
+            return accumulator.finish();
+        }
+    }
+}
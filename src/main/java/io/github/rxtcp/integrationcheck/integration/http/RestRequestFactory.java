@@ -3,23 +3,30 @@ package io.github.rxtcp.integrationcheck.integration.http;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.rxtcp.integrationcheck.configuration.properties.RequestTemplateProps;
 import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
 import io.github.rxtcp.integrationcheck.domain.HttpMethod;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriComponentsBuilder;
 
-import java.net.http.HttpClient;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 
 /**
- * Фабрика подготовки {@link RestClient.RequestBodySpec} по профилю REST-интеграции.
+ * Фабрика подготовки {@link RestClient.RequestBodySpec} и {@link HttpRequest} по профилю REST-интеграции.
  * <p>
  * Конфигурирует:
  * <ul>
@@ -29,10 +36,16 @@ import java.util.Map;
  *   <li>Тело запроса для методов, где это уместно.</li>
  * </ul>
  * <p>
- * Потокобезопасен: использует {@link RestClient.Builder#clone()} и thread-safe {@link ObjectMapper}.
+ * Разбор профиля (JSON заголовков, URI, метод, кодирование тела) выполняется один раз и кэшируется
+ * по {@code profileId} в {@link CompiledRestRequest}. Версией записи служит сам профиль: если строка
+ * {@code h_check_rest_api} изменилась, очередной запуск получит отличающийся DTO и шаблон будет пересобран.
+ * Шаблоны, не использовавшиеся дольше {@link RequestTemplateProps#idleTimeout()} (удалённые и отключённые
+ * проверки), вытесняются фоновой задачей с периодом {@link RequestTemplateProps#evictionInterval()}, поэтому
+ * кэш не растёт вместе с историей профилей.
+ * <p>
+ * Потокобезопасен: клиенты берутся из {@link HttpClientRegistry}, используется thread-safe {@link ObjectMapper}.
  */
 @Slf4j
-@RequiredArgsConstructor
 @Component
 public class RestRequestFactory {
 
@@ -49,8 +62,37 @@ public class RestRequestFactory {
     private static final TypeReference<Map<String, List<String>>> HEADERS_TYPE = new TypeReference<>() {
     };
 
-    private final RestClient.Builder restClientBuilder;
+    /**
+     * {@code Content-Type} тела по умолчанию (совпадает с поведением {@link RestClient} для строкового тела).
+     */
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    private final HttpClientRegistry httpClientRegistry;
     private final ObjectMapper objectMapper;
+    private final RequestTemplateProps props;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Скомпилированные шаблоны запросов по {@code profileId}.
+     */
+    private final Map<Long, CachedRequest> compiled = new ConcurrentHashMap<>();
+
+    @Autowired
+    public RestRequestFactory(HttpClientRegistry httpClientRegistry,
+                              ObjectMapper objectMapper,
+                              RequestTemplateProps props) {
+        this(httpClientRegistry, objectMapper, props, System::nanoTime);
+    }
+
+    RestRequestFactory(HttpClientRegistry httpClientRegistry,
+                       ObjectMapper objectMapper,
+                       RequestTemplateProps props,
+                       LongSupplier nanoClock) {
+        this.httpClientRegistry = httpClientRegistry;
+        this.objectMapper = objectMapper;
+        this.props = props;
+        this.nanoClock = nanoClock;
+    }
 
     /**
      * Копирует заголовки в целевой {@link HttpHeaders}, пропуская пустые/null значения.
@@ -90,51 +132,124 @@ public class RestRequestFactory {
      * @apiNote Формат заголовков: {@code {"Header-Name":["v1","v2"]}}
      */
     public RestClient.RequestBodySpec prepare(RestApiProfileDto profile) {
-        final RestClient client = buildClient(profile);
-        final Map<String, List<String>> headers = parseHeaders(profile.headers());
+        final RestClient client = httpClientRegistry.restClient(profile);
+        final CompiledRestRequest request = compile(profile);
 
         RestClient.RequestBodySpec spec = client
-                .method(toSpringMethod(profile.httpMethod()))
-                .uri(profile.url())
-                .headers(h -> copyHeaders(h, headers));
+                .method(request.method())
+                .uri(request.uri())
+                .headers(h -> h.addAll(request.headers()));
 
-        if (METHODS_WITH_BODY.contains(profile.httpMethod()) && profile.requestBody() != null) {
-            spec = spec.body(profile.requestBody());
+        if (request.hasBody()) {
+            spec = spec.body(request.body());
         }
 
         return spec;
     }
 
     /**
-     * Создаёт изолированный {@link RestClient} с заданными таймаутами.
-     * <ul>
-     *   <li>connectTimeout — на уровне {@link HttpClient};</li>
-     *   <li>readTimeout — на уровне {@link JdkClientHttpRequestFactory}.</li>
-     * </ul>
+     * Формирует {@link HttpRequest} JDK для неблокирующей отправки через {@link java.net.http.HttpClient#sendAsync}.
+     * <p>
+     * Таймаут профиля задаётся как таймаут запроса (ожидание заголовков ответа) — так же,
+     * как {@code readTimeout} у клиента из {@link #prepare(RestApiProfileDto)}. Для тела без явного
+     * {@code Content-Type} проставляется {@code text/plain;charset=UTF-8}, как это делает {@link RestClient}.
      *
-     * @param profile источник настройки таймаутов
-     * @return новый экземпляр {@link RestClient}, построенный из {@link RestClient.Builder#clone()}
-     * @implNote writeTimeout можно включить при обновлении версии Spring (см. комментарий в коде).
+     * @param profile профиль вызова: URL, метод, заголовки (JSON), таймаут, тело
+     * @return неизменяемый {@link HttpRequest}
+     * @throws IllegalArgumentException если не удалось разобрать JSON заголовков, URL некорректен
+     *                                  или заголовок запрещён к установке в {@link HttpRequest}
      */
-    private RestClient buildClient(RestApiProfileDto profile) {
-        final int timeoutSec = profile.timeoutSeconds();
-        final Duration timeout = Duration.ofSeconds(timeoutSec);
+    public HttpRequest prepareHttpRequest(RestApiProfileDto profile) {
+        final CompiledRestRequest request = compile(profile);
+        final HttpRequest.Builder builder = HttpRequest.newBuilder(request.uri())
+                .timeout(Duration.ofSeconds(profile.timeoutSeconds()));
 
-        HttpClient httpClient = HttpClient.newBuilder()
-                .connectTimeout(timeout)
-                .build();
+        request.headers().forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
 
-        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
-        requestFactory.setReadTimeout(timeout);
+        builder.method(request.method().name(), request.hasBody()
+                ? HttpRequest.BodyPublishers.ofByteArray(request.body())
+                : HttpRequest.BodyPublishers.noBody());
 
-        return restClientBuilder.clone()
-                .requestFactory(requestFactory)
-                .build();
+        return builder.build();
     }
 
     /**
-     * Парсит JSON-представление заголовков.
+     * Разобранный URI профиля (из скомпилированного шаблона).
      *
+     * @param profile профиль вызова
+     * @return URI запроса
+     * @throws IllegalArgumentException если не удалось разобрать JSON заголовков или URL
+     */
+    public URI uriOf(RestApiProfileDto profile) {
+        return compile(profile).uri();
+    }
+
+    /**
+     * Возвращает шаблон запроса из кэша или компилирует его, если профиль новый или изменился.
+     *
+     * @param profile профиль вызова
+     * @return актуальный шаблон для профиля
+     * @throws IllegalArgumentException если не удалось разобрать JSON заголовков или URL
+     */
+    CompiledRestRequest compile(RestApiProfileDto profile) {
+        final long now = nanoClock.getAsLong();
+        final CachedRequest cached = compiled.get(profile.profileId());
+        if (cached != null && cached.request().source().equals(profile)) {
+            cached.touch(now);
+            return cached.request();
+        }
+        final CompiledRestRequest fresh = doCompile(profile);
+        compiled.put(profile.profileId(), new CachedRequest(fresh, now));
+        return fresh;
+    }
+
+    /**
+     * Вытесняет шаблоны, не использовавшиеся дольше {@code idleTimeout}: профили удалённых, отключённых
+     * и перенастроенных на другой профиль проверок. Вытесненный шаблон при следующем обращении компилируется заново.
+     */
+    @Scheduled(
+            fixedDelayString = "${application.integration.http.request-template.eviction-interval}",
+            initialDelayString = "${application.integration.http.request-template.eviction-interval}"
+    )
+    public void evictIdle() {
+        final long now = nanoClock.getAsLong();
+        final long idleNanos = props.idleTimeout().toNanos();
+        if (compiled.values().removeIf(cached -> now - cached.lastAccessNanos() >= idleNanos)) {
+            log.debug("Шаблоны запросов REST API вытеснены по простою, осталось {}", compiled.size());
+        }
+    }
+
+    /**
+     * Число шаблонов в кэше.
+     */
+    int compiledSize() {
+        return compiled.size();
+    }
+
+    private CompiledRestRequest doCompile(RestApiProfileDto profile) {
+        log.debug("Компиляция шаблона запроса REST API для профиля id = {}", profile.profileId());
+        final HttpHeaders headers = new HttpHeaders();
+        copyHeaders(headers, parseHeaders(profile.headers()));
+
+        byte[] body = null;
+        if (METHODS_WITH_BODY.contains(profile.httpMethod()) && profile.requestBody() != null) {
+            body = profile.requestBody().getBytes(StandardCharsets.UTF_8);
+            if (headers.getContentType() == null) {
+                headers.setContentType(TEXT_PLAIN_UTF8);
+            }
+        }
+
+        return new CompiledRestRequest(
+                profile,
+                toSpringMethod(profile.httpMethod()),
+                UriComponentsBuilder.fromUriString(profile.url()).build().encode().toUri(),
+                HttpHeaders.readOnlyHttpHeaders(headers),
+                body
+        );
+    }
+
+    /**
+     * Парсит JSON-представление заголовков.
      * @param raw строка JSON, например {@code {"Accept":["application/json"]}}
      * @return map заголовков; пустая map — если строка пуста/blank
      * @throws IllegalArgumentException если JSON некорректен
@@ -152,4 +267,30 @@ public class RestRequestFactory {
             );
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Шаблон в кэше и время последнего обращения к нему.
+     */
+    private static final class CachedRequest {
+
+        private final CompiledRestRequest request;
+        private volatile long lastAccessNanos;
+
+        private CachedRequest(CompiledRestRequest request, long now) {
+            this.request = request;
+            this.lastAccessNanos = now;
+        }
+
+        CompiledRestRequest request() {
+            return request;
+        }
+
+        long lastAccessNanos() {
+            return lastAccessNanos;
+        }
+
+        void touch(long now) {
+            lastAccessNanos = now;
+        }
+    }
+}
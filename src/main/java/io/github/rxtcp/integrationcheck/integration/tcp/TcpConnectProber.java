@@ -0,0 +1,268 @@
+package io.github.rxtcp.integrationcheck.integration.tcp;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Неблокирующие TCP-подключения, мультиплексированные на одном {@link Selector}.
+ * <p>
+ * Каждая проба — {@link SocketChannel} в неблокирующем режиме; ожидание подключения и таймауты
+ * обслуживает один поток селектора, поэтому тысячи одновременных проб не требуют тысяч потоков.
+ * Соединение закрывается сразу после установки. Future завершаются на виртуальных потоках,
+ * чтобы продолжения вызывающего кода не выполнялись в потоке селектора.
+ * <p>
+ * Метрика {@code integration.tcp.probes.pending} — число проб в ожидании подключения.
+ * Потокобезопасен.
+ */
+@Slf4j
+@Component
+public class TcpConnectProber {
+
+    private final Selector selector;
+    private final Thread selectorThread;
+    private final ExecutorService completionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Пробы, ожидающие регистрации в селекторе (передаются в поток селектора).
+     */
+    private final Queue<Probe> registrations = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Зарегистрированные пробы по ближайшему дедлайну; доступ только из потока селектора.
+     */
+    private final PriorityQueue<Probe> deadlines = new PriorityQueue<>(Comparator.comparingLong(Probe::deadlineNanos));
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean running = true;
+
+    public TcpConnectProber(MeterRegistry meterRegistry) throws IOException {
+        this.selector = Selector.open();
+        this.selectorThread = Thread.ofPlatform()
+                .name("tcp-probe-selector")
+                .daemon()
+                .start(this::selectLoop);
+        Gauge.builder("integration.tcp.probes.pending", pending, AtomicInteger::get)
+                .description("TCP-пробы в ожидании подключения")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Начинает неблокирующее подключение.
+     *
+     * @param address разрешённый адрес назначения
+     * @param timeout таймаут подключения
+     * @return future с итогом; завершается исключением при отказе или {@link SocketTimeoutException} по таймауту
+     */
+    public CompletableFuture<TcpConnectResult> connect(InetSocketAddress address, Duration timeout) {
+        final CompletableFuture<TcpConnectResult> result = new CompletableFuture<>();
+        if (!running) {
+            result.completeExceptionally(new IllegalStateException("TCP-пробер остановлен"));
+            return result;
+        }
+        SocketChannel channel = null;
+        try {
+            channel = SocketChannel.open();
+            channel.configureBlocking(false);
+            if (channel.connect(address)) {
+                closeQuietly(channel);
+                complete(result, new TcpConnectResult(address, System.nanoTime()));
+                return result;
+            }
+            pending.incrementAndGet();
+            final Probe probe = new Probe(channel, address, System.nanoTime() + timeout.toNanos(), result);
+            registrations.add(probe);
+            // селектор мог остановиться между проверкой running и постановкой: если очередь уже вычищена,
+            // пробу никто не заберёт — снимаем её сами (remove() решает, кто владеет пробой)
+            if (!running && registrations.remove(probe)) {
+                settle(probe);
+                fail(result, new IllegalStateException("TCP-пробер остановлен"));
+                return result;
+            }
+            selector.wakeup();
+        } catch (IOException | RuntimeException exception) {
+            closeQuietly(channel);
+            fail(result, exception);
+        }
+        return result;
+    }
+
+    /**
+     * Останавливает поток селектора и отменяет незавершённые пробы.
+     */
+    @PreDestroy
+    public void close() {
+        running = false;
+        selector.wakeup();
+        try {
+            selectorThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        completionExecutor.shutdown();
+    }
+
+    private void selectLoop() {
+        try {
+            while (running) {
+                registerPending();
+                selector.select(nextSelectTimeoutMillis());
+                for (SelectionKey key : selector.selectedKeys()) {
+                    finishConnect(key);
+                }
+                selector.selectedKeys().clear();
+                expireOverdue();
+            }
+        } catch (IOException | ClosedSelectorException exception) {
+            log.error("Поток селектора TCP-проб остановлен из-за ошибки", exception);
+        } finally {
+            running = false;
+            failAll(new IllegalStateException("TCP-пробер остановлен"));
+            closeQuietly(selector);
+        }
+    }
+
+    private void registerPending() {
+        Probe probe;
+        while ((probe = registrations.poll()) != null) {
+            try {
+                probe.key = probe.channel.register(selector, SelectionKey.OP_CONNECT, probe);
+                deadlines.add(probe);
+            } catch (IOException | RuntimeException exception) {
+                settle(probe);
+                fail(probe.result, exception);
+            }
+        }
+    }
+
+    private long nextSelectTimeoutMillis() {
+        final Probe next = deadlines.peek();
+        if (next == null) {
+            return 0; // без дедлайнов — ждать до wakeup()
+        }
+        final long millis = TimeUnit.NANOSECONDS.toMillis(next.deadlineNanos - System.nanoTime());
+        return Math.max(1, millis);
+    }
+
+    private void finishConnect(SelectionKey key) {
+        final Probe probe = (Probe) key.attachment();
+        try {
+            if (probe.channel.finishConnect()) {
+                final long connectedAt = System.nanoTime();
+                settle(probe);
+                complete(probe.result, new TcpConnectResult(probe.address, connectedAt));
+            }
+        } catch (IOException exception) {
+            settle(probe);
+            fail(probe.result, exception);
+        }
+    }
+
+    private void expireOverdue() {
+        final long now = System.nanoTime();
+        Probe probe;
+        while ((probe = deadlines.peek()) != null && probe.deadlineNanos <= now) {
+            deadlines.poll();
+            if (!probe.settled) {
+                settle(probe);
+                fail(probe.result, new SocketTimeoutException("Connect timed out: " + probe.address));
+            }
+        }
+    }
+
+    private void failAll(Exception cause) {
+        Probe probe;
+        while ((probe = registrations.poll()) != null) {
+            settle(probe);
+            fail(probe.result, cause);
+        }
+        while ((probe = deadlines.poll()) != null) {
+            if (!probe.settled) {
+                settle(probe);
+                fail(probe.result, cause);
+            }
+        }
+    }
+
+    /**
+     * Снимает пробу с селектора и закрывает канал; вызывается ровно один раз на пробу.
+     */
+    private void settle(Probe probe) {
+        probe.settled = true;
+        pending.decrementAndGet();
+        if (probe.key != null) {
+            probe.key.cancel();
+        }
+        closeQuietly(probe.channel);
+    }
+
+    private void complete(CompletableFuture<TcpConnectResult> result, TcpConnectResult value) {
+        completionExecutor.execute(() -> result.complete(value));
+    }
+
+    private void fail(CompletableFuture<TcpConnectResult> result, Throwable cause) {
+        try {
+            completionExecutor.execute(() -> result.completeExceptionally(cause));
+        } catch (RuntimeException rejected) {
+            result.completeExceptionally(cause);
+        }
+    }
+
+    private static void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception exception) {
+            log.debug("Ошибка при закрытии {}: {}", closeable, exception.getMessage());
+        }
+    }
+
+    /**
+     * Одна попытка подключения. Поля {@code key}/{@code settled} меняются только в потоке селектора.
+     */
+    private static final class Probe {
+
+        private final SocketChannel channel;
+        private final InetSocketAddress address;
+        private final long deadlineNanos;
+        private final CompletableFuture<TcpConnectResult> result;
+        private SelectionKey key;
+        private boolean settled;
+
+        private Probe(SocketChannel channel,
+                      InetSocketAddress address,
+                      long deadlineNanos,
+                      CompletableFuture<TcpConnectResult> result) {
+            this.channel = channel;
+            this.address = address;
+            this.deadlineNanos = deadlineNanos;
+            this.result = result;
+        }
+
+        long deadlineNanos() {
+            return deadlineNanos;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.rxtcp.integrationcheck.integration.tcp;
+
+import java.net.InetSocketAddress;
+
+/**
+ * Итог успешной попытки TCP-подключения.
+ *
+ * @param address           адрес, к которому установлено соединение
+ * @param connectedAtNanos  момент установки соединения по {@link System#nanoTime()}
+ */
+public record TcpConnectResult(
+        InetSocketAddress address,
+        long connectedAtNanos
+) {
+}
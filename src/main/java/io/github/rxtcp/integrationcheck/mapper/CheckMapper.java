@@ -28,14 +28,45 @@ public interface CheckMapper {
      * @param entity исходная сущность
      * @return целевой DTO
      */
-    @BeanMapping(ignoreByDefault = true)
+    @BeanMapping(ignoreByDefault = true, ignoreUnmappedSourceProperties = "updatedAt")
     @Mapping(target = "id", source = "id")
     @Mapping(target = "name", source = "name")
     @Mapping(target = "description", source = "description")
     @Mapping(target = "enabled", source = "enabled")
     @Mapping(target = "runIntervalMin", source = "runIntervalMin")
+    @Mapping(target = "runIntervalSec", source = "runIntervalSec")
+    @Mapping(target = "adaptiveMinIntervalSec", source = "adaptiveMinIntervalSec")
+    @Mapping(target = "adaptiveMaxIntervalSec", source = "adaptiveMaxIntervalSec")
+    @Mapping(target = "adaptiveIntervalSec", source = "adaptiveIntervalSec")
+    @Mapping(target = "successStreak", source = "successStreak")
     @Mapping(target = "nextRunAt", source = "nextRunAt")
     @Mapping(target = "type", source = "type")
+    @Mapping(target = "scheduleMode", source = "scheduleMode")
     @Mapping(target = "profile", source = "profile")
     CheckDto toDto(Check entity);
+
+    /**
+     * Восстанавливает отсоединённую {@link Check} без профиля из {@link CheckDto}.
+     * <p>
+     * Используется как ссылка для записи результата и переноса расписания, когда проверка уже прочитана
+     * в DTO: лишний запрос к БД не нужен, поскольку для внешнего ключа и интервала достаточно полей DTO.
+     *
+     * @param dto прочитанная проверка
+     * @return отсоединённая сущность с {@code id}
+     */
+    @BeanMapping(ignoreByDefault = true, ignoreUnmappedSourceProperties = "profile")
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "name", source = "name")
+    @Mapping(target = "description", source = "description")
+    @Mapping(target = "enabled", source = "enabled")
+    @Mapping(target = "runIntervalMin", source = "runIntervalMin")
+    @Mapping(target = "runIntervalSec", source = "runIntervalSec")
+    @Mapping(target = "adaptiveMinIntervalSec", source = "adaptiveMinIntervalSec")
+    @Mapping(target = "adaptiveMaxIntervalSec", source = "adaptiveMaxIntervalSec")
+    @Mapping(target = "adaptiveIntervalSec", source = "adaptiveIntervalSec")
+    @Mapping(target = "successStreak", source = "successStreak")
+    @Mapping(target = "nextRunAt", source = "nextRunAt")
+    @Mapping(target = "type", source = "type")
+    @Mapping(target = "scheduleMode", source = "scheduleMode")
+    Check toReference(CheckDto dto);
 }
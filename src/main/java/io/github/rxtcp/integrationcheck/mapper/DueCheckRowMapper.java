@@ -0,0 +1,89 @@
+package io.github.rxtcp.integrationcheck.mapper;
+
+import io.github.rxtcp.integrationcheck.configuration.MappingConfig;
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.CheckProfileDto;
+import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
+import io.github.rxtcp.integrationcheck.repository.DueCheckRow;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Маппер плоской строки должной проверки {@link DueCheckRow} в {@link CheckDto} с профилем нужного подтипа.
+ *
+ * <p>Использует общую конфигурацию {@link MappingConfig}. Сущности JPA не участвуют: строка приходит
+ * из native-проекции, поэтому ленивые связи и контекст персистентности не нужны.</p>
+ *
+ * <p>Строка общая для проверки и всех подтипов профиля: каждый метод берёт из неё только свои колонки,
+ * поэтому неиспользованные поля источника здесь не отслеживаются.</p>
+ */
+@Mapper(
+        config = MappingConfig.class,
+        unmappedSourcePolicy = ReportingPolicy.IGNORE
+)
+public interface DueCheckRowMapper {
+
+    /**
+     * Проецирует строку в {@link CheckDto}; профиль выбирается по {@code typeCode}.
+     *
+     * @param row строка запроса должных проверок
+     * @return DTO проверки с профилем
+     */
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "id", source = "id")
+    @Mapping(target = "name", source = "name")
+    @Mapping(target = "description", source = "description")
+    @Mapping(target = "enabled", source = "enabled")
+    @Mapping(target = "runIntervalMin", source = "runIntervalMin")
+    @Mapping(target = "runIntervalSec", source = "runIntervalSec")
+    @Mapping(target = "adaptiveMinIntervalSec", source = "adaptiveMinIntervalSec")
+    @Mapping(target = "adaptiveMaxIntervalSec", source = "adaptiveMaxIntervalSec")
+    @Mapping(target = "adaptiveIntervalSec", source = "adaptiveIntervalSec")
+    @Mapping(target = "successStreak", source = "successStreak")
+    @Mapping(target = "nextRunAt", source = "nextRunAt")
+    @Mapping(target = "type", source = "typeCode")
+    @Mapping(target = "scheduleMode", source = "scheduleMode")
+    @Mapping(target = "profile", source = "row")
+    CheckDto toDto(DueCheckRow row);
+
+    /**
+     * Колонки подтипа REST API.
+     */
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "checkId", source = "id")
+    @Mapping(target = "profileId", source = "profileId")
+    @Mapping(target = "url", source = "url")
+    @Mapping(target = "httpMethod", source = "httpMethodCode")
+    @Mapping(target = "timeoutSeconds", source = "timeoutSeconds")
+    @Mapping(target = "headers", source = "headers")
+    @Mapping(target = "requestBody", source = "requestBody")
+    @Mapping(target = "expectedHttpCode", source = "expectedHttpCode")
+    RestApiProfileDto toRestApiProfile(DueCheckRow row);
+
+    /**
+     * Колонки подтипа TCP_CONNECT.
+     */
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "checkId", source = "id")
+    @Mapping(target = "profileId", source = "profileId")
+    @Mapping(target = "host", source = "host")
+    @Mapping(target = "port", source = "port")
+    @Mapping(target = "connectTimeoutMs", source = "connectTimeoutMs")
+    TcpConnectProfileDto toTcpConnectProfile(DueCheckRow row);
+
+    /**
+     * Выбор подтипа профиля по коду типа проверки.
+     *
+     * @throws IllegalStateException для неизвестного кода типа
+     */
+    default CheckProfileDto toProfile(DueCheckRow row) {
+        return switch (CheckType.valueOf(row.getTypeCode())) {
+            case REST_API -> toRestApiProfile(row);
+            case TCP_CONNECT -> toTcpConnectProfile(row);
+        };
+    }
+}
@@ -3,8 +3,10 @@ package io.github.rxtcp.integrationcheck.mapper;
 import io.github.rxtcp.integrationcheck.configuration.MappingConfig;
 import io.github.rxtcp.integrationcheck.dto.CheckProfileDto;
 import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
 import io.github.rxtcp.integrationcheck.entity.CheckProfile;
 import io.github.rxtcp.integrationcheck.entity.RestApiProfile;
+import io.github.rxtcp.integrationcheck.entity.TcpConnectProfile;
 import org.mapstruct.BeanMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -14,11 +16,11 @@ import org.mapstruct.SubclassMapping;
  * Полиморфный маппер профилей проверки в DTO.
  *
  * <p>Наследует строгую конфигурацию из {@link MappingConfig} и делегирует
- * маппинг вложенных структур в {@link RestApiProfileMapper}.</p>
+ * маппинг вложенных структур в {@link RestApiProfileMapper} и {@link TcpConnectProfileMapper}.</p>
  */
 @Mapper(
         config = MappingConfig.class,
-        uses = {RestApiProfileMapper.class}
+        uses = {RestApiProfileMapper.class, TcpConnectProfileMapper.class}
 )
 public interface ProfileMapper {
 
@@ -35,11 +37,24 @@ public interface ProfileMapper {
      * (учитывайте ленивую загрузку).
      */
     @SubclassMapping(source = RestApiProfile.class, target = RestApiProfileDto.class)
-    @BeanMapping(ignoreByDefault = true)
+    @BeanMapping(ignoreByDefault = true, ignoreUnmappedSourceProperties = {
+            "check", "type", "updatedAt", "url", "httpMethod", "timeoutSeconds", "headers", "requestBody", "expectedHttpCode"})
     @Mapping(target = "checkId", expression = "java(src.getCheck().getId())")
     @Mapping(target = "profileId", source = "id")
     RestApiProfileDto toDto(RestApiProfile src);
 
+    /**
+     * Проецирует {@link TcpConnectProfile} в {@link TcpConnectProfileDto}.
+     *
+     * <strong>Предусловие:</strong> связь {@code src.getCheck()} должна быть инициализирована.
+     */
+    @SubclassMapping(source = TcpConnectProfile.class, target = TcpConnectProfileDto.class)
+    @BeanMapping(ignoreByDefault = true, ignoreUnmappedSourceProperties = {
+            "check", "type", "updatedAt", "host", "port", "connectTimeoutMs"})
+    @Mapping(target = "checkId", expression = "java(src.getCheck().getId())")
+    @Mapping(target = "profileId", source = "id")
+    TcpConnectProfileDto toDto(TcpConnectProfile src);
+
     /**
      * Унифицированная точка входа для базового типа профиля.
      * <p>Поддерживает только известные специализации; при неизвестном типе — fail-fast.</p>
@@ -50,6 +65,9 @@ public interface ProfileMapper {
         if (checkProfile instanceof RestApiProfile restApiProfile) {
             return toDto(restApiProfile);
         }
+        if (checkProfile instanceof TcpConnectProfile tcpConnectProfile) {
+            return toDto(tcpConnectProfile);
+        }
         throw new IllegalStateException("Неподдерживаемый тип профиля: " + checkProfile.getClass());
     }
 }
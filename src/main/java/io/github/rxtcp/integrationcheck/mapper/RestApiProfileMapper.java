@@ -33,7 +33,7 @@ public interface RestApiProfileMapper {
      * @param src исходная сущность профиля
      * @return DTO представление профиля
      */
-    @BeanMapping(ignoreByDefault = true)
+    @BeanMapping(ignoreByDefault = true, ignoreUnmappedSourceProperties = {"check", "type", "updatedAt"})
     @Mapping(target = "checkId", expression = "java(src.getCheck().getId())")
     @Mapping(target = "profileId", source = "id")
     @Mapping(target = "url", source = "url")
@@ -0,0 +1,35 @@
+package io.github.rxtcp.integrationcheck.mapper;
+
+import io.github.rxtcp.integrationcheck.configuration.MappingConfig;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
+import io.github.rxtcp.integrationcheck.entity.TcpConnectProfile;
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+/**
+ * Маппер профиля TCP-проверки в {@link TcpConnectProfileDto}.
+ *
+ * <p>Использует общую конфигурацию {@link MappingConfig}.</p>
+ */
+@Mapper(
+        config = MappingConfig.class
+)
+public interface TcpConnectProfileMapper {
+
+    /**
+     * Проецирует {@link TcpConnectProfile} в {@link TcpConnectProfileDto}.
+     *
+     * <strong>Замечание:</strong> связь {@code src.getCheck()} должна быть инициализирована.
+     *
+     * @param src исходная сущность профиля
+     * @return DTO представление профиля
+     */
+    @BeanMapping(ignoreByDefault = true, ignoreUnmappedSourceProperties = {"check", "type", "updatedAt"})
+    @Mapping(target = "checkId", expression = "java(src.getCheck().getId())")
+    @Mapping(target = "profileId", source = "id")
+    @Mapping(target = "host", source = "host")
+    @Mapping(target = "port", source = "port")
+    @Mapping(target = "connectTimeoutMs", source = "connectTimeoutMs")
+    TcpConnectProfileDto toDto(TcpConnectProfile src);
+}
@@ -1,14 +1,25 @@
 package io.github.rxtcp.integrationcheck.repository;
 
+import io.github.rxtcp.integrationcheck.dto.CheckScheduleDto;
 import io.github.rxtcp.integrationcheck.entity.Check;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 /**
  * Репозиторий проверок.
@@ -16,6 +27,11 @@ import java.util.Optional;
 @Repository
 public interface CheckRepository extends JpaRepository<Check, Long> {
 
+    /**
+     * Размер порции строк, которую драйвер забирает за один сетевой обмен при чтении должных проверок.
+     */
+    String DUE_CHECKS_FETCH_SIZE = "1000";
+
     /** Идентификаторы активных проверок, срок запуска которых наступил (enabled=true и nextRunAt ≤ now). */
     @Query("""
             select c.id
@@ -25,9 +41,250 @@ public interface CheckRepository extends JpaRepository<Check, Long> {
             """)
     List<Long> findDueCheckIds();
 
+    /** Расписания активных проверок, срок запуска которых наступил, — те же строки, что {@link #findDueCheckIds()}. */
+    @Query("""
+            select new io.github.rxtcp.integrationcheck.dto.CheckScheduleDto(c.id, c.enabled, c.nextRunAt, c.updatedAt,
+                   c.adaptiveIntervalSec, c.successStreak)
+            from Check c
+            where c.enabled = true
+              and c.nextRunAt <= CURRENT_TIMESTAMP
+            """)
+    List<CheckScheduleDto> findDueSchedules();
+
+    /**
+     * Проекция определения проверки с колонками всех подтипов профиля (см. {@link DueCheckRow}).
+     * Время изменения — наибольшее из {@code updated_at} проверки и профиля.
+     */
+    String CHECK_DEFINITION_SELECT = """
+            select c.id                                  as id,
+                   c.name                                as name,
+                   c.description                         as description,
+                   c.enabled                             as enabled,
+                   c.run_interval_min                    as runIntervalMin,
+                   c.run_interval_sec                    as runIntervalSec,
+                   c.adaptive_min_interval_sec           as adaptiveMinIntervalSec,
+                   c.adaptive_max_interval_sec           as adaptiveMaxIntervalSec,
+                   c.adaptive_interval_sec               as adaptiveIntervalSec,
+                   c.success_streak                      as successStreak,
+                   c.next_run_at                         as nextRunAt,
+                   c.type_code                           as typeCode,
+                   c.schedule_mode                       as scheduleMode,
+                   greatest(c.updated_at, p.updated_at)  as updatedAt,
+                   p.id                                  as profileId,
+                   r.url                                 as url,
+                   r.http_method_code                    as httpMethodCode,
+                   r.timeout_seconds                     as timeoutSeconds,
+                   r.headers                             as headers,
+                   r.request_body                        as requestBody,
+                   r.expected_http_code                  as expectedHttpCode,
+                   t.host                                as host,
+                   t.port                                as port,
+                   t.connect_timeout_ms                  as connectTimeoutMs
+            from {h-schema}h_check c
+                     join {h-schema}h_check_profile p on p.check_id = c.id
+                     left join {h-schema}h_check_rest_api r on r.id = p.id
+                     left join {h-schema}h_check_tcp_connect t on t.id = p.id
+            """;
+
+    /**
+     * Должные проверки вместе с профилями всех подтипов одним запросом, без материализации сущностей.
+     * <p>
+     * Результат читается потоково порциями {@link #DUE_CHECKS_FETCH_SIZE}; поток нужно закрыть
+     * и дочитать в рамках транзакции (PostgreSQL держит курсор только внутри неё).
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = DUE_CHECKS_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(nativeQuery = true, value = CHECK_DEFINITION_SELECT + """
+            where c.enabled = true
+              and c.next_run_at <= CURRENT_TIMESTAMP
+            """)
+    Stream<DueCheckRow> streamDueChecks();
+
+    /**
+     * Все активные проверки с профилями — полная загрузка кэша определений.
+     * Читается потоково, как {@link #streamDueChecks()}.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = DUE_CHECKS_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(nativeQuery = true, value = CHECK_DEFINITION_SELECT + """
+            where c.enabled = true
+            """)
+    Stream<DueCheckRow> streamEnabledChecks();
+
+    /**
+     * Проверки, определение или профиль которых изменились не раньше {@code since}, включая выключенные —
+     * дельта-обновление кэша определений. Читается потоково, как {@link #streamDueChecks()}.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = DUE_CHECKS_FETCH_SIZE),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query(nativeQuery = true, value = CHECK_DEFINITION_SELECT + """
+            where c.updated_at >= :since
+               or p.updated_at >= :since
+            """)
+    Stream<DueCheckRow> streamChecksChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Расписания всех активных проверок — полная загрузка колеса таймеров.
+     */
+    @Query("""
+            select new io.github.rxtcp.integrationcheck.dto.CheckScheduleDto(c.id, c.enabled, c.nextRunAt, c.updatedAt,
+                   c.adaptiveIntervalSec, c.successStreak)
+            from Check c
+            where c.enabled = true
+            """)
+    List<CheckScheduleDto> findEnabledSchedules();
+
+    /**
+     * Расписания проверок, определение которых изменилось не раньше {@code since}, включая выключенные.
+     */
+    @Query("""
+            select new io.github.rxtcp.integrationcheck.dto.CheckScheduleDto(c.id, c.enabled, c.nextRunAt, c.updatedAt,
+                   c.adaptiveIntervalSec, c.successStreak)
+            from Check c
+            where c.updatedAt >= :since
+            """)
+    List<CheckScheduleDto> findSchedulesChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Расписания проверок по набору id; отсутствующие id пропускаются.
+     */
+    @Query("""
+            select new io.github.rxtcp.integrationcheck.dto.CheckScheduleDto(c.id, c.enabled, c.nextRunAt, c.updatedAt,
+                   c.adaptiveIntervalSec, c.successStreak)
+            from Check c
+            where c.id in :ids
+            """)
+    List<CheckScheduleDto> findSchedulesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Сроки запуска активных проверок позже {@code since} — занятость секунд для балансировки расписания.
+     */
+    @Query("""
+            select c.nextRunAt
+            from Check c
+            where c.enabled = true
+              and c.nextRunAt > :since
+            """)
+    List<LocalDateTime> findUpcomingRunTimes(@Param("since") LocalDateTime since);
+
     /**
      * Найти проверку по id с подгруженным профилем (EntityGraph: profile).
      */
     @EntityGraph(attributePaths = "profile")
     Optional<Check> findWithProfileById(@NonNull Long id);
+
+    /**
+     * Найти проверки по набору id с подгруженными профилями одним запросом (EntityGraph: profile).
+     */
+    @EntityGraph(attributePaths = "profile")
+    List<Check> findWithProfileByIdIn(@NonNull Collection<Long> ids);
+
+    /**
+     * Заблокировать до конца транзакции порцию должных неарендованных проверок, пропуская строки,
+     * уже заблокированные другими узлами ({@code FOR UPDATE SKIP LOCKED}).
+     * <p>
+     * Аренда с {@code lease_until} раньше {@code now} считается истёкшей: такие проверки захватываются заново.
+     *
+     * @param dueBefore проверки с {@code next_run_at} не позже этого момента
+     * @param now       текущее время для сравнения с {@code lease_until}
+     * @param limit     максимум строк
+     * @return идентификаторы заблокированных проверок в порядке {@code next_run_at}
+     */
+    @Query(nativeQuery = true, value = """
+            select c.id
+            from {h-schema}h_check c
+            where c.enabled = true
+              and c.next_run_at <= :dueBefore
+              and (c.lease_until is null or c.lease_until < :now)
+            order by c.next_run_at
+            limit :limit
+            for update skip locked
+            """)
+    List<Long> lockClaimableCheckIds(@Param("dueBefore") LocalDateTime dueBefore,
+                                     @Param("now") LocalDateTime now,
+                                     @Param("limit") int limit);
+
+    /**
+     * То же, что {@link #lockClaimableCheckIds(LocalDateTime, LocalDateTime, int)}, среди заданных проверок:
+     * захват проверок, срок которых наступил по колесу таймеров.
+     *
+     * @param ids кандидаты
+     * @param now текущее время: срок запуска не позже него, аренда истекла раньше него
+     * @return идентификаторы заблокированных проверок
+     */
+    @Query(nativeQuery = true, value = """
+            select c.id
+            from {h-schema}h_check c
+            where c.id in (:ids)
+              and c.enabled = true
+              and c.next_run_at <= :now
+              and (c.lease_until is null or c.lease_until < :now)
+            for update skip locked
+            """)
+    List<Long> lockClaimableCheckIdsIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Арендовать проверки узлу до {@code leaseUntil}. Вызывается в транзакции
+     * {@link #lockClaimableCheckIds(LocalDateTime, LocalDateTime, int)}.
+     *
+     * @return число арендованных строк
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            update {h-schema}h_check
+            set lease_owner = :owner,
+                lease_until = :leaseUntil
+            where id in (:ids)
+            """)
+    int lease(@Param("ids") Collection<Long> ids,
+              @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    /**
+     * Сдвинуть время следующего запуска одним UPDATE, без загрузки и слияния сущности, и снять аренду проверки,
+     * если она принадлежит узлу {@code owner}. Аренду, которую после истечения срока перехватил другой узел,
+     * опоздавший запуск не снимает.
+     *
+     * @param owner идентификатор узла ({@code CheckLeaseProps#owner()})
+     * @return число обновлённых строк (0 — проверка удалена)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            update {h-schema}h_check
+            set next_run_at = :nextRunAt,
+                lease_owner = case when lease_owner = :owner then null else lease_owner end,
+                lease_until = case when lease_owner = :owner then null else lease_until end
+            where id = :id
+            """)
+    int updateNextRunAt(@Param("id") long id,
+                        @Param("nextRunAt") LocalDateTime nextRunAt,
+                        @Param("owner") String owner);
+
+    /**
+     * Как {@link #updateNextRunAt(long, LocalDateTime, String)}, вместе с состоянием адаптивного интервала.
+     *
+     * @param owner идентификатор узла ({@code CheckLeaseProps#owner()})
+     * @return число обновлённых строк (0 — проверка удалена)
+     */
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            update {h-schema}h_check
+            set next_run_at = :nextRunAt,
+                adaptive_interval_sec = :adaptiveIntervalSec,
+                success_streak = :successStreak,
+                lease_owner = case when lease_owner = :owner then null else lease_owner end,
+                lease_until = case when lease_owner = :owner then null else lease_until end
+            where id = :id
+            """)
+    int updateNextRunAt(@Param("id") long id,
+                        @Param("nextRunAt") LocalDateTime nextRunAt,
+                        @Param("adaptiveIntervalSec") Integer adaptiveIntervalSec,
+                        @Param("successStreak") int successStreak,
+                        @Param("owner") String owner);
 }
@@ -2,6 +2,9 @@ package io.github.rxtcp.integrationcheck.repository;
 
 import io.github.rxtcp.integrationcheck.entity.CheckResult;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -9,4 +12,35 @@ import org.springframework.stereotype.Repository;
  */
 @Repository
 public interface CheckResultRepository extends JpaRepository<CheckResult, Long> {
+
+    /**
+     * Записать итог запуска (время завершения, статус, причина, детали или их хеш, тайминги) одним UPDATE по id,
+     * без слияния отсоединённой сущности.
+     * <p>
+     * Условие по {@code startedAt} — ключу секционирования {@code h_check_result} — сужает UPDATE
+     * до одной секции; поэтому {@code startedAt} записи хранится с точностью до микросекунд, как в БД.
+     * Обновляется только запись в статусе {@code PROCESSING}: итог, уже записанный другим путём
+     * (например, {@code ABANDONED} от жнеца зависших запусков), не перезаписывается.
+     *
+     * @param result запись с id и заполненным итогом
+     * @return число обновлённых строк; {@code 0}, если запись уже завершена
+     */
+    @Modifying
+    @Query("""
+            update CheckResult r
+            set r.finishedAt = :#{#result.finishedAt},
+                r.status = :#{#result.status},
+                r.failureReason = :#{#result.failureReason},
+                r.details = :#{#result.details},
+                r.detailsHash = :#{#result.detailsHash},
+                r.dnsMicros = :#{#result.dnsMicros},
+                r.connectMicros = :#{#result.connectMicros},
+                r.ttfbMicros = :#{#result.ttfbMicros},
+                r.bodyMicros = :#{#result.bodyMicros},
+                r.totalMicros = :#{#result.totalMicros}
+            where r.id = :#{#result.id}
+              and r.startedAt = :#{#result.startedAt}
+              and r.status = io.github.rxtcp.integrationcheck.domain.CheckRunStatus.PROCESSING
+            """)
+    int updateOutcome(@Param("result") CheckResult result);
 }
\ No newline at end of file
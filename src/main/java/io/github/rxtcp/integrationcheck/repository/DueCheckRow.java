@@ -0,0 +1,67 @@
+package io.github.rxtcp.integrationcheck.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Плоская строка определения проверки с колонками всех подтипов профиля (native-проекция
+ * {@link CheckRepository#CHECK_DEFINITION_SELECT}).
+ * <p>
+ * Колонки чужого подтипа равны {@code null}; подтип определяется по {@link #getTypeCode()}.
+ */
+public interface DueCheckRow {
+
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    Boolean getEnabled();
+
+    Integer getRunIntervalMin();
+
+    Integer getRunIntervalSec();
+
+    Integer getAdaptiveMinIntervalSec();
+
+    Integer getAdaptiveMaxIntervalSec();
+
+    Integer getAdaptiveIntervalSec();
+
+    Integer getSuccessStreak();
+
+    LocalDateTime getNextRunAt();
+
+    String getTypeCode();
+
+    String getScheduleMode();
+
+    /**
+     * Наибольшее из времён изменения проверки и профиля.
+     */
+    LocalDateTime getUpdatedAt();
+
+    Long getProfileId();
+
+    // --- REST_API ---
+
+    String getUrl();
+
+    String getHttpMethodCode();
+
+    Integer getTimeoutSeconds();
+
+    String getHeaders();
+
+    String getRequestBody();
+
+    Integer getExpectedHttpCode();
+
+    // --- TCP_CONNECT ---
+
+    String getHost();
+
+    Integer getPort();
+
+    Integer getConnectTimeoutMs();
+}
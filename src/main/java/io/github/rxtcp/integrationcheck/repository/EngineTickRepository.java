@@ -0,0 +1,12 @@
+package io.github.rxtcp.integrationcheck.repository;
+
+import io.github.rxtcp.integrationcheck.entity.EngineTick;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Репозиторий сводок тиков прямого движка. Тип идентификатора — {@link Long}.
+ */
+@Repository
+public interface EngineTickRepository extends JpaRepository<EngineTick, Long> {
+}
@@ -1,5 +1,6 @@
 package io.github.rxtcp.integrationcheck.scheduler;
 
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulerProps;
 import io.github.rxtcp.integrationcheck.service.IntegrationHealthChecker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,9 +17,11 @@ import org.springframework.stereotype.Service;
  *   <li>{@code app.spring-batch.jobs.integration-health-check-job.schedule.cron}</li>
  *   <li>{@code app.spring-batch.jobs.integration-health-check-job.schedule.zone}</li>
  * </ul>
+ * В режиме {@code application.integration.scheduler.mode=wheel} не создаётся: его заменяет {@link TimingWheelScheduler}.
  *
  * @see IntegrationHealthChecker
  */
+@ConditionalOnProperty(value = SchedulerProps.MODE_PROPERTY, havingValue = "cron", matchIfMissing = true)
 @ConditionalOnProperty(
         value = "application.spring-batch.jobs.integration-health-check-job.schedule.enabled",
         havingValue = "true"
@@ -0,0 +1,243 @@
+package io.github.rxtcp.integrationcheck.scheduler;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Иерархическое колесо таймеров: идентификаторы проверок со сроками в миллисекундах эпохи.
+ * <p>
+ * Нижний уровень — {@code wheelSize} ячеек по {@code tickMillis}; срок дальше его оборота уходит на уровень выше
+ * с ячейками в {@code wheelSize} раз крупнее (уровни создаются по мере надобности). Добавление — O(1)
+ * независимо от горизонта. Непустые ячейки упорядочены по сроку в очереди, поэтому продвижение времени
+ * обходит только наступившие ячейки, а не каждый тик: ячейка верхнего уровня при наступлении пересыпается
+ * на нижние, ячейка нижнего — отдаёт наступившие идентификаторы.
+ * <p>
+ * У идентификатора один актуальный срок: повторное планирование заменяет прежний, отмена удаляет.
+ * Устаревшие записи остаются в ячейках и отбрасываются при их наступлении.
+ * <p>
+ * Не потокобезопасен.
+ */
+final class TimingWheel {
+
+    private final int wheelSize;
+
+    /**
+     * Актуальный срок по идентификатору.
+     */
+    private final Map<Long, Long> deadlines = new HashMap<>();
+
+    /**
+     * Непустые ячейки всех уровней по сроку наступления.
+     */
+    private final PriorityQueue<Bucket> buckets = new PriorityQueue<>(Comparator.comparingLong(Bucket::expiration));
+
+    private final Level root;
+
+    /**
+     * @param tickMillis  размер ячейки нижнего уровня, мс (≥ 1) — точность срабатывания
+     * @param wheelSize   число ячеек уровня (≥ 2)
+     * @param startMillis текущее время, мс эпохи
+     */
+    TimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis < 1 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMillis должен быть ≥ 1, wheelSize — ≥ 2");
+        }
+        this.wheelSize = wheelSize;
+        this.root = new Level(tickMillis, startMillis);
+    }
+
+    /**
+     * Запланировать идентификатор на срок, заменив прежний.
+     *
+     * @param id             идентификатор
+     * @param deadlineMillis срок, мс эпохи
+     * @return {@code false}, если срок уже наступил (в пределах тика): идентификатор не запланирован,
+     * его нужно запускать сразу
+     */
+    boolean schedule(long id, long deadlineMillis) {
+        if (!root.add(id, deadlineMillis)) {
+            deadlines.remove(id);
+            return false;
+        }
+        deadlines.put(id, deadlineMillis);
+        return true;
+    }
+
+    /**
+     * Отменить идентификатор.
+     */
+    void cancel(long id) {
+        deadlines.remove(id);
+    }
+
+    /**
+     * Актуальный срок идентификатора, мс эпохи; {@code null} — не запланирован.
+     */
+    Long deadlineOf(long id) {
+        return deadlines.get(id);
+    }
+
+    /**
+     * Запланированные идентификаторы (копия).
+     */
+    List<Long> ids() {
+        return new ArrayList<>(deadlines.keySet());
+    }
+
+    /**
+     * Число запланированных идентификаторов.
+     */
+    int size() {
+        return deadlines.size();
+    }
+
+    /**
+     * Срок ближайшей непустой ячейки, мс эпохи; {@link Long#MAX_VALUE} — ячеек нет.
+     */
+    long nextExpiration() {
+        final Bucket next = buckets.peek();
+        return next == null ? Long.MAX_VALUE : next.expiration();
+    }
+
+    /**
+     * Продвинуть время и забрать наступившие идентификаторы.
+     *
+     * @param nowMillis текущее время, мс эпохи
+     * @return наступившие идентификаторы со сроками в порядке сроков с точностью до тика
+     */
+    List<Expired> advance(long nowMillis) {
+        final List<Expired> expired = new ArrayList<>();
+        while (!buckets.isEmpty() && buckets.peek().expiration() <= nowMillis) {
+            final Bucket bucket = buckets.poll();
+            root.advanceClock(bucket.expiration());
+            final long[] entries = bucket.drain();
+            for (int i = 0; i < entries.length; i += 2) {
+                final long id = entries[i];
+                final long deadline = entries[i + 1];
+                final Long current = deadlines.get(id);
+                if (current == null || current != deadline) {
+                    // запись устарела: идентификатор отменён или перепланирован
+                    continue;
+                }
+                if (!root.add(id, deadline)) {
+                    deadlines.remove(id);
+                    expired.add(new Expired(id, deadline));
+                }
+            }
+        }
+        root.advanceClock(nowMillis);
+        return expired;
+    }
+
+    /**
+     * Наступивший идентификатор.
+     *
+     * @param id             идентификатор
+     * @param deadlineMillis срок, мс эпохи
+     */
+    record Expired(long id, long deadlineMillis) {
+    }
+
+    /**
+     * Уровень колеса.
+     */
+    private final class Level {
+
+        private final long tickMillis;
+        private final long intervalMillis;
+        private final Bucket[] slots;
+        private long currentMillis;
+        private Level overflow;
+
+        private Level(long tickMillis, long startMillis) {
+            this.tickMillis = tickMillis;
+            this.intervalMillis = tickMillis * wheelSize;
+            this.slots = new Bucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                slots[i] = new Bucket();
+            }
+            this.currentMillis = startMillis - startMillis % tickMillis;
+        }
+
+        /**
+         * @return {@code false}, если срок наступил в пределах текущего тика уровня
+         */
+        private boolean add(long id, long deadlineMillis) {
+            if (deadlineMillis < currentMillis + tickMillis) {
+                return false;
+            }
+            if (deadlineMillis < currentMillis + intervalMillis) {
+                final long virtualTick = deadlineMillis / tickMillis;
+                final Bucket bucket = slots[(int) (virtualTick % wheelSize)];
+                bucket.add(id, deadlineMillis);
+                if (bucket.setExpiration(virtualTick * tickMillis)) {
+                    buckets.add(bucket);
+                }
+                return true;
+            }
+            if (overflow == null) {
+                overflow = new Level(intervalMillis, currentMillis);
+            }
+            return overflow.add(id, deadlineMillis);
+        }
+
+        private void advanceClock(long timeMillis) {
+            if (timeMillis >= currentMillis + tickMillis) {
+                currentMillis = timeMillis - timeMillis % tickMillis;
+                if (overflow != null) {
+                    overflow.advanceClock(currentMillis);
+                }
+            }
+        }
+    }
+
+    /**
+     * Ячейка: пары (идентификатор, срок) и срок наступления ячейки.
+     */
+    private static final class Bucket {
+
+        private long[] entries = new long[8];
+        private int length;
+        private long expiration = -1;
+
+        private void add(long id, long deadlineMillis) {
+            if (length + 2 > entries.length) {
+                final long[] grown = new long[entries.length * 2];
+                System.arraycopy(entries, 0, grown, 0, length);
+                entries = grown;
+            }
+            entries[length++] = id;
+            entries[length++] = deadlineMillis;
+        }
+
+        /**
+         * @return {@code true}, если срок изменился и ячейку нужно (пере)поставить в очередь
+         */
+        private boolean setExpiration(long expirationMillis) {
+            if (expiration == expirationMillis) {
+                return false;
+            }
+            expiration = expirationMillis;
+            return true;
+        }
+
+        private long expiration() {
+            return expiration;
+        }
+
+        private long[] drain() {
+            final long[] drained = new long[length];
+            System.arraycopy(entries, 0, drained, 0, length);
+            length = 0;
+            expiration = -1;
+            if (entries.length > 64) {
+                entries = new long[8];
+            }
+            return drained;
+        }
+    }
+}
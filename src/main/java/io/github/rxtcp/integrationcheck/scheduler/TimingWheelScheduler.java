@@ -0,0 +1,421 @@
+package io.github.rxtcp.integrationcheck.scheduler;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ExecutionEngineProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulerProps;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.CheckScheduleDto;
+import io.github.rxtcp.integrationcheck.service.CheckExecution;
+import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Планировщик на колесе таймеров: каждая проверка запускается в момент своего {@code next_run_at}.
+ * <p>
+ * Сроки активных проверок держатся в памяти в {@link TimingWheel}. Поток-диспетчер спит до ближайшего срока,
+ * забирает наступившие проверки, делит их на пачки по {@code sliceSize} и запускает на виртуальных потоках;
+ * одновременно выполняется не более {@code concurrencyLimit} пачек. Перед запуском пачка арендуется
+ * ({@link CheckReader#claimChecks}): БД подтверждает, что срок наступил и проверку не выполняет другой узел.
+ * После запуска срок каждой проверки перечитывается ({@link CheckReader#findSchedules}) и снова кладётся в колесо;
+ * проверка, срок которой не сдвинулся (захвачена другим узлом, ошибка записи итога), повторяется через
+ * {@code retryDelay}.
+ * <p>
+ * С БД колесо сверяется периодически ({@link #resync()}): дельта по {@code updated_at} раз в {@code deltaInterval}
+ * подхватывает новые, изменённые и выключенные проверки, полная сверка раз в {@code fullResyncInterval} — удалённые
+ * проверки и {@code next_run_at}, изменённый в обход узла. Первая сверка — полная, при старте.
+ * <p>
+ * Метрики:
+ * <ul>
+ *   <li>{@code integration.scheduler.wheel.size} — число проверок в колесе;</li>
+ *   <li>{@code integration.scheduler.wheel.lag} — задержка передачи проверки на исполнение после её срока;</li>
+ *   <li>{@code integration.scheduler.wheel.dispatched} с тегом {@code result=claimed|skipped} — наступившие
+ *       проверки, захваченные узлом и пропущенные;</li>
+ *   <li>{@code integration.scheduler.wheel.resyncs} с тегом {@code kind=full|delta}.</li>
+ * </ul>
+ * Активен при {@code application.integration.scheduler.mode=wheel} и включённом расписании job'а; заменяет
+ * {@link IntegrationHealthCheckScheduler}.
+ */
+@ConditionalOnProperty(value = SchedulerProps.MODE_PROPERTY, havingValue = "wheel")
+@ConditionalOnProperty(
+        value = "application.spring-batch.jobs.integration-health-check-job.schedule.enabled",
+        havingValue = "true"
+)
+@Slf4j
+@Component
+public class TimingWheelScheduler implements SmartLifecycle {
+
+    /**
+     * Наибольшее время сна диспетчера: перепроверка сроков при переводе системных часов.
+     */
+    private static final long MAX_WAIT_MILLIS = 1_000;
+
+    private final CheckReader checkReader;
+    private final CheckExecution checkExecution;
+    private final SchedulerProps props;
+    private final ExecutionEngineProps engineProps;
+    private final Clock clock;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Монитор колеса: под ним меняется колесо, на нём спит диспетчер.
+     */
+    private final Object lock = new Object();
+    private final TimingWheel wheel;
+
+    /**
+     * Проверки, переданные на исполнение и ещё не возвращённые в колесо, со сроком, по которому они запущены;
+     * сверка их не трогает.
+     */
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    private final Semaphore permits;
+
+    /**
+     * Наибольший {@code updated_at} среди прочитанных расписаний.
+     */
+    private LocalDateTime watermark;
+
+    /**
+     * Момент последней полной сверки ({@link System#nanoTime()}); {@code null} — сверки ещё не было.
+     */
+    private Long lastFullResyncNanos;
+
+    private volatile boolean running;
+    private Thread dispatcher;
+    private ExecutorService executor;
+
+    private final Timer lag;
+    private final Counter claimed;
+    private final Counter skipped;
+    private final Counter fullResyncs;
+    private final Counter deltaResyncs;
+
+    @Autowired
+    public TimingWheelScheduler(CheckReader checkReader,
+                                CheckExecution checkExecution,
+                                SchedulerProps props,
+                                ExecutionEngineProps engineProps,
+                                MeterRegistry meterRegistry) {
+        this(checkReader, checkExecution, props, engineProps, meterRegistry, Clock.systemDefaultZone(), System::nanoTime);
+    }
+
+    TimingWheelScheduler(CheckReader checkReader,
+                         CheckExecution checkExecution,
+                         SchedulerProps props,
+                         ExecutionEngineProps engineProps,
+                         MeterRegistry meterRegistry,
+                         Clock clock,
+                         LongSupplier nanoClock) {
+        this.checkReader = checkReader;
+        this.checkExecution = checkExecution;
+        this.props = props;
+        this.engineProps = engineProps;
+        this.clock = clock;
+        this.nanoClock = nanoClock;
+        this.wheel = new TimingWheel(Math.max(1, props.tick().toMillis()), props.wheelSize(), clock.millis());
+        this.permits = new Semaphore(engineProps.concurrencyLimit());
+        this.lag = Timer.builder("integration.scheduler.wheel.lag")
+                .description("Задержка передачи проверки на исполнение после её next_run_at")
+                .register(meterRegistry);
+        this.claimed = Counter.builder("integration.scheduler.wheel.dispatched")
+                .description("Наступившие в колесе проверки")
+                .tag("result", "claimed")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("integration.scheduler.wheel.dispatched")
+                .description("Наступившие в колесе проверки")
+                .tag("result", "skipped")
+                .register(meterRegistry);
+        this.fullResyncs = Counter.builder("integration.scheduler.wheel.resyncs")
+                .description("Сверки колеса таймеров с БД")
+                .tag("kind", "full")
+                .register(meterRegistry);
+        this.deltaResyncs = Counter.builder("integration.scheduler.wheel.resyncs")
+                .description("Сверки колеса таймеров с БД")
+                .tag("kind", "delta")
+                .register(meterRegistry);
+        Gauge.builder("integration.scheduler.wheel.size", this, TimingWheelScheduler::size)
+                .description("Число проверок в колесе таймеров")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        synchronized (lock) {
+            if (running) {
+                return;
+            }
+            running = true;
+            executor = Executors.newThreadPerTaskExecutor(
+                    Thread.ofVirtual().name(engineProps.threadNamePrefix(), 0).factory());
+            dispatcher = Thread.ofPlatform().daemon().name("timing-wheel-dispatcher").start(this::dispatchLoop);
+        }
+    }
+
+    /**
+     * Останавливает диспетчер и дожидается выполняемых пачек.
+     */
+    @Override
+    public void stop() {
+        final ExecutorService toClose;
+        synchronized (lock) {
+            if (!running) {
+                return;
+            }
+            running = false;
+            dispatcher.interrupt();
+            toClose = executor;
+        }
+        toClose.close();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Сверяет колесо с БД: полная сверка при первом вызове и по истечении {@code fullResyncInterval},
+     * иначе — дельта с {@code watermark - deltaOverlap}. Наступившие проверки запускаются сразу.
+     */
+    @Scheduled(fixedDelayString = "${application.integration.scheduler.delta-interval}")
+    public synchronized void resync() {
+        final long now = nanoClock.getAsLong();
+        if (lastFullResyncNanos == null || now - lastFullResyncNanos >= props.fullResyncInterval().toNanos()) {
+            fullResync();
+            lastFullResyncNanos = now;
+        } else {
+            deltaResync();
+        }
+    }
+
+    private void fullResync() {
+        final List<CheckScheduleDto> schedules = checkReader.findEnabledSchedules();
+        final Set<Long> enabledIds = schedules.stream().map(CheckScheduleDto::id).collect(Collectors.toSet());
+        final List<TimingWheel.Expired> due = new ArrayList<>();
+        synchronized (lock) {
+            for (Long id : wheel.ids()) {
+                if (!enabledIds.contains(id)) {
+                    wheel.cancel(id);
+                }
+            }
+            schedules.forEach(schedule -> place(schedule, due));
+        }
+        watermark = latestUpdatedAt(schedules, null);
+        fullResyncs.increment();
+        log.debug("Колесо таймеров сверено полностью: {} проверок, отметка {}", schedules.size(), watermark);
+        dispatch(due);
+    }
+
+    private void deltaResync() {
+        final List<CheckScheduleDto> changed = checkReader.findSchedulesChangedSince(watermark.minus(props.deltaOverlap()));
+        final List<TimingWheel.Expired> due = new ArrayList<>();
+        synchronized (lock) {
+            changed.forEach(schedule -> place(schedule, due));
+        }
+        watermark = latestUpdatedAt(changed, watermark);
+        deltaResyncs.increment();
+        dispatch(due);
+    }
+
+    /**
+     * Кладёт проверку в колесо по её расписанию или убирает выключенную; наступившую добавляет в {@code due}.
+     * Вызывается под {@link #lock}.
+     */
+    private void place(CheckScheduleDto schedule, List<TimingWheel.Expired> due) {
+        if (inFlight.containsKey(schedule.id())) {
+            return;
+        }
+        if (!schedule.enabled() || schedule.nextRunAt() == null) {
+            wheel.cancel(schedule.id());
+            return;
+        }
+        schedule(schedule.id(), toMillis(schedule.nextRunAt()), due);
+    }
+
+    /**
+     * Кладёт проверку в колесо; наступившую добавляет в {@code due}. Вызывается под {@link #lock}.
+     */
+    private void schedule(long id, long deadlineMillis, List<TimingWheel.Expired> due) {
+        final long previousNext = wheel.nextExpiration();
+        if (!wheel.schedule(id, deadlineMillis)) {
+            due.add(new TimingWheel.Expired(id, deadlineMillis));
+        } else if (deadlineMillis < previousNext) {
+            // новый срок раньше того, до которого спит диспетчер
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Цикл диспетчера: спит до ближайшего срока и запускает наступившие проверки.
+     */
+    private void dispatchLoop() {
+        while (running) {
+            final List<TimingWheel.Expired> expired;
+            try {
+                synchronized (lock) {
+                    final long waitMillis = wheel.nextExpiration() - clock.millis();
+                    if (waitMillis > 0) {
+                        lock.wait(Math.min(waitMillis, MAX_WAIT_MILLIS));
+                        continue;
+                    }
+                    expired = wheel.advance(clock.millis());
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            dispatch(expired);
+        }
+    }
+
+    /**
+     * Делит наступившие проверки на пачки и запускает их на виртуальных потоках.
+     */
+    private void dispatch(List<TimingWheel.Expired> expired) {
+        if (expired.isEmpty()) {
+            return;
+        }
+        final long nowMillis = clock.millis();
+        final List<Long> ids = new ArrayList<>(expired.size());
+        for (TimingWheel.Expired entry : expired) {
+            lag.record(Math.max(0, nowMillis - entry.deadlineMillis()), TimeUnit.MILLISECONDS);
+            ids.add(entry.id());
+            inFlight.put(entry.id(), entry.deadlineMillis());
+        }
+        final ExecutorService target;
+        synchronized (lock) {
+            target = running ? executor : null;
+        }
+        for (int from = 0; from < ids.size(); from += engineProps.sliceSize()) {
+            final List<Long> slice = List.copyOf(ids.subList(from, Math.min(ids.size(), from + engineProps.sliceSize())));
+            if (target == null) {
+                // диспетчер остановлен: проверки вернутся в колесо при следующем старте и сверке
+                slice.forEach(inFlight::remove);
+                continue;
+            }
+            target.execute(() -> execute(slice));
+        }
+    }
+
+    /**
+     * Арендует и выполняет пачку, затем возвращает её проверки в колесо.
+     */
+    private void execute(List<Long> slice) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            slice.forEach(inFlight::remove);
+            return;
+        }
+        try {
+            final List<CheckDto> checks = checkReader.claimChecks(slice);
+            claimed.increment(checks.size());
+            skipped.increment(slice.size() - checks.size());
+            if (!checks.isEmpty()) {
+                checkExecution.executeChecks(checks);
+            }
+        } catch (Exception exception) {
+            log.error("Ошибка выполнения пачки проверок колеса {}: {}", slice, exception.getMessage(), exception);
+        } finally {
+            permits.release();
+            reschedule(slice);
+        }
+    }
+
+    /**
+     * Возвращает проверки пачки в колесо по перечитанному расписанию; при ошибке чтения — через {@code retryDelay}.
+     * <p>
+     * Срок, сдвинутый запуском, ставится как есть, даже прошедший (догоняние пропущенных слотов
+     * {@code FIXED_RATE}): такая проверка запускается сразу.
+     */
+    private void reschedule(List<Long> slice) {
+        final long retryAt = clock.millis() + props.retryDelay().toMillis();
+        Map<Long, CheckScheduleDto> schedules;
+        try {
+            schedules = checkReader.findSchedules(slice).stream()
+                    .collect(Collectors.toMap(CheckScheduleDto::id, Function.identity()));
+        } catch (Exception exception) {
+            log.warn("Не удалось перечитать расписания проверок {}: {}", slice, exception.getMessage());
+            schedules = null;
+        }
+        final List<TimingWheel.Expired> due = new ArrayList<>();
+        synchronized (lock) {
+            for (Long id : slice) {
+                final Long dispatchedAt = inFlight.remove(id);
+                final CheckScheduleDto schedule = schedules == null ? null : schedules.get(id);
+                if (schedules != null && (schedule == null || !schedule.enabled() || schedule.nextRunAt() == null)) {
+                    wheel.cancel(id);
+                    continue;
+                }
+                final long deadline = schedule == null ? retryAt : toMillis(schedule.nextRunAt());
+                final boolean unchanged = dispatchedAt == null || deadline == dispatchedAt;
+                // срок наступил и не сдвинулся: проверку держит другой узел или итог не записан — повтор через retryDelay
+                schedule(id, unchanged && deadline <= clock.millis() ? retryAt : deadline, due);
+            }
+        }
+        dispatch(due);
+    }
+
+    /**
+     * Срок проверки в колесе, мс эпохи; {@code null} — проверки в колесе нет.
+     */
+    Long deadlineOf(long id) {
+        synchronized (lock) {
+            return wheel.deadlineOf(id);
+        }
+    }
+
+    /**
+     * Число проверок в колесе.
+     */
+    int size() {
+        synchronized (lock) {
+            return wheel.size();
+        }
+    }
+
+    /**
+     * Срок в мс эпохи с округлением вверх: {@code next_run_at} хранится с микросекундами, и срок, усечённый
+     * до миллисекунды, наступал бы раньше {@code next_run_at} — захват ({@code next_run_at <= now}) пропускал бы
+     * проверку до повтора через {@code retryDelay}.
+     */
+    private long toMillis(LocalDateTime dateTime) {
+        final Instant instant = dateTime.atZone(clock.getZone()).toInstant();
+        return instant.getNano() % 1_000_000 == 0 ? instant.toEpochMilli() : instant.toEpochMilli() + 1;
+    }
+
+    private static LocalDateTime latestUpdatedAt(List<CheckScheduleDto> schedules, LocalDateTime initial) {
+        LocalDateTime latest = initial;
+        for (CheckScheduleDto schedule : schedules) {
+            if (schedule.updatedAt() != null && (latest == null || schedule.updatedAt().isAfter(latest))) {
+                latest = schedule.updatedAt();
+            }
+        }
+        return latest == null ? LocalDateTime.of(1970, 1, 1, 0, 0) : latest;
+    }
+}
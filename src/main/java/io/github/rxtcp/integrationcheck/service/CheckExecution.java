@@ -1,5 +1,9 @@
 package io.github.rxtcp.integrationcheck.service;
 
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+
+import java.util.List;
+
 /**
  * Сервис запуска выполнения проверки.
  */
@@ -11,4 +15,27 @@ public interface CheckExecution {
      * @param checkId идентификатор проверки
      */
     void execute(long checkId);
+
+    /**
+     * Выполнить пачку проверок по идентификаторам: проверки группируются по типу
+     * и каждая группа передаётся своей стратегии одним вызовом.
+     * <p>
+     * Реализация по умолчанию последовательно вызывает {@link #execute(long)}.
+     *
+     * @param checkIds идентификаторы проверок
+     */
+    default void executeBatch(List<Long> checkIds) {
+        checkIds.forEach(this::execute);
+    }
+
+    /**
+     * Выполнить пачку уже прочитанных проверок без повторного чтения из БД.
+     * <p>
+     * Реализация по умолчанию передаёт идентификаторы в {@link #executeBatch(List)}.
+     *
+     * @param checks DTO проверок с профилями
+     */
+    default void executeChecks(List<CheckDto> checks) {
+        executeBatch(checks.stream().map(CheckDto::id).toList());
+    }
 }
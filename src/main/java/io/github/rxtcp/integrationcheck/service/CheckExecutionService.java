@@ -8,13 +8,20 @@ import io.github.rxtcp.integrationcheck.mapper.CheckMapper;
 import io.github.rxtcp.integrationcheck.service.processor.CheckProcessor;
 import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
 import io.github.rxtcp.integrationcheck.service.writer.CheckResultWriter;
-import io.github.rxtcp.integrationcheck.service.writer.CheckWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
 import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.FAILED;
 import static io.github.rxtcp.integrationcheck.domain.FailureReason.ERROR;
 
@@ -29,7 +36,6 @@ public class CheckExecutionService implements CheckExecution {
     private final CheckMapper checkMapper;
     private final CheckReader checkReader;
     private final CheckProcessor checkProcessor;
-    private final CheckWriter checkWriter;
     private final CheckResultWriter checkResultWriter;
 
     /**
@@ -51,6 +57,125 @@ public class CheckExecutionService implements CheckExecution {
         }
     }
 
+    /**
+     * Запуск пачки проверок по идентификаторам.
+     * <p>
+     * Проверки читаются одним запросом, старт всех фиксируется одной транзакцией, затем все DTO передаются
+     * {@link CheckProcessor#processBatch(List)}, который группирует их по типу. Ошибка подготовки
+     * или фиксации одной проверки не прерывает остальные; проверка без результата завершается FAILED/ERROR.
+     * Выполняется вне транзакции (NOT_SUPPORTED); внутренние операции транзакционны.
+     *
+     * @param checkIds идентификаторы проверок
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void executeBatch(List<Long> checkIds) {
+        final List<Check> checkEntities;
+        try {
+            checkEntities = checkReader.findWithProfileByIds(checkIds);
+        } catch (Exception exception) {
+            log.error("Ошибка при чтении пачки проверок {}: {}", checkIds, exception.getMessage(), exception);
+            return;
+        }
+        processAndFinalize(startAll(checkEntities, index -> checkMapper.toDto(checkEntities.get(index))));
+    }
+
+    /**
+     * Запуск пачки уже прочитанных проверок.
+     * <p>
+     * Повторного чтения нет: для фиксации старта и переноса расписания используется отсоединённая ссылка
+     * {@link CheckMapper#toReference(CheckDto)}, в стратегии уходят переданные DTO. Дальше — как
+     * в {@link #executeBatch(List)}.
+     *
+     * @param checks DTO проверок с профилями
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void executeChecks(List<CheckDto> checks) {
+        processAndFinalize(startAll(checks.stream().map(checkMapper::toReference).toList(), checks::get));
+    }
+
+    /**
+     * Фиксирует старт всех проверок пачки одним вызовом {@link CheckResultWriter#recordProcessStarts(List)}.
+     * Если пакетная фиксация не удалась, старты фиксируются по одной; ошибка маппинга исключает проверку из пачки.
+     *
+     * @param checkEntities проверки пачки
+     * @param dtoAt         DTO проверки по её индексу в {@code checkEntities}
+     * @return начатые проверки по идентификатору в порядке пачки
+     */
+    private Map<Long, StartedCheck> startAll(List<Check> checkEntities, IntFunction<CheckDto> dtoAt) {
+        final Map<Long, StartedCheck> started = new LinkedHashMap<>(checkEntities.size() * 2);
+        final List<CheckResult> checkResultEntities;
+        try {
+            checkResultEntities = checkResultWriter.recordProcessStarts(checkEntities);
+        } catch (Exception exception) {
+            log.warn("Не удалось зафиксировать старт пачки из {} проверок, фиксация по одной: {}",
+                    checkEntities.size(), exception.getMessage());
+            for (int index = 0; index < checkEntities.size(); index++) {
+                final int position = index;
+                start(started, checkEntities.get(index), () -> dtoAt.apply(position));
+            }
+            return started;
+        }
+        for (int index = 0; index < checkEntities.size(); index++) {
+            final Check checkEntity = checkEntities.get(index);
+            try {
+                log.info("Начало проверки: {}, {}", checkEntity, checkResultEntities.get(index));
+                started.put(checkEntity.getId(), new StartedCheck(checkEntity, checkResultEntities.get(index), dtoAt.apply(index)));
+            } catch (Exception exception) {
+                log.error("Ошибка при подготовке проверки id={}: {}", checkEntity.getId(), exception.getMessage(), exception);
+            }
+        }
+        return started;
+    }
+
+    /**
+     * Фиксирует старт проверки пачки; ошибка фиксации или маппинга исключает проверку из пачки.
+     */
+    private void start(Map<Long, StartedCheck> started, Check checkEntity, Supplier<CheckDto> checkDto) {
+        try {
+            var checkResultEntity = recordStart(checkEntity);
+            started.put(checkEntity.getId(), new StartedCheck(checkEntity, checkResultEntity, checkDto.get()));
+        } catch (Exception exception) {
+            log.error("Ошибка при подготовке проверки id={}: {}", checkEntity.getId(), exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Выполняет начатые проверки пачкой и фиксирует каждую; проверка без результата завершается FAILED/ERROR.
+     */
+    private void processAndFinalize(Map<Long, StartedCheck> started) {
+        final Map<Long, CheckResultDto> results = processBatchSafely(started.values());
+
+        started.forEach((checkId, check) -> {
+            try {
+                var resultDto = results.getOrDefault(checkId,
+                        new CheckResultDto(FAILED, ERROR, "Стратегия не вернула результат для проверки id=%d".formatted(checkId)));
+                finalizeCheckExecution(check.entity(), check.result(), resultDto);
+            } catch (Exception exception) {
+                log.error("Ошибка при фиксации проверки id={}: {}", checkId, exception.getMessage(), exception);
+            }
+        });
+    }
+
+    /**
+     * Обёртка над пакетным процессингом: при сбое всей пачки каждая проверка получает FAILED/ERROR.
+     */
+    private Map<Long, CheckResultDto> processBatchSafely(Collection<StartedCheck> started) {
+        if (started.isEmpty()) {
+            return Map.of();
+        }
+        try {
+            return checkProcessor.processBatch(started.stream().map(StartedCheck::dto).toList());
+        } catch (Exception exception) {
+            log.error("Ошибка во время пакетной проверки: message={}", exception.getMessage(), exception);
+            var failed = new CheckResultDto(FAILED, ERROR, exception.getMessage());
+            final Map<Long, CheckResultDto> results = new HashMap<>(started.size() * 2);
+            started.forEach(check -> results.put(check.dto().id(), failed));
+            return results;
+        }
+    }
+
     /**
      * Обёртка над процессингом: перехватывает ошибки и возвращает FAILED/ERROR.
      */
@@ -81,11 +206,16 @@ public class CheckExecutionService implements CheckExecution {
     }
 
     /**
-     * Фиксирует завершение, обновляет nextRunAt и логирует.
+     * Фиксирует завершение и обновляет nextRunAt одним коммитом, логирует.
      */
     private void finalizeCheckExecution(Check checkEntity, CheckResult checkResultEntity, CheckResultDto resultDto) {
-        var updatedCheckResultEntity = checkResultWriter.recordProcessEnd(checkResultEntity, resultDto);
-        var updatedCheckEntity = checkWriter.updateNextExecutionTime(checkEntity, updatedCheckResultEntity);
-        log.info("Конец проверки: {}, {}", updatedCheckEntity, updatedCheckResultEntity);
+        var completedCheckResultEntity = checkResultWriter.completeProcess(checkResultEntity, resultDto);
+        log.info("Конец проверки: {}, {}", checkEntity, completedCheckResultEntity);
+    }
+
+    /**
+     * Проверка пачки после фиксации старта.
+     */
+    private record StartedCheck(Check entity, CheckResult result, CheckDto dto) {
     }
 }
\ No newline at end of file
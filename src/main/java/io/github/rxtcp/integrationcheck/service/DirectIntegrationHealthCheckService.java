@@ -0,0 +1,238 @@
+package io.github.rxtcp.integrationcheck.service;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.CheckLeaseProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.ExecutionEngineProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.IntegrationHealthCheckJobProps;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.entity.EngineTick;
+import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
+import io.github.rxtcp.integrationcheck.service.writer.EngineTickWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static io.github.rxtcp.integrationcheck.service.IntegrationHealthCheckService.computeWindowStartEpochMillis;
+
+/**
+ * Прямой движок исполнения тиков без Spring Batch.
+ * <p>
+ * Должные проверки читаются одним запросом сразу в DTO ({@link CheckReader#findDueChecks()}), делятся на пачки
+ * по {@code sliceSize} и передаются в {@link CheckExecution#executeChecks(List)} на виртуальных потоках; одновременно выполняется не более {@code concurrencyLimit} пачек. Тик ограничен
+ * областью исполнителя и завершается только после завершения всех пачек.
+ * <p>
+ * Как и асинхронный {@code JobLauncher} пути Spring Batch, {@link #checkHealth()} не держит поток вызова: тик
+ * выполняется в собственном потоке {@code <threadNamePrefix>tick}. Иначе тик занял бы единственный поток
+ * планировщика Spring и остановил бы на своё время остальные {@code @Scheduled}-задачи (агрегаты, обслуживание,
+ * восстановление). Пока предыдущий тик не завершён, следующий пропускается.
+ * <p>
+ * Вместо метаданных job'а на тик пишется одна строка {@code h_engine_tick}. Уникальность её
+ * {@code window_start} даёт ту же защиту от повторного запуска окна, что и идентифицирующий параметр
+ * {@link IntegrationHealthCheckService#PARAM_WINDOW_START}.
+ * <p>
+ * С арендой ({@code application.integration.lease.enabled=true}) окно не фиксируется: тик выполняют все узлы,
+ * каждый захватывает порции должных проверок {@link CheckReader#claimDueChecks(LocalDateTime, int)} до тех пор,
+ * пока захватывать нечего. Следующая порция захватывается, когда освобождается место для пачки, поэтому узел
+ * не арендует больше, чем успевает выполнять. Строка {@code h_engine_tick} при этом не пишется, сводка — в лог.
+ * <p>
+ * Активен при {@code application.integration.engine.type=direct}.
+ */
+@ConditionalOnProperty(value = ExecutionEngineProps.TYPE_PROPERTY, havingValue = "direct")
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class DirectIntegrationHealthCheckService implements IntegrationHealthChecker {
+
+    private final CheckReader checkReader;
+    private final CheckExecution checkExecution;
+    private final EngineTickWriter engineTickWriter;
+    private final IntegrationHealthCheckJobProps.Schedule scheduleProps;
+    private final ExecutionEngineProps engineProps;
+    private final CheckLeaseProps leaseProps;
+
+    /**
+     * Выполняется ли тик.
+     */
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    /**
+     * Запускает тик в отдельном потоке и сразу возвращается; если предыдущий тик ещё выполняется, пропускает запуск.
+     */
+    @Override
+    public void checkHealth() {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Предыдущий тик прямого движка ещё выполняется, запуск пропущен");
+            return;
+        }
+        try {
+            Thread.ofVirtual().name(engineProps.threadNamePrefix() + "tick").start(() -> {
+                try {
+                    runTick();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RuntimeException exception) {
+            running.set(false);
+            throw exception;
+        }
+    }
+
+    /**
+     * Выполняет тик в потоке вызова: фиксирует окно, запускает должные проверки пачками и записывает сводку.
+     * <p>
+     * Метод безопасен к повторным вызовам: если окно уже зафиксировано (в том числе другим экземпляром),
+     * логирует это и завершается без исключений наружу.
+     */
+    void runTick() {
+        if (leaseProps.enabled()) {
+            checkHealthWithLeases();
+            return;
+        }
+        var windowStart = currentWindowStart();
+        final var tick = startTick(windowStart);
+        if (tick == null) {
+            return;
+        }
+
+        int dueCount = 0;
+        int errorCount = 0;
+        try {
+            final List<CheckDto> dueChecks = checkReader.findDueChecks();
+            dueCount = dueChecks.size();
+            errorCount = executeSlices(dueChecks);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            errorCount++;
+            log.warn("Тик прямого движка прерван, окно {}", windowStart);
+        } catch (Exception exception) {
+            errorCount++;
+            log.error("Ошибка тика прямого движка, окно {}: {}", windowStart, exception.getMessage(), exception);
+        } finally {
+            var finished = engineTickWriter.recordTickEnd(tick, dueCount, errorCount);
+            log.info("Тик прямого движка завершён: {}", finished);
+        }
+    }
+
+    /**
+     * Выполняет тик с арендой: захватывает и запускает порции должных на момент старта тика проверок,
+     * пока захватывать нечего, и логирует сводку.
+     */
+    private void checkHealthWithLeases() {
+        final LocalDateTime dueBefore = LocalDateTime.now();
+        final AtomicInteger claimedCount = new AtomicInteger();
+        int errorCount = 0;
+        try {
+            errorCount = executeClaimed(dueBefore, claimedCount);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            errorCount++;
+            log.warn("Тик прямого движка с арендой прерван, узел {}", leaseProps.owner());
+        } catch (Exception exception) {
+            errorCount++;
+            log.error("Ошибка тика прямого движка с арендой, узел {}: {}", leaseProps.owner(), exception.getMessage(), exception);
+        } finally {
+            log.info("Тик прямого движка с арендой завершён: узел {}, срок запуска до {}, проверок {}, ошибок {}",
+                    leaseProps.owner(), dueBefore, claimedCount.get(), errorCount);
+        }
+    }
+
+    /**
+     * Фиксирует старт тика; {@code null}, если окно уже выполнено или выполняется.
+     */
+    private EngineTick startTick(LocalDateTime windowStart) {
+        try {
+            return engineTickWriter.recordTickStart(windowStart);
+        } catch (DataIntegrityViolationException e) {
+            log.info("Проверка интеграций для окна {} уже запущена.", windowStart);
+            return null;
+        }
+    }
+
+    /**
+     * Запускает пачки на виртуальных потоках и ждёт их завершения.
+     *
+     * @return число пачек, завершившихся необработанной ошибкой
+     */
+    private int executeSlices(List<CheckDto> dueChecks) throws InterruptedException {
+        final AtomicInteger errors = new AtomicInteger();
+        final Semaphore permits = new Semaphore(engineProps.concurrencyLimit());
+        final var threadFactory = Thread.ofVirtual().name(engineProps.threadNamePrefix(), 0).factory();
+        // close() дожидается всех задач: время жизни пачек ограничено тиком
+        try (ExecutorService scope = Executors.newThreadPerTaskExecutor(threadFactory)) {
+            for (List<CheckDto> slice : slices(dueChecks, engineProps.sliceSize())) {
+                submit(scope, permits, errors, slice);
+            }
+        }
+        return errors.get();
+    }
+
+    /**
+     * Захватывает порции должных проверок и запускает их пачками на виртуальных потоках, пока захватывать нечего;
+     * ждёт завершения всех пачек.
+     *
+     * @param dueBefore    проверки со сроком запуска не позже этого момента
+     * @param claimedCount счётчик захваченных проверок
+     * @return число пачек, завершившихся необработанной ошибкой
+     */
+    private int executeClaimed(LocalDateTime dueBefore, AtomicInteger claimedCount) throws InterruptedException {
+        final AtomicInteger errors = new AtomicInteger();
+        final Semaphore permits = new Semaphore(engineProps.concurrencyLimit());
+        final var threadFactory = Thread.ofVirtual().name(engineProps.threadNamePrefix(), 0).factory();
+        try (ExecutorService scope = Executors.newThreadPerTaskExecutor(threadFactory)) {
+            List<CheckDto> claimed;
+            while (!(claimed = checkReader.claimDueChecks(dueBefore, leaseProps.batchSize())).isEmpty()) {
+                claimedCount.addAndGet(claimed.size());
+                for (List<CheckDto> slice : slices(claimed, engineProps.sliceSize())) {
+                    submit(scope, permits, errors, slice);
+                }
+            }
+        }
+        return errors.get();
+    }
+
+    /**
+     * Запускает пачку, дождавшись свободного места среди {@code concurrencyLimit} выполняемых.
+     */
+    private void submit(ExecutorService scope, Semaphore permits, AtomicInteger errors, List<CheckDto> slice)
+            throws InterruptedException {
+        permits.acquire();
+        scope.execute(() -> {
+            try {
+                checkExecution.executeChecks(slice);
+            } catch (Exception exception) {
+                errors.incrementAndGet();
+                log.error("Ошибка выполнения пачки проверок {}: {}", slice.stream().map(CheckDto::id).toList(), exception.getMessage(), exception);
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    private LocalDateTime currentWindowStart() {
+        var windowStartMillis = computeWindowStartEpochMillis(
+                Clock.systemUTC(), Duration.ofSeconds(scheduleProps.windowSeconds()));
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(windowStartMillis), ZoneOffset.UTC);
+    }
+
+    private static <T> List<List<T>> slices(List<T> items, int sliceSize) {
+        final int count = (items.size() + sliceSize - 1) / sliceSize;
+        return IntStream.range(0, count)
+                .mapToObj(i -> items.subList(i * sliceSize, Math.min(items.size(), (i + 1) * sliceSize)))
+                .toList();
+    }
+}
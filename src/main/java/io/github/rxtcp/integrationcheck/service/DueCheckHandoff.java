@@ -0,0 +1,68 @@
+package io.github.rxtcp.integrationcheck.service;
+
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Передача прочитанных DTO должных проверок от партиционера к worker-ступеням одного тика.
+ * <p>
+ * Партиции по-прежнему несут только идентификаторы: DTO не сериализуются в контекст шага
+ * и не попадают в метаданные Spring Batch. Worker забирает свои DTO по идентификаторам; чего в передаче
+ * нет (перезапуск шага в другом процессе, DTO уже забраны), возвращается как недостающие id, и такие
+ * проверки читаются из БД прежним путём.
+ * <p>
+ * Потокобезопасен.
+ */
+@Component
+public class DueCheckHandoff {
+
+    /**
+     * DTO текущего тика по идентификатору проверки.
+     */
+    private final Map<Long, CheckDto> checks = new ConcurrentHashMap<>();
+
+    /**
+     * Заменяет содержимое DTO нового тика; не забранные с прошлого тика DTO отбрасываются.
+     *
+     * @param dueChecks должные проверки
+     */
+    public void offer(Collection<CheckDto> dueChecks) {
+        checks.clear();
+        dueChecks.forEach(check -> checks.put(check.id(), check));
+    }
+
+    /**
+     * Забирает DTO по идентификаторам.
+     *
+     * @param checkIds идентификаторы партиции
+     * @return найденные DTO в порядке идентификаторов и недостающие идентификаторы
+     */
+    public Taken take(Collection<Long> checkIds) {
+        final List<CheckDto> found = new ArrayList<>(checkIds.size());
+        final List<Long> missing = new ArrayList<>();
+        for (Long checkId : checkIds) {
+            var check = checks.remove(checkId);
+            if (check != null) {
+                found.add(check);
+            } else {
+                missing.add(checkId);
+            }
+        }
+        return new Taken(found, missing);
+    }
+
+    /**
+     * Результат {@link #take(Collection)}.
+     *
+     * @param found   DTO, переданные партиционером
+     * @param missing идентификаторы, которые нужно прочитать из БД
+     */
+    public record Taken(List<CheckDto> found, List<Long> missing) {
+    }
+}
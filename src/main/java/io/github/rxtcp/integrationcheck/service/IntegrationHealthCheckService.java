@@ -1,5 +1,6 @@
 package io.github.rxtcp.integrationcheck.service;
 
+import io.github.rxtcp.integrationcheck.configuration.properties.ExecutionEngineProps;
 import io.github.rxtcp.integrationcheck.configuration.properties.IntegrationHealthCheckJobProps;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,6 +12,7 @@ import org.springframework.batch.core.launch.JobLauncher;
 import org.springframework.batch.core.repository.JobExecutionAlreadyRunningException;
 import org.springframework.batch.core.repository.JobInstanceAlreadyCompleteException;
 import org.springframework.batch.core.repository.JobRestartException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
@@ -22,7 +24,10 @@ import java.time.Duration;
  * Формирует идемпотентные {@link JobParameters} с временным окном и запускает job асинхронно.
  * Параметр {@code windowStart} используется как идентифицирующий — это предотвращает повторный
  * запуск одного и того же «окна» времени.
+ * <p>
+ * Активен при {@code application.integration.engine.type=batch} (по умолчанию).
  */
+@ConditionalOnProperty(value = ExecutionEngineProps.TYPE_PROPERTY, havingValue = "batch", matchIfMissing = true)
 @Slf4j
 @RequiredArgsConstructor
 @Service
@@ -45,7 +50,7 @@ public class IntegrationHealthCheckService implements IntegrationHealthChecker {
      * @param windowDuration длительность окна, должна быть &gt; 0
      * @return миллисекунды начала окна (UTC)
      */
-    private static long computeWindowStartEpochMillis(Clock clock, Duration windowDuration) {
+    static long computeWindowStartEpochMillis(Clock clock, Duration windowDuration) {
         long windowMillis = windowDuration.toMillis();
         long nowMillis = clock.millis();
         return Math.floorDiv(nowMillis, windowMillis) * windowMillis;
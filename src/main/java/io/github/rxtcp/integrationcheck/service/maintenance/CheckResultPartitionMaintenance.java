@@ -0,0 +1,207 @@
+package io.github.rxtcp.integrationcheck.service.maintenance;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultPartitioningProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Обслуживание суточных секций {@code h_check_result} (PostgreSQL, RANGE по {@code started_at}).
+ * <p>
+ * Каждый проход:
+ * <ul>
+ *   <li>создаёт секции {@code h_check_result_pYYYYMMDD} для суток с сегодняшнего дня
+ *       на {@link ResultPartitioningProps#premakeDays()} вперёд, ещё не покрытых другими секциями;</li>
+ *   <li>удаляет секции, верхняя граница которых не позже {@code now - retention}, включая
+ *       {@code h_check_result_legacy}. Секция {@code DEFAULT} не удаляется.</li>
+ * </ul>
+ * Границы существующих секций читаются из каталога ({@code pg_inherits}, {@code pg_get_expr}), поэтому
+ * обслуживание не зависит от имён секций, созданных миграцией. Ошибка по одной секции логируется
+ * и не прерывает остальные. Метрики: {@code integration.result.partitions.created},
+ * {@code integration.result.partitions.dropped}, {@code integration.result.partitions.failures}.
+ * <p>
+ * Активен при {@code application.integration.result-partitioning.enabled=true}.
+ */
+@ConditionalOnProperty(value = ResultPartitioningProps.ENABLED_PROPERTY, havingValue = "true")
+@Slf4j
+@Component
+public class CheckResultPartitionMaintenance {
+
+    /**
+     * Секционированная таблица.
+     */
+    static final String TABLE = "h_check_result";
+
+    /**
+     * Префикс имён суточных секций.
+     */
+    static final String PARTITION_PREFIX = TABLE + "_p";
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * Формат значения границы в выводе {@code pg_get_expr}: {@code 2024-01-02 00:00:00[.ffffff]}.
+     */
+    private static final DateTimeFormatter BOUND_FORMAT = new DateTimeFormatterBuilder()
+            .appendPattern("yyyy-MM-dd HH:mm:ss")
+            .optionalStart()
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+            .optionalEnd()
+            .toFormatter();
+
+    /**
+     * Границы в выражении {@code FOR VALUES FROM ('...'|MINVALUE) TO ('...'|MAXVALUE)}.
+     */
+    private static final Pattern RANGE_BOUND = Pattern.compile("FROM \\((?:'([^']+)'|MINVALUE)\\) TO \\((?:'([^']+)'|MAXVALUE)\\)");
+
+    private static final String LIST_PARTITIONS_SQL = """
+            SELECT c.relname AS name, pg_get_expr(c.relpartbound, c.oid) AS bound
+            FROM pg_catalog.pg_inherits i
+                     JOIN pg_catalog.pg_class c ON c.oid = i.inhrelid
+                     JOIN pg_catalog.pg_class p ON p.oid = i.inhparent
+                     JOIN pg_catalog.pg_namespace n ON n.oid = p.relnamespace
+            WHERE n.nspname = ?
+              AND p.relname = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResultPartitioningProps props;
+    private final Clock clock;
+
+    private final Counter created;
+    private final Counter dropped;
+    private final Counter failures;
+
+    @Autowired
+    public CheckResultPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                           ResultPartitioningProps props,
+                                           MeterRegistry meterRegistry) {
+        this(jdbcTemplate, props, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    CheckResultPartitionMaintenance(JdbcTemplate jdbcTemplate,
+                                    ResultPartitioningProps props,
+                                    MeterRegistry meterRegistry,
+                                    Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+        this.clock = clock;
+        this.created = Counter.builder("integration.result.partitions.created")
+                .description("Созданные секции h_check_result")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("integration.result.partitions.dropped")
+                .description("Удалённые по сроку хранения секции h_check_result")
+                .register(meterRegistry);
+        this.failures = Counter.builder("integration.result.partitions.failures")
+                .description("Ошибки создания и удаления секций h_check_result")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Проход обслуживания: создание будущих секций и удаление истёкших.
+     */
+    @Scheduled(fixedDelayString = "${application.integration.result-partitioning.maintenance-interval}")
+    public void maintain() {
+        final List<Partition> partitions = listPartitions();
+        createMissing(partitions);
+        dropExpired(partitions);
+    }
+
+    private void createMissing(List<Partition> partitions) {
+        final LocalDate today = LocalDate.now(clock);
+        for (int day = 0; day <= props.premakeDays(); day++) {
+            final LocalDateTime from = today.plusDays(day).atStartOfDay();
+            final LocalDateTime to = from.plusDays(1);
+            if (partitions.stream().anyMatch(partition -> partition.overlaps(from, to))) {
+                continue;
+            }
+            final String name = PARTITION_PREFIX + from.format(PARTITION_SUFFIX);
+            try {
+                jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s.%s PARTITION OF %s.%s FOR VALUES FROM ('%s') TO ('%s')"
+                        .formatted(props.schema(), name, props.schema(), TABLE, from, to));
+                created.increment();
+                log.info("Создана секция {}.{}", props.schema(), name);
+            } catch (DataAccessException exception) {
+                // например, в DEFAULT уже есть строки этого диапазона: секцию нужно создать вручную с переносом строк
+                failures.increment();
+                log.error("Не удалось создать секцию {}.{}: {}", props.schema(), name, exception.getMessage(), exception);
+            }
+        }
+    }
+
+    private void dropExpired(List<Partition> partitions) {
+        final LocalDateTime cutoff = LocalDateTime.now(clock).minus(props.retention());
+        for (Partition partition : partitions) {
+            final LocalDateTime upper = partition.upper();
+            if (partition.isDefault() || upper == null || upper.isAfter(cutoff)) {
+                continue;
+            }
+            try {
+                jdbcTemplate.execute("DROP TABLE IF EXISTS %s.%s".formatted(props.schema(), partition.name()));
+                dropped.increment();
+                log.info("Удалена секция {}.{} (граница {}, срок хранения до {})", props.schema(), partition.name(), upper, cutoff);
+            } catch (DataAccessException exception) {
+                failures.increment();
+                log.error("Не удалось удалить секцию {}.{}: {}", props.schema(), partition.name(), exception.getMessage(), exception);
+            }
+        }
+    }
+
+    private List<Partition> listPartitions() {
+        return jdbcTemplate.query(LIST_PARTITIONS_SQL,
+                (rs, rowNum) -> Partition.of(rs.getString("name"), rs.getString("bound")),
+                props.schema(), TABLE);
+    }
+
+    /**
+     * Секция с границами из каталога.
+     *
+     * @param name      имя секции
+     * @param isDefault секция {@code DEFAULT} (границ нет)
+     * @param lower     нижняя граница включительно; {@code null} — {@code MINVALUE}
+     * @param upper     верхняя граница исключительно; {@code null} — {@code MAXVALUE}
+     */
+    record Partition(String name, boolean isDefault, LocalDateTime lower, LocalDateTime upper) {
+
+        /**
+         * Разбирает выражение {@code pg_get_expr(relpartbound)}: {@code DEFAULT}
+         * или {@code FOR VALUES FROM (...) TO (...)}.
+         */
+        static Partition of(String name, String bound) {
+            final Matcher matcher = bound == null ? null : RANGE_BOUND.matcher(bound);
+            if (matcher == null || !matcher.find()) {
+                return new Partition(name, true, null, null);
+            }
+            return new Partition(name, false, parse(matcher.group(1)), parse(matcher.group(2)));
+        }
+
+        /**
+         * Пересекается ли диапазон секции с {@code [from, to)}; {@code DEFAULT} ни с чем не пересекается.
+         */
+        boolean overlaps(LocalDateTime from, LocalDateTime to) {
+            return !isDefault
+                    && (lower == null || lower.isBefore(to))
+                    && (upper == null || upper.isAfter(from));
+        }
+
+        private static LocalDateTime parse(String value) {
+            return value == null ? null : LocalDateTime.parse(value, BOUND_FORMAT);
+        }
+    }
+}
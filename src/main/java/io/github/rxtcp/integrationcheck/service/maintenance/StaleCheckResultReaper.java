@@ -0,0 +1,255 @@
+package io.github.rxtcp.integrationcheck.service.maintenance;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.StaleResultReaperProps;
+import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
+import io.github.rxtcp.integrationcheck.domain.FailureReason;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.service.payload.CheckResultPayloadStore;
+import io.github.rxtcp.integrationcheck.service.rollup.CheckResultRollup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Восстановление запусков, брошенных остановившимся узлом.
+ * <p>
+ * Если процесс остановился между фиксацией старта и записью итога, строка {@code h_check_result} остаётся
+ * в {@code PROCESSING}, а {@code next_run_at} проверки не сдвигается. Каждый проход находит по индексу
+ * {@code ix_h_check_result__processing_started_at} строки {@code PROCESSING}, начатые раньше, чем таймаут профиля
+ * плюс {@link StaleResultReaperProps#grace()} назад, и порциями по {@link StaleResultReaperProps#batchSize()}
+ * в одной транзакции:
+ * <ul>
+ *   <li>завершает их как {@code FAILED} с причиной {@link FailureReason#ABANDONED} одним пакетом UPDATE;
+ *       условие {@code status = 'PROCESSING'} не даёт завершить строку дважды при проходах на нескольких узлах;</li>
+ *   <li>переносит {@code next_run_at = now + интервал} и снимает аренду проверок, которые всё ещё должны
+ *       к запуску, одним пакетом UPDATE; проверки, уже перенесённые более поздним запуском, не трогаются;</li>
+ *   <li>учитывает завершённые запуски в агрегатах ({@link CheckResultRollup}) после коммита.</li>
+ * </ul>
+ * Первый проход выполняется при старте. Метрика: {@code integration.result.abandoned} — завершённые брошенные запуски.
+ * <p>
+ * Активен при {@code application.integration.stale-result-reaper.enabled=true}.
+ */
+@ConditionalOnProperty(value = StaleResultReaperProps.ENABLED_PROPERTY, havingValue = "true")
+@Slf4j
+@Component
+public class StaleCheckResultReaper {
+
+    /**
+     * Детали, записываемые в брошенный запуск.
+     */
+    static final String ABANDONED_DETAILS = "Запуск не завершён: узел остановился до записи итога";
+
+    private static final String SELECT_STALE_SQL = """
+            SELECT r.id, r.check_id, r.started_at,
+                   COALESCE(c.run_interval_sec, c.run_interval_min * 60) AS run_interval_sec,
+                   ra.timeout_seconds, tc.connect_timeout_ms
+            FROM %1$s.h_check_result r
+                     LEFT JOIN %1$s.h_check c ON c.id = r.check_id
+                     LEFT JOIN %1$s.h_check_profile p ON p.check_id = r.check_id
+                     LEFT JOIN %1$s.h_check_rest_api ra ON ra.id = p.id
+                     LEFT JOIN %1$s.h_check_tcp_connect tc ON tc.id = p.id
+            WHERE r.status = 'PROCESSING'
+              AND r.started_at < ?
+            ORDER BY r.started_at
+            LIMIT ?
+            """;
+
+    private static final String FAIL_SQL = """
+            UPDATE %s.h_check_result
+            SET status = 'FAILED',
+                failure_reason = 'ABANDONED',
+                finished_at = ?,
+                details = ?,
+                details_hash = ?
+            WHERE id = ?
+              AND started_at = ?
+              AND status = 'PROCESSING'
+            """;
+
+    private static final String RESCHEDULE_SQL = """
+            UPDATE %s.h_check
+            SET next_run_at = ?,
+                lease_owner = NULL,
+                lease_until = NULL
+            WHERE id = ?
+              AND next_run_at <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CheckResultRollup checkResultRollup;
+    private final CheckResultPayloadStore checkResultPayloadStore;
+    private final StaleResultReaperProps props;
+    private final Clock clock;
+    private final String selectStaleSql;
+    private final String failSql;
+    private final String rescheduleSql;
+
+    private final Counter abandoned;
+
+    @Autowired
+    public StaleCheckResultReaper(JdbcTemplate jdbcTemplate,
+                                  TransactionTemplate transactionTemplate,
+                                  CheckResultRollup checkResultRollup,
+                                  CheckResultPayloadStore checkResultPayloadStore,
+                                  StaleResultReaperProps props,
+                                  MeterRegistry meterRegistry) {
+        this(jdbcTemplate, transactionTemplate, checkResultRollup, checkResultPayloadStore, props, meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    StaleCheckResultReaper(JdbcTemplate jdbcTemplate,
+                           TransactionTemplate transactionTemplate,
+                           CheckResultRollup checkResultRollup,
+                           CheckResultPayloadStore checkResultPayloadStore,
+                           StaleResultReaperProps props,
+                           MeterRegistry meterRegistry,
+                           Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.checkResultRollup = checkResultRollup;
+        this.checkResultPayloadStore = checkResultPayloadStore;
+        this.props = props;
+        this.clock = clock;
+        this.selectStaleSql = SELECT_STALE_SQL.formatted(props.schema());
+        this.failSql = FAIL_SQL.formatted(props.schema());
+        this.rescheduleSql = RESCHEDULE_SQL.formatted(props.schema());
+        this.abandoned = Counter.builder("integration.result.abandoned")
+                .description("Брошенные запуски, завершённые восстановлением")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Проход восстановления: завершает все найденные брошенные запуски порциями.
+     *
+     * @return число завершённых запусков
+     */
+    @Scheduled(fixedDelayString = "${application.integration.stale-result-reaper.interval}")
+    public int reap() {
+        int total = 0;
+        List<StaleRun> candidates;
+        do {
+            final LocalDateTime now = LocalDateTime.now(clock);
+            candidates = jdbcTemplate.query(selectStaleSql, (rs, rowNum) -> StaleRun.of(rs),
+                    Timestamp.valueOf(now.minus(props.grace())), props.batchSize());
+            final List<StaleRun> stale = candidates.stream()
+                    .filter(run -> run.isStale(now, props.grace()))
+                    .toList();
+            if (stale.isEmpty()) {
+                break;
+            }
+            total += transactionTemplate.execute(status -> fail(stale, now));
+        } while (candidates.size() == props.batchSize());
+        if (total > 0) {
+            log.warn("Завершены брошенные запуски проверок: {}", total);
+        }
+        return total;
+    }
+
+    /**
+     * Завершает порцию брошенных запусков и переносит расписание их проверок.
+     *
+     * @return число завершённых этим вызовом запусков
+     */
+    private int fail(List<StaleRun> stale, LocalDateTime now) {
+        final byte[] detailsHash = checkResultPayloadStore.store(ABANDONED_DETAILS);
+        final String details = detailsHash == null ? ABANDONED_DETAILS : null;
+        final Timestamp nowTs = Timestamp.valueOf(now);
+        final List<Object[]> failArgs = new ArrayList<>(stale.size());
+        for (StaleRun run : stale) {
+            failArgs.add(new Object[]{nowTs, details, detailsHash, run.id(), Timestamp.valueOf(run.startedAt())});
+        }
+        final int[] updated = jdbcTemplate.batchUpdate(failSql, failArgs);
+
+        final Map<Long, Integer> intervals = new LinkedHashMap<>();
+        int failed = 0;
+        for (int i = 0; i < stale.size(); i++) {
+            if (updated[i] == 0) {
+                // уже завершён: итог записал сам запуск или другой узел
+                continue;
+            }
+            final StaleRun run = stale.get(i);
+            failed++;
+            if (run.checkId() != null && run.runIntervalSec() != null) {
+                intervals.putIfAbsent(run.checkId(), run.runIntervalSec());
+                checkResultRollup.record(run.toResult(now));
+            }
+        }
+        if (!intervals.isEmpty()) {
+            final List<Object[]> rescheduleArgs = new ArrayList<>(intervals.size());
+            intervals.forEach((checkId, runIntervalSec) ->
+                    rescheduleArgs.add(new Object[]{Timestamp.valueOf(now.plusSeconds(runIntervalSec)), checkId, nowTs}));
+            jdbcTemplate.batchUpdate(rescheduleSql, rescheduleArgs);
+        }
+        abandoned.increment(failed);
+        return failed;
+    }
+
+    /**
+     * Незавершённый запуск.
+     *
+     * @param id             идентификатор результата
+     * @param checkId        идентификатор проверки; {@code null} — проверка удалена
+     * @param startedAt      время начала
+     * @param runIntervalSec интервал запуска проверки, с; {@code null} — проверка удалена
+     * @param timeout        таймаут профиля; {@link Duration#ZERO}, если профиля нет
+     */
+    record StaleRun(long id, Long checkId, LocalDateTime startedAt, Integer runIntervalSec, Duration timeout) {
+
+        static StaleRun of(ResultSet rs) throws SQLException {
+            final Duration timeout;
+            if (rs.getObject("timeout_seconds") != null) {
+                timeout = Duration.ofSeconds(rs.getInt("timeout_seconds"));
+            } else if (rs.getObject("connect_timeout_ms") != null) {
+                timeout = Duration.ofMillis(rs.getInt("connect_timeout_ms"));
+            } else {
+                timeout = Duration.ZERO;
+            }
+            return new StaleRun(
+                    rs.getLong("id"),
+                    rs.getObject("check_id", Long.class),
+                    rs.getTimestamp("started_at").toLocalDateTime(),
+                    rs.getObject("run_interval_sec", Integer.class),
+                    timeout);
+        }
+
+        /**
+         * Брошен ли запуск к моменту {@code now}: начат раньше, чем таймаут профиля плюс {@code grace} назад.
+         */
+        boolean isStale(LocalDateTime now, Duration grace) {
+            return startedAt.plus(timeout).plus(grace).isBefore(now);
+        }
+
+        /**
+         * Завершённый запуск для учёта в агрегатах.
+         */
+        CheckResult toResult(LocalDateTime finishedAt) {
+            return CheckResult.builder()
+                    .id(id)
+                    .check(Check.builder().id(checkId).build())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .status(CheckRunStatus.FAILED)
+                    .failureReason(FailureReason.ABANDONED)
+                    .build();
+        }
+    }
+}
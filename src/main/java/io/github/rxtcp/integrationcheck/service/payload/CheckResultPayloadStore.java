@@ -0,0 +1,285 @@
+package io.github.rxtcp.integrationcheck.service.payload;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultPayloadProps;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Адресуемое по содержимому хранилище деталей результатов проверок ({@code h_check_result_payload}).
+ * <p>
+ * Детали (тело ответа или текст ошибки) хранятся один раз на уникальное содержимое: ключ — SHA-256
+ * деталей в UTF-8, содержимое сжимается {@link PayloadCodec#DEFLATE}. Результат хранит только хеш
+ * ({@code h_check_result.details_hash}), поэтому у стабильного эндпоинта на запуск приходится 32 байта
+ * ссылки вместо полного тела.
+ * <p>
+ * Хеши сохранённых деталей запоминаются в памяти (LRU на {@link ResultPayloadProps#cacheSize()}): повтор
+ * уже сохранённых деталей не обращается к БД. Раз в {@link ResultPayloadProps#touchInterval()} у повторяющихся
+ * деталей обновляется {@code last_seen_at}; детали, не использовавшиеся дольше {@link ResultPayloadProps#retention()},
+ * удаляются фоновой задачей. Поэтому {@code retention} должен покрывать срок хранения результатов (с точностью
+ * до суточной секции) плюс два {@code touchInterval}. Внутри транзакции хеш запоминается только после её коммита.
+ * <p>
+ * Метрики:
+ * <ul>
+ *   <li>{@code integration.result.payload.writes} с тегом {@code result=cached|inserted|existing} — сохранения деталей;</li>
+ *   <li>{@code integration.result.payload.bytes} с тегом {@code kind=raw|stored} — размер новых деталей до и после сжатия;</li>
+ *   <li>{@code integration.result.payload.purged} — удалённые неиспользуемые детали;</li>
+ *   <li>{@code integration.result.payload.cache.size} — хешей в памяти.</li>
+ * </ul>
+ * При {@code application.integration.result-payload.enabled=false} детали остаются в строке результата.
+ * Потокобезопасен.
+ */
+@Slf4j
+@Component
+public class CheckResultPayloadStore {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO %s.h_check_result_payload (hash, codec, size_bytes, content, created_at, last_seen_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String TOUCH_SQL = """
+            UPDATE %s.h_check_result_payload
+            SET last_seen_at = ?
+            WHERE hash = ?
+              AND last_seen_at < ?
+            """;
+
+    private static final String SELECT_SQL = """
+            SELECT codec, size_bytes, content
+            FROM %s.h_check_result_payload
+            WHERE hash = ?
+            """;
+
+    private static final String PURGE_SQL = """
+            DELETE FROM %s.h_check_result_payload
+            WHERE last_seen_at < ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResultPayloadProps props;
+    private final Clock clock;
+    private final String insertSql;
+    private final String touchSql;
+    private final String selectSql;
+    private final String purgeSql;
+
+    /**
+     * Время последней отметки сохранённых деталей по hex-хешу; порядок доступа — для вытеснения LRU.
+     */
+    private final Map<String, LocalDateTime> touched;
+
+    private final Counter cached;
+    private final Counter inserted;
+    private final Counter existing;
+    private final Counter rawBytes;
+    private final Counter storedBytes;
+    private final Counter purged;
+
+    @Autowired
+    public CheckResultPayloadStore(JdbcTemplate jdbcTemplate, ResultPayloadProps props, MeterRegistry meterRegistry) {
+        this(jdbcTemplate, props, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    CheckResultPayloadStore(JdbcTemplate jdbcTemplate, ResultPayloadProps props, MeterRegistry meterRegistry, Clock clock) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.props = props;
+        this.clock = clock;
+        this.insertSql = INSERT_SQL.formatted(props.schema());
+        this.touchSql = TOUCH_SQL.formatted(props.schema());
+        this.selectSql = SELECT_SQL.formatted(props.schema());
+        this.purgeSql = PURGE_SQL.formatted(props.schema());
+        this.touched = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LocalDateTime> eldest) {
+                return size() > props.cacheSize();
+            }
+        };
+        this.cached = writes(meterRegistry, "cached");
+        this.inserted = writes(meterRegistry, "inserted");
+        this.existing = writes(meterRegistry, "existing");
+        this.rawBytes = bytes(meterRegistry, "raw");
+        this.storedBytes = bytes(meterRegistry, "stored");
+        this.purged = Counter.builder("integration.result.payload.purged")
+                .description("Удалённые неиспользуемые детали результатов")
+                .register(meterRegistry);
+        Gauge.builder("integration.result.payload.cache.size", this, CheckResultPayloadStore::cacheSize)
+                .description("Хеши сохранённых деталей в памяти")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Сохранить детали, если таких ещё нет, и вернуть их хеш.
+     * <p>
+     * Выполняется в текущей транзакции, если она есть; ошибка БД пробрасывается.
+     *
+     * @param details детали результата
+     * @return SHA-256 деталей; {@code null}, если деталей нет или хранилище выключено
+     */
+    public byte[] store(String details) {
+        if (!props.enabled() || details == null) {
+            return null;
+        }
+        final byte[] raw = details.getBytes(StandardCharsets.UTF_8);
+        final byte[] hash = sha256(raw);
+        final String key = HexFormat.of().formatHex(hash);
+        final LocalDateTime now = LocalDateTime.now(clock);
+        final LocalDateTime touchedAt = touchedAt(key);
+        if (touchedAt != null && touchedAt.isAfter(now.minus(props.touchInterval()))) {
+            cached.increment();
+            return hash;
+        }
+        final PayloadCodec.Encoded encoded = PayloadCodec.encodeBest(raw, props.compressionLevel(), props.compressThreshold().toBytes());
+        final Timestamp nowTs = Timestamp.valueOf(now);
+        if (jdbcTemplate.update(insertSql, hash, encoded.codec().name(), raw.length, encoded.content(), nowTs, nowTs) > 0) {
+            inserted.increment();
+            rawBytes.increment(raw.length);
+            storedBytes.increment(encoded.content().length);
+        } else {
+            jdbcTemplate.update(touchSql, nowTs, hash, Timestamp.valueOf(now.minus(props.touchInterval())));
+            existing.increment();
+        }
+        remember(key, now);
+        return hash;
+    }
+
+    /**
+     * Перенести детали результата в хранилище: проставить {@code detailsHash} и очистить {@code details}.
+     * При выключенном хранилище или без деталей запись не меняется.
+     *
+     * @param result результат с итогом
+     */
+    public void externalize(CheckResult result) {
+        final byte[] hash = store(result.getDetails());
+        if (hash != null) {
+            result.setDetailsHash(hash);
+            result.setDetails(null);
+        }
+    }
+
+    /**
+     * Прочитать детали по хешу.
+     *
+     * @param hash SHA-256 деталей
+     * @return детали; пусто, если таких нет
+     */
+    public Optional<String> load(byte[] hash) {
+        return jdbcTemplate.query(selectSql, rs -> {
+            if (!rs.next()) {
+                return Optional.<String>empty();
+            }
+            final PayloadCodec codec = PayloadCodec.valueOf(rs.getString("codec"));
+            final byte[] raw = codec.decode(rs.getBytes("content"), rs.getInt("size_bytes"));
+            return Optional.of(new String(raw, StandardCharsets.UTF_8));
+        }, (Object) hash);
+    }
+
+    /**
+     * Детали результата: из строки результата (записи до выноса деталей и при выключенном хранилище)
+     * или из хранилища по {@code detailsHash}.
+     *
+     * @param result результат
+     * @return детали или {@code null}
+     */
+    public String detailsOf(CheckResult result) {
+        if (result.getDetails() != null || result.getDetailsHash() == null) {
+            return result.getDetails();
+        }
+        return load(result.getDetailsHash()).orElse(null);
+    }
+
+    /**
+     * Удалить детали, не использовавшиеся дольше {@code retention}.
+     */
+    @Scheduled(
+            fixedDelayString = "${application.integration.result-payload.purge-interval}",
+            initialDelayString = "${application.integration.result-payload.purge-interval}"
+    )
+    public void purge() {
+        final LocalDateTime cutoff = LocalDateTime.now(clock).minus(props.retention());
+        final int deleted = jdbcTemplate.update(purgeSql, Timestamp.valueOf(cutoff));
+        purged.increment(deleted);
+        if (deleted > 0) {
+            log.info("Удалены неиспользуемые с {} детали результатов: {}", cutoff, deleted);
+        }
+    }
+
+    /**
+     * Текущее число хешей в памяти.
+     */
+    int cacheSize() {
+        synchronized (touched) {
+            return touched.size();
+        }
+    }
+
+    private LocalDateTime touchedAt(String key) {
+        synchronized (touched) {
+            return touched.get(key);
+        }
+    }
+
+    /**
+     * Запоминает хеш сохранённых деталей; внутри транзакции — после коммита, при откате — не запоминает.
+     */
+    private void remember(String key, LocalDateTime now) {
+        final Runnable put = () -> {
+            synchronized (touched) {
+                touched.put(key, now);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put.run();
+                }
+            });
+        } else {
+            put.run();
+        }
+    }
+
+    private static byte[] sha256(byte[] raw) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(raw);
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 недоступен", exception);
+        }
+    }
+
+    private static Counter writes(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("integration.result.payload.writes")
+                .description("Сохранения деталей результатов")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static Counter bytes(MeterRegistry meterRegistry, String kind) {
+        return Counter.builder("integration.result.payload.bytes")
+                .description("Размер новых деталей результатов до и после сжатия")
+                .baseUnit("bytes")
+                .tag("kind", kind)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.rxtcp.integrationcheck.service.payload;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Кодек содержимого {@code h_check_result_payload}; имя константы хранится в колонке {@code codec}.
+ */
+public enum PayloadCodec {
+
+    /**
+     * Без сжатия.
+     */
+    NONE {
+        @Override
+        byte[] encode(byte[] raw, int level) {
+            return raw;
+        }
+
+        @Override
+        byte[] decode(byte[] content, int sizeBytes) {
+            return content;
+        }
+    },
+
+    /**
+     * Поток zlib ({@link Deflater}/{@link Inflater} JDK).
+     */
+    DEFLATE {
+        @Override
+        byte[] encode(byte[] raw, int level) {
+            final Deflater deflater = new Deflater(level);
+            try {
+                deflater.setInput(raw);
+                deflater.finish();
+                final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, raw.length / 2));
+                final byte[] chunk = new byte[Math.min(8192, raw.length + 64)];
+                while (!deflater.finished()) {
+                    out.write(chunk, 0, deflater.deflate(chunk));
+                }
+                return out.toByteArray();
+            } finally {
+                deflater.end();
+            }
+        }
+
+        @Override
+        byte[] decode(byte[] content, int sizeBytes) {
+            final Inflater inflater = new Inflater();
+            try {
+                inflater.setInput(content);
+                final byte[] raw = new byte[sizeBytes];
+                int read = 0;
+                while (read < sizeBytes && !inflater.finished()) {
+                    final int n = inflater.inflate(raw, read, sizeBytes - read);
+                    if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                        break;
+                    }
+                    read += n;
+                }
+                if (read != sizeBytes) {
+                    throw new IllegalStateException("Повреждённое содержимое DEFLATE: ожидалось %d байт, получено %d"
+                            .formatted(sizeBytes, read));
+                }
+                return raw;
+            } catch (DataFormatException exception) {
+                throw new IllegalStateException("Повреждённое содержимое DEFLATE", exception);
+            } finally {
+                inflater.end();
+            }
+        }
+    };
+
+    /**
+     * Кодирует содержимое.
+     *
+     * @param raw   исходные байты
+     * @param level уровень сжатия (для {@link #DEFLATE})
+     * @return закодированные байты
+     */
+    abstract byte[] encode(byte[] raw, int level);
+
+    /**
+     * Декодирует содержимое.
+     *
+     * @param content   закодированные байты
+     * @param sizeBytes размер исходных байт
+     * @return исходные байты
+     */
+    abstract byte[] decode(byte[] content, int sizeBytes);
+
+    /**
+     * Выбирает кодек и кодирует: {@link #DEFLATE}, если содержимое не короче {@code threshold}
+     * и сжатие его уменьшает, иначе {@link #NONE}.
+     *
+     * @param raw       исходные байты
+     * @param level     уровень сжатия
+     * @param threshold минимальный размер для сжатия, байт
+     * @return кодек и закодированные байты
+     */
+    static Encoded encodeBest(byte[] raw, int level, long threshold) {
+        if (raw.length >= threshold) {
+            final byte[] deflated = DEFLATE.encode(raw, level);
+            if (deflated.length < raw.length) {
+                return new Encoded(DEFLATE, deflated);
+            }
+        }
+        return new Encoded(NONE, raw);
+    }
+
+    /**
+     * Закодированное содержимое.
+     *
+     * @param codec   кодек
+     * @param content байты в кодеке {@code codec}
+     */
+    record Encoded(PayloadCodec codec, byte[] content) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Encoded other && codec == other.codec && Arrays.equals(content, other.content);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * codec.hashCode() + Arrays.hashCode(content);
+        }
+
+        @Override
+        public String toString() {
+            return "Encoded{codec=" + codec + ", bytes=" + content.length + '}';
+        }
+    }
+}
@@ -3,6 +3,10 @@ package io.github.rxtcp.integrationcheck.service.processor;
 import io.github.rxtcp.integrationcheck.dto.CheckDto;
 import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Процессор выполнения проверки.
  */
@@ -15,4 +19,21 @@ public interface CheckProcessor {
      * @return результат
      */
     CheckResultDto process(CheckDto check);
+
+    /**
+     * Выполнить проверку асинхронно.
+     *
+     * @param check входные данные
+     * @return future с результатом
+     */
+    CompletableFuture<CheckResultDto> processAsync(CheckDto check);
+
+    /**
+     * Выполнить пачку проверок: проверки группируются по типу, проверки всех групп запускаются асинхронно
+     * стратегиями своих типов и ожидаются вместе; сбой одной группы не затрагивает остальные.
+     *
+     * @param checks входные данные (допускаются разные типы)
+     * @return результаты по идентификатору проверки
+     */
+    Map<Long, CheckResultDto> processBatch(List<CheckDto> checks);
 }
@@ -1,17 +1,32 @@
 package io.github.rxtcp.integrationcheck.service.processor;
 
+import io.github.rxtcp.integrationcheck.domain.CheckType;
 import io.github.rxtcp.integrationcheck.dto.CheckDto;
 import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
+import io.github.rxtcp.integrationcheck.service.processor.strategy.CheckStrategy;
 import io.github.rxtcp.integrationcheck.service.processor.strategy.CheckStrategyFactory;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.FAILED;
+import static io.github.rxtcp.integrationcheck.domain.FailureReason.ERROR;
 import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 
 /**
  * Делегирует выполнение проверки в стратегию по типу. Выполняется без транзакции.
  */
+@Slf4j
 @RequiredArgsConstructor
 @Service
 public class CheckProcessorService implements CheckProcessor {
@@ -30,4 +45,72 @@ public class CheckProcessorService implements CheckProcessor {
         return strategyFactory.getStrategy(check.type())
                 .execute(check);
     }
+
+    /**
+     * Выполнить проверку асинхронно через {@code executeAsync} стратегии.
+     * @param check входные данные
+     * @return future с результатом
+     */
+    @Transactional(propagation = NOT_SUPPORTED)
+    @Override
+    public CompletableFuture<CheckResultDto> processAsync(CheckDto check) {
+        return strategyFactory.getStrategy(check.type())
+                .executeAsync(check);
+    }
+
+    /**
+     * Выполнить пачку проверок: группирует по {@link CheckType}, запускает {@code executeAsync} стратегии группы
+     * для проверок всех групп и только затем ожидает результаты, поэтому группы выполняются одновременно.
+     * <p>
+     * Сбой одной группы или проверки (нет стратегии, исключение при запуске или в future) даёт FAILED/ERROR
+     * только её проверкам; остальные группы пачки не затрагиваются.
+     * @param checks входные данные
+     * @return результаты по идентификатору проверки
+     */
+    @Transactional(propagation = NOT_SUPPORTED)
+    @Override
+    public Map<Long, CheckResultDto> processBatch(List<CheckDto> checks) {
+        final Map<CheckType, List<CheckDto>> byType = new EnumMap<>(CheckType.class);
+        checks.forEach(check -> byType.computeIfAbsent(check.type(), type -> new ArrayList<>()).add(check));
+
+        final Map<Long, CompletableFuture<CheckResultDto>> futures = new LinkedHashMap<>(checks.size() * 2);
+        byType.forEach((type, group) -> startGroup(type, group, futures));
+
+        final Map<Long, CheckResultDto> results = new HashMap<>(futures.size() * 2);
+        futures.forEach((checkId, future) -> results.put(checkId, future.join()));
+        return results;
+    }
+
+    /**
+     * Запускает проверки группы одного типа; ошибки запуска и future превращаются в FAILED/ERROR проверки.
+     */
+    private void startGroup(CheckType type, List<CheckDto> group, Map<Long, CompletableFuture<CheckResultDto>> futures) {
+        final CheckStrategy strategy;
+        try {
+            strategy = strategyFactory.getStrategy(type);
+        } catch (RuntimeException exception) {
+            log.error("Нет стратегии для проверок типа {}: {}", type, exception.getMessage(), exception);
+            group.forEach(check -> futures.put(check.id(), CompletableFuture.completedFuture(failed(exception))));
+            return;
+        }
+        for (CheckDto check : group) {
+            CompletableFuture<CheckResultDto> future;
+            try {
+                future = strategy.executeAsync(check);
+            } catch (RuntimeException exception) {
+                future = CompletableFuture.failedFuture(exception);
+            }
+            futures.put(check.id(), future.exceptionally(throwable -> {
+                log.error("Ошибка выполнения проверки id={} типа {}: {}", check.id(), type, throwable.getMessage(), throwable);
+                return failed(throwable);
+            }));
+        }
+    }
+
+    private static CheckResultDto failed(Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+        return new CheckResultDto(FAILED, ERROR, cause.getMessage());
+    }
 }
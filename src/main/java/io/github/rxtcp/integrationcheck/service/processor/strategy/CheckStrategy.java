@@ -4,6 +4,11 @@ import io.github.rxtcp.integrationcheck.dto.CheckDto;
 import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
 import io.github.rxtcp.integrationcheck.domain.CheckType;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Стратегия выполнения проверки (Strategy) для конкретного {@link CheckType}.
  */
@@ -21,4 +26,37 @@ public interface CheckStrategy {
      * @return результат выполнения
      */
     CheckResultDto execute(CheckDto check);
+
+    /**
+     * Выполнить проверку асинхронно.
+     * <p>
+     * Реализация по умолчанию выполняет {@link #execute(CheckDto)} в вызывающем потоке
+     * и возвращает завершённый future. Стратегии с неблокирующим вводом-выводом переопределяют метод,
+     * чтобы не занимать поток на время ожидания ответа.
+     *
+     * @param check входные данные проверки
+     * @return future с результатом выполнения; ошибки проверки отражаются в результате, а не в исключении
+     */
+    default CompletableFuture<CheckResultDto> executeAsync(CheckDto check) {
+        return CompletableFuture.completedFuture(execute(check));
+    }
+
+    /**
+     * Выполнить пачку проверок этого типа за один вызов.
+     * <p>
+     * Реализация по умолчанию запускает {@link #executeAsync(CheckDto)} для всех проверок пачки и только затем
+     * ожидает результаты, поэтому пачка стратегии с неблокирующим {@code executeAsync} занимает время самой
+     * медленной проверки, а не сумму.
+     *
+     * @param checks проверки типа {@link #getType()}
+     * @return результаты по идентификатору проверки в порядке входного списка
+     */
+    default Map<Long, CheckResultDto> executeBatch(List<CheckDto> checks) {
+        final Map<Long, CompletableFuture<CheckResultDto>> futures = new LinkedHashMap<>(checks.size() * 2);
+        checks.forEach(check -> futures.put(check.id(), executeAsync(check)));
+
+        final Map<Long, CheckResultDto> results = new LinkedHashMap<>(futures.size() * 2);
+        futures.forEach((checkId, future) -> results.put(checkId, future.join()));
+        return results;
+    }
 }
@@ -0,0 +1,86 @@
+package io.github.rxtcp.integrationcheck.service.processor.strategy;
+
+import io.github.rxtcp.integrationcheck.dto.CheckTimings;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Секундомер фаз сетевого обмена одной проверки.
+ * <p>
+ * Фазы отмечаются последовательно; отметки могут ставиться из разных потоков
+ * асинхронного конвейера, поэтому поля {@code volatile}. Неотмеченная фаза даёт {@code null}.
+ */
+final class ExchangeTimer {
+
+    private static final long NOT_MARKED = -1L;
+
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+    private volatile long dnsDoneNanos = NOT_MARKED;
+    private volatile long connectedNanos = NOT_MARKED;
+    private volatile long requestSentNanos = NOT_MARKED;
+    private volatile long headersNanos = NOT_MARKED;
+    private volatile long bodyDoneNanos = NOT_MARKED;
+
+    private ExchangeTimer(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    static ExchangeTimer start() {
+        return new ExchangeTimer(System::nanoTime);
+    }
+
+    static ExchangeTimer start(LongSupplier nanoClock) {
+        return new ExchangeTimer(nanoClock);
+    }
+
+    void dnsResolved() {
+        dnsDoneNanos = nanoClock.getAsLong();
+    }
+
+    void connected() {
+        connectedNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Отметка подключения, снятая в другом потоке (например, потоком селектора) по {@link System#nanoTime()}.
+     */
+    void connected(long atNanos) {
+        connectedNanos = atNanos;
+    }
+
+    void requestSent() {
+        requestSentNanos = nanoClock.getAsLong();
+    }
+
+    void headersReceived() {
+        headersNanos = nanoClock.getAsLong();
+    }
+
+    void bodyRead() {
+        bodyDoneNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Снимок таймингов на текущий момент; {@code total} — от старта до сейчас.
+     */
+    CheckTimings finish() {
+        final long now = nanoClock.getAsLong();
+        return new CheckTimings(
+                between(startNanos, dnsDoneNanos),
+                between(dnsDoneNanos != NOT_MARKED ? dnsDoneNanos : startNanos, connectedNanos),
+                between(requestSentNanos, headersNanos),
+                between(headersNanos, bodyDoneNanos),
+                between(startNanos, now)
+        );
+    }
+
+    private static Integer between(long from, long to) {
+        if (from == NOT_MARKED || to == NOT_MARKED) {
+            return null;
+        }
+        return (int) Math.min(TimeUnit.NANOSECONDS.toMicros(to - from), Integer.MAX_VALUE);
+    }
+}
@@ -3,17 +3,27 @@ package io.github.rxtcp.integrationcheck.service.processor.strategy;
 import io.github.rxtcp.integrationcheck.common.net.TimeoutDetector;
 import io.github.rxtcp.integrationcheck.dto.CheckDto;
 import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
+import io.github.rxtcp.integrationcheck.dto.CheckTimings;
 import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
 import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.integration.http.CapturedBody;
+import io.github.rxtcp.integrationcheck.integration.http.HostBulkhead;
+import io.github.rxtcp.integrationcheck.integration.http.HostResolver;
+import io.github.rxtcp.integrationcheck.integration.http.HttpClientRegistry;
+import io.github.rxtcp.integrationcheck.integration.http.ResponseCapture;
 import io.github.rxtcp.integrationcheck.integration.http.RestRequestFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.NestedExceptionUtils;
-import org.springframework.http.HttpStatusCode;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestClient;
 
+import java.net.UnknownHostException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.FAILED;
 import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.SUCCEEDED;
 import static io.github.rxtcp.integrationcheck.domain.FailureReason.ERROR;
@@ -22,6 +32,16 @@ import static io.github.rxtcp.integrationcheck.domain.FailureReason.TIMEOUT;
 
 /**
  * Стратегия проверки REST API ({@link CheckType#REST_API}).
+ * <p>
+ * Синхронный путь использует {@link RestClient}, асинхронный — {@link java.net.http.HttpClient#sendAsync}
+ * на общем клиенте из {@link HttpClientRegistry}: ожидание ответа не занимает поток.
+ * Тело ответа в обоих случаях читается потоково через {@link ResponseCapture}: в результат попадает
+ * только его начало, размер и хеш.
+ * <p>
+ * Фазы обмена замеряются {@link ExchangeTimer}: DNS (отдельным разрешением имени; в асинхронном пути —
+ * на виртуальном потоке {@link HostResolver}), TTFB (от отправки
+ * до заголовков ответа; включает подключение и TLS, которые JDK-клиент отдельно не сообщает),
+ * чтение тела и общее время.
  */
 @Slf4j
 @RequiredArgsConstructor
@@ -29,10 +49,30 @@ import static io.github.rxtcp.integrationcheck.domain.FailureReason.TIMEOUT;
 public class RestApiCheckStrategy implements CheckStrategy {
 
     /**
-     * Фабрика запросов для {@link RestClient}.
+     * Фабрика запросов для {@link RestClient} и {@link HttpRequest}.
      */
     private final RestRequestFactory restRequestFactory;
 
+    /**
+     * Пул HTTP-клиентов для асинхронного выполнения.
+     */
+    private final HttpClientRegistry httpClientRegistry;
+
+    /**
+     * Ограниченный захват тела ответа.
+     */
+    private final ResponseCapture responseCapture;
+
+    /**
+     * Резолвер имён для замера фазы DNS.
+     */
+    private final HostResolver hostResolver;
+
+    /**
+     * Ограничитель одновременных запросов к одному хосту.
+     */
+    private final HostBulkhead hostBulkhead;
+
     /**
      * Поддерживаемый тип проверки.
      */
@@ -43,6 +83,9 @@ public class RestApiCheckStrategy implements CheckStrategy {
 
     /**
      * Выполнить проверку REST API.
+     * <p>
+     * Запрос выполняется под разрешением {@link HostBulkhead} хоста; ожидание разрешения в тайминги не входит,
+     * его истечение даёт результат FAILED/TIMEOUT.
      *
      * @param check профиль и параметры проверки
      * @return результат выполнения
@@ -52,48 +95,170 @@ public class RestApiCheckStrategy implements CheckStrategy {
         var restApiProfile = (RestApiProfileDto) check.profile();
         try {
             log.info("Выполнение проверки профиля REST API: {}", restApiProfile);
+            var host = restRequestFactory.uriOf(restApiProfile).getHost();
+            return hostBulkhead.call(host, () -> exchange(restApiProfile, host));
+        } catch (Exception exception) {
+            return buildFailedCheckResult(exception, CheckTimings.EMPTY);
+        }
+    }
+
+    /**
+     * Выполнить проверку REST API без блокировки потока на время запроса и ожидания разрешения хоста.
+     *
+     * @param check профиль и параметры проверки
+     * @return future с результатом; исключения запроса отражаются в результате FAILED
+     */
+    @Override
+    public CompletableFuture<CheckResultDto> executeAsync(CheckDto check) {
+        var restApiProfile = (RestApiProfileDto) check.profile();
+        try {
+            log.info("Асинхронное выполнение проверки профиля REST API: {}", restApiProfile);
+            var host = restRequestFactory.uriOf(restApiProfile).getHost();
+            // истечение ожидания разрешения хоста приходит исключением future и становится FAILED/TIMEOUT
+            return hostBulkhead.executeAsync(host, () -> exchangeAsync(restApiProfile, host))
+                    .exceptionally(throwable -> buildFailedCheckResult(unwrap(throwable), CheckTimings.EMPTY));
+        } catch (Exception exception) {
+            return CompletableFuture.completedFuture(buildFailedCheckResult(exception, CheckTimings.EMPTY));
+        }
+    }
+
+    /**
+     * Синхронный обмен через {@link RestClient} с замером фаз.
+     */
+    private CheckResultDto exchange(RestApiProfileDto restApiProfile, String host) {
+        var timer = ExchangeTimer.start();
+        try {
+            resolveHost(host, timer);
             RestClient.RequestBodySpec spec = restRequestFactory.prepare(restApiProfile);
-            ResponseEntity<String> responseEntity = spec.retrieve()
-                    .onStatus(HttpStatusCode::isError, (request, response) -> { /* обработка в buildCheckResult */ })
-                    .toEntity(String.class);
-            log.info("Получен HTTP ответ: код = {}, тело = {}", responseEntity.getStatusCode(), responseEntity.getBody());
-            return buildCheckResult(restApiProfile, responseEntity);
+            timer.requestSent();
+            // exchange() не применяет обработчики статусов: код ошибки сравнивается в buildCheckResult
+            return spec.exchange((request, response) -> {
+                timer.headersReceived();
+                var capturedBody = responseCapture.capture(response.getBody(), response.getHeaders());
+                timer.bodyRead();
+                return buildCheckResult(restApiProfile, response.getStatusCode().value(), capturedBody, timer.finish());
+            });
         } catch (Exception exception) {
-            return buildFailedCheckResult(exception);
+            return buildFailedCheckResult(exception, timer.finish());
         }
     }
 
+    /**
+     * Асинхронный обмен через {@link java.net.http.HttpClient#sendAsync} с замером фаз.
+     * <p>
+     * Имя хоста разрешается на виртуальном потоке {@link HostResolver#resolveAsync(String)}, запрос уходит
+     * по завершении разрешения: блокирующий системный резолвер не занимает ни поток вызова, ни поток
+     * завершения предыдущего запроса, передающий разрешение {@link HostBulkhead}.
+     */
+    private CompletableFuture<CheckResultDto> exchangeAsync(RestApiProfileDto restApiProfile, String host) {
+        var timer = ExchangeTimer.start();
+        return resolveHostAsync(host, timer)
+                .thenCompose(ignored -> sendAsync(restApiProfile, timer));
+    }
+
+    /**
+     * Отправляет запрос после фазы DNS и собирает результат.
+     */
+    private CompletableFuture<CheckResultDto> sendAsync(RestApiProfileDto restApiProfile, ExchangeTimer timer) {
+        try {
+            HttpRequest request = restRequestFactory.prepareHttpRequest(restApiProfile);
+            HttpResponse.BodyHandler<CapturedBody> bodyHandler = responseCapture.bodyHandler();
+            timer.requestSent();
+            return httpClientRegistry.httpClient(restApiProfile)
+                    .sendAsync(request, responseInfo -> {
+                        timer.headersReceived();
+                        return bodyHandler.apply(responseInfo);
+                    })
+                    .thenApply(response -> {
+                        timer.bodyRead();
+                        return buildCheckResult(restApiProfile, response.statusCode(), response.body(), timer.finish());
+                    })
+                    .exceptionally(throwable -> buildFailedCheckResult(unwrap(throwable), timer.finish()));
+        } catch (Exception exception) {
+            return CompletableFuture.completedFuture(buildFailedCheckResult(exception, timer.finish()));
+        }
+    }
+
+    /**
+     * Отдельно разрешает имя хоста, чтобы отметить фазу DNS; адрес попадает в кэш JVM и переиспользуется клиентом.
+     * Ошибка разрешения не прерывает проверку: её причину сообщит сам запрос.
+     */
+    private void resolveHost(String host, ExchangeTimer timer) {
+        if (host == null) {
+            return;
+        }
+        try {
+            hostResolver.resolve(host);
+        } catch (UnknownHostException exception) {
+            log.debug("Не удалось разрешить хост {}: {}", host, exception.getMessage());
+        }
+        timer.dnsResolved();
+    }
+
+    /**
+     * Асинхронный вариант {@link #resolveHost(String, ExchangeTimer)}: отмечает фазу DNS по завершении разрешения,
+     * ошибка разрешения проверку не прерывает.
+     */
+    private CompletableFuture<Void> resolveHostAsync(String host, ExchangeTimer timer) {
+        if (host == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return hostResolver.resolveAsync(host).handle((addresses, throwable) -> {
+            if (throwable != null) {
+                log.debug("Не удалось разрешить хост {}: {}", host, unwrap(throwable).getMessage());
+            }
+            timer.dnsResolved();
+            return null;
+        });
+    }
+
     /**
      * Сопоставляет фактический HTTP-статус с ожидаемым и формирует результат.
      */
-    private CheckResultDto buildCheckResult(RestApiProfileDto restApiProfile, ResponseEntity<String> responseEntity) {
+    private CheckResultDto buildCheckResult(RestApiProfileDto restApiProfile,
+                                            int actualHttpCode,
+                                            CapturedBody capturedBody,
+                                            CheckTimings timings) {
+        log.info("Получен HTTP ответ: код = {}, размер тела = {} байт, обрезано = {}",
+                actualHttpCode, capturedBody.totalBytes(), capturedBody.truncated());
+        log.debug("Тело HTTP ответа: {}", capturedBody.text());
         var expectedHttpCode = restApiProfile.expectedHttpCode();
-        var actualHttpCode = responseEntity.getStatusCode().value();
+        var body = capturedBody.details();
 
         if (actualHttpCode == expectedHttpCode) {
-            return new CheckResultDto(SUCCEEDED, null, responseEntity.getBody());
+            return new CheckResultDto(SUCCEEDED, null, body, timings);
         }
 
         return new CheckResultDto(
                 FAILED,
                 HTTP_STATUS_MISMATCH,
                 "Ожидаемый HTTP код = %d, но получен HTTP код = %d. %s"
-                        .formatted(expectedHttpCode, actualHttpCode, responseEntity.getBody())
+                        .formatted(expectedHttpCode, actualHttpCode, body),
+                timings
         );
     }
 
     /**
      * Маппит исключения на причины сбоя (таймаут/ошибка) и логирует.
      */
-    private CheckResultDto buildFailedCheckResult(Exception exception) {
+    private CheckResultDto buildFailedCheckResult(Throwable exception, CheckTimings timings) {
         final Throwable root = NestedExceptionUtils.getMostSpecificCause(exception);
 
         if (TimeoutDetector.isTimeout(root)) {
             log.error("Таймаут при обращении к REST API: {}", root.toString());
-            return new CheckResultDto(FAILED, TIMEOUT, root.getMessage());
+            return new CheckResultDto(FAILED, TIMEOUT, root.getMessage(), timings);
         }
 
         log.error("Возникла ошибка во время выполнения проверки REST API", exception);
-        return new CheckResultDto(FAILED, ERROR, exception.getMessage());
+        return new CheckResultDto(FAILED, ERROR, exception.getMessage(), timings);
+    }
+
+    /**
+     * Снимает обёртку {@link CompletionException} асинхронного конвейера.
+     */
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
     }
 }
@@ -0,0 +1,153 @@
+package io.github.rxtcp.integrationcheck.service.processor.strategy;
+
+import io.github.rxtcp.integrationcheck.common.net.TimeoutDetector;
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
+import io.github.rxtcp.integrationcheck.dto.CheckTimings;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
+import io.github.rxtcp.integrationcheck.integration.http.HostResolver;
+import io.github.rxtcp.integrationcheck.integration.tcp.TcpConnectProber;
+import io.github.rxtcp.integrationcheck.integration.tcp.TcpConnectResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.FAILED;
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.SUCCEEDED;
+import static io.github.rxtcp.integrationcheck.domain.FailureReason.ERROR;
+import static io.github.rxtcp.integrationcheck.domain.FailureReason.TIMEOUT;
+
+/**
+ * Стратегия проверки доступности TCP-порта ({@link CheckType#TCP_CONNECT}).
+ * <p>
+ * Имя хоста разрешается на виртуальном потоке {@link HostResolver#resolveAsync(String)} (фаза DNS), затем
+ * выполняется неблокирующее подключение через общий селектор {@link TcpConnectProber} (фаза connect). Если у хоста
+ * несколько адресов, при неудаче подключения пробуется следующий. Проверка успешна, если соединение установлено
+ * в пределах таймаута; данные по соединению не передаются.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class TcpConnectCheckStrategy implements CheckStrategy {
+
+    /**
+     * Резолвер имён для замера фазы DNS.
+     */
+    private final HostResolver hostResolver;
+
+    /**
+     * Неблокирующие TCP-подключения.
+     */
+    private final TcpConnectProber tcpConnectProber;
+
+    /**
+     * Поддерживаемый тип проверки.
+     */
+    @Override
+    public CheckType getType() {
+        return CheckType.TCP_CONNECT;
+    }
+
+    /**
+     * Выполнить проверку TCP-подключения, ожидая результат в текущем потоке.
+     *
+     * @param check профиль и параметры проверки
+     * @return результат выполнения
+     */
+    @Override
+    public CheckResultDto execute(CheckDto check) {
+        return executeAsync(check).join();
+    }
+
+    /**
+     * Выполнить проверку TCP-подключения без блокировки потока на время разрешения имени и подключения.
+     *
+     * @param check профиль и параметры проверки
+     * @return future с результатом; ошибки подключения отражаются в результате FAILED
+     */
+    @Override
+    public CompletableFuture<CheckResultDto> executeAsync(CheckDto check) {
+        var tcpProfile = (TcpConnectProfileDto) check.profile();
+        var timer = ExchangeTimer.start();
+        try {
+            log.info("Выполнение проверки профиля TCP: {}", tcpProfile);
+            return hostResolver.resolveAsync(tcpProfile.host())
+                    .thenCompose(addresses -> {
+                        timer.dnsResolved();
+                        return connectAny(addresses, 0, tcpProfile);
+                    })
+                    .thenApply(result -> {
+                        timer.connected(result.connectedAtNanos());
+                        return new CheckResultDto(SUCCEEDED, null,
+                                "Соединение установлено: %s:%d".formatted(tcpProfile.host(), tcpProfile.port()),
+                                timer.finish());
+                    })
+                    .exceptionally(throwable -> buildFailedCheckResult(tcpProfile, unwrap(throwable), timer.finish()));
+        } catch (Exception exception) {
+            return CompletableFuture.completedFuture(buildFailedCheckResult(tcpProfile, exception, timer.finish()));
+        }
+    }
+
+    /**
+     * Подключается к адресам хоста по очереди, пока одно из подключений не удастся; каждому адресу — полный
+     * таймаут профиля. Ошибка последнего адреса становится итогом проверки.
+     */
+    private CompletableFuture<TcpConnectResult> connectAny(InetAddress[] addresses, int index, TcpConnectProfileDto tcpProfile) {
+        if (addresses.length == 0) {
+            return CompletableFuture.failedFuture(new UnknownHostException(tcpProfile.host()));
+        }
+        final CompletableFuture<TcpConnectResult> attempt = tcpConnectProber.connect(
+                new InetSocketAddress(addresses[index], tcpProfile.port()),
+                Duration.ofMillis(tcpProfile.connectTimeoutMs()));
+        if (index + 1 >= addresses.length) {
+            return attempt;
+        }
+        return attempt
+                .handle((result, throwable) -> {
+                    if (throwable == null) {
+                        return CompletableFuture.completedFuture(result);
+                    }
+                    log.debug("Подключение к {} не удалось, пробуем следующий адрес {}: {}",
+                            addresses[index], addresses[index + 1], unwrap(throwable).toString());
+                    return connectAny(addresses, index + 1, tcpProfile);
+                })
+                .thenCompose(Function.identity());
+    }
+
+    /**
+     * Маппит исключения на причины сбоя (таймаут/ошибка) и логирует.
+     */
+    private CheckResultDto buildFailedCheckResult(TcpConnectProfileDto tcpProfile,
+                                                  Throwable exception,
+                                                  CheckTimings timings) {
+        final Throwable root = NestedExceptionUtils.getMostSpecificCause(exception);
+        final String target = "%s:%d".formatted(tcpProfile.host(), tcpProfile.port());
+
+        if (TimeoutDetector.isTimeout(root)) {
+            log.error("Таймаут подключения к {}: {}", target, root.toString());
+            return new CheckResultDto(FAILED, TIMEOUT, root.getMessage(), timings);
+        }
+
+        log.error("Не удалось подключиться к {}: {}", target, root.toString());
+        return new CheckResultDto(FAILED, ERROR, "%s: %s".formatted(target, root), timings);
+    }
+
+    /**
+     * Снимает обёртку {@link CompletionException} асинхронного конвейера.
+     */
+    private static Throwable unwrap(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+}
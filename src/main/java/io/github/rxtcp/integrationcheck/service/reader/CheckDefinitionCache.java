@@ -0,0 +1,216 @@
+package io.github.rxtcp.integrationcheck.service.reader;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.CheckCacheProps;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.mapper.DueCheckRowMapper;
+import io.github.rxtcp.integrationcheck.repository.CheckRepository;
+import io.github.rxtcp.integrationcheck.repository.DueCheckRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Кэш определений проверок ({@link CheckDto} с профилем) по идентификатору проверки.
+ * <p>
+ * Определения меняются редко, поэтому на тике вместо полного чтения выполняется дельта-запрос
+ * {@link CheckRepository#streamChecksChangedSince(LocalDateTime)} по {@code updated_at}: изменившиеся
+ * активные проверки заменяются, выключенные удаляются. Раз в {@link CheckCacheProps#fullRefreshInterval()}
+ * кэш перезагружается целиком — так из него уходят удалённые проверки.
+ * <p>
+ * {@code nextRunAt} и состояние адаптивного интервала в закэшированном DTO соответствуют моменту загрузки:
+ * расписание ведётся в БД, и {@link CheckReaderService} подставляет в выдаваемые DTO текущие значения.
+ * <p>
+ * Чтение из БД идёт потоком, поэтому {@link #refresh()} вызывается внутри транзакции чтения
+ * (см. {@link CheckReaderService#findDueChecks()}). Метрики:
+ * <ul>
+ *   <li>{@code integration.check.cache.requests} с тегом {@code result=hit|miss};</li>
+ *   <li>{@code integration.check.cache.refreshes} с тегом {@code kind=full|delta};</li>
+ *   <li>{@code integration.check.cache.size} — число закэшированных проверок.</li>
+ * </ul>
+ * Потокобезопасен.
+ */
+@Slf4j
+@Component
+public class CheckDefinitionCache {
+
+    /**
+     * Отметка до первой загрузки: дельта от неё равна полной выборке.
+     */
+    private static final LocalDateTime NEVER = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final CheckRepository checkRepository;
+    private final DueCheckRowMapper dueCheckRowMapper;
+    private final CheckCacheProps props;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Определения по идентификатору проверки.
+     */
+    private final Map<Long, CheckDto> checks = new ConcurrentHashMap<>();
+
+    /**
+     * Наибольший {@code updated_at} среди прочитанных строк.
+     */
+    private LocalDateTime watermark = NEVER;
+
+    /**
+     * Момент последней полной загрузки ({@link System#nanoTime()}); {@code null} — загрузки ещё не было.
+     */
+    private Long lastFullRefreshNanos;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter fullRefreshes;
+    private final Counter deltaRefreshes;
+
+    @Autowired
+    public CheckDefinitionCache(CheckRepository checkRepository,
+                                DueCheckRowMapper dueCheckRowMapper,
+                                CheckCacheProps props,
+                                MeterRegistry meterRegistry) {
+        this(checkRepository, dueCheckRowMapper, props, meterRegistry, System::nanoTime);
+    }
+
+    CheckDefinitionCache(CheckRepository checkRepository,
+                         DueCheckRowMapper dueCheckRowMapper,
+                         CheckCacheProps props,
+                         MeterRegistry meterRegistry,
+                         LongSupplier nanoClock) {
+        this.checkRepository = checkRepository;
+        this.dueCheckRowMapper = dueCheckRowMapper;
+        this.props = props;
+        this.nanoClock = nanoClock;
+        this.hits = Counter.builder("integration.check.cache.requests")
+                .description("Обращения к кэшу определений проверок")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("integration.check.cache.requests")
+                .description("Обращения к кэшу определений проверок")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.fullRefreshes = Counter.builder("integration.check.cache.refreshes")
+                .description("Обновления кэша определений проверок")
+                .tag("kind", "full")
+                .register(meterRegistry);
+        this.deltaRefreshes = Counter.builder("integration.check.cache.refreshes")
+                .description("Обновления кэша определений проверок")
+                .tag("kind", "delta")
+                .register(meterRegistry);
+        Gauge.builder("integration.check.cache.size", checks, Map::size)
+                .description("Число закэшированных определений проверок")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Приводит кэш в соответствие с БД: полная загрузка при первом вызове и по истечении
+     * {@code fullRefreshInterval}, иначе — дельта с {@code watermark - deltaOverlap}.
+     */
+    public synchronized void refresh() {
+        final long now = nanoClock.getAsLong();
+        if (lastFullRefreshNanos == null || now - lastFullRefreshNanos >= props.fullRefreshInterval().toNanos()) {
+            fullRefresh();
+            lastFullRefreshNanos = now;
+        } else {
+            deltaRefresh();
+        }
+    }
+
+    /**
+     * Определения по идентификаторам.
+     *
+     * @param checkIds идентификаторы проверок
+     * @return найденные DTO в порядке идентификаторов и отсутствующие в кэше идентификаторы
+     */
+    public Lookup getAll(Collection<Long> checkIds) {
+        final List<CheckDto> found = new ArrayList<>(checkIds.size());
+        final List<Long> missing = new ArrayList<>();
+        for (Long checkId : checkIds) {
+            var check = checks.get(checkId);
+            if (check != null) {
+                found.add(check);
+            } else {
+                missing.add(checkId);
+            }
+        }
+        hits.increment(found.size());
+        misses.increment(missing.size());
+        return new Lookup(found, missing);
+    }
+
+    /**
+     * Добавляет определения, прочитанные в обход кэша (промахи).
+     *
+     * @param loaded DTO проверок с профилями
+     */
+    public void putAll(Collection<CheckDto> loaded) {
+        loaded.forEach(check -> checks.put(check.id(), check));
+    }
+
+    /**
+     * Текущее число определений в кэше.
+     */
+    int size() {
+        return checks.size();
+    }
+
+    private void fullRefresh() {
+        final Map<Long, CheckDto> loaded = new HashMap<>();
+        LocalDateTime latest = NEVER;
+        try (Stream<DueCheckRow> rows = checkRepository.streamEnabledChecks()) {
+            for (DueCheckRow row : (Iterable<DueCheckRow>) rows::iterator) {
+                loaded.put(row.getId(), dueCheckRowMapper.toDto(row));
+                latest = later(latest, row.getUpdatedAt());
+            }
+        }
+        checks.keySet().retainAll(loaded.keySet());
+        checks.putAll(loaded);
+        watermark = latest;
+        fullRefreshes.increment();
+        log.debug("Кэш определений проверок загружен полностью: {} проверок, отметка {}", loaded.size(), watermark);
+    }
+
+    private void deltaRefresh() {
+        int changed = 0;
+        LocalDateTime latest = watermark;
+        try (Stream<DueCheckRow> rows = checkRepository.streamChecksChangedSince(watermark.minus(props.deltaOverlap()))) {
+            for (DueCheckRow row : (Iterable<DueCheckRow>) rows::iterator) {
+                if (Boolean.TRUE.equals(row.getEnabled())) {
+                    checks.put(row.getId(), dueCheckRowMapper.toDto(row));
+                } else {
+                    checks.remove(row.getId());
+                }
+                latest = later(latest, row.getUpdatedAt());
+                changed++;
+            }
+        }
+        watermark = latest;
+        deltaRefreshes.increment();
+        log.debug("Кэш определений проверок обновлён по дельте: {} изменений, отметка {}", changed, watermark);
+    }
+
+    private static LocalDateTime later(LocalDateTime current, LocalDateTime candidate) {
+        return candidate != null && candidate.isAfter(current) ? candidate : current;
+    }
+
+    /**
+     * Результат {@link #getAll(Collection)}.
+     *
+     * @param found   DTO из кэша
+     * @param missing идентификаторы, которые нужно прочитать из БД
+     */
+    public record Lookup(List<CheckDto> found, List<Long> missing) {
+    }
+}
@@ -1,7 +1,11 @@
 package io.github.rxtcp.integrationcheck.service.reader;
 
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.CheckScheduleDto;
 import io.github.rxtcp.integrationcheck.entity.Check;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -14,9 +18,53 @@ public interface CheckReader {
      */
     List<Long> findDueIds();
 
+    /**
+     * Проверки, срок запуска которых наступил, сразу в виде DTO с профилями.
+     * Заменяет пару {@link #findDueIds()} + {@link #findWithProfileByIds(Collection)} одним чтением.
+     */
+    List<CheckDto> findDueChecks();
+
+    /**
+     * Арендовать узлу порцию должных проверок, не арендованных другими узлами, и вернуть их DTO с профилями.
+     * Пустой результат — захватывать больше нечего.
+     *
+     * @param dueBefore проверки со сроком запуска не позже этого момента
+     * @param limit     максимум проверок
+     */
+    List<CheckDto> claimDueChecks(LocalDateTime dueBefore, int limit);
+
+    /**
+     * Арендовать узлу те из заданных проверок, срок которых наступил и которые не арендованы другими узлами,
+     * и вернуть их DTO с профилями.
+     *
+     * @param ids кандидаты
+     */
+    List<CheckDto> claimChecks(Collection<Long> ids);
+
+    /**
+     * Расписания всех активных проверок.
+     */
+    List<CheckScheduleDto> findEnabledSchedules();
+
+    /**
+     * Расписания проверок, определение которых изменилось не раньше {@code since}, включая выключенные.
+     */
+    List<CheckScheduleDto> findSchedulesChangedSince(LocalDateTime since);
+
+    /**
+     * Расписания проверок по набору идентификаторов; отсутствующие идентификаторы пропускаются.
+     */
+    List<CheckScheduleDto> findSchedules(Collection<Long> ids);
+
     /**
      * Найти проверку вместе с необходимым профилем по идентификатору.
      * Поведение при отсутствии записи — на усмотрение реализации.
      */
     Check findWithProfileById(long id);
+
+    /**
+     * Найти проверки вместе с профилями по набору идентификаторов.
+     * Отсутствующие идентификаторы пропускаются.
+     */
+    List<Check> findWithProfileByIds(Collection<Long> ids);
 }
@@ -1,21 +1,36 @@
 package io.github.rxtcp.integrationcheck.service.reader;
 
+import io.github.rxtcp.integrationcheck.configuration.properties.CheckCacheProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.CheckLeaseProps;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.CheckScheduleDto;
 import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.mapper.CheckMapper;
+import io.github.rxtcp.integrationcheck.mapper.DueCheckRowMapper;
 import io.github.rxtcp.integrationcheck.repository.CheckRepository;
+import io.github.rxtcp.integrationcheck.repository.DueCheckRow;
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
 
 /**
  * Сервис чтения проверок.
  */
-@RequiredArgsConstructor
 @Transactional(readOnly = true, isolation = READ_COMMITTED, propagation = REQUIRES_NEW)
 @Service
 public class CheckReaderService implements CheckReader {
@@ -25,6 +40,63 @@ public class CheckReaderService implements CheckReader {
      */
     private final CheckRepository checkRepository;
 
+    /**
+     * Маппер строк должных проверок в DTO.
+     */
+    private final DueCheckRowMapper dueCheckRowMapper;
+
+    /**
+     * Маппер сущностей в DTO (промахи кэша).
+     */
+    private final CheckMapper checkMapper;
+
+    /**
+     * Кэш определений проверок.
+     */
+    private final CheckDefinitionCache checkDefinitionCache;
+
+    /**
+     * Свойства кэша определений.
+     */
+    private final CheckCacheProps checkCacheProps;
+
+    /**
+     * Свойства аренды должных проверок.
+     */
+    private final CheckLeaseProps checkLeaseProps;
+
+    /**
+     * Транзакция захвата: только блокировка строк и запись аренды.
+     */
+    private final TransactionTemplate leaseTransaction;
+
+    /**
+     * Транзакция чтения определений арендованных проверок после коммита аренды.
+     */
+    private final TransactionTemplate readTransaction;
+
+    public CheckReaderService(CheckRepository checkRepository,
+                              DueCheckRowMapper dueCheckRowMapper,
+                              CheckMapper checkMapper,
+                              CheckDefinitionCache checkDefinitionCache,
+                              CheckCacheProps checkCacheProps,
+                              CheckLeaseProps checkLeaseProps,
+                              PlatformTransactionManager transactionManager) {
+        this.checkRepository = checkRepository;
+        this.dueCheckRowMapper = dueCheckRowMapper;
+        this.checkMapper = checkMapper;
+        this.checkDefinitionCache = checkDefinitionCache;
+        this.checkCacheProps = checkCacheProps;
+        this.checkLeaseProps = checkLeaseProps;
+        this.leaseTransaction = new TransactionTemplate(transactionManager);
+        this.leaseTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.leaseTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.readTransaction.setReadOnly(true);
+    }
+
     /**
      * Идентификаторы проверок, готовых к запуску.
      */
@@ -33,6 +105,95 @@ public class CheckReaderService implements CheckReader {
         return checkRepository.findDueCheckIds();
     }
 
+    /**
+     * Должные проверки с профилями.
+     * <p>
+     * С включённым кэшем ({@link CheckCacheProps#enabled()}) кэш определений обновляется дельтой,
+     * затем читаются только расписания должных проверок; определения берутся из кэша с текущим {@code next_run_at},
+     * а промахи дочитываются одним запросом и добавляются в кэш.
+     * <p>
+     * Без кэша строки читаются одним native-запросом потоком с fetch size
+     * {@link CheckRepository#DUE_CHECKS_FETCH_SIZE} и сразу проецируются в DTO: сущности не попадают
+     * в контекст персистентности, ленивых догрузок нет.
+     *
+     * @return DTO проверок, готовых к запуску
+     */
+    @Override
+    public List<CheckDto> findDueChecks() {
+        if (!checkCacheProps.enabled()) {
+            try (Stream<DueCheckRow> rows = checkRepository.streamDueChecks()) {
+                return rows.map(dueCheckRowMapper::toDto).toList();
+            }
+        }
+        return definitionsOf(checkRepository.findDueSchedules());
+    }
+
+    /**
+     * Арендовать узлу {@link CheckLeaseProps#owner()} порцию должных проверок на {@link CheckLeaseProps#duration()}.
+     * <p>
+     * В одной транзакции строки блокируются {@code FOR UPDATE SKIP LOCKED} и получают {@code lease_owner}/{@code lease_until}:
+     * параллельные захваты других узлов пропускают заблокированные строки, а после коммита — арендованные. Аренда
+     * снимается переносом {@code next_run_at} после выполнения; аренда упавшего узла истекает сама. Определения
+     * берутся так же, как в {@link #findDueChecks()}, но уже после коммита аренды: обновление кэша определений
+     * (вплоть до полной перезагрузки) не удерживает блокировки строк.
+     *
+     * @param dueBefore проверки со сроком запуска не позже этого момента
+     * @param limit     максимум проверок
+     * @return DTO арендованных проверок; пусто — захватывать больше нечего
+     */
+    @Override
+    @Transactional(propagation = NOT_SUPPORTED)
+    public List<CheckDto> claimDueChecks(LocalDateTime dueBefore, int limit) {
+        final LocalDateTime now = LocalDateTime.now();
+        return definitionsOfLeased(leaseTransaction.execute(status ->
+                lease(checkRepository.lockClaimableCheckIds(dueBefore, now, limit), now)));
+    }
+
+    /**
+     * Арендовать узлу те из заданных проверок, срок которых наступил и которые не арендованы другими узлами.
+     * Блокировка и аренда — как в {@link #claimDueChecks(LocalDateTime, int)}.
+     *
+     * @param ids кандидаты
+     * @return DTO арендованных проверок
+     */
+    @Override
+    @Transactional(propagation = NOT_SUPPORTED)
+    public List<CheckDto> claimChecks(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        final LocalDateTime now = LocalDateTime.now();
+        return definitionsOfLeased(leaseTransaction.execute(status ->
+                lease(checkRepository.lockClaimableCheckIdsIn(ids, now), now)));
+    }
+
+    /**
+     * Расписания всех активных проверок.
+     */
+    @Override
+    public List<CheckScheduleDto> findEnabledSchedules() {
+        return checkRepository.findEnabledSchedules();
+    }
+
+    /**
+     * Расписания проверок, определение которых изменилось не раньше {@code since}, включая выключенные.
+     */
+    @Override
+    public List<CheckScheduleDto> findSchedulesChangedSince(LocalDateTime since) {
+        return checkRepository.findSchedulesChangedSince(since);
+    }
+
+    /**
+     * Расписания проверок по набору идентификаторов одним запросом.
+     */
+    @Override
+    public List<CheckScheduleDto> findSchedules(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return checkRepository.findSchedulesByIdIn(ids);
+    }
+
     /**
      * Найти проверку вместе с необходимым профилем по идентификатору.
      *
@@ -45,4 +206,83 @@ public class CheckReaderService implements CheckReader {
         return checkRepository.findWithProfileById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Не найдена сущность Check: id=%d".formatted(id)));
     }
+
+    /**
+     * Найти проверки вместе с профилями по набору идентификаторов одним запросом.
+     *
+     * @param ids идентификаторы
+     * @return найденные сущности {@link Check}; отсутствующие id пропускаются
+     */
+    @Override
+    public List<Check> findWithProfileByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return checkRepository.findWithProfileByIdIn(ids);
+    }
+
+    /**
+     * Арендует заблокированные проверки узлу.
+     *
+     * @return идентификаторы арендованных проверок
+     */
+    private List<Long> lease(List<Long> ids, LocalDateTime now) {
+        if (!ids.isEmpty()) {
+            checkRepository.lease(ids, checkLeaseProps.owner(), now.plus(checkLeaseProps.duration()));
+        }
+        return ids;
+    }
+
+    /**
+     * Определения арендованных проверок; читаются отдельной транзакцией после коммита аренды.
+     * Ошибка чтения оставляет аренду до её истечения, как при падении узла.
+     */
+    private List<CheckDto> definitionsOfLeased(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return readTransaction.execute(status -> {
+            if (!checkCacheProps.enabled()) {
+                return checkRepository.findWithProfileByIdIn(ids).stream()
+                        .map(checkMapper::toDto)
+                        .toList();
+            }
+            return definitionsOf(checkRepository.findSchedulesByIdIn(ids));
+        });
+    }
+
+    /**
+     * Определения проверок из кэша после его дельта-обновления; промахи дочитываются одним запросом
+     * и добавляются в кэш.
+     * <p>
+     * Текущее состояние расписания закэшированного определения ({@code nextRunAt}, адаптивный интервал и серия
+     * успехов) заменяется прочитанным из расписания: по нему рассчитывается следующий запуск.
+     */
+    private List<CheckDto> definitionsOf(List<CheckScheduleDto> schedules) {
+        checkDefinitionCache.refresh();
+        final Map<Long, CheckScheduleDto> byId = new HashMap<>(schedules.size() * 2);
+        schedules.forEach(schedule -> byId.put(schedule.id(), schedule));
+        var lookup = checkDefinitionCache.getAll(schedules.stream().map(CheckScheduleDto::id).toList());
+        final List<CheckDto> found = lookup.found().stream()
+                .map(dto -> withCurrentRunState(dto, byId.get(dto.id())))
+                .toList();
+        if (lookup.missing().isEmpty()) {
+            return found;
+        }
+        final List<CheckDto> loaded = checkRepository.findWithProfileByIdIn(lookup.missing()).stream()
+                .map(checkMapper::toDto)
+                .toList();
+        checkDefinitionCache.putAll(loaded);
+        return Stream.concat(found.stream(), loaded.stream()).toList();
+    }
+
+    private static CheckDto withCurrentRunState(CheckDto dto, CheckScheduleDto schedule) {
+        if (schedule == null
+                || Objects.equals(schedule.nextRunAt(), dto.nextRunAt())
+                && Objects.equals(schedule.adaptiveIntervalSec(), dto.adaptiveIntervalSec())
+                && schedule.successStreak() == dto.successStreak()) {
+            return dto;
+        }
+        return dto.withRunState(schedule.nextRunAt(), schedule.adaptiveIntervalSec(), schedule.successStreak());
+    }
 }
@@ -0,0 +1,154 @@
+package io.github.rxtcp.integrationcheck.service.rollup;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultRollupProps;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.entity.support.HibernateEntityUtil;
+import io.github.rxtcp.integrationcheck.service.rollup.CheckRollupStore.BucketKey;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.PROCESSING;
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.MINUTE;
+
+/**
+ * Инкрементальное накопление минутных агрегатов по завершённым результатам проверок.
+ * <p>
+ * Писатели результатов передают сюда каждый завершённый запуск; он учитывается в агрегате своей проверки
+ * за минуту {@code startedAt}. Накопленные агрегаты периодически дописываются в {@code h_check_rollup_minute}
+ * одной пакетной вставкой ({@link CheckRollupStore#append}), так что число строк агрегатов зависит от числа
+ * проверок и сбросов, а не от числа запусков. Если запуск фиксируется в транзакции, он учитывается только
+ * после её коммита. Неудачный сброс возвращает агрегаты в накопитель до следующей попытки; при остановке
+ * контекста накопленное дописывается.
+ * <p>
+ * Метрики:
+ * <ul>
+ *   <li>{@code integration.result.rollup.pending} — накопленных минутных агрегатов;</li>
+ *   <li>{@code integration.result.rollup.flushed} с тегом {@code result=written|failed} — агрегаты по итогу сброса.</li>
+ * </ul>
+ * При {@code application.integration.result-rollup.enabled=false} ничего не накапливает. Потокобезопасен.
+ */
+@Slf4j
+@Component
+public class CheckResultRollup {
+
+    private final CheckRollupStore checkRollupStore;
+    private final boolean enabled;
+
+    /**
+     * Накопленные агрегаты по проверке и минуте.
+     */
+    private final Map<BucketKey, RollupCounts> pending = new ConcurrentHashMap<>();
+
+    private final Counter written;
+    private final Counter failed;
+
+    public CheckResultRollup(CheckRollupStore checkRollupStore, ResultRollupProps props, MeterRegistry meterRegistry) {
+        this.checkRollupStore = checkRollupStore;
+        this.enabled = props.enabled();
+        this.written = Counter.builder("integration.result.rollup.flushed")
+                .description("Минутные агрегаты по итогу сброса")
+                .tag("result", "written")
+                .register(meterRegistry);
+        this.failed = Counter.builder("integration.result.rollup.flushed")
+                .description("Минутные агрегаты по итогу сброса")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        Gauge.builder("integration.result.rollup.pending", pending, Map::size)
+                .description("Накопленные и ещё не записанные минутные агрегаты")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Учесть завершённый запуск.
+     * <p>
+     * Запуски без проверки или в статусе {@code PROCESSING} пропускаются. Внутри транзакции запуск
+     * учитывается после коммита, при откате — не учитывается.
+     *
+     * @param result результат с заполненными {@code startedAt}, статусом и таймингами
+     */
+    public void record(CheckResult result) {
+        final Check check = result.getCheck();
+        final Long checkId = HibernateEntityUtil.idOf(check);
+        if (!enabled || checkId == null || result.getStatus() == PROCESSING) {
+            return;
+        }
+        final var key = new BucketKey(checkId, MINUTE.floor(result.getStartedAt()));
+        final var status = result.getStatus();
+        final var failureReason = result.getFailureReason();
+        final var totalMicros = result.getTotalMicros();
+        final Runnable add = () -> pending.compute(key, (k, counts) -> {
+            final RollupCounts target = counts != null ? counts : new RollupCounts();
+            target.add(status, failureReason, totalMicros);
+            return target;
+        });
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add.run();
+                }
+            });
+        } else {
+            add.run();
+        }
+    }
+
+    /**
+     * Дописать накопленные агрегаты в {@code h_check_rollup_minute}.
+     */
+    @Scheduled(
+            fixedDelayString = "${application.integration.result-rollup.flush-interval}",
+            initialDelayString = "${application.integration.result-rollup.flush-interval}"
+    )
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        final Map<BucketKey, RollupCounts> batch = new HashMap<>(pending.size() * 2);
+        pending.keySet().forEach(key -> {
+            final RollupCounts counts = pending.remove(key);
+            if (counts != null) {
+                batch.put(key, counts);
+            }
+        });
+        try {
+            checkRollupStore.append(batch);
+            written.increment(batch.size());
+        } catch (RuntimeException exception) {
+            failed.increment(batch.size());
+            batch.forEach((key, counts) -> pending.merge(key, counts, (current, restored) -> {
+                current.add(restored);
+                return current;
+            }));
+            log.error("Не удалось записать минутные агрегаты ({} шт.), повтор при следующем сбросе: {}",
+                    batch.size(), exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Дописывает накопленное при остановке контекста.
+     */
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    /**
+     * Текущее число накопленных минутных агрегатов.
+     */
+    int pendingBuckets() {
+        return pending.size();
+    }
+}
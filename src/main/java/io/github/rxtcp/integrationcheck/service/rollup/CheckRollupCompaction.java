@@ -0,0 +1,102 @@
+package io.github.rxtcp.integrationcheck.service.rollup;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultRollupProps;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.DAY;
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.HOUR;
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.MINUTE;
+
+/**
+ * Компактизация агрегатов результатов проверок.
+ * <p>
+ * Каждый проход:
+ * <ul>
+ *   <li>сворачивает минутные агрегаты в часовые до часа, целиком закрытого к {@code now - compactionDelay};</li>
+ *   <li>сворачивает часовые агрегаты в суточные до суток, целиком покрытых часовыми;</li>
+ *   <li>удаляет минутные строки старше {@code minuteRetention} и часовые старше {@code hourRetention},
+ *       но только уже свёрнутые в более крупную гранулярность.</li>
+ * </ul>
+ * {@code compactionDelay} должен превышать период сброса {@link CheckResultRollup} и длительность самой
+ * долгой проверки: минуты, дописанные после свёртки их часа, в часовые агрегаты не попадут.
+ * Метрики: {@code integration.result.rollup.compactions}, {@code integration.result.rollup.purged},
+ * {@code integration.result.rollup.compaction.failures}.
+ * <p>
+ * Активен при {@code application.integration.result-rollup.enabled=true}.
+ */
+@ConditionalOnProperty(value = ResultRollupProps.ENABLED_PROPERTY, havingValue = "true")
+@Slf4j
+@Component
+public class CheckRollupCompaction {
+
+    private final CheckRollupStore checkRollupStore;
+    private final ResultRollupProps props;
+    private final Clock clock;
+
+    private final Counter compactions;
+    private final Counter purged;
+    private final Counter failures;
+
+    @Autowired
+    public CheckRollupCompaction(CheckRollupStore checkRollupStore,
+                                 ResultRollupProps props,
+                                 MeterRegistry meterRegistry) {
+        this(checkRollupStore, props, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    CheckRollupCompaction(CheckRollupStore checkRollupStore,
+                          ResultRollupProps props,
+                          MeterRegistry meterRegistry,
+                          Clock clock) {
+        this.checkRollupStore = checkRollupStore;
+        this.props = props;
+        this.clock = clock;
+        this.compactions = Counter.builder("integration.result.rollup.compactions")
+                .description("Проходы компактизации агрегатов")
+                .register(meterRegistry);
+        this.purged = Counter.builder("integration.result.rollup.purged")
+                .description("Удалённые по сроку хранения строки агрегатов")
+                .register(meterRegistry);
+        this.failures = Counter.builder("integration.result.rollup.compaction.failures")
+                .description("Ошибки компактизации агрегатов")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Проход компактизации: минуты → часы → сутки, затем удаление свёрнутых строк по сроку хранения.
+     */
+    @Scheduled(
+            fixedDelayString = "${application.integration.result-rollup.compaction-interval}",
+            initialDelayString = "${application.integration.result-rollup.compaction-interval}"
+    )
+    public void compact() {
+        final LocalDateTime now = LocalDateTime.now(clock);
+        try {
+            final LocalDateTime hours = checkRollupStore.fold(HOUR, now.minus(props.compactionDelay()));
+            final LocalDateTime days = checkRollupStore.fold(DAY, hours);
+            final int minutesPurged = checkRollupStore.purge(MINUTE, earliest(now.minus(props.minuteRetention()), hours));
+            final int hoursPurged = checkRollupStore.purge(HOUR, earliest(now.minus(props.hourRetention()), days));
+            compactions.increment();
+            purged.increment(minutesPurged + hoursPurged);
+            log.debug("Агрегаты свёрнуты: часы до {}, сутки до {}; удалено минутных {}, часовых {}",
+                    hours, days, minutesPurged, hoursPurged);
+        } catch (DataAccessException exception) {
+            failures.increment();
+            log.error("Ошибка компактизации агрегатов: {}", exception.getMessage(), exception);
+        }
+    }
+
+    private static LocalDateTime earliest(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
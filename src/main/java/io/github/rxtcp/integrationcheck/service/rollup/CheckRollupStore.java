@@ -0,0 +1,226 @@
+package io.github.rxtcp.integrationcheck.service.rollup;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultRollupProps;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.DAY;
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.HOUR;
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.MINUTE;
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupCounts.COLUMNS;
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupCounts.MIN_COLUMN;
+
+/**
+ * Хранилище агрегатов результатов проверок ({@code h_check_rollup_minute|hour|day}).
+ * <p>
+ * Минутные строки только дописываются: каждый сброс {@link CheckResultRollup} добавляет частичные агрегаты,
+ * поэтому запись не конкурирует за строки и не требует upsert. Часовые и суточные строки пересобираются
+ * {@link #fold(RollupGranularity, LocalDateTime)} из более мелких до отметки {@code h_check_rollup_watermark};
+ * ниже отметки строки крупной гранулярности полны и используются вместо мелких.
+ * <p>
+ * {@link #summarize(long, LocalDateTime, LocalDateTime)} покрывает интервал сутками, часами и минутами так,
+ * чтобы читать как можно более крупные строки: стоимость запроса пропорциональна числу интервалов,
+ * а не числу запусков.
+ */
+@RequiredArgsConstructor
+@Component
+public class CheckRollupStore {
+
+    private static final String COLUMN_LIST = String.join(", ", COLUMNS);
+
+    /**
+     * Агрегатные выражения по колонкам: сумма счётчиков, минимум и максимум задержки.
+     */
+    private static final String AGGREGATES = aggregates();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ResultRollupProps props;
+
+    /**
+     * Дописать минутные частичные агрегаты одной пакетной вставкой в одной транзакции.
+     *
+     * @param buckets агрегаты по проверке и началу минуты
+     */
+    @Transactional
+    public void append(Map<BucketKey, RollupCounts> buckets) {
+        if (buckets.isEmpty()) {
+            return;
+        }
+        final String sql = "INSERT INTO %s (check_id, bucket_start, %s) VALUES (?, ?%s)"
+                .formatted(table(MINUTE), COLUMN_LIST, ", ?".repeat(COLUMNS.size()));
+        final List<Object[]> rows = new ArrayList<>(buckets.size());
+        buckets.forEach((key, counts) -> {
+            final Object[] values = counts.values();
+            final Object[] row = new Object[values.length + 2];
+            row[0] = key.checkId();
+            row[1] = Timestamp.valueOf(key.bucketStart());
+            System.arraycopy(values, 0, row, 2, values.length);
+            rows.add(row);
+        });
+        jdbcTemplate.batchUpdate(sql, rows);
+    }
+
+    /**
+     * Пересобрать строки {@code target} ({@link RollupGranularity#HOUR} из минут или {@link RollupGranularity#DAY}
+     * из часов) от текущей отметки до {@code until} и сдвинуть отметку.
+     * <p>
+     * Отметка блокируется на время пересборки, поэтому параллельные компактизации разных экземпляров
+     * выполняются по очереди. Пересборка идемпотентна: диапазон удаляется и вставляется заново.
+     *
+     * @param target гранулярность результата: {@code HOUR} или {@code DAY}
+     * @param until  граница (исключительно); округляется вниз до {@code target}
+     * @return новая отметка {@code target}
+     */
+    @Transactional
+    public LocalDateTime fold(RollupGranularity target, LocalDateTime until) {
+        final RollupGranularity source = sourceOf(target);
+        final LocalDateTime from = jdbcTemplate.queryForObject(
+                "SELECT compacted_until FROM %s.h_check_rollup_watermark WHERE granularity = ? FOR UPDATE"
+                        .formatted(props.schema()),
+                LocalDateTime.class, target.name());
+        final LocalDateTime to = target.floor(until);
+        if (!from.isBefore(to)) {
+            return from;
+        }
+        jdbcTemplate.update("DELETE FROM %s WHERE bucket_start >= ? AND bucket_start < ?".formatted(table(target)),
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+        jdbcTemplate.update("""
+                        INSERT INTO %s (check_id, bucket_start, %s)
+                        SELECT check_id, date_trunc('%s', bucket_start), %s
+                        FROM %s
+                        WHERE bucket_start >= ? AND bucket_start < ?
+                        GROUP BY check_id, date_trunc('%s', bucket_start)
+                        """.formatted(table(target), COLUMN_LIST, target.truncUnit(), AGGREGATES,
+                        table(source), target.truncUnit()),
+                Timestamp.valueOf(from), Timestamp.valueOf(to));
+        jdbcTemplate.update("UPDATE %s.h_check_rollup_watermark SET compacted_until = ? WHERE granularity = ?"
+                .formatted(props.schema()), Timestamp.valueOf(to), target.name());
+        return to;
+    }
+
+    /**
+     * Удалить строки гранулярности старше {@code before}.
+     *
+     * @return число удалённых строк
+     */
+    @Transactional
+    public int purge(RollupGranularity granularity, LocalDateTime before) {
+        return jdbcTemplate.update("DELETE FROM %s WHERE bucket_start < ?".formatted(table(granularity)),
+                Timestamp.valueOf(before));
+    }
+
+    /**
+     * Агрегат проверки за интервал {@code [from, to)}, границы округляются вниз до минуты.
+     * <p>
+     * Полные сутки ниже отметки {@code DAY} читаются из суточных строк, полные часы ниже отметки
+     * {@code HOUR} — из часовых, остаток — из минутных. Для интервалов старше срока хранения минут
+     * (часов) неполные часы (сутки) на краях интервала учитываются только в пределах сохранившихся строк.
+     *
+     * @param checkId идентификатор проверки
+     * @param from    начало интервала (включительно)
+     * @param to      конец интервала (исключительно)
+     * @return агрегат; пустой, если запусков не было
+     */
+    @Transactional(readOnly = true)
+    public RollupCounts summarize(long checkId, LocalDateTime from, LocalDateTime to) {
+        final LocalDateTime start = MINUTE.floor(from);
+        final LocalDateTime end = MINUTE.floor(to);
+        final RollupCounts result = new RollupCounts();
+        if (!start.isBefore(end)) {
+            return result;
+        }
+        final Map<String, LocalDateTime> watermarks = watermarks();
+        final LocalDateTime hourEnd = HOUR.floor(min(end, watermarks.getOrDefault(HOUR.name(), LocalDateTime.MIN)));
+        final LocalDateTime dayEnd = DAY.floor(min(end, watermarks.getOrDefault(DAY.name(), LocalDateTime.MIN)));
+        final LocalDateTime hourStart = HOUR.ceil(start);
+        final LocalDateTime dayStart = DAY.ceil(start);
+
+        if (!hourStart.isBefore(hourEnd)) {
+            result.add(sum(MINUTE, checkId, start, end));
+            return result;
+        }
+        result.add(sum(MINUTE, checkId, start, hourStart));
+        if (dayStart.isBefore(dayEnd)) {
+            result.add(sum(HOUR, checkId, hourStart, dayStart));
+            result.add(sum(DAY, checkId, dayStart, dayEnd));
+            result.add(sum(HOUR, checkId, dayEnd, hourEnd));
+        } else {
+            result.add(sum(HOUR, checkId, hourStart, hourEnd));
+        }
+        result.add(sum(MINUTE, checkId, hourEnd, end));
+        return result;
+    }
+
+    /**
+     * Текущие отметки компактизации по гранулярности.
+     */
+    public Map<String, LocalDateTime> watermarks() {
+        return Collections.unmodifiableMap(jdbcTemplate.query(
+                        "SELECT granularity, compacted_until FROM %s.h_check_rollup_watermark".formatted(props.schema()),
+                        (rs, rowNum) -> Map.entry(rs.getString(1), rs.getTimestamp(2).toLocalDateTime()))
+                .stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+    }
+
+    private RollupCounts sum(RollupGranularity granularity, long checkId, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            return new RollupCounts();
+        }
+        return jdbcTemplate.queryForObject(
+                "SELECT %s FROM %s WHERE check_id = ? AND bucket_start >= ? AND bucket_start < ?"
+                        .formatted(AGGREGATES, table(granularity)),
+                (rs, rowNum) -> {
+                    final Object[] values = new Object[COLUMNS.size()];
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = rs.getObject(i + 1);
+                    }
+                    return RollupCounts.of(values);
+                },
+                checkId, Timestamp.valueOf(from), Timestamp.valueOf(to));
+    }
+
+    private String table(RollupGranularity granularity) {
+        return props.schema() + "." + granularity.table();
+    }
+
+    private static RollupGranularity sourceOf(RollupGranularity target) {
+        return switch (target) {
+            case HOUR -> MINUTE;
+            case DAY -> HOUR;
+            case MINUTE -> throw new IllegalArgumentException("Минутные агрегаты не собираются компактизацией");
+        };
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static String aggregates() {
+        final List<String> expressions = new ArrayList<>(COLUMNS.size());
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            final String column = COLUMNS.get(i);
+            final String function = i == MIN_COLUMN ? "min" : i == MIN_COLUMN + 1 ? "max" : "sum";
+            expressions.add("%s(%s)".formatted(function, column));
+        }
+        return String.join(", ", expressions);
+    }
+
+    /**
+     * Ключ минутного агрегата: проверка и начало минуты.
+     *
+     * @param checkId     идентификатор проверки
+     * @param bucketStart начало минуты
+     */
+    public record BucketKey(long checkId, LocalDateTime bucketStart) {
+    }
+}
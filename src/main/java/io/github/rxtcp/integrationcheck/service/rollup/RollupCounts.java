@@ -0,0 +1,215 @@
+package io.github.rxtcp.integrationcheck.service.rollup;
+
+import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
+import io.github.rxtcp.integrationcheck.domain.FailureReason;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalDouble;
+
+/**
+ * Агрегат результатов проверки за интервал: счётчики по {@link CheckRunStatus} и {@link FailureReason},
+ * сумма/минимум/максимум {@code total_us} и гистограмма задержек.
+ * <p>
+ * Все счётчики аддитивны: агрегат за интервал — сумма агрегатов его частей, минимум и максимум — по частям.
+ * Не потокобезопасен.
+ */
+@Getter
+public final class RollupCounts {
+
+    /**
+     * Верхние границы корзин гистограммы, мкс (включительно); последняя корзина — всё, что больше.
+     */
+    static final int[] LATENCY_BOUNDS_MICROS = {
+            10_000, 50_000, 100_000, 250_000, 500_000, 1_000_000, 2_500_000, 5_000_000, 10_000_000
+    };
+
+    /**
+     * Колонки таблиц {@code h_check_rollup_*} в порядке {@link #values()}.
+     */
+    static final List<String> COLUMNS = List.of(
+            "total_count", "succeeded_count", "failed_count",
+            "timeout_count", "error_count", "http_status_mismatch_count", "abandoned_count",
+            "latency_count", "latency_sum_us", "latency_min_us", "latency_max_us",
+            "latency_le_10ms", "latency_le_50ms", "latency_le_100ms", "latency_le_250ms", "latency_le_500ms",
+            "latency_le_1s", "latency_le_2500ms", "latency_le_5s", "latency_le_10s", "latency_gt_10s"
+    );
+
+    /**
+     * Индекс {@code latency_min_us} в {@link #COLUMNS}; следующий — {@code latency_max_us}.
+     */
+    static final int MIN_COLUMN = 9;
+
+    private long total;
+    private long succeeded;
+    private long failed;
+    private long timeouts;
+    private long errors;
+    private long httpStatusMismatches;
+    private long abandoned;
+    private long latencyCount;
+    private long latencySumMicros;
+    private Integer latencyMinMicros;
+    private Integer latencyMaxMicros;
+
+    @Getter(AccessLevel.NONE)
+    private final long[] histogram = new long[LATENCY_BOUNDS_MICROS.length + 1];
+
+    /**
+     * Учесть один завершённый запуск.
+     *
+     * @param status        итоговый статус ({@code PROCESSING} не учитывается)
+     * @param failureReason причина неуспеха или {@code null}
+     * @param totalMicros   полное время обмена или {@code null}, если не замерено
+     */
+    public void add(CheckRunStatus status, FailureReason failureReason, Integer totalMicros) {
+        switch (status) {
+            case SUCCEEDED -> succeeded++;
+            case FAILED -> failed++;
+            case PROCESSING -> {
+                return;
+            }
+        }
+        total++;
+        if (failureReason != null) {
+            switch (failureReason) {
+                case TIMEOUT -> timeouts++;
+                case ERROR -> errors++;
+                case HTTP_STATUS_MISMATCH -> httpStatusMismatches++;
+                case ABANDONED -> abandoned++;
+            }
+        }
+        if (totalMicros != null) {
+            latencyCount++;
+            latencySumMicros += totalMicros;
+            latencyMinMicros = latencyMinMicros == null ? totalMicros : Math.min(latencyMinMicros, totalMicros);
+            latencyMaxMicros = latencyMaxMicros == null ? totalMicros : Math.max(latencyMaxMicros, totalMicros);
+            histogram[bucketOf(totalMicros)]++;
+        }
+    }
+
+    /**
+     * Прибавить другой агрегат.
+     */
+    public void add(RollupCounts other) {
+        total += other.total;
+        succeeded += other.succeeded;
+        failed += other.failed;
+        timeouts += other.timeouts;
+        errors += other.errors;
+        httpStatusMismatches += other.httpStatusMismatches;
+        abandoned += other.abandoned;
+        latencyCount += other.latencyCount;
+        latencySumMicros += other.latencySumMicros;
+        latencyMinMicros = min(latencyMinMicros, other.latencyMinMicros);
+        latencyMaxMicros = max(latencyMaxMicros, other.latencyMaxMicros);
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] += other.histogram[i];
+        }
+    }
+
+    /**
+     * Копия гистограммы: число запусков по корзинам {@link #LATENCY_BOUNDS_MICROS} и последняя корзина «больше».
+     */
+    public long[] histogram() {
+        return histogram.clone();
+    }
+
+    /**
+     * Доля успешных запусков; пусто, если запусков не было.
+     */
+    public OptionalDouble availability() {
+        return total == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) succeeded / total);
+    }
+
+    /**
+     * Среднее {@code total_us}; пусто, если замеров не было.
+     */
+    public OptionalDouble meanLatencyMicros() {
+        return latencyCount == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) latencySumMicros / latencyCount);
+    }
+
+    /**
+     * Значения в порядке {@link #COLUMNS}.
+     */
+    Object[] values() {
+        final Object[] values = new Object[COLUMNS.size()];
+        values[0] = total;
+        values[1] = succeeded;
+        values[2] = failed;
+        values[3] = timeouts;
+        values[4] = errors;
+        values[5] = httpStatusMismatches;
+        values[6] = abandoned;
+        values[7] = latencyCount;
+        values[8] = latencySumMicros;
+        values[MIN_COLUMN] = latencyMinMicros;
+        values[MIN_COLUMN + 1] = latencyMaxMicros;
+        for (int i = 0; i < histogram.length; i++) {
+            values[MIN_COLUMN + 2 + i] = histogram[i];
+        }
+        return values;
+    }
+
+    /**
+     * Агрегат из значений в порядке {@link #COLUMNS}; {@code null} счётчика трактуется как 0.
+     */
+    static RollupCounts of(Object[] values) {
+        final RollupCounts counts = new RollupCounts();
+        counts.total = asLong(values[0]);
+        counts.succeeded = asLong(values[1]);
+        counts.failed = asLong(values[2]);
+        counts.timeouts = asLong(values[3]);
+        counts.errors = asLong(values[4]);
+        counts.httpStatusMismatches = asLong(values[5]);
+        counts.abandoned = asLong(values[6]);
+        counts.latencyCount = asLong(values[7]);
+        counts.latencySumMicros = asLong(values[8]);
+        counts.latencyMinMicros = asInteger(values[MIN_COLUMN]);
+        counts.latencyMaxMicros = asInteger(values[MIN_COLUMN + 1]);
+        for (int i = 0; i < counts.histogram.length; i++) {
+            counts.histogram[i] = asLong(values[MIN_COLUMN + 2 + i]);
+        }
+        return counts;
+    }
+
+    @Override
+    public String toString() {
+        return "RollupCounts{" +
+                "total=" + total +
+                ", succeeded=" + succeeded +
+                ", failed=" + failed +
+                ", latencyCount=" + latencyCount +
+                ", latencyMinMicros=" + latencyMinMicros +
+                ", latencyMaxMicros=" + latencyMaxMicros +
+                ", histogram=" + Arrays.toString(histogram) +
+                '}';
+    }
+
+    private static int bucketOf(int micros) {
+        for (int i = 0; i < LATENCY_BOUNDS_MICROS.length; i++) {
+            if (micros <= LATENCY_BOUNDS_MICROS[i]) {
+                return i;
+            }
+        }
+        return LATENCY_BOUNDS_MICROS.length;
+    }
+
+    private static Integer min(Integer a, Integer b) {
+        return a == null ? b : b == null ? a : Integer.valueOf(Math.min(a, b));
+    }
+
+    private static Integer max(Integer a, Integer b) {
+        return a == null ? b : b == null ? a : Integer.valueOf(Math.max(a, b));
+    }
+
+    private static long asLong(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static Integer asInteger(Object value) {
+        return value == null ? null : ((Number) value).intValue();
+    }
+}
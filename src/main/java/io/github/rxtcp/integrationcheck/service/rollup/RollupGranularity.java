@@ -0,0 +1,62 @@
+package io.github.rxtcp.integrationcheck.service.rollup;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Гранулярность агрегатов результатов проверок и соответствующая таблица.
+ */
+public enum RollupGranularity {
+
+    /**
+     * Минутные частичные агрегаты; пишутся при сбросе {@link CheckResultRollup}.
+     */
+    MINUTE(ChronoUnit.MINUTES, "h_check_rollup_minute"),
+
+    /**
+     * Часовые агрегаты; собираются компактизацией из минутных.
+     */
+    HOUR(ChronoUnit.HOURS, "h_check_rollup_hour"),
+
+    /**
+     * Суточные агрегаты; собираются компактизацией из часовых.
+     */
+    DAY(ChronoUnit.DAYS, "h_check_rollup_day");
+
+    private final ChronoUnit unit;
+    private final String table;
+
+    RollupGranularity(ChronoUnit unit, String table) {
+        this.unit = unit;
+        this.table = table;
+    }
+
+    /**
+     * Имя таблицы агрегатов (без схемы).
+     */
+    public String table() {
+        return table;
+    }
+
+    /**
+     * Имя единицы для {@code date_trunc}.
+     */
+    String truncUnit() {
+        return unit == ChronoUnit.MINUTES ? "minute" : unit == ChronoUnit.HOURS ? "hour" : "day";
+    }
+
+    /**
+     * Начало интервала, содержащего {@code time}.
+     */
+    public LocalDateTime floor(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    /**
+     * Ближайшая граница интервала не раньше {@code time}.
+     */
+    public LocalDateTime ceil(LocalDateTime time) {
+        final LocalDateTime floor = floor(time);
+        return floor.equals(time) ? floor : floor.plus(1, unit);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.rxtcp.integrationcheck.service.schedule;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.AdaptiveIntervalProps;
+import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
+import io.github.rxtcp.integrationcheck.dto.CheckScheduleDto;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Адаптивный интервал запусков проверки по её недавнему состоянию.
+ * <p>
+ * Адаптируются только проверки с нижней границей {@link Check#getAdaptiveMinIntervalSec()}. Сбой сужает интервал
+ * в {@link AdaptiveIntervalProps#factor()} раз, но не ниже нижней границы; {@link AdaptiveIntervalProps#successThreshold()}
+ * успешных запусков подряд расширяют его во столько же раз, но не выше верхней границы
+ * {@link Check#getAdaptiveMaxIntervalSec()} (по умолчанию — заданный интервал проверки). Текущий интервал
+ * и серия успехов хранятся на проверке и по ней же читаются политиками расписания.
+ * <p>
+ * Метрика: {@code integration.schedule.adaptive.saved.probes.per.hour} — запуски в час, сэкономленные
+ * относительно заданных интервалов, по адаптивным проверкам, последний запуск которых перенёс этот узел;
+ * отрицательное значение — дополнительные запуски проверок со сбоями. Вклады удалённых и выключенных проверок
+ * убираются проходом {@link #prune()} раз в {@link AdaptiveIntervalProps#pruneInterval()}.
+ */
+@Component
+public class AdaptiveInterval {
+
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    private final AdaptiveIntervalProps props;
+    private final CheckReader checkReader;
+
+    /**
+     * Сэкономленные запуски в час по проверкам.
+     */
+    private final Map<Long, Double> savedPerHour = new ConcurrentHashMap<>();
+
+    public AdaptiveInterval(AdaptiveIntervalProps props, CheckReader checkReader, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.checkReader = checkReader;
+        Gauge.builder("integration.schedule.adaptive.saved.probes.per.hour", savedPerHour, AdaptiveInterval::sum)
+                .description("Запуски в час, сэкономленные адаптивным интервалом относительно заданного")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Обновляет адаптивный интервал и серию успехов проверки по итогу запуска.
+     *
+     * @param check       проверка (изменяются {@code adaptiveIntervalSec} и {@code successStreak})
+     * @param checkResult результат текущего запуска (используется {@code status})
+     * @return {@code true}, если интервал проверки адаптируется и её состояние нужно сохранить
+     */
+    public boolean adapt(Check check, CheckResult checkResult) {
+        if (check.getAdaptiveMinIntervalSec() == null) {
+            if (check.getId() != null) {
+                savedPerHour.remove(check.getId());
+            }
+            return false;
+        }
+        final long configured = SchedulingPolicies.configuredIntervalOf(check).toSeconds();
+        final long min = check.getAdaptiveMinIntervalSec();
+        final long max = Math.max(min, check.getAdaptiveMaxIntervalSec() != null ? check.getAdaptiveMaxIntervalSec() : configured);
+        long interval = Math.clamp(check.getAdaptiveIntervalSec() != null ? check.getAdaptiveIntervalSec() : configured, min, max);
+        int streak = check.getSuccessStreak();
+        if (checkResult.getStatus() == CheckRunStatus.SUCCEEDED) {
+            streak = Math.min(streak + 1, props.successThreshold());
+            if (streak == props.successThreshold() && interval < max) {
+                interval = Math.min(max, interval * props.factor());
+                streak = 0;
+            }
+        } else {
+            streak = 0;
+            interval = Math.max(min, interval / props.factor());
+        }
+        check.setAdaptiveIntervalSec((int) interval);
+        check.setSuccessStreak(streak);
+        if (check.getId() != null) {
+            savedPerHour.put(check.getId(), SECONDS_PER_HOUR / configured - SECONDS_PER_HOUR / interval);
+        }
+        return true;
+    }
+
+    /**
+     * Убирает из метрики сэкономленных запусков удалённые и выключенные проверки.
+     */
+    @Scheduled(
+            fixedDelayString = "${application.integration.adaptive-interval.prune-interval}",
+            initialDelayString = "${application.integration.adaptive-interval.prune-interval}"
+    )
+    public void prune() {
+        if (savedPerHour.isEmpty()) {
+            return;
+        }
+        final Set<Long> enabledIds = checkReader.findEnabledSchedules().stream()
+                .map(CheckScheduleDto::id)
+                .collect(Collectors.toSet());
+        savedPerHour.keySet().retainAll(enabledIds);
+    }
+
+    private static double sum(Map<Long, Double> savedPerHour) {
+        return savedPerHour.values().stream().mapToDouble(Double::doubleValue).sum();
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.rxtcp.integrationcheck.service.schedule;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulingPolicyProps;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.repository.CheckRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Следующий запуск — наименее занятая секунда в пределах {@code balanceWindow} вокруг {@code finishedAt + интервал}.
+ * <p>
+ * Занятость секунд — число запусков, запланированных на них: загружается из {@code next_run_at} активных проверок
+ * при первом расчёте и затем заново с периодом {@code application.integration.scheduler.delta-interval}
+ * (как дельта-сверка колеса таймеров), между загрузками пополняется сроками, которые рассчитал этот узел;
+ * прошедшие секунды отбрасываются. При равной занятости выбирается секунда ближе к расчётному сроку.
+ * Окно не больше половины интервала проверки.
+ * <p>
+ * В кластере картина занятости каждого узла приближённая: сроки, рассчитанные другими узлами, видны с задержкой
+ * до периода перезагрузки, поэтому узлы, одновременно переносящие проверки на одну секунду, могут её перегрузить;
+ * следующая перезагрузка выравнивает их. Чтение из БД идёт вне блокировки расчёта: перенос сроков ждёт его только
+ * при первой загрузке.
+ * <p>
+ * Активна при {@code application.integration.scheduling-policy.type=balanced}. Потокобезопасна.
+ */
+@ConditionalOnProperty(value = SchedulingPolicyProps.TYPE_PROPERTY, havingValue = "balanced")
+@Slf4j
+@Component
+public class BalancedSchedulingPolicy implements SchedulingPolicy {
+
+    private final CheckRepository checkRepository;
+    private final SchedulingPolicyProps props;
+    private final Clock clock;
+
+    /**
+     * Сериализует загрузки занятости из БД.
+     */
+    private final Object resyncLock = new Object();
+
+    /**
+     * Число запланированных запусков по секунде эпохи.
+     */
+    private NavigableMap<Long, Integer> load = new TreeMap<>();
+
+    /**
+     * Сроки, рассчитанные во время идущей загрузки; {@code null} — загрузка не идёт.
+     */
+    private NavigableMap<Long, Integer> placedDuringResync;
+
+    private volatile boolean loaded;
+
+    @Autowired
+    public BalancedSchedulingPolicy(CheckRepository checkRepository, SchedulingPolicyProps props) {
+        this(checkRepository, props, Clock.systemDefaultZone());
+    }
+
+    BalancedSchedulingPolicy(CheckRepository checkRepository, SchedulingPolicyProps props, Clock clock) {
+        this.checkRepository = checkRepository;
+        this.props = props;
+        this.clock = clock;
+    }
+
+    @Override
+    public LocalDateTime nextRunAt(Check check, CheckResult checkResult) {
+        if (!loaded) {
+            resync();
+        }
+        synchronized (this) {
+            return place(check, checkResult);
+        }
+    }
+
+    /**
+     * Заново загружает занятость секунд из {@code next_run_at} активных проверок: подхватывает сроки,
+     * рассчитанные другими узлами. Сроки, рассчитанные этим узлом во время чтения, добавляются к загруженным.
+     */
+    @Scheduled(fixedDelayString = "${application.integration.scheduler.delta-interval}")
+    public void resync() {
+        synchronized (resyncLock) {
+            synchronized (this) {
+                placedDuringResync = new TreeMap<>();
+            }
+            try {
+                final NavigableMap<Long, Integer> fresh = loadUpcoming(LocalDateTime.now(clock));
+                synchronized (this) {
+                    placedDuringResync.forEach((second, count) -> fresh.merge(second, count, Integer::sum));
+                    load = fresh;
+                    loaded = true;
+                }
+            } finally {
+                synchronized (this) {
+                    placedDuringResync = null;
+                }
+            }
+        }
+    }
+
+    private LocalDateTime place(Check check, CheckResult checkResult) {
+        final long nowSecond = toSecond(LocalDateTime.now(clock));
+        load.headMap(nowSecond).clear();
+
+        final Duration interval = SchedulingPolicies.intervalOf(check);
+        final long target = toSecond(checkResult.getFinishedAt().plus(interval));
+        final long window = Math.min(props.balanceWindow().toSeconds(), interval.toSeconds() / 2);
+        long best = target;
+        int bestLoad = loadOf(target);
+        for (long offset = 1; offset <= window && bestLoad > 0; offset++) {
+            for (long candidate : new long[]{target - offset, target + offset}) {
+                final int candidateLoad = loadOf(candidate);
+                if (candidateLoad < bestLoad) {
+                    best = candidate;
+                    bestLoad = candidateLoad;
+                }
+            }
+        }
+        load.merge(best, 1, Integer::sum);
+        if (placedDuringResync != null) {
+            placedDuringResync.merge(best, 1, Integer::sum);
+        }
+        return LocalDateTime.ofEpochSecond(best, 0, ZoneOffset.UTC);
+    }
+
+    private NavigableMap<Long, Integer> loadUpcoming(LocalDateTime now) {
+        final List<LocalDateTime> upcoming = checkRepository.findUpcomingRunTimes(now);
+        final NavigableMap<Long, Integer> loaded = new TreeMap<>();
+        upcoming.forEach(runAt -> loaded.merge(toSecond(runAt), 1, Integer::sum));
+        log.debug("Загружена занятость секунд расписания: {} запусков в {} секундах", upcoming.size(), loaded.size());
+        return loaded;
+    }
+
+    private int loadOf(long second) {
+        return load.getOrDefault(second, 0);
+    }
+
+    private static long toSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
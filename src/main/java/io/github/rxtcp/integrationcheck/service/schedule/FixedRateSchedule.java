@@ -0,0 +1,60 @@
+package io.github.rxtcp.integrationcheck.service.schedule;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulingPolicyProps;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Следующий запуск проверки с режимом {@link io.github.rxtcp.integrationcheck.domain.ScheduleMode#FIXED_RATE}:
+ * запланированное время текущего запуска ({@code nextRunAt} проверки) плюс интервал.
+ * <p>
+ * Слоты проверки — {@code nextRunAt + k * интервал}: время выполнения и ожидания в очереди их не сдвигает.
+ * Если к завершению запуска следующий слот уже прошёл, пропущенные слоты обрабатываются
+ * по {@link SchedulingPolicyProps#catchUp()}: {@code COALESCE} — первый слот после завершения,
+ * {@code RUN_ALL} — следующий слот по порядку. Проверка без {@code nextRunAt} отсчитывает интервал от завершения.
+ * <p>
+ * Метрика: {@code integration.schedule.missed.slots} — слоты, пропущенные схлопыванием.
+ */
+@Component
+public class FixedRateSchedule {
+
+    private final SchedulingPolicyProps props;
+    private final Counter missedSlots;
+
+    public FixedRateSchedule(SchedulingPolicyProps props, MeterRegistry meterRegistry) {
+        this.props = props;
+        this.missedSlots = Counter.builder("integration.schedule.missed.slots")
+                .description("Слоты проверок FIXED_RATE, пропущенные схлопыванием")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Время следующего запуска проверки с фиксированным темпом.
+     *
+     * @param check       проверка (используются запланированное время текущего запуска и интервал)
+     * @param checkResult результат текущего запуска (используется {@code finishedAt})
+     * @return следующий слот проверки
+     */
+    public LocalDateTime nextRunAt(Check check, CheckResult checkResult) {
+        final Duration interval = SchedulingPolicies.intervalOf(check);
+        final LocalDateTime finishedAt = checkResult.getFinishedAt();
+        final LocalDateTime planned = check.getNextRunAt();
+        if (planned == null) {
+            return finishedAt.plus(interval);
+        }
+        final LocalDateTime next = planned.plus(interval);
+        if (next.isAfter(finishedAt) || props.catchUp() == SchedulingPolicyProps.CatchUp.RUN_ALL) {
+            return next;
+        }
+        // первый слот строго после завершения; слоты от next до него не выполняются
+        final long elapsedSlots = Duration.between(planned, finishedAt).toNanos() / interval.toNanos();
+        missedSlots.increment(elapsedSlots);
+        return planned.plus(interval.multipliedBy(elapsedSlots + 1));
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.rxtcp.integrationcheck.service.schedule;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulingPolicyProps;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Следующий запуск — {@code finishedAt + интервал} плюс случайный сдвиг до {@code maxJitter}.
+ * <p>
+ * Активна при {@code application.integration.scheduling-policy.type=interval} (по умолчанию).
+ */
+@ConditionalOnProperty(value = SchedulingPolicyProps.TYPE_PROPERTY, havingValue = "interval", matchIfMissing = true)
+@RequiredArgsConstructor
+@Component
+public class IntervalSchedulingPolicy implements SchedulingPolicy {
+
+    private final SchedulingPolicyProps props;
+
+    @Override
+    public LocalDateTime nextRunAt(Check check, CheckResult checkResult) {
+        final Duration interval = SchedulingPolicies.intervalOf(check);
+        return checkResult.getFinishedAt()
+                .plus(interval)
+                .plus(SchedulingPolicies.jitter(interval, props.maxJitter()));
+    }
+}
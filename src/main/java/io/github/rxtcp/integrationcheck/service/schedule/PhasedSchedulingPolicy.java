@@ -0,0 +1,59 @@
+package io.github.rxtcp.integrationcheck.service.schedule;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulingPolicyProps;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Следующий запуск — ближайший слот фазы проверки не раньше {@code finishedAt + интервал / 2}.
+ * <p>
+ * Слоты проверки — моменты {@code фаза + k * интервал} от начала эпохи, где фаза — перемешанный идентификатор
+ * по модулю интервала в секундах. Проверки с одинаковым интервалом распределены по нему равномерно и
+ * независимо от момента создания; проверка, выполненная в свой слот, снова запускается ровно через интервал,
+ * а после простоя или запуска вне слота возвращается в свою фазу. Интервал между запусками — от половины
+ * до полутора интервалов.
+ * <p>
+ * К слоту добавляется случайный сдвиг до {@code maxJitter}.
+ * <p>
+ * Активна при {@code application.integration.scheduling-policy.type=phased}.
+ */
+@ConditionalOnProperty(value = SchedulingPolicyProps.TYPE_PROPERTY, havingValue = "phased")
+@RequiredArgsConstructor
+@Component
+public class PhasedSchedulingPolicy implements SchedulingPolicy {
+
+    private final SchedulingPolicyProps props;
+
+    @Override
+    public LocalDateTime nextRunAt(Check check, CheckResult checkResult) {
+        final Duration interval = SchedulingPolicies.intervalOf(check);
+        final long intervalSeconds = interval.toSeconds();
+        final long phase = phaseOf(check.getId(), intervalSeconds);
+        final long earliest = checkResult.getFinishedAt().toEpochSecond(ZoneOffset.UTC) + (intervalSeconds + 1) / 2;
+        final long slot = Math.ceilDiv(earliest - phase, intervalSeconds) * intervalSeconds + phase;
+        return LocalDateTime.ofEpochSecond(slot, 0, ZoneOffset.UTC)
+                .plus(SchedulingPolicies.jitter(interval, props.maxJitter()));
+    }
+
+    /**
+     * Фаза проверки внутри интервала, с.
+     */
+    static long phaseOf(Long checkId, long intervalSeconds) {
+        if (checkId == null) {
+            return 0;
+        }
+        // финализатор SplitMix64: соседние идентификаторы получают несвязанные фазы
+        long z = checkId * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        z = z ^ (z >>> 31);
+        return Math.floorMod(z, intervalSeconds);
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.rxtcp.integrationcheck.service.schedule;
+
+import io.github.rxtcp.integrationcheck.entity.Check;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Общие расчёты политик расписания.
+ */
+final class SchedulingPolicies {
+
+    private SchedulingPolicies() {
+    }
+
+    /**
+     * Интервал запуска проверки: адаптивный, если интервал проверки адаптируется и уже изменён,
+     * иначе заданный.
+     */
+    static Duration intervalOf(Check check) {
+        return check.getAdaptiveMinIntervalSec() != null && check.getAdaptiveIntervalSec() != null
+                ? Duration.ofSeconds(check.getAdaptiveIntervalSec())
+                : configuredIntervalOf(check);
+    }
+
+    /**
+     * Заданный интервал запуска проверки: в секундах, если задан, иначе в минутах.
+     */
+    static Duration configuredIntervalOf(Check check) {
+        return check.getRunIntervalSec() != null
+                ? Duration.ofSeconds(check.getRunIntervalSec())
+                : Duration.ofMinutes(check.getRunIntervalMin());
+    }
+
+    /**
+     * Случайный сдвиг вперёд в пределах {@code [0, min(maxJitter, interval / 2))} с точностью до миллисекунды.
+     */
+    static Duration jitter(Duration interval, Duration maxJitter) {
+        final long bound = Math.min(maxJitter.toMillis(), interval.toMillis() / 2);
+        return bound <= 0 ? Duration.ZERO : Duration.ofMillis(ThreadLocalRandom.current().nextLong(bound));
+    }
+}
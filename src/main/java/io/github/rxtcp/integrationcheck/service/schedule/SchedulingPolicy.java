@@ -0,0 +1,23 @@
+package io.github.rxtcp.integrationcheck.service.schedule;
+
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * Политика расчёта следующего запуска проверки.
+ * <p>
+ * Реализация выбирается свойством {@code application.integration.scheduling-policy.type}.
+ */
+public interface SchedulingPolicy {
+
+    /**
+     * Время следующего запуска проверки после завершённого запуска.
+     *
+     * @param check       проверка (используются {@code id} и интервал)
+     * @param checkResult результат текущего запуска (используется {@code finishedAt})
+     * @return время следующего запуска; не раньше {@code finishedAt} плюс половина интервала
+     */
+    LocalDateTime nextRunAt(Check check, CheckResult checkResult);
+}
@@ -0,0 +1,352 @@
+package io.github.rxtcp.integrationcheck.service.writer;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultSinkProps;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.service.payload.CheckResultPayloadStore;
+import io.github.rxtcp.integrationcheck.service.rollup.CheckResultRollup;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Буфер отложенной записи завершённых результатов проверок.
+ * <p>
+ * Результаты копятся в ограниченной очереди; отдельный поток забирает их пачками и пишет одной
+ * JDBC batch-вставкой в {@code h_check_result}. Пачка уходит, когда набрано {@code batchSize} строк
+ * или самой старой строке исполнилось {@code flushInterval}. Если очередь заполнена дольше
+ * {@code offerTimeout}, результат пишется сразу в потоке проверки: буфер тормозит производителей,
+ * но не теряет строки. Неудавшаяся вставка повторяется {@code retryAttempts} раз с растущей паузой, после
+ * чего пачка пишется по одной строке: теряются только строки, которые отвергла СУБД (например, результат
+ * проверки, удалённой, пока он лежал в буфере). Детали уходят в {@link CheckResultPayloadStore} перед
+ * вставкой пачки, в строке остаётся их хеш. Записанные строки учитываются в агрегатах {@link CheckResultRollup}.
+ * При остановке контекста очередь дописывается до конца.
+ * <p>
+ * Метрики:
+ * <ul>
+ *   <li>{@code integration.result.buffer.depth} — строк в очереди;</li>
+ *   <li>{@code integration.result.buffer.flush} — длительность пакетной вставки;</li>
+ *   <li>{@code integration.result.buffer.lag} — возраст самой старой строки пачки в момент записи;</li>
+ *   <li>{@code integration.result.buffer.rows} с тегом {@code result=written|failed};</li>
+ *   <li>{@code integration.result.buffer.overflow} — строки, записанные в обход заполненного буфера.</li>
+ * </ul>
+ * Активен в режиме {@code application.integration.result-sink.mode=write-behind}. Потокобезопасен.
+ */
+@ConditionalOnProperty(value = ResultSinkProps.MODE_PROPERTY, havingValue = "write-behind")
+@Slf4j
+@Component
+public class CheckResultBuffer {
+
+    /**
+     * Метка остановки: будит поток записи, ожидающий очередную строку.
+     */
+    private static final Pending STOP = new Pending(null, 0);
+
+    private static final String INSERT_SQL = """
+            INSERT INTO %s.h_check_result
+                (check_id, started_at, finished_at, status, failure_reason, details, details_hash,
+                 dns_us, connect_us, ttfb_us, body_us, total_us)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CheckResultRollup checkResultRollup;
+    private final CheckResultPayloadStore checkResultPayloadStore;
+    private final String insertSql;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long offerTimeoutNanos;
+    private final int retryAttempts;
+    private final long retryBackoffNanos;
+    private final BlockingQueue<Pending> queue;
+    private final Thread flusherThread;
+
+    private final Timer flushTimer;
+    private final Timer lagTimer;
+    private final Counter written;
+    private final Counter failed;
+    private final Counter overflow;
+
+    private volatile boolean closed;
+
+    public CheckResultBuffer(JdbcTemplate jdbcTemplate,
+                             CheckResultRollup checkResultRollup,
+                             CheckResultPayloadStore checkResultPayloadStore,
+                             ResultSinkProps props,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkResultRollup = checkResultRollup;
+        this.checkResultPayloadStore = checkResultPayloadStore;
+        this.insertSql = INSERT_SQL.formatted(props.schema());
+        this.batchSize = props.batchSize();
+        this.flushIntervalNanos = props.flushInterval().toNanos();
+        this.offerTimeoutNanos = props.offerTimeout().toNanos();
+        this.retryAttempts = props.retryAttempts();
+        this.retryBackoffNanos = props.retryBackoff().toNanos();
+        this.queue = new ArrayBlockingQueue<>(props.capacity());
+        this.flushTimer = Timer.builder("integration.result.buffer.flush")
+                .description("Длительность пакетной вставки результатов")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("integration.result.buffer.lag")
+                .description("Возраст самой старой строки пачки в момент записи")
+                .register(meterRegistry);
+        this.written = Counter.builder("integration.result.buffer.rows")
+                .description("Строки результатов, прошедшие через буфер")
+                .tag("result", "written")
+                .register(meterRegistry);
+        this.failed = Counter.builder("integration.result.buffer.rows")
+                .description("Строки результатов, прошедшие через буфер")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.overflow = Counter.builder("integration.result.buffer.overflow")
+                .description("Строки, записанные в обход заполненного буфера")
+                .register(meterRegistry);
+        Gauge.builder("integration.result.buffer.depth", queue, BlockingQueue::size)
+                .description("Строки результатов в очереди на запись")
+                .register(meterRegistry);
+        this.flusherThread = Thread.ofPlatform()
+                .name("check-result-flusher")
+                .daemon()
+                .start(this::flushLoop);
+    }
+
+    /**
+     * Ставит завершённый результат в очередь на запись.
+     * <p>
+     * Ждёт места не дольше {@code offerTimeout}; после остановки буфера, по таймауту или при прерывании
+     * пишет строку сразу.
+     *
+     * @param result результат с заполненными {@code startedAt}, {@code finishedAt} и статусом
+     */
+    public void enqueue(CheckResult result) {
+        final var pending = new Pending(result, System.nanoTime());
+        if (!closed) {
+            try {
+                if (queue.offer(pending, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        overflow.increment();
+        write(List.of(pending));
+    }
+
+    /**
+     * Останавливает поток записи и дописывает оставшиеся в очереди строки.
+     * <p>
+     * Поток будится меткой остановки в очереди, а не прерыванием: прерывание оборвало бы текущую вставку
+     * или паузу между её повторами.
+     */
+    @PreDestroy
+    public void close() {
+        closed = true;
+        final long timeoutMillis = TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + TimeUnit.SECONDS.toMillis(5);
+        try {
+            // при заполненной очереди место освободится: новые строки после остановки в неё не попадают
+            queue.offer(STOP, timeoutMillis, TimeUnit.MILLISECONDS);
+            flusherThread.join(timeoutMillis);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+        final List<Pending> rest = new ArrayList<>(queue.size());
+        queue.drainTo(rest);
+        rest.removeIf(pending -> pending == STOP);
+        for (int from = 0; from < rest.size(); from += batchSize) {
+            write(rest.subList(from, Math.min(rest.size(), from + batchSize)));
+        }
+        log.info("Буфер результатов остановлен, дописано при остановке: {}", rest.size());
+    }
+
+    /**
+     * Текущее число строк в очереди.
+     */
+    int depth() {
+        return queue.size();
+    }
+
+    private void flushLoop() {
+        final List<Pending> batch = new ArrayList<>(batchSize);
+        boolean running = true;
+        while (running) {
+            try {
+                running = collect(batch);
+            } catch (InterruptedException exception) {
+                log.warn("Поток записи результатов прерван");
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Набирает пачку: до {@code batchSize} строк или до истечения {@code flushInterval} с момента
+     * постановки первой строки в очередь.
+     *
+     * @return {@code false}, если из очереди взята метка остановки
+     */
+    private boolean collect(List<Pending> batch) throws InterruptedException {
+        final Pending first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+        if (first == null) {
+            return true;
+        }
+        if (first == STOP) {
+            return false;
+        }
+        batch.add(first);
+        final long deadline = first.enqueuedNanos() + flushIntervalNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            if (batch.removeIf(pending -> pending == STOP)) {
+                return false;
+            }
+            final long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return true;
+            }
+            final Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return true;
+            }
+            if (next == STOP) {
+                return false;
+            }
+            batch.add(next);
+        }
+        return true;
+    }
+
+    /**
+     * Сохраняет детали пачки в хранилище и пишет пачку batch-вставкой; при ошибке повторяет вставку
+     * с растущей паузой, затем пишет строки по одной, чтобы отвергнутая СУБД строка не утянула за собой
+     * остальные. Записанные строки учитываются в агрегатах, отвергнутые — логируются и учитываются
+     * в метрике; поток записи не падает.
+     */
+    private void write(List<Pending> batch) {
+        lagTimer.record(System.nanoTime() - batch.getFirst().enqueuedNanos(), TimeUnit.NANOSECONDS);
+        final long started = System.nanoTime();
+        try {
+            final Map<Pending, byte[]> hashes = storePayloads(batch);
+            if (insertBatch(batch, hashes)) {
+                written.increment(batch.size());
+                batch.forEach(pending -> checkResultRollup.record(pending.result()));
+            } else {
+                insertRows(batch, hashes);
+            }
+        } finally {
+            flushTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * Сохраняет детали строк в хранилище; при ошибке хранилища детали строки остаются в ней текстом.
+     */
+    private Map<Pending, byte[]> storePayloads(List<Pending> batch) {
+        final Map<Pending, byte[]> hashes = new IdentityHashMap<>(batch.size() * 2);
+        for (Pending pending : batch) {
+            try {
+                hashes.put(pending, checkResultPayloadStore.store(pending.result().getDetails()));
+            } catch (RuntimeException exception) {
+                log.warn("Не удалось сохранить детали результата, они останутся в строке: {}", exception.getMessage());
+                hashes.put(pending, null);
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * Пишет пачку batch-вставкой, повторяя её до {@code retryAttempts} раз с удвоением паузы.
+     *
+     * @return {@code true}, если пачка записана целиком
+     */
+    private boolean insertBatch(List<Pending> batch, Map<Pending, byte[]> hashes) {
+        long backoffNanos = retryBackoffNanos;
+        for (int attempt = 0; ; attempt++) {
+            try {
+                jdbcTemplate.batchUpdate(insertSql, batch, batch.size(),
+                        (ps, pending) -> bind(ps, pending.result(), hashes.get(pending)));
+                return true;
+            } catch (RuntimeException exception) {
+                if (attempt >= retryAttempts) {
+                    log.warn("Пакетная вставка результатов ({} строк) не удалась после {} повторов, запись по одной строке: {}",
+                            batch.size(), retryAttempts, exception.getMessage());
+                    return false;
+                }
+                log.warn("Пакетная вставка результатов ({} строк) не удалась, повтор через {} мс: {}",
+                        batch.size(), TimeUnit.NANOSECONDS.toMillis(backoffNanos), exception.getMessage());
+            }
+            try {
+                TimeUnit.NANOSECONDS.sleep(backoffNanos);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            backoffNanos *= 2;
+        }
+    }
+
+    /**
+     * Пишет строки по одной: теряются только строки, которые отвергла СУБД.
+     */
+    private void insertRows(List<Pending> batch, Map<Pending, byte[]> hashes) {
+        for (Pending pending : batch) {
+            try {
+                jdbcTemplate.update(insertSql, ps -> bind(ps, pending.result(), hashes.get(pending)));
+                written.increment();
+                checkResultRollup.record(pending.result());
+            } catch (RuntimeException exception) {
+                failed.increment();
+                final Check check = pending.result().getCheck();
+                log.error("Не удалось записать результат проверки id={}: {}",
+                        check != null ? check.getId() : null, exception.getMessage(), exception);
+            }
+        }
+    }
+
+    /**
+     * Привязывает параметры строки; при наличии хеша деталей текст в строку не пишется.
+     */
+    private static void bind(PreparedStatement ps, CheckResult result, byte[] detailsHash) throws SQLException {
+        final Check check = result.getCheck();
+        ps.setObject(1, check != null ? check.getId() : null, Types.BIGINT);
+        ps.setTimestamp(2, Timestamp.valueOf(result.getStartedAt()));
+        ps.setTimestamp(3, result.getFinishedAt() != null ? Timestamp.valueOf(result.getFinishedAt()) : null);
+        ps.setString(4, result.getStatus().name());
+        ps.setString(5, result.getFailureReason() != null ? result.getFailureReason().name() : null);
+        ps.setString(6, detailsHash == null ? result.getDetails() : null);
+        ps.setBytes(7, detailsHash);
+        ps.setObject(8, result.getDnsMicros(), Types.INTEGER);
+        ps.setObject(9, result.getConnectMicros(), Types.INTEGER);
+        ps.setObject(10, result.getTtfbMicros(), Types.INTEGER);
+        ps.setObject(11, result.getBodyMicros(), Types.INTEGER);
+        ps.setObject(12, result.getTotalMicros(), Types.INTEGER);
+    }
+
+    /**
+     * Строка в очереди и момент её постановки ({@link System#nanoTime()}).
+     */
+    private record Pending(CheckResult result, long enqueuedNanos) {
+    }
+}
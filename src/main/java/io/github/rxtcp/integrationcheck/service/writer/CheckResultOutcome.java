@@ -0,0 +1,31 @@
+package io.github.rxtcp.integrationcheck.service.writer;
+
+import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+
+import java.time.LocalDateTime;
+
+/**
+ * Перенос итога выполнения в запись {@link CheckResult}; общий для всех режимов записи.
+ */
+final class CheckResultOutcome {
+
+    private CheckResultOutcome() {
+    }
+
+    /**
+     * Проставляет {@code finishedAt}, статус/причину/детали и тайминги фаз из {@code dto}.
+     */
+    static void apply(CheckResult entity, CheckResultDto dto, LocalDateTime finishedAt) {
+        entity.setFinishedAt(finishedAt);
+        entity.setStatus(dto.status());
+        entity.setFailureReason(dto.failureReason());
+        entity.setDetails(dto.details());
+        var timings = dto.timings();
+        entity.setDnsMicros(timings.dnsMicros());
+        entity.setConnectMicros(timings.connectMicros());
+        entity.setTtfbMicros(timings.ttfbMicros());
+        entity.setBodyMicros(timings.bodyMicros());
+        entity.setTotalMicros(timings.totalMicros());
+    }
+}
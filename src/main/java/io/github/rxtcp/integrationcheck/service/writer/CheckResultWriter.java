@@ -4,6 +4,8 @@ import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
 import io.github.rxtcp.integrationcheck.entity.Check;
 import io.github.rxtcp.integrationcheck.entity.CheckResult;
 
+import java.util.List;
+
 /**
  * Запись хода и результата выполнения проверки.
  */
@@ -17,6 +19,18 @@ public interface CheckResultWriter {
      */
     CheckResult recordProcessStart(Check check);
 
+    /**
+     * Зафиксировать старт обработки пачки проверок.
+     * <p>
+     * По умолчанию вызывает {@link #recordProcessStart(Check)} для каждой проверки.
+     *
+     * @param checks проверки
+     * @return записи {@link CheckResult} в порядке {@code checks}
+     */
+    default List<CheckResult> recordProcessStarts(List<Check> checks) {
+        return checks.stream().map(this::recordProcessStart).toList();
+    }
+
     /**
      * Зафиксировать завершение обработки.
      *
@@ -25,4 +39,16 @@ public interface CheckResultWriter {
      * @return обновлённая запись {@link CheckResult}
      */
     CheckResult recordProcessEnd(CheckResult entity, CheckResultDto dto);
+
+    /**
+     * Зафиксировать завершение обработки и сдвинуть {@code nextRunAt} проверки одним коммитом.
+     * <p>
+     * В отличие от {@link #recordProcessEnd} переносит и расписание ({@link CheckWriter#rescheduleNextRun}),
+     * не открывая вторую транзакцию и не сливая сущности: обе строки обновляются точечными UPDATE.
+     *
+     * @param entity текущая запись результата (со ссылкой на проверку)
+     * @param dto    итог выполнения
+     * @return запись с итогом
+     */
+    CheckResult completeProcess(CheckResult entity, CheckResultDto dto);
 }
@@ -1,15 +1,21 @@
 package io.github.rxtcp.integrationcheck.service.writer;
 
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultSinkProps;
 import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
 import io.github.rxtcp.integrationcheck.entity.Check;
 import io.github.rxtcp.integrationcheck.entity.CheckResult;
 import io.github.rxtcp.integrationcheck.repository.CheckResultRepository;
+import io.github.rxtcp.integrationcheck.service.payload.CheckResultPayloadStore;
+import io.github.rxtcp.integrationcheck.service.rollup.CheckResultRollup;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.PROCESSING;
 import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
@@ -17,7 +23,10 @@ import static org.springframework.transaction.annotation.Propagation.REQUIRES_NE
 
 /**
  * Сервис фиксации начала/завершения выполнения проверки.
+ * <p>
+ * Активен в режиме {@code application.integration.result-sink.mode=sync} (по умолчанию).
  */
+@ConditionalOnProperty(value = ResultSinkProps.MODE_PROPERTY, havingValue = "sync", matchIfMissing = true)
 @Slf4j
 @RequiredArgsConstructor
 @Transactional(isolation = READ_COMMITTED, propagation = REQUIRES_NEW)
@@ -29,9 +38,24 @@ public class CheckResultWriterService implements CheckResultWriter {
      */
     private final CheckResultRepository checkResultRepository;
 
+    /**
+     * Перенос расписания проверки в той же транзакции.
+     */
+    private final CheckWriter checkWriter;
+
+    /**
+     * Учёт завершённых запусков в агрегатах (после коммита).
+     */
+    private final CheckResultRollup checkResultRollup;
+
+    /**
+     * Хранилище деталей: детали итога пишутся туда в той же транзакции, в строке остаётся хеш.
+     */
+    private final CheckResultPayloadStore checkResultPayloadStore;
+
     /**
      * Создать запись о старте обработки.
-     * Устанавливает {@code startedAt=now()}, статус {@code PROCESSING}.
+     * Устанавливает {@code startedAt=now()} с точностью до микросекунд (как хранит БД), статус {@code PROCESSING}.
      *
      * @param check проверка
      * @return сохранённый {@link CheckResult}
@@ -40,15 +64,37 @@ public class CheckResultWriterService implements CheckResultWriter {
     public CheckResult recordProcessStart(Check check) {
         var checkResult = CheckResult.builder()
                 .check(check)
-                .startedAt(LocalDateTime.now())
+                .startedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
                 .status(PROCESSING)
                 .build();
         return checkResultRepository.save(checkResult);
     }
 
+    /**
+     * Создать записи о старте пачки проверок в одной транзакции.
+     * <p>
+     * Идентификаторы выдаются последовательностью блоками (pooled-lo) без обращения к строкам, поэтому
+     * вставки уходят при коммите JDBC batch'ами по {@code hibernate.jdbc.batch_size} строк.
+     *
+     * @param checks проверки
+     * @return сохранённые записи {@code PROCESSING} в порядке {@code checks}
+     */
+    @Override
+    public List<CheckResult> recordProcessStarts(List<Check> checks) {
+        final LocalDateTime startedAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        return checkResultRepository.saveAll(checks.stream()
+                .map(check -> CheckResult.builder()
+                        .check(check)
+                        .startedAt(startedAt)
+                        .status(PROCESSING)
+                        .build())
+                .toList());
+    }
+
     /**
      * Зафиксировать завершение обработки.
-     * Обновляет {@code finishedAt=now()}, статус/причину/детали из {@code dto}.
+     * Обновляет {@code finishedAt=now()}, статус/причину и тайминги фаз из {@code dto}; детали уходят
+     * в {@link CheckResultPayloadStore}, в записи остаётся их хеш. После коммита запуск учитывается в агрегатах.
      *
      * @param entity текущая запись
      * @param dto    итог выполнения
@@ -56,10 +102,34 @@ public class CheckResultWriterService implements CheckResultWriter {
      */
     @Override
     public CheckResult recordProcessEnd(CheckResult entity, CheckResultDto dto) {
-        entity.setFinishedAt(LocalDateTime.now());
-        entity.setStatus(dto.status());
-        entity.setFailureReason(dto.failureReason());
-        entity.setDetails(dto.details());
+        CheckResultOutcome.apply(entity, dto, LocalDateTime.now());
+        checkResultPayloadStore.externalize(entity);
+        checkResultRollup.record(entity);
         return checkResultRepository.save(entity);
     }
+
+    /**
+     * Зафиксировать завершение и сдвинуть {@code nextRunAt} в одной транзакции.
+     * Итог пишется UPDATE по id записи (детали — в {@link CheckResultPayloadStore}, в записи — их хеш),
+     * расписание — UPDATE по id проверки; сущности не загружаются. Если запись уже не в статусе
+     * {@code PROCESSING} (жнец зависших запусков успел её завершить и перенести расписание), итог
+     * не пишется, расписание не переносится повторно и запуск не учитывается в агрегатах.
+     *
+     * @param entity текущая запись (с id и проверкой)
+     * @param dto    итог выполнения
+     * @return запись с итогом
+     */
+    @Override
+    public CheckResult completeProcess(CheckResult entity, CheckResultDto dto) {
+        CheckResultOutcome.apply(entity, dto, LocalDateTime.now());
+        checkResultPayloadStore.externalize(entity);
+        if (checkResultRepository.updateOutcome(entity) == 0) {
+            log.warn("Запуск id={} проверки id={} уже завершён другим путём, итог {} отброшен",
+                    entity.getId(), entity.getCheck().getId(), entity.getStatus());
+            return entity;
+        }
+        checkWriter.rescheduleNextRun(entity.getCheck(), entity);
+        checkResultRollup.record(entity);
+        return entity;
+    }
 }
@@ -9,11 +9,14 @@ import io.github.rxtcp.integrationcheck.entity.CheckResult;
 public interface CheckWriter {
 
     /**
-     * Обновить время следующего запуска на основании результата.
+     * Сдвинуть время следующего запуска по результату одним UPDATE, без загрузки и слияния {@link Check}.
+     * <p>
+     * Выполняется в транзакции вызывающего кода, если она есть: так завершение результата и перенос
+     * расписания фиксируются одним коммитом.
      *
-     * @param check       проверка
+     * @param check       проверка (используются {@code id} и интервал; {@code nextRunAt} обновляется в объекте)
      * @param checkResult результат текущего запуска
-     * @return обновлённый {@link Check}
+     * @return та же проверка с новым {@code nextRunAt}
      */
-    Check updateNextExecutionTime(Check check, CheckResult checkResult);
+    Check rescheduleNextRun(Check check, CheckResult checkResult);
 }
@@ -1,20 +1,30 @@
 package io.github.rxtcp.integrationcheck.service.writer;
 
+import io.github.rxtcp.integrationcheck.configuration.properties.CheckLeaseProps;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
 import io.github.rxtcp.integrationcheck.entity.Check;
 import io.github.rxtcp.integrationcheck.entity.CheckResult;
 import io.github.rxtcp.integrationcheck.repository.CheckRepository;
+import io.github.rxtcp.integrationcheck.service.schedule.AdaptiveInterval;
+import io.github.rxtcp.integrationcheck.service.schedule.FixedRateSchedule;
+import io.github.rxtcp.integrationcheck.service.schedule.SchedulingPolicy;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+
 import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
-import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+import static org.springframework.transaction.annotation.Propagation.REQUIRED;
 
 /**
  * Сервис обновления планового времени запуска проверки.
+ * <p>
+ * Время следующего запуска проверки {@link ScheduleMode#FIXED_DELAY} рассчитывает {@link SchedulingPolicy},
+ * проверки {@link ScheduleMode#FIXED_RATE} — {@link FixedRateSchedule}. Перед расчётом интервал проверки
+ * адаптируется к итогу запуска ({@link AdaptiveInterval}).
  */
 @RequiredArgsConstructor
-@Transactional(isolation = READ_COMMITTED, propagation = REQUIRES_NEW)
 @Service
 public class CheckWriterService implements CheckWriter {
 
@@ -24,17 +34,52 @@ public class CheckWriterService implements CheckWriter {
     private final CheckRepository checkRepository;
 
     /**
-     * Обновляет {@code nextRunAt = finishedAt + runIntervalMin} и сохраняет {@link Check}.
+     * Политика расчёта следующего запуска.
+     */
+    private final SchedulingPolicy schedulingPolicy;
+
+    /**
+     * Расчёт следующего запуска проверок с фиксированным темпом.
+     */
+    private final FixedRateSchedule fixedRateSchedule;
+
+    /**
+     * Адаптивный интервал запусков.
+     */
+    private final AdaptiveInterval adaptiveInterval;
+
+    /**
+     * Аренда проверок: снимается только аренда этого узла.
+     */
+    private final CheckLeaseProps checkLeaseProps;
+
+    /**
+     * Обновляет {@code nextRunAt} по режиму расписания проверки одним UPDATE по id; у проверки с адаптивным
+     * интервалом тем же UPDATE сохраняется его состояние. Снимает аренду проверки, если она принадлежит этому узлу.
+     * Присоединяется к текущей транзакции (REQUIRED).
      *
      * @param check       проверка
-     * @param checkResult результат текущего запуска (используется {@code finishedAt})
-     * @return обновлённая сущность {@link Check}
+     * @param checkResult результат текущего запуска (используются {@code status} и {@code finishedAt})
+     * @return та же проверка с новым {@code nextRunAt}
      */
     @Override
-    public Check updateNextExecutionTime(Check check, CheckResult checkResult) {
-        var finishedAt = checkResult.getFinishedAt();
-        var nextRunAt = finishedAt.plusMinutes(check.getRunIntervalMin());
+    @Transactional(isolation = READ_COMMITTED, propagation = REQUIRED)
+    public Check rescheduleNextRun(Check check, CheckResult checkResult) {
+        final boolean adaptive = adaptiveInterval.adapt(check, checkResult);
+        var nextRunAt = nextRunAt(check, checkResult);
+        if (adaptive) {
+            checkRepository.updateNextRunAt(check.getId(), nextRunAt, check.getAdaptiveIntervalSec(), check.getSuccessStreak(),
+                    checkLeaseProps.owner());
+        } else {
+            checkRepository.updateNextRunAt(check.getId(), nextRunAt, checkLeaseProps.owner());
+        }
         check.setNextRunAt(nextRunAt);
-        return checkRepository.save(check);
+        return check;
+    }
+
+    private LocalDateTime nextRunAt(Check check, CheckResult checkResult) {
+        return check.getScheduleMode() == ScheduleMode.FIXED_RATE
+                ? fixedRateSchedule.nextRunAt(check, checkResult)
+                : schedulingPolicy.nextRunAt(check, checkResult);
     }
 }
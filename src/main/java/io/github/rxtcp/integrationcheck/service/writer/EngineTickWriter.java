@@ -0,0 +1,30 @@
+package io.github.rxtcp.integrationcheck.service.writer;
+
+import io.github.rxtcp.integrationcheck.entity.EngineTick;
+
+import java.time.LocalDateTime;
+
+/**
+ * Запись сводки тика прямого движка исполнения.
+ */
+public interface EngineTickWriter {
+
+    /**
+     * Зафиксировать старт тика для окна.
+     *
+     * @param windowStart начало окна планировщика (UTC)
+     * @return сохранённая запись {@link EngineTick} в статусе PROCESSING
+     * @throws org.springframework.dao.DataIntegrityViolationException если тик этого окна уже зафиксирован
+     */
+    EngineTick recordTickStart(LocalDateTime windowStart);
+
+    /**
+     * Зафиксировать завершение тика.
+     *
+     * @param tick       текущая запись
+     * @param dueCount   число должных проверок
+     * @param errorCount число пачек с необработанной ошибкой
+     * @return обновлённая запись {@link EngineTick}
+     */
+    EngineTick recordTickEnd(EngineTick tick, int dueCount, int errorCount);
+}
@@ -0,0 +1,65 @@
+package io.github.rxtcp.integrationcheck.service.writer;
+
+import io.github.rxtcp.integrationcheck.entity.EngineTick;
+import io.github.rxtcp.integrationcheck.repository.EngineTickRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.FAILED;
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.PROCESSING;
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.SUCCEEDED;
+import static org.springframework.transaction.annotation.Isolation.READ_COMMITTED;
+import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
+
+/**
+ * Сервис фиксации начала/завершения тика прямого движка.
+ */
+@RequiredArgsConstructor
+@Transactional(isolation = READ_COMMITTED, propagation = REQUIRES_NEW)
+@Service
+public class EngineTickWriterService implements EngineTickWriter {
+
+    /**
+     * Репозиторий сводок тиков.
+     */
+    private final EngineTickRepository engineTickRepository;
+
+    /**
+     * Создать запись о старте тика.
+     * Вставка выполняется немедленно ({@code saveAndFlush}), чтобы конфликт уникальности окна
+     * обнаруживался до запуска проверок.
+     *
+     * @param windowStart начало окна (UTC)
+     * @return сохранённый {@link EngineTick}
+     */
+    @Override
+    public EngineTick recordTickStart(LocalDateTime windowStart) {
+        var tick = EngineTick.builder()
+                .windowStart(windowStart)
+                .startedAt(LocalDateTime.now())
+                .status(PROCESSING)
+                .build();
+        return engineTickRepository.saveAndFlush(tick);
+    }
+
+    /**
+     * Зафиксировать завершение тика: {@code finishedAt=now()}, счётчики и итоговый статус
+     * (FAILED, если хотя бы одна пачка завершилась ошибкой).
+     *
+     * @param tick       текущая запись
+     * @param dueCount   число должных проверок
+     * @param errorCount число пачек с необработанной ошибкой
+     * @return сохранённый {@link EngineTick}
+     */
+    @Override
+    public EngineTick recordTickEnd(EngineTick tick, int dueCount, int errorCount) {
+        tick.setFinishedAt(LocalDateTime.now());
+        tick.setDueCount(dueCount);
+        tick.setErrorCount(errorCount);
+        tick.setStatus(errorCount == 0 ? SUCCEEDED : FAILED);
+        return engineTickRepository.save(tick);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.rxtcp.integrationcheck.service.writer;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultSinkProps;
+import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.PROCESSING;
+
+/**
+ * Отложенная запись результатов через {@link CheckResultBuffer}.
+ * <p>
+ * Старт не пишется в БД: запись {@code PROCESSING} живёт только в памяти до завершения проверки.
+ * Завершённый результат ставится в буфер и попадает в {@code h_check_result} одной строкой в составе
+ * пакетной вставки, поэтому на запуск не открывается ни одной собственной транзакции. Возвращаемые
+ * записи не имеют {@code id}: он назначается БД при вставке.
+ * <p>
+ * Активен в режиме {@code application.integration.result-sink.mode=write-behind}.
+ */
+@ConditionalOnProperty(value = ResultSinkProps.MODE_PROPERTY, havingValue = "write-behind")
+@RequiredArgsConstructor
+@Service
+public class WriteBehindCheckResultWriter implements CheckResultWriter {
+
+    private final CheckResultBuffer checkResultBuffer;
+    private final CheckWriter checkWriter;
+
+    /**
+     * Создать запись о старте обработки без обращения к БД.
+     *
+     * @param check проверка
+     * @return несохранённый {@link CheckResult} со статусом {@code PROCESSING}
+     */
+    @Override
+    public CheckResult recordProcessStart(Check check) {
+        return CheckResult.builder()
+                .check(check)
+                .startedAt(LocalDateTime.now())
+                .status(PROCESSING)
+                .build();
+    }
+
+    /**
+     * Заполнить итог и поставить запись в буфер на пакетную вставку.
+     *
+     * @param entity запись, полученная из {@link #recordProcessStart(Check)}
+     * @param dto    итог выполнения
+     * @return та же запись с итогом (без {@code id})
+     */
+    @Override
+    public CheckResult recordProcessEnd(CheckResult entity, CheckResultDto dto) {
+        CheckResultOutcome.apply(entity, dto, LocalDateTime.now());
+        checkResultBuffer.enqueue(entity);
+        return entity;
+    }
+
+    /**
+     * Поставить итог в буфер и сдвинуть {@code nextRunAt} проверки.
+     * Собственный коммит на запуск один — перенос расписания; вставка результата амортизирована пачкой.
+     *
+     * @param entity запись, полученная из {@link #recordProcessStart(Check)}
+     * @param dto    итог выполнения
+     * @return та же запись с итогом (без {@code id})
+     */
+    @Override
+    public CheckResult completeProcess(CheckResult entity, CheckResultDto dto) {
+        recordProcessEnd(entity, dto);
+        checkWriter.rescheduleNextRun(entity.getCheck(), entity);
+        return entity;
+    }
+}
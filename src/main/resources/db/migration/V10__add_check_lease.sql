@@ -0,0 +1,16 @@
+-- ======================================================================
+-- V10__add_check_lease.sql
+-- Аренда должных проверок узлом прямого движка (CheckReader.claimDueChecks).
+-- Узел блокирует порцию должных строк через FOR UPDATE SKIP LOCKED и
+-- проставляет им lease_owner/lease_until; другие узлы пропускают
+-- заблокированные и арендованные строки. Перенос next_run_at снимает аренду.
+-- Аренду упавшего узла никто не снимает: она истекает по lease_until.
+-- ======================================================================
+
+ALTER TABLE integration_health_check.h_check
+    ADD COLUMN IF NOT EXISTS lease_owner VARCHAR(128);
+ALTER TABLE integration_health_check.h_check
+    ADD COLUMN IF NOT EXISTS lease_until TIMESTAMP;
+
+COMMENT ON COLUMN integration_health_check.h_check.lease_owner IS 'Узел, арендовавший проверку для запуска; NULL — аренды нет';
+COMMENT ON COLUMN integration_health_check.h_check.lease_until IS 'Окончание аренды; после него проверку может захватить другой узел';
@@ -0,0 +1,17 @@
+-- ======================================================================
+-- V11__add_abandoned_rollup_count.sql
+-- Счётчик брошенных запусков (FailureReason.ABANDONED) в агрегатах:
+-- запуски, оставшиеся в PROCESSING после остановки узла, завершает
+-- восстановление зависших запусков (StaleCheckResultReaper).
+-- ======================================================================
+
+ALTER TABLE integration_health_check.h_check_rollup_minute
+    ADD COLUMN IF NOT EXISTS abandoned_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE integration_health_check.h_check_rollup_hour
+    ADD COLUMN IF NOT EXISTS abandoned_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE integration_health_check.h_check_rollup_day
+    ADD COLUMN IF NOT EXISTS abandoned_count BIGINT NOT NULL DEFAULT 0;
+
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.abandoned_count IS 'Неуспехи с причиной ABANDONED';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.abandoned_count IS 'Неуспехи с причиной ABANDONED';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.abandoned_count IS 'Неуспехи с причиной ABANDONED';
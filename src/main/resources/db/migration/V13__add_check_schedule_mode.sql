@@ -0,0 +1,14 @@
+-- ======================================================================
+-- V13__add_check_schedule_mode.sql
+-- Режим расписания проверки: FIXED_DELAY — следующий запуск отсчитывается
+-- от завершения, FIXED_RATE — от запланированного next_run_at.
+-- Существующие проверки сохраняют прежнее поведение (FIXED_DELAY).
+-- ======================================================================
+
+ALTER TABLE integration_health_check.h_check
+    ADD COLUMN IF NOT EXISTS schedule_mode VARCHAR(16) NOT NULL DEFAULT 'FIXED_DELAY';
+
+ALTER TABLE integration_health_check.h_check
+    ADD CONSTRAINT ck_h_check__schedule_mode CHECK (schedule_mode IN ('FIXED_DELAY', 'FIXED_RATE'));
+
+COMMENT ON COLUMN integration_health_check.h_check.schedule_mode IS 'Режим расписания: FIXED_DELAY — от завершения запуска, FIXED_RATE — от запланированного времени';
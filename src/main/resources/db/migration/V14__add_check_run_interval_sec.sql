@@ -0,0 +1,15 @@
+-- ======================================================================
+-- V14__add_check_run_interval_sec.sql
+-- Интервал запусков в секундах для проверок с частотой выше минутной.
+-- Если задан, заменяет run_interval_min; NULL — интервал в минутах,
+-- как раньше. Запуск в свой срок с такой точностью даёт планировщик
+-- scheduler.mode=wheel; в режиме cron срок ждёт ближайшего тика.
+-- ======================================================================
+
+ALTER TABLE integration_health_check.h_check
+    ADD COLUMN IF NOT EXISTS run_interval_sec INTEGER;
+
+ALTER TABLE integration_health_check.h_check
+    ADD CONSTRAINT ck_h_check__interval_sec_range CHECK (run_interval_sec IS NULL OR run_interval_sec BETWEEN 1 AND 604800);
+
+COMMENT ON COLUMN integration_health_check.h_check.run_interval_sec IS 'Интервал запусков, с (1–604800); если задан, заменяет run_interval_min';
@@ -0,0 +1,33 @@
+-- ======================================================================
+-- V15__add_check_adaptive_interval.sql
+-- Адаптивный интервал запусков: после сбоя интервал сужается к
+-- adaptive_min_interval_sec, после серии успехов расширяется
+-- к adaptive_max_interval_sec (по умолчанию — к заданному интервалу).
+-- adaptive_min_interval_sec = NULL — интервал проверки не адаптируется.
+-- adaptive_interval_sec и success_streak — текущее состояние, как и
+-- next_run_at, определением не считаются и updated_at не трогают.
+-- ======================================================================
+
+ALTER TABLE integration_health_check.h_check
+    ADD COLUMN IF NOT EXISTS adaptive_min_interval_sec INTEGER;
+ALTER TABLE integration_health_check.h_check
+    ADD COLUMN IF NOT EXISTS adaptive_max_interval_sec INTEGER;
+ALTER TABLE integration_health_check.h_check
+    ADD COLUMN IF NOT EXISTS adaptive_interval_sec INTEGER;
+ALTER TABLE integration_health_check.h_check
+    ADD COLUMN IF NOT EXISTS success_streak INTEGER NOT NULL DEFAULT 0;
+
+ALTER TABLE integration_health_check.h_check
+    ADD CONSTRAINT ck_h_check__adaptive_bounds CHECK (
+        (adaptive_min_interval_sec IS NULL OR adaptive_min_interval_sec BETWEEN 1 AND 604800)
+            AND (adaptive_max_interval_sec IS NULL OR adaptive_max_interval_sec BETWEEN 1 AND 604800)
+            AND (adaptive_min_interval_sec IS NULL OR adaptive_max_interval_sec IS NULL
+            OR adaptive_min_interval_sec <= adaptive_max_interval_sec));
+
+ALTER TABLE integration_health_check.h_check
+    ADD CONSTRAINT ck_h_check__success_streak CHECK (success_streak >= 0);
+
+COMMENT ON COLUMN integration_health_check.h_check.adaptive_min_interval_sec IS 'Нижняя граница адаптивного интервала, с; NULL — интервал не адаптируется';
+COMMENT ON COLUMN integration_health_check.h_check.adaptive_max_interval_sec IS 'Верхняя граница адаптивного интервала, с; NULL — заданный интервал проверки';
+COMMENT ON COLUMN integration_health_check.h_check.adaptive_interval_sec IS 'Текущий адаптивный интервал, с; NULL — заданный интервал проверки';
+COMMENT ON COLUMN integration_health_check.h_check.success_streak IS 'Успешные запуски подряд с последнего изменения адаптивного интервала';
@@ -0,0 +1,19 @@
+-- ======================================================================
+-- V2__add_check_result_phase_timings.sql
+-- Тайминги фаз сетевого обмена для каждого запуска проверки (микросекунды).
+-- startedAt/finishedAt включают запись в БД и маппинг; эти колонки — только сеть.
+-- NULL — фаза не измерялась для данного типа проверки или не была достигнута.
+-- Подключение и TLS HTTP-проверок JDK-клиент отдельно не сообщает: они входят в ttfb_us.
+-- ======================================================================
+
+ALTER TABLE integration_health_check.h_check_result ADD COLUMN IF NOT EXISTS dns_us INTEGER;
+ALTER TABLE integration_health_check.h_check_result ADD COLUMN IF NOT EXISTS connect_us INTEGER;
+ALTER TABLE integration_health_check.h_check_result ADD COLUMN IF NOT EXISTS ttfb_us INTEGER;
+ALTER TABLE integration_health_check.h_check_result ADD COLUMN IF NOT EXISTS body_us INTEGER;
+ALTER TABLE integration_health_check.h_check_result ADD COLUMN IF NOT EXISTS total_us INTEGER;
+
+COMMENT ON COLUMN integration_health_check.h_check_result.dns_us IS 'Разрешение имени хоста, мкс';
+COMMENT ON COLUMN integration_health_check.h_check_result.connect_us IS 'Установка TCP-соединения (TCP-проверки), мкс';
+COMMENT ON COLUMN integration_health_check.h_check_result.ttfb_us IS 'От отправки запроса до получения заголовков ответа (time to first byte), мкс';
+COMMENT ON COLUMN integration_health_check.h_check_result.body_us IS 'Чтение тела ответа, мкс';
+COMMENT ON COLUMN integration_health_check.h_check_result.total_us IS 'Полное время сетевого обмена, мкс';
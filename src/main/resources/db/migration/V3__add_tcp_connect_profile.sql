@@ -0,0 +1,23 @@
+-- ======================================================================
+-- V3__add_tcp_connect_profile.sql
+-- Профиль проверки установки TCP-соединения (CheckType.TCP_CONNECT).
+-- Политика удаления: как у h_check_rest_api — каскадно вместе с базовым профилем.
+-- ======================================================================
+
+CREATE TABLE IF NOT EXISTS integration_health_check.h_check_tcp_connect
+(
+    id                 BIGINT       NOT NULL,
+    host               VARCHAR(255) NOT NULL,
+    port               INTEGER      NOT NULL,
+    connect_timeout_ms INTEGER      NOT NULL DEFAULT 3000,
+
+    CONSTRAINT pk_h_check_tcp_connect PRIMARY KEY (id),
+    CONSTRAINT fk_h_check_tcp_connect__profile FOREIGN KEY (id) REFERENCES integration_health_check.h_check_profile (id) ON DELETE CASCADE,
+    CONSTRAINT ck_h_check_tcp_connect__port_range CHECK (port BETWEEN 1 AND 65535),
+    CONSTRAINT ck_h_check_tcp_connect__timeout_range CHECK (connect_timeout_ms BETWEEN 1 AND 60000)
+);
+COMMENT ON TABLE integration_health_check.h_check_tcp_connect IS 'Профиль проверки TCP-соединения (подтип профиля проверки)';
+COMMENT ON COLUMN integration_health_check.h_check_tcp_connect.id IS 'PK=FK на h_check_profile.id';
+COMMENT ON COLUMN integration_health_check.h_check_tcp_connect.host IS 'Имя хоста или IP-адрес';
+COMMENT ON COLUMN integration_health_check.h_check_tcp_connect.port IS 'TCP-порт (1–65535)';
+COMMENT ON COLUMN integration_health_check.h_check_tcp_connect.connect_timeout_ms IS 'Тайм-аут установки соединения, мс (1–60000)';
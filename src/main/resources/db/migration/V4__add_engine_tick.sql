@@ -0,0 +1,28 @@
+-- ======================================================================
+-- V4__add_engine_tick.sql
+-- Сводка тиков прямого движка исполнения (ExecutionEngineProps.Type.DIRECT).
+-- Одна строка на окно планировщика; уникальность window_start заменяет
+-- идентифицирующий параметр windowStart job'а Spring Batch.
+-- ======================================================================
+
+CREATE TABLE IF NOT EXISTS integration_health_check.h_engine_tick
+(
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    window_start TIMESTAMP   NOT NULL,
+    started_at   TIMESTAMP   NOT NULL DEFAULT now(),
+    finished_at  TIMESTAMP,
+    status       VARCHAR(30) NOT NULL,
+    due_count    INTEGER     NOT NULL DEFAULT 0,
+    error_count  INTEGER     NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_h_engine_tick PRIMARY KEY (id),
+    CONSTRAINT uq_h_engine_tick__window_start UNIQUE (window_start)
+);
+COMMENT ON TABLE integration_health_check.h_engine_tick IS 'Сводка тиков прямого движка исполнения проверок';
+COMMENT ON COLUMN integration_health_check.h_engine_tick.id IS 'Идентификатор тика (PK)';
+COMMENT ON COLUMN integration_health_check.h_engine_tick.window_start IS 'Начало окна планировщика (UTC); уникально — защита от повторного запуска окна';
+COMMENT ON COLUMN integration_health_check.h_engine_tick.started_at IS 'Время начала тика';
+COMMENT ON COLUMN integration_health_check.h_engine_tick.finished_at IS 'Время завершения тика';
+COMMENT ON COLUMN integration_health_check.h_engine_tick.status IS 'Код статуса тика (см. enum CheckRunStatus)';
+COMMENT ON COLUMN integration_health_check.h_engine_tick.due_count IS 'Число должных проверок, переданных на исполнение';
+COMMENT ON COLUMN integration_health_check.h_engine_tick.error_count IS 'Число пачек, завершившихся необработанной ошибкой';
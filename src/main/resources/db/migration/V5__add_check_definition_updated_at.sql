@@ -0,0 +1,24 @@
+-- ======================================================================
+-- V5__add_check_definition_updated_at.sql
+-- Время последнего изменения определения проверки и её профиля.
+-- По нему кэш определений (CheckDefinitionCache) дочитывает только изменившиеся
+-- проверки. Перенос next_run_at изменением определения не считается и колонку не трогает.
+-- Внешние изменения определений SQL-ом должны обновлять updated_at.
+-- ======================================================================
+
+ALTER TABLE integration_health_check.h_check
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP NOT NULL DEFAULT now();
+ALTER TABLE integration_health_check.h_check_profile
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP NOT NULL DEFAULT now();
+
+COMMENT ON COLUMN integration_health_check.h_check.updated_at IS 'Время последнего изменения определения проверки (кроме next_run_at)';
+COMMENT ON COLUMN integration_health_check.h_check_profile.updated_at IS 'Время последнего изменения профиля проверки, включая поля подтипа';
+
+-- Дельта-запрос кэша определений: "что изменилось с момента X"
+CREATE INDEX IF NOT EXISTS ix_h_check__updated_at
+    ON integration_health_check.h_check (updated_at);
+COMMENT ON INDEX integration_health_check.ix_h_check__updated_at IS 'Выборка проверок, изменившихся после заданного момента';
+
+CREATE INDEX IF NOT EXISTS ix_h_check_profile__updated_at
+    ON integration_health_check.h_check_profile (updated_at);
+COMMENT ON INDEX integration_health_check.ix_h_check_profile__updated_at IS 'Выборка профилей, изменившихся после заданного момента';
@@ -0,0 +1,195 @@
+-- ======================================================================
+-- V7__add_check_rollups.sql
+-- Агрегаты результатов проверок по минутам, часам и суткам (CheckResultRollup).
+-- Минутные строки дописываются частичными агрегатами при каждом сбросе
+-- накопителя (без upsert: строк на одну минуту может быть несколько).
+-- Часовые и суточные строки пересобираются компактизацией (CheckRollupCompaction)
+-- из более мелких до отметки h_check_rollup_watermark.
+-- Внешнего ключа на h_check нет: агрегаты — история, как и h_check_result.
+-- ======================================================================
+
+CREATE TABLE IF NOT EXISTS integration_health_check.h_check_rollup_minute
+(
+    id                         BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    check_id                   BIGINT    NOT NULL,
+    bucket_start               TIMESTAMP NOT NULL,
+    total_count                BIGINT    NOT NULL DEFAULT 0,
+    succeeded_count            BIGINT    NOT NULL DEFAULT 0,
+    failed_count               BIGINT    NOT NULL DEFAULT 0,
+    timeout_count              BIGINT    NOT NULL DEFAULT 0,
+    error_count                BIGINT    NOT NULL DEFAULT 0,
+    http_status_mismatch_count BIGINT    NOT NULL DEFAULT 0,
+    latency_count              BIGINT    NOT NULL DEFAULT 0,
+    latency_sum_us             BIGINT    NOT NULL DEFAULT 0,
+    latency_min_us             INTEGER,
+    latency_max_us             INTEGER,
+    latency_le_10ms            BIGINT    NOT NULL DEFAULT 0,
+    latency_le_50ms            BIGINT    NOT NULL DEFAULT 0,
+    latency_le_100ms           BIGINT    NOT NULL DEFAULT 0,
+    latency_le_250ms           BIGINT    NOT NULL DEFAULT 0,
+    latency_le_500ms           BIGINT    NOT NULL DEFAULT 0,
+    latency_le_1s              BIGINT    NOT NULL DEFAULT 0,
+    latency_le_2500ms          BIGINT    NOT NULL DEFAULT 0,
+    latency_le_5s              BIGINT    NOT NULL DEFAULT 0,
+    latency_le_10s             BIGINT    NOT NULL DEFAULT 0,
+    latency_gt_10s             BIGINT    NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_h_check_rollup_minute PRIMARY KEY (id)
+);
+COMMENT ON TABLE integration_health_check.h_check_rollup_minute IS 'Частичные минутные агрегаты результатов проверок';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.id IS 'Идентификатор частичного агрегата (PK)';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.check_id IS 'Идентификатор проверки';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.bucket_start IS 'Начало минуты (по started_at запуска)';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.total_count IS 'Число завершённых запусков';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.succeeded_count IS 'Запуски со статусом SUCCEEDED';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.failed_count IS 'Запуски со статусом FAILED';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.timeout_count IS 'Неуспехи с причиной TIMEOUT';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.error_count IS 'Неуспехи с причиной ERROR';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.http_status_mismatch_count IS 'Неуспехи с причиной HTTP_STATUS_MISMATCH';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_count IS 'Запуски с замеренным total_us';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_sum_us IS 'Сумма total_us, мкс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_min_us IS 'Минимальное total_us, мкс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_max_us IS 'Максимальное total_us, мкс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_le_10ms IS 'Гистограмма total_us: запуски ≤ 10 мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_le_50ms IS 'Гистограмма total_us: запуски (10; 50] мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_le_100ms IS 'Гистограмма total_us: запуски (50; 100] мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_le_250ms IS 'Гистограмма total_us: запуски (100; 250] мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_le_500ms IS 'Гистограмма total_us: запуски (250; 500] мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_le_1s IS 'Гистограмма total_us: запуски (500 мс; 1 с]';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_le_2500ms IS 'Гистограмма total_us: запуски (1; 2,5] с';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_le_5s IS 'Гистограмма total_us: запуски (2,5; 5] с';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_le_10s IS 'Гистограмма total_us: запуски (5; 10] с';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_minute.latency_gt_10s IS 'Гистограмма total_us: запуски > 10 с';
+
+CREATE INDEX IF NOT EXISTS ix_h_check_rollup_minute__check_id_bucket_start
+    ON integration_health_check.h_check_rollup_minute (check_id, bucket_start);
+COMMENT ON INDEX integration_health_check.ix_h_check_rollup_minute__check_id_bucket_start IS 'Агрегаты проверки за интервал';
+
+CREATE INDEX IF NOT EXISTS ix_h_check_rollup_minute__bucket_start
+    ON integration_health_check.h_check_rollup_minute (bucket_start);
+COMMENT ON INDEX integration_health_check.ix_h_check_rollup_minute__bucket_start IS 'Компактизация и удаление по сроку хранения';
+
+CREATE TABLE IF NOT EXISTS integration_health_check.h_check_rollup_hour
+(
+    check_id                   BIGINT    NOT NULL,
+    bucket_start               TIMESTAMP NOT NULL,
+    total_count                BIGINT    NOT NULL DEFAULT 0,
+    succeeded_count            BIGINT    NOT NULL DEFAULT 0,
+    failed_count               BIGINT    NOT NULL DEFAULT 0,
+    timeout_count              BIGINT    NOT NULL DEFAULT 0,
+    error_count                BIGINT    NOT NULL DEFAULT 0,
+    http_status_mismatch_count BIGINT    NOT NULL DEFAULT 0,
+    latency_count              BIGINT    NOT NULL DEFAULT 0,
+    latency_sum_us             BIGINT    NOT NULL DEFAULT 0,
+    latency_min_us             INTEGER,
+    latency_max_us             INTEGER,
+    latency_le_10ms            BIGINT    NOT NULL DEFAULT 0,
+    latency_le_50ms            BIGINT    NOT NULL DEFAULT 0,
+    latency_le_100ms           BIGINT    NOT NULL DEFAULT 0,
+    latency_le_250ms           BIGINT    NOT NULL DEFAULT 0,
+    latency_le_500ms           BIGINT    NOT NULL DEFAULT 0,
+    latency_le_1s              BIGINT    NOT NULL DEFAULT 0,
+    latency_le_2500ms          BIGINT    NOT NULL DEFAULT 0,
+    latency_le_5s              BIGINT    NOT NULL DEFAULT 0,
+    latency_le_10s             BIGINT    NOT NULL DEFAULT 0,
+    latency_gt_10s             BIGINT    NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_h_check_rollup_hour PRIMARY KEY (check_id, bucket_start)
+);
+COMMENT ON TABLE integration_health_check.h_check_rollup_hour IS 'Компактизированные часовые агрегаты результатов проверок';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.check_id IS 'Идентификатор проверки';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.bucket_start IS 'Начало часа';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.total_count IS 'Число завершённых запусков';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.succeeded_count IS 'Запуски со статусом SUCCEEDED';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.failed_count IS 'Запуски со статусом FAILED';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.timeout_count IS 'Неуспехи с причиной TIMEOUT';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.error_count IS 'Неуспехи с причиной ERROR';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.http_status_mismatch_count IS 'Неуспехи с причиной HTTP_STATUS_MISMATCH';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_count IS 'Запуски с замеренным total_us';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_sum_us IS 'Сумма total_us, мкс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_min_us IS 'Минимальное total_us, мкс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_max_us IS 'Максимальное total_us, мкс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_le_10ms IS 'Гистограмма total_us: запуски ≤ 10 мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_le_50ms IS 'Гистограмма total_us: запуски (10; 50] мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_le_100ms IS 'Гистограмма total_us: запуски (50; 100] мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_le_250ms IS 'Гистограмма total_us: запуски (100; 250] мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_le_500ms IS 'Гистограмма total_us: запуски (250; 500] мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_le_1s IS 'Гистограмма total_us: запуски (500 мс; 1 с]';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_le_2500ms IS 'Гистограмма total_us: запуски (1; 2,5] с';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_le_5s IS 'Гистограмма total_us: запуски (2,5; 5] с';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_le_10s IS 'Гистограмма total_us: запуски (5; 10] с';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_hour.latency_gt_10s IS 'Гистограмма total_us: запуски > 10 с';
+
+CREATE INDEX IF NOT EXISTS ix_h_check_rollup_hour__bucket_start
+    ON integration_health_check.h_check_rollup_hour (bucket_start);
+COMMENT ON INDEX integration_health_check.ix_h_check_rollup_hour__bucket_start IS 'Компактизация и удаление по сроку хранения';
+
+CREATE TABLE IF NOT EXISTS integration_health_check.h_check_rollup_day
+(
+    check_id                   BIGINT    NOT NULL,
+    bucket_start               TIMESTAMP NOT NULL,
+    total_count                BIGINT    NOT NULL DEFAULT 0,
+    succeeded_count            BIGINT    NOT NULL DEFAULT 0,
+    failed_count               BIGINT    NOT NULL DEFAULT 0,
+    timeout_count              BIGINT    NOT NULL DEFAULT 0,
+    error_count                BIGINT    NOT NULL DEFAULT 0,
+    http_status_mismatch_count BIGINT    NOT NULL DEFAULT 0,
+    latency_count              BIGINT    NOT NULL DEFAULT 0,
+    latency_sum_us             BIGINT    NOT NULL DEFAULT 0,
+    latency_min_us             INTEGER,
+    latency_max_us             INTEGER,
+    latency_le_10ms            BIGINT    NOT NULL DEFAULT 0,
+    latency_le_50ms            BIGINT    NOT NULL DEFAULT 0,
+    latency_le_100ms           BIGINT    NOT NULL DEFAULT 0,
+    latency_le_250ms           BIGINT    NOT NULL DEFAULT 0,
+    latency_le_500ms           BIGINT    NOT NULL DEFAULT 0,
+    latency_le_1s              BIGINT    NOT NULL DEFAULT 0,
+    latency_le_2500ms          BIGINT    NOT NULL DEFAULT 0,
+    latency_le_5s              BIGINT    NOT NULL DEFAULT 0,
+    latency_le_10s             BIGINT    NOT NULL DEFAULT 0,
+    latency_gt_10s             BIGINT    NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_h_check_rollup_day PRIMARY KEY (check_id, bucket_start)
+);
+COMMENT ON TABLE integration_health_check.h_check_rollup_day IS 'Компактизированные суточные агрегаты результатов проверок';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.check_id IS 'Идентификатор проверки';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.bucket_start IS 'Начало суток';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.total_count IS 'Число завершённых запусков';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.succeeded_count IS 'Запуски со статусом SUCCEEDED';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.failed_count IS 'Запуски со статусом FAILED';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.timeout_count IS 'Неуспехи с причиной TIMEOUT';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.error_count IS 'Неуспехи с причиной ERROR';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.http_status_mismatch_count IS 'Неуспехи с причиной HTTP_STATUS_MISMATCH';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_count IS 'Запуски с замеренным total_us';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_sum_us IS 'Сумма total_us, мкс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_min_us IS 'Минимальное total_us, мкс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_max_us IS 'Максимальное total_us, мкс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_le_10ms IS 'Гистограмма total_us: запуски ≤ 10 мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_le_50ms IS 'Гистограмма total_us: запуски (10; 50] мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_le_100ms IS 'Гистограмма total_us: запуски (50; 100] мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_le_250ms IS 'Гистограмма total_us: запуски (100; 250] мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_le_500ms IS 'Гистограмма total_us: запуски (250; 500] мс';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_le_1s IS 'Гистограмма total_us: запуски (500 мс; 1 с]';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_le_2500ms IS 'Гистограмма total_us: запуски (1; 2,5] с';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_le_5s IS 'Гистограмма total_us: запуски (2,5; 5] с';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_le_10s IS 'Гистограмма total_us: запуски (5; 10] с';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_day.latency_gt_10s IS 'Гистограмма total_us: запуски > 10 с';
+
+CREATE INDEX IF NOT EXISTS ix_h_check_rollup_day__bucket_start
+    ON integration_health_check.h_check_rollup_day (bucket_start);
+COMMENT ON INDEX integration_health_check.ix_h_check_rollup_day__bucket_start IS 'Компактизация и удаление по сроку хранения';
+
+CREATE TABLE IF NOT EXISTS integration_health_check.h_check_rollup_watermark
+(
+    granularity     VARCHAR(10) NOT NULL,
+    compacted_until TIMESTAMP   NOT NULL,
+
+    CONSTRAINT pk_h_check_rollup_watermark PRIMARY KEY (granularity)
+);
+COMMENT ON TABLE integration_health_check.h_check_rollup_watermark IS 'Граница компактизации агрегатов по гранулярности';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_watermark.granularity IS 'Гранулярность (см. enum RollupGranularity): HOUR|DAY';
+COMMENT ON COLUMN integration_health_check.h_check_rollup_watermark.compacted_until IS 'Строки гранулярности до этого момента (исключительно) собраны полностью';
+
+INSERT INTO integration_health_check.h_check_rollup_watermark (granularity, compacted_until)
+VALUES ('HOUR', TIMESTAMP '1970-01-01 00:00:00'),
+       ('DAY', TIMESTAMP '1970-01-01 00:00:00');
@@ -0,0 +1,36 @@
+-- ======================================================================
+-- V9__add_check_result_payload.sql
+-- Детали результатов (тела ответов и тексты ошибок) хранятся один раз
+-- на уникальное содержимое: h_check_result ссылается на них по SHA-256.
+-- Содержимое сжимается DEFLATE (codec = 'DEFLATE') или хранится как есть
+-- (codec = 'NONE'), если оно короткое или не сжимается.
+-- Внешнего ключа нет: h_check_result секционирована и чистится по сроку
+-- хранения, детали — по last_seen_at (CheckResultPayloadStore.purge).
+-- Строки, записанные до этой миграции, сохраняют текст в details.
+-- ======================================================================
+
+CREATE TABLE IF NOT EXISTS integration_health_check.h_check_result_payload
+(
+    hash         BYTEA       NOT NULL,
+    codec        VARCHAR(16) NOT NULL,
+    size_bytes   INTEGER     NOT NULL,
+    content      BYTEA       NOT NULL,
+    created_at   TIMESTAMP   NOT NULL,
+    last_seen_at TIMESTAMP   NOT NULL,
+
+    CONSTRAINT pk_h_check_result_payload PRIMARY KEY (hash)
+);
+COMMENT ON TABLE integration_health_check.h_check_result_payload IS 'Уникальные детали результатов проверок';
+COMMENT ON COLUMN integration_health_check.h_check_result_payload.hash IS 'SHA-256 деталей в UTF-8 (PK)';
+COMMENT ON COLUMN integration_health_check.h_check_result_payload.codec IS 'Кодек содержимого: DEFLATE или NONE';
+COMMENT ON COLUMN integration_health_check.h_check_result_payload.size_bytes IS 'Размер деталей в UTF-8 до сжатия, байт';
+COMMENT ON COLUMN integration_health_check.h_check_result_payload.content IS 'Содержимое в кодеке codec';
+COMMENT ON COLUMN integration_health_check.h_check_result_payload.created_at IS 'Первое появление деталей';
+COMMENT ON COLUMN integration_health_check.h_check_result_payload.last_seen_at IS 'Последнее использование (с точностью до touch-interval)';
+
+CREATE INDEX IF NOT EXISTS ix_h_check_result_payload__last_seen_at
+    ON integration_health_check.h_check_result_payload (last_seen_at);
+COMMENT ON INDEX integration_health_check.ix_h_check_result_payload__last_seen_at IS 'Удаление неиспользуемых деталей';
+
+ALTER TABLE integration_health_check.h_check_result ADD COLUMN IF NOT EXISTS details_hash BYTEA;
+COMMENT ON COLUMN integration_health_check.h_check_result.details_hash IS 'SHA-256 деталей в h_check_result_payload; NULL — деталей нет или они в details';
@@ -1,17 +1,29 @@
 package io.github.rxtcp.integrationcheck.configuration;
 
+import io.github.rxtcp.integrationcheck.configuration.properties.IntegrationHealthCheckJobProps.WorkerStepProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.IntegrationHealthCheckJobProps.WorkerStepProps.PartitionMode;
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
+import io.github.rxtcp.integrationcheck.service.DueCheckHandoff;
 import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.batch.core.partition.support.Partitioner;
 import org.springframework.batch.item.ExecutionContext;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -21,57 +33,155 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 /**
- * Тесты для {@link IntegrationHealthCheckJobConfig#checkIdPartitioner(CheckReader)}.
+ * Тесты для {@link IntegrationHealthCheckJobConfig#checkIdPartitioner(CheckReader, DueCheckHandoff, WorkerStepProps)}.
  * <p>
- * Идея: для каждого ID из источника должен создаваться отдельный partition с ключом "check-{id}"
- * и значением ExecutionContext, содержащим "checkId" с тем же значением.
+ * Идея:
+ * - в режиме PER_CHECK для каждого ID создаётся отдельный partition с ключом "check-{id}"
+ *   и значением ExecutionContext, содержащим "checkId" с тем же значением;
+ * - в режиме GROUPED упорядоченные ID делятся на не более чем gridSize непрерывных срезов
+ *   "checks-{first}-{last}" с параметром "checkIds";
+ * - прочитанные DTO передаются worker'ам через {@link DueCheckHandoff}, а не через контекст партиции.
  */
 @DisplayName("IntegrationHealthCheckJobConfig.checkIdPartitioner(...)")
 @DisplayNameGeneration(ReplaceUnderscores.class)
 class IntegrationHealthCheckJobConfigPartitionerTest {
 
-    @ParameterizedTest(name = "[{index}] gridSize={0}")
-    @ValueSource(ints = {1, 3, 10})
-    void should_build_one_partition_per_id_regardless_of_grid_size(int gridSize) {
-        // given
-        final var checkReader = mock(CheckReader.class);
-        when(checkReader.findDueIds()).thenReturn(List.of(1L, 2L, 5L));
+    private static WorkerStepProps props(PartitionMode mode) {
+        return new WorkerStepProps(4, "w-", true, mode, 4);
+    }
 
-        final var cfg = new IntegrationHealthCheckJobConfig();
-        final Partitioner partitioner = cfg.checkIdPartitioner(checkReader);
+    private final DueCheckHandoff handoff = new DueCheckHandoff();
 
-        // when
-        final Map<String, ExecutionContext> partitions = partitioner.partition(gridSize);
+    private Partitioner partitioner(CheckReader checkReader, PartitionMode mode) {
+        return new IntegrationHealthCheckJobConfig().checkIdPartitioner(checkReader, handoff, props(mode));
+    }
 
-        // then
-        assertThat(partitions)
-                .as("ожидаем по одному partition на каждый ID")
-                .hasSize(3)
-                .containsKeys("check-1", "check-2", "check-5");
+    private static List<CheckDto> dueChecks(Long... ids) {
+        return dueChecks(Arrays.stream(ids).mapToLong(Long::longValue));
+    }
 
-        assertThat(partitions.get("check-1").getLong("checkId")).isEqualTo(1L);
-        assertThat(partitions.get("check-2").getLong("checkId")).isEqualTo(2L);
-        assertThat(partitions.get("check-5").getLong("checkId")).isEqualTo(5L);
+    private static List<CheckDto> dueChecks(LongStream ids) {
+        return ids.mapToObj(id -> new CheckDto(id, "check-" + id, null, true, 1, LocalDateTime.now(), CheckType.TCP_CONNECT,
+                new TcpConnectProfileDto(id, id, "localhost", 80, 1000),
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0)).toList();
+    }
 
-        verify(checkReader, times(1)).findDueIds();
-        verifyNoMoreInteractions(checkReader);
+    private static List<Long> idsOf(ExecutionContext ctx) {
+        return Arrays.stream(ctx.getString("checkIds").split(",")).map(Long::valueOf).toList();
     }
 
-    @Test
-    void should_return_empty_partitions_when_reader_returns_no_ids() {
+    @Nested
+    @DisplayName("PER_CHECK")
+    class PerCheck {
+
+        @ParameterizedTest(name = "[{index}] gridSize={0}")
+        @ValueSource(ints = {1, 3, 10})
+        void should_build_one_partition_per_id_regardless_of_grid_size(int gridSize) {
+            // given
+            final var checkReader = mock(CheckReader.class);
+            when(checkReader.findDueChecks()).thenReturn(dueChecks(1L, 2L, 5L));
+
+            // when
+            final Map<String, ExecutionContext> partitions = partitioner(checkReader, PartitionMode.PER_CHECK)
+                    .partition(gridSize);
+
+            // then
+            assertThat(partitions)
+                    .as("ожидаем по одному partition на каждый ID")
+                    .hasSize(3)
+                    .containsKeys("check-1", "check-2", "check-5");
+
+            assertThat(partitions.get("check-1").getLong("checkId")).isEqualTo(1L);
+            assertThat(partitions.get("check-2").getLong("checkId")).isEqualTo(2L);
+            assertThat(partitions.get("check-5").getLong("checkId")).isEqualTo(5L);
+
+            verify(checkReader, times(1)).findDueChecks();
+            verifyNoMoreInteractions(checkReader);
+        }
+
+        @Test
+        void should_hand_read_dtos_over_to_workers() {
+            // given
+            final var checkReader = mock(CheckReader.class);
+            final List<CheckDto> dueChecks = dueChecks(1L, 2L);
+            when(checkReader.findDueChecks()).thenReturn(dueChecks);
+
+            // when
+            partitioner(checkReader, PartitionMode.PER_CHECK).partition(4);
+
+            // then
+            final var taken = handoff.take(List.of(1L, 2L, 3L));
+            assertThat(taken.found()).containsExactlyElementsOf(dueChecks);
+            assertThat(taken.missing()).containsExactly(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("GROUPED")
+    class Grouped {
+
+        @Test
+        void should_split_sorted_ids_into_grid_size_contiguous_balanced_slices() {
+            // given
+            final var checkReader = mock(CheckReader.class);
+            when(checkReader.findDueChecks()).thenReturn(dueChecks(10L, 3L, 7L, 1L, 2L, 8L, 9L));
+
+            // when
+            final Map<String, ExecutionContext> partitions = partitioner(checkReader, PartitionMode.GROUPED)
+                    .partition(3);
+
+            // then
+            assertThat(partitions).containsOnlyKeys("checks-1-3", "checks-7-8", "checks-9-10");
+            assertThat(idsOf(partitions.get("checks-1-3"))).containsExactly(1L, 2L, 3L);
+            assertThat(idsOf(partitions.get("checks-7-8"))).containsExactly(7L, 8L);
+            assertThat(idsOf(partitions.get("checks-9-10"))).containsExactly(9L, 10L);
+            assertThat(partitions.values()).noneMatch(ctx -> ctx.containsKey("checkId"));
+        }
+
+        @Test
+        void should_build_at_most_one_partition_per_id_when_grid_size_exceeds_ids() {
+            // given
+            final var checkReader = mock(CheckReader.class);
+            when(checkReader.findDueChecks()).thenReturn(dueChecks(1L, 2L));
+
+            // when
+            final Map<String, ExecutionContext> partitions = partitioner(checkReader, PartitionMode.GROUPED)
+                    .partition(16);
+
+            // then
+            assertThat(partitions).containsOnlyKeys("checks-1-1", "checks-2-2");
+        }
+
+        @Test
+        void should_scale_partitions_with_grid_size_not_with_number_of_checks() {
+            // given
+            final var checkReader = mock(CheckReader.class);
+            when(checkReader.findDueChecks()).thenReturn(dueChecks(LongStream.rangeClosed(1, 10_000)));
+
+            // when
+            final Map<String, ExecutionContext> partitions = partitioner(checkReader, PartitionMode.GROUPED)
+                    .partition(20);
+
+            // then
+            assertThat(partitions).hasSize(20);
+            assertThat(partitions.values().stream().mapToInt(ctx -> idsOf(ctx).size()).sum()).isEqualTo(10_000);
+            assertThat(partitions.values()).allSatisfy(ctx -> assertThat(idsOf(ctx)).hasSize(500));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(PartitionMode.class)
+    void should_return_empty_partitions_when_reader_returns_no_ids(PartitionMode mode) {
         // given
         final var checkReader = mock(CheckReader.class);
-        when(checkReader.findDueIds()).thenReturn(List.of());
-
-        final var cfg = new IntegrationHealthCheckJobConfig();
-        final Partitioner partitioner = cfg.checkIdPartitioner(checkReader);
+        when(checkReader.findDueChecks()).thenReturn(dueChecks());
 
         // when
-        final Map<String, ExecutionContext> partitions = partitioner.partition(8);
+        final Map<String, ExecutionContext> partitions = partitioner(checkReader, mode).partition(8);
 
         // then
         assertThat(partitions).isEmpty();
-        verify(checkReader, times(1)).findDueIds();
+        verify(checkReader, times(1)).findDueChecks();
         verifyNoMoreInteractions(checkReader);
     }
-}
\ No newline at end of file
+}
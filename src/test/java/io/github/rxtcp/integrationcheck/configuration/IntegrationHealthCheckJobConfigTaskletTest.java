@@ -1,6 +1,11 @@
 package io.github.rxtcp.integrationcheck.configuration;
 
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
 import io.github.rxtcp.integrationcheck.service.CheckExecution;
+import io.github.rxtcp.integrationcheck.service.DueCheckHandoff;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
@@ -15,6 +20,9 @@ import org.springframework.batch.core.scope.context.ChunkContext;
 import org.springframework.batch.core.step.tasklet.Tasklet;
 import org.springframework.batch.repeat.RepeatStatus;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.doThrow;
@@ -23,11 +31,13 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
- * Тесты для {@link IntegrationHealthCheckJobConfig#checkTasklet(Long, CheckExecution)}.
+ * Тесты для {@link IntegrationHealthCheckJobConfig#checkTasklet(Long, String, CheckExecution, DueCheckHandoff)}.
  * <p>
  * Идея набора:
  * 1) Tasklet должен вызывать доменный сервис с переданным идентификатором и завершаться статусом FINISHED.
- * 2) В случае исключения сервиса — пробрасывать его наверх (Batch сам зафейлит шаг).
+ * 2) Для среза (GROUPED) — передавать все идентификаторы среза в пакетное исполнение.
+ * 3) DTO, переданные партиционером, исполнять без чтения; недостающие — по идентификаторам.
+ * 4) В случае исключения сервиса — пробрасывать его наверх (Batch сам зафейлит шаг).
  */
 @DisplayName("IntegrationHealthCheckJobConfig.checkTasklet(...)")
 @DisplayNameGeneration(ReplaceUnderscores.class)
@@ -37,12 +47,22 @@ class IntegrationHealthCheckJobConfigTaskletTest {
     @Mock
     private CheckExecution exec;
 
+    private final DueCheckHandoff handoff = new DueCheckHandoff();
+
+    private static final LocalDateTime NEXT_RUN_AT = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+    private static CheckDto dueCheck(long id) {
+        return new CheckDto(id, "check-" + id, null, true, 1, NEXT_RUN_AT, CheckType.TCP_CONNECT,
+                new TcpConnectProfileDto(id, id, "localhost", 80, 1000),
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0);
+    }
+
     @ParameterizedTest(name = "[{index}] checkId={0}")
     @ValueSource(longs = {1L, 99L, 100_500L})
     void should_invoke_domain_service_and_finish(long checkId) throws Exception {
         // given
         final var cfg = new IntegrationHealthCheckJobConfig();
-        final Tasklet tasklet = cfg.checkTasklet(checkId, exec);
+        final Tasklet tasklet = cfg.checkTasklet(checkId, null, exec, handoff);
 
         // when
         final RepeatStatus status = tasklet.execute(
@@ -57,6 +77,59 @@ class IntegrationHealthCheckJobConfigTaskletTest {
         assertThat(status).isEqualTo(RepeatStatus.FINISHED); // tasklet завершает шаг
     }
 
+    @Test
+    void should_execute_slice_as_batch_when_check_ids_are_present() throws Exception {
+        // given
+        final var cfg = new IntegrationHealthCheckJobConfig();
+        final Tasklet tasklet = cfg.checkTasklet(null, "3,5,8", exec, handoff);
+
+        // when
+        final RepeatStatus status = tasklet.execute(
+                mock(StepContribution.class),
+                mock(ChunkContext.class)
+        );
+
+        // then
+        verify(exec).executeBatch(List.of(3L, 5L, 8L));
+        verifyNoMoreInteractions(exec);
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+    }
+
+    @Test
+    void should_execute_handed_over_dtos_and_read_only_missing_ids() throws Exception {
+        // given
+        handoff.offer(List.of(dueCheck(3L), dueCheck(8L)));
+        final var cfg = new IntegrationHealthCheckJobConfig();
+        final Tasklet tasklet = cfg.checkTasklet(null, "3,5,8", exec, handoff);
+
+        // when
+        final RepeatStatus status = tasklet.execute(
+                mock(StepContribution.class),
+                mock(ChunkContext.class)
+        );
+
+        // then
+        verify(exec).executeChecks(List.of(dueCheck(3L), dueCheck(8L)));
+        verify(exec).executeBatch(List.of(5L));
+        verifyNoMoreInteractions(exec);
+        assertThat(status).isEqualTo(RepeatStatus.FINISHED);
+    }
+
+    @Test
+    void should_execute_handed_over_dto_of_single_check_without_reading() throws Exception {
+        // given
+        handoff.offer(List.of(dueCheck(7L)));
+        final var cfg = new IntegrationHealthCheckJobConfig();
+        final Tasklet tasklet = cfg.checkTasklet(7L, null, exec, handoff);
+
+        // when
+        tasklet.execute(mock(StepContribution.class), mock(ChunkContext.class));
+
+        // then
+        verify(exec).executeChecks(List.of(dueCheck(7L)));
+        verifyNoMoreInteractions(exec);
+    }
+
     @Test
     void should_propagate_exception_from_domain_service() throws Exception {
         // given
@@ -64,7 +137,7 @@ class IntegrationHealthCheckJobConfigTaskletTest {
         doThrow(new IllegalStateException("boom")).when(exec).execute(checkId);
 
         final var cfg = new IntegrationHealthCheckJobConfig();
-        final Tasklet tasklet = cfg.checkTasklet(checkId, exec);
+        final Tasklet tasklet = cfg.checkTasklet(checkId, null, exec, handoff);
 
         // when / then
         assertThatThrownBy(() -> tasklet.execute(
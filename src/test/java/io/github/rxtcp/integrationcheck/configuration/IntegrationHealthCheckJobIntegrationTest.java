@@ -1,13 +1,20 @@
 package io.github.rxtcp.integrationcheck.configuration;
 
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
 import io.github.rxtcp.integrationcheck.service.CheckExecution;
+import io.github.rxtcp.integrationcheck.service.DueCheckHandoff;
 import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.batch.core.BatchStatus;
 import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.explore.JobExplorer;
 import org.springframework.batch.test.JobLauncherTestUtils;
 import org.springframework.batch.test.context.SpringBatchTest;
@@ -19,12 +26,15 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
@@ -36,7 +46,8 @@ import static org.mockito.Mockito.when;
  * <p>
  * Цели:
  * 1) Джоб успешно завершается со статусом COMPLETED.
- * 2) В каждую worker-партицию пробрасывается корректный {@code checkId}.
+ * 2) В каждую worker-партицию пробрасывается корректный {@code checkId} (PER_CHECK)
+ *    или срез {@code checkIds}, а число партиций ограничено {@code gridSize} (GROUPED).
  * 3) Доменный сервис {@link CheckExecution} вызывается для каждого ID из {@link CheckReader}.
  * <p>
  * Примечание: используем @SpringBatchTest + JobLauncherTestUtils для запуска job в тестовом контексте.
@@ -50,16 +61,15 @@ import static org.mockito.Mockito.when;
 @DisplayNameGeneration(ReplaceUnderscores.class)
 class IntegrationHealthCheckJobIntegrationTest {
 
-    // === Инжекция тестовых утилит и вспомогательных бинов ===
-    @Autowired
-    private JobLauncherTestUtils jobLauncherTestUtils;
-    @Autowired
-    private JobExplorer jobExplorer;
-    @Autowired
-    private ExecutedIdsCollector executedIdsCollector;
+    private static final String WORKER_STEP_PREFIX = "application.spring-batch.jobs.integration-health-check-job.worker-step";
 
-    @Test
-    void should_run_all_partitions_and_pass_checkId() throws Exception {
+    /**
+     * Запускает job, дожидается его завершения и возвращает исполнения worker-шагов.
+     * <p>
+     * Метод намеренно не возвращает {@link JobExecution}: такие методы тестового класса
+     * {@code @SpringBatchTest} принимает за фабрику контекста job-scope.
+     */
+    private static List<StepExecution> launchAndAwaitWorkerSteps(JobLauncherTestUtils jobLauncherTestUtils, JobExplorer jobExplorer) throws Exception {
         // when: запускаем job
         final JobExecution execution = jobLauncherTestUtils.launchJob();
 
@@ -75,26 +85,78 @@ class IntegrationHealthCheckJobIntegrationTest {
         final JobExecution finished = jobExplorer.getJobExecution(execution.getId());
         assertThat(finished).isNotNull();
         assertThat(finished.getStatus()).isEqualTo(BatchStatus.COMPLETED);
-
-        // доменный сервис вызван для всех ID
-        assertThat(executedIdsCollector.get())
-                .as("должны быть выполнены все ID из CheckReader")
-                .containsExactlyInAnyOrder(1L, 2L, 5L);
-
-        // в worker-партициях корректно проброшен checkId
-        final var workerStepIds = finished.getStepExecutions().stream()
+        return finished.getStepExecutions().stream()
                 .filter(se -> se.getStepName().startsWith("workerStep"))
-                .filter(se -> se.getExecutionContext().containsKey("checkId"))
-                .map(se -> se.getExecutionContext().getLong("checkId"))
-                .collect(Collectors.toSet());
+                .toList();
+    }
 
-        assertThat(workerStepIds)
-                .as("каждая партиция должна содержать свой checkId")
-                .containsExactlyInAnyOrder(1L, 2L, 5L);
+    @Nested
+    @DisplayName("PER_CHECK: партиция на проверку")
+    @TestPropertySource(properties = WORKER_STEP_PREFIX + ".partition-mode=PER_CHECK")
+    class PerCheck {
+
+        // === Инжекция тестовых утилит и вспомогательных бинов ===
+        @Autowired
+        private JobLauncherTestUtils jobLauncherTestUtils;
+        @Autowired
+        private JobExplorer jobExplorer;
+        @Autowired
+        private ExecutedIdsCollector executedIdsCollector;
+
+        @Test
+        void should_run_all_partitions_and_pass_checkId() throws Exception {
+            final List<StepExecution> workerSteps = launchAndAwaitWorkerSteps(jobLauncherTestUtils, jobExplorer);
+
+            // доменный сервис вызван для всех ID
+            assertThat(executedIdsCollector.get())
+                    .as("должны быть выполнены все ID из CheckReader")
+                    .containsExactlyInAnyOrder(1L, 2L, 5L);
+
+            // в worker-партициях корректно проброшен checkId
+            final var workerStepIds = workerSteps.stream()
+                    .filter(se -> se.getExecutionContext().containsKey("checkId"))
+                    .map(se -> se.getExecutionContext().getLong("checkId"))
+                    .collect(Collectors.toSet());
+
+            assertThat(workerStepIds)
+                    .as("каждая партиция должна содержать свой checkId")
+                    .containsExactlyInAnyOrder(1L, 2L, 5L);
+        }
+    }
+
+    @Nested
+    @DisplayName("GROUPED: срезы по gridSize")
+    @TestPropertySource(properties = {
+            WORKER_STEP_PREFIX + ".partition-mode=GROUPED",
+            WORKER_STEP_PREFIX + ".grid-size=2"
+    })
+    class Grouped {
+
+        @Autowired
+        private JobLauncherTestUtils jobLauncherTestUtils;
+        @Autowired
+        private JobExplorer jobExplorer;
+        @Autowired
+        private ExecutedIdsCollector executedIdsCollector;
+
+        @Test
+        void should_run_grid_size_partitions_covering_all_ids() throws Exception {
+            final List<StepExecution> workerSteps = launchAndAwaitWorkerSteps(jobLauncherTestUtils, jobExplorer);
+
+            // доменный сервис вызван для всех ID
+            assertThat(executedIdsCollector.get())
+                    .as("должны быть выполнены все ID из CheckReader")
+                    .containsExactlyInAnyOrder(1L, 2L, 5L);
+
+            // число worker-шагов равно gridSize, а не числу проверок
+            assertThat(workerSteps)
+                    .extracting(se -> se.getExecutionContext().getString("checkIds"))
+                    .containsExactlyInAnyOrder("1,2", "5");
+        }
     }
 
     @SpringBootApplication
-    @Import({IntegrationHealthCheckJobConfig.class, TestConfig.class})
+    @Import({IntegrationHealthCheckJobConfig.class, DueCheckHandoff.class, TestConfig.class})
     static class ITApp {
     }
 
@@ -120,9 +182,13 @@ class IntegrationHealthCheckJobIntegrationTest {
 
         @Bean
         CheckReader checkReader() {
-            // источник ID для партиционирования
+            // источник должных проверок для партиционирования
             final var reader = mock(CheckReader.class);
-            when(reader.findDueIds()).thenReturn(List.of(1L, 2L, 5L));
+            when(reader.findDueChecks()).thenReturn(LongStream.of(1L, 2L, 5L)
+                    .mapToObj(id -> new CheckDto(id, "check-" + id, null, true, 1, LocalDateTime.now(), CheckType.TCP_CONNECT,
+                            new TcpConnectProfileDto(id, id, "localhost", 80, 1000),
+                            ScheduleMode.FIXED_DELAY, null, null, null, null, 0))
+                    .toList());
             return reader;
         }
 
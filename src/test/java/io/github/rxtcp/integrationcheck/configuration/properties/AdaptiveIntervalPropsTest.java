@@ -0,0 +1,79 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link AdaptiveIntervalProps}.
+ */
+@DisplayName("AdaptiveIntervalProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class AdaptiveIntervalPropsTest {
+
+    private static final String PREFIX = "application.integration.adaptive-interval";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(AdaptiveIntervalProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_valid_properties() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".success-threshold=5",
+                PREFIX + ".factor=3",
+                PREFIX + ".prune-interval=5m"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(AdaptiveIntervalProps.class);
+            assertThat(props.successThreshold()).isEqualTo(5);
+            assertThat(props.factor()).isEqualTo(3);
+            assertThat(props.pruneInterval()).isEqualTo(Duration.ofMinutes(5));
+        });
+    }
+
+    @Test
+    void should_fail_validation_when_factor_does_not_change_interval() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".success-threshold=5",
+                PREFIX + ".factor=1",
+                PREFIX + ".prune-interval=5m"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("adaptive-interval");
+        });
+    }
+
+    @Test
+    void should_fail_validation_when_prune_interval_is_missing() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".success-threshold=5",
+                PREFIX + ".factor=3"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("adaptive-interval");
+        });
+    }
+}
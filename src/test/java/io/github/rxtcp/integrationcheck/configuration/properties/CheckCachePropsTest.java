@@ -0,0 +1,64 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link CheckCacheProps}.
+ */
+@DisplayName("CheckCacheProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class CheckCachePropsTest {
+
+    private static final String PREFIX = "application.integration.check-cache";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(CheckCacheProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_valid_properties() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".enabled=true",
+                PREFIX + ".full-refresh-interval=10m",
+                PREFIX + ".delta-overlap=30s"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(CheckCacheProps.class);
+            assertThat(props.enabled()).isTrue();
+            assertThat(props.fullRefreshInterval()).isEqualTo(Duration.ofMinutes(10));
+            assertThat(props.deltaOverlap()).isEqualTo(Duration.ofSeconds(30));
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_intervals_are_missing() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".enabled=true"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("check-cache");
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link CheckLeaseProps}.
+ */
+@DisplayName("CheckLeaseProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class CheckLeasePropsTest {
+
+    private static final String PREFIX = "application.integration.lease";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(CheckLeaseProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_valid_properties() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".enabled=true",
+                PREFIX + ".owner=node-1",
+                PREFIX + ".batch-size=1000",
+                PREFIX + ".duration=5m"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(CheckLeaseProps.class);
+            assertThat(props.enabled()).isTrue();
+            assertThat(props.owner()).isEqualTo("node-1");
+            assertThat(props.batchSize()).isEqualTo(1000);
+            assertThat(props.duration()).isEqualTo(Duration.ofMinutes(5));
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_owner_is_blank() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".enabled=true",
+                PREFIX + ".owner= ",
+                PREFIX + ".batch-size=1000",
+                PREFIX + ".duration=5m"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("lease");
+        });
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link ExecutionEngineProps}.
+ */
+@DisplayName("ExecutionEngineProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class ExecutionEnginePropsTest {
+
+    private static final String PREFIX = "application.integration.engine";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(ExecutionEngineProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_lower_case_type_and_limits() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".type=direct",
+                PREFIX + ".slice-size=250",
+                PREFIX + ".concurrency-limit=8",
+                PREFIX + ".thread-name-prefix=engine-"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(ExecutionEngineProps.class);
+            assertThat(props.type()).isEqualTo(ExecutionEngineProps.Type.DIRECT);
+            assertThat(props.sliceSize()).isEqualTo(250);
+            assertThat(props.concurrencyLimit()).isEqualTo(8);
+            assertThat(props.threadNamePrefix()).isEqualTo("engine-");
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_slice_size_is_not_positive() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".type=batch",
+                PREFIX + ".slice-size=0",
+                PREFIX + ".concurrency-limit=8",
+                PREFIX + ".thread-name-prefix=engine-"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("engine");
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link HostBulkheadProps}.
+ */
+@DisplayName("HostBulkheadProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class HostBulkheadPropsTest {
+
+    private static final String PREFIX = "application.integration.http.host-bulkhead";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(HostBulkheadProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_default_and_per_host_limits_with_dotted_host_names() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".default-limit=4",
+                PREFIX + ".limits.[API.Partner.ru]=2",
+                PREFIX + ".max-wait=15s"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(HostBulkheadProps.class);
+            assertThat(props.limitFor("api.partner.ru")).isEqualTo(2);
+            assertThat(props.limitFor("other.host")).isEqualTo(4);
+            assertThat(props.maxWait()).isEqualTo(Duration.ofSeconds(15));
+        });
+    }
+
+    @Test
+    void should_treat_missing_limits_as_empty() {
+        contextRunner.withPropertyValues(PREFIX + ".default-limit=3", PREFIX + ".max-wait=1s").run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            assertThat(ctx.getBean(HostBulkheadProps.class).limits()).isEmpty();
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_limit_is_not_positive() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".default-limit=0",
+                PREFIX + ".limits.[api.partner.ru]=0",
+                PREFIX + ".max-wait=1s"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("host-bulkhead");
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_max_wait_is_missing() {
+        contextRunner.withPropertyValues(PREFIX + ".default-limit=3").run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("host-bulkhead");
+        });
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link HttpClientPoolProps}.
+ */
+@DisplayName("HttpClientPoolProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class HttpClientPoolPropsTest {
+
+    private static final String PREFIX = "application.integration.http.client-pool";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(HttpClientPoolProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_valid_properties() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".http-version=HTTP_2",
+                PREFIX + ".redirect=NORMAL",
+                PREFIX + ".proxy-host=proxy.local",
+                PREFIX + ".proxy-port=3128",
+                PREFIX + ".idle-timeout=5m",
+                PREFIX + ".eviction-interval=30s"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(HttpClientPoolProps.class);
+            assertThat(props.httpVersion()).isEqualTo(HttpClient.Version.HTTP_2);
+            assertThat(props.redirect()).isEqualTo(HttpClient.Redirect.NORMAL);
+            assertThat(props.proxyHost()).isEqualTo("proxy.local");
+            assertThat(props.proxyPort()).isEqualTo(3128);
+            assertThat(props.idleTimeout()).isEqualTo(Duration.ofMinutes(5));
+            assertThat(props.evictionInterval()).isEqualTo(Duration.ofSeconds(30));
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_idle_timeout_is_missing_or_port_out_of_range() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".http-version=HTTP_1_1",
+                PREFIX + ".redirect=NEVER",
+                PREFIX + ".proxy-port=70000",
+                PREFIX + ".eviction-interval=30s"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("client-pool");
+        });
+    }
+}
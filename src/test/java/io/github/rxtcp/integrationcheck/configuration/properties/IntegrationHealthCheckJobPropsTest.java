@@ -58,6 +58,8 @@ class IntegrationHealthCheckJobPropsTest {
         private static final String CONCURRENCY_LIMIT = PREFIX + ".concurrency-limit";
         private static final String THREAD_NAME_PREFIX = PREFIX + ".thread-name-prefix";
         private static final String VIRTUAL_THREADS_ENABLED = PREFIX + ".virtual-threads-enabled";
+        private static final String PARTITION_MODE = PREFIX + ".partition-mode";
+        private static final String GRID_SIZE = PREFIX + ".grid-size";
 
         private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
                 .withConfiguration(AUTO_CONFIGS)
@@ -66,7 +68,9 @@ class IntegrationHealthCheckJobPropsTest {
         /**
          * Негативные сценарии:
          * - concurrencyLimit < 1 → @Min(1);
-         * - threadNamePrefix blank → @NotBlank.
+         * - threadNamePrefix blank → @NotBlank;
+         * - gridSize < 1 → @Min(1);
+         * - partitionMode отсутствует → @NotNull.
          */
         static Stream<Object[]> invalidCases() {
             return Stream.of(
@@ -75,7 +79,9 @@ class IntegrationHealthCheckJobPropsTest {
                             new String[]{
                                     CONCURRENCY_LIMIT + "=0",
                                     THREAD_NAME_PREFIX + "=hc-",
-                                    VIRTUAL_THREADS_ENABLED + "=false"
+                                    VIRTUAL_THREADS_ENABLED + "=false",
+                                    PARTITION_MODE + "=PER_CHECK",
+                                    GRID_SIZE + "=1"
                             }
                     },
                     new Object[]{
@@ -83,7 +89,28 @@ class IntegrationHealthCheckJobPropsTest {
                             new String[]{
                                     CONCURRENCY_LIMIT + "=2",
                                     THREAD_NAME_PREFIX + "=   ",
-                                    VIRTUAL_THREADS_ENABLED + "=false"
+                                    VIRTUAL_THREADS_ENABLED + "=false",
+                                    PARTITION_MODE + "=PER_CHECK",
+                                    GRID_SIZE + "=1"
+                            }
+                    },
+                    new Object[]{
+                            "gridSize < 1",
+                            new String[]{
+                                    CONCURRENCY_LIMIT + "=2",
+                                    THREAD_NAME_PREFIX + "=hc-",
+                                    VIRTUAL_THREADS_ENABLED + "=false",
+                                    PARTITION_MODE + "=GROUPED",
+                                    GRID_SIZE + "=0"
+                            }
+                    },
+                    new Object[]{
+                            "partitionMode missing",
+                            new String[]{
+                                    CONCURRENCY_LIMIT + "=2",
+                                    THREAD_NAME_PREFIX + "=hc-",
+                                    VIRTUAL_THREADS_ENABLED + "=false",
+                                    GRID_SIZE + "=4"
                             }
                     }
             );
@@ -94,13 +121,17 @@ class IntegrationHealthCheckJobPropsTest {
             contextRunner.withPropertyValues(
                     CONCURRENCY_LIMIT + "=4",
                     THREAD_NAME_PREFIX + "=hc-worker-",
-                    VIRTUAL_THREADS_ENABLED + "=true"
+                    VIRTUAL_THREADS_ENABLED + "=true",
+                    PARTITION_MODE + "=GROUPED",
+                    GRID_SIZE + "=8"
             ).run(ctx -> {
                 assertThat(ctx).hasNotFailed();
                 final var props = ctx.getBean(IntegrationHealthCheckJobProps.WorkerStepProps.class);
                 assertThat(props.concurrencyLimit()).isEqualTo(4);
                 assertThat(props.threadNamePrefix()).isEqualTo("hc-worker-");
                 assertThat(props.virtualThreadsEnabled()).isTrue();
+                assertThat(props.partitionMode()).isEqualTo(IntegrationHealthCheckJobProps.WorkerStepProps.PartitionMode.GROUPED);
+                assertThat(props.gridSize()).isEqualTo(8);
             });
         }
 
@@ -0,0 +1,61 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link RequestTemplateProps}.
+ */
+@DisplayName("RequestTemplateProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class RequestTemplatePropsTest {
+
+    private static final String PREFIX = "application.integration.http.request-template";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(RequestTemplateProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_durations() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".idle-timeout=30m",
+                PREFIX + ".eviction-interval=2m"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(RequestTemplateProps.class);
+            assertThat(props.idleTimeout()).isEqualTo(Duration.ofMinutes(30));
+            assertThat(props.evictionInterval()).isEqualTo(Duration.ofMinutes(2));
+        });
+    }
+
+    @Test
+    void should_fail_validation_when_idle_timeout_is_missing() {
+        contextRunner.withPropertyValues(PREFIX + ".eviction-interval=2m")
+                .run(ctx -> {
+                    assertThat(ctx).hasFailed();
+                    assertThat(ctx.getStartupFailure())
+                            .isInstanceOf(ConfigurationPropertiesBindException.class)
+                            .hasMessageContaining("request-template");
+                });
+    }
+}
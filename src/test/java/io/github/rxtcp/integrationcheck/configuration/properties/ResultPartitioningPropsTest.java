@@ -0,0 +1,71 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link ResultPartitioningProps}.
+ */
+@DisplayName("ResultPartitioningProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class ResultPartitioningPropsTest {
+
+    private static final String PREFIX = "application.integration.result-partitioning";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(ResultPartitioningProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_valid_properties() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".enabled=true",
+                PREFIX + ".schema=integration_health_check",
+                PREFIX + ".premake-days=7",
+                PREFIX + ".retention=30d",
+                PREFIX + ".maintenance-interval=1h"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(ResultPartitioningProps.class);
+            assertThat(props.enabled()).isTrue();
+            assertThat(props.schema()).isEqualTo("integration_health_check");
+            assertThat(props.premakeDays()).isEqualTo(7);
+            assertThat(props.retention()).isEqualTo(Duration.ofDays(30));
+            assertThat(props.maintenanceInterval()).isEqualTo(Duration.ofHours(1));
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_premake_days_is_zero_or_retention_is_missing() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".enabled=true",
+                PREFIX + ".schema=integration_health_check",
+                PREFIX + ".premake-days=0",
+                PREFIX + ".maintenance-interval=1h"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("result-partitioning");
+        });
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link ResultPayloadProps}.
+ */
+@DisplayName("ResultPayloadProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class ResultPayloadPropsTest {
+
+    private static final String PREFIX = "application.integration.result-payload";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(ResultPayloadProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_valid_properties() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".enabled=true",
+                PREFIX + ".schema=integration_health_check",
+                PREFIX + ".compression-level=1",
+                PREFIX + ".compress-threshold=64B",
+                PREFIX + ".cache-size=10000",
+                PREFIX + ".touch-interval=1d",
+                PREFIX + ".retention=35d",
+                PREFIX + ".purge-interval=1h"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(ResultPayloadProps.class);
+            assertThat(props.enabled()).isTrue();
+            assertThat(props.schema()).isEqualTo("integration_health_check");
+            assertThat(props.compressionLevel()).isEqualTo(1);
+            assertThat(props.compressThreshold()).isEqualTo(DataSize.ofBytes(64));
+            assertThat(props.cacheSize()).isEqualTo(10_000);
+            assertThat(props.touchInterval()).isEqualTo(Duration.ofDays(1));
+            assertThat(props.retention()).isEqualTo(Duration.ofDays(35));
+            assertThat(props.purgeInterval()).isEqualTo(Duration.ofHours(1));
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_compression_level_is_out_of_range() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".enabled=true",
+                PREFIX + ".schema=integration_health_check",
+                PREFIX + ".compression-level=12",
+                PREFIX + ".compress-threshold=64B",
+                PREFIX + ".cache-size=10000",
+                PREFIX + ".touch-interval=1d",
+                PREFIX + ".retention=35d",
+                PREFIX + ".purge-interval=1h"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("result-payload");
+        });
+    }
+}
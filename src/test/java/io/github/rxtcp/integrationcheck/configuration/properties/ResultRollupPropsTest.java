@@ -0,0 +1,76 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link ResultRollupProps}.
+ */
+@DisplayName("ResultRollupProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class ResultRollupPropsTest {
+
+    private static final String PREFIX = "application.integration.result-rollup";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(ResultRollupProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_valid_properties() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".enabled=true",
+                PREFIX + ".schema=integration_health_check",
+                PREFIX + ".flush-interval=10s",
+                PREFIX + ".compaction-interval=5m",
+                PREFIX + ".compaction-delay=5m",
+                PREFIX + ".minute-retention=2d",
+                PREFIX + ".hour-retention=35d"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(ResultRollupProps.class);
+            assertThat(props.enabled()).isTrue();
+            assertThat(props.schema()).isEqualTo("integration_health_check");
+            assertThat(props.flushInterval()).isEqualTo(Duration.ofSeconds(10));
+            assertThat(props.compactionInterval()).isEqualTo(Duration.ofMinutes(5));
+            assertThat(props.compactionDelay()).isEqualTo(Duration.ofMinutes(5));
+            assertThat(props.minuteRetention()).isEqualTo(Duration.ofDays(2));
+            assertThat(props.hourRetention()).isEqualTo(Duration.ofDays(35));
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_schema_is_blank_or_retention_is_missing() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".enabled=true",
+                PREFIX + ".schema= ",
+                PREFIX + ".flush-interval=10s",
+                PREFIX + ".compaction-interval=5m",
+                PREFIX + ".compaction-delay=5m"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("result-rollup");
+        });
+    }
+}
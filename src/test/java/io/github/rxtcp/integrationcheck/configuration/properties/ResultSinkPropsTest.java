@@ -0,0 +1,78 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link ResultSinkProps}.
+ */
+@DisplayName("ResultSinkProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class ResultSinkPropsTest {
+
+    private static final String PREFIX = "application.integration.result-sink";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(ResultSinkProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_kebab_case_mode_and_buffer_settings() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".mode=write-behind",
+                PREFIX + ".schema=integration_health_check",
+                PREFIX + ".capacity=1000",
+                PREFIX + ".batch-size=100",
+                PREFIX + ".flush-interval=250ms",
+                PREFIX + ".offer-timeout=50ms",
+                PREFIX + ".retry-attempts=2",
+                PREFIX + ".retry-backoff=20ms"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(ResultSinkProps.class);
+            assertThat(props.mode()).isEqualTo(ResultSinkProps.Mode.WRITE_BEHIND);
+            assertThat(props.schema()).isEqualTo("integration_health_check");
+            assertThat(props.capacity()).isEqualTo(1000);
+            assertThat(props.batchSize()).isEqualTo(100);
+            assertThat(props.flushInterval()).isEqualTo(Duration.ofMillis(250));
+            assertThat(props.offerTimeout()).isEqualTo(Duration.ofMillis(50));
+            assertThat(props.retryAttempts()).isEqualTo(2);
+            assertThat(props.retryBackoff()).isEqualTo(Duration.ofMillis(20));
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_batch_size_is_not_positive_or_interval_missing() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".mode=sync",
+                PREFIX + ".schema=integration_health_check",
+                PREFIX + ".capacity=1000",
+                PREFIX + ".batch-size=0",
+                PREFIX + ".offer-timeout=50ms"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("result-sink");
+        });
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link SchedulerProps}.
+ */
+@DisplayName("SchedulerProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class SchedulerPropsTest {
+
+    private static final String PREFIX = "application.integration.scheduler";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(SchedulerProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_valid_properties() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".mode=wheel",
+                PREFIX + ".tick=1ms",
+                PREFIX + ".wheel-size=64",
+                PREFIX + ".delta-interval=5s",
+                PREFIX + ".full-resync-interval=10m",
+                PREFIX + ".delta-overlap=1m",
+                PREFIX + ".retry-delay=5s"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(SchedulerProps.class);
+            assertThat(props.mode()).isEqualTo(SchedulerProps.Mode.WHEEL);
+            assertThat(props.tick()).isEqualTo(Duration.ofMillis(1));
+            assertThat(props.wheelSize()).isEqualTo(64);
+            assertThat(props.deltaInterval()).isEqualTo(Duration.ofSeconds(5));
+            assertThat(props.fullResyncInterval()).isEqualTo(Duration.ofMinutes(10));
+            assertThat(props.deltaOverlap()).isEqualTo(Duration.ofMinutes(1));
+            assertThat(props.retryDelay()).isEqualTo(Duration.ofSeconds(5));
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_wheel_size_is_too_small() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".mode=wheel",
+                PREFIX + ".tick=1ms",
+                PREFIX + ".wheel-size=1",
+                PREFIX + ".delta-interval=5s",
+                PREFIX + ".full-resync-interval=10m",
+                PREFIX + ".delta-overlap=1m",
+                PREFIX + ".retry-delay=5s"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("scheduler");
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link SchedulingPolicyProps}.
+ */
+@DisplayName("SchedulingPolicyProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class SchedulingPolicyPropsTest {
+
+    private static final String PREFIX = "application.integration.scheduling-policy";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(SchedulingPolicyProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_valid_properties() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".type=phased",
+                PREFIX + ".max-jitter=5s",
+                PREFIX + ".balance-window=30s",
+                PREFIX + ".catch-up=run-all"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(SchedulingPolicyProps.class);
+            assertThat(props.type()).isEqualTo(SchedulingPolicyProps.Type.PHASED);
+            assertThat(props.maxJitter()).isEqualTo(Duration.ofSeconds(5));
+            assertThat(props.balanceWindow()).isEqualTo(Duration.ofSeconds(30));
+            assertThat(props.catchUp()).isEqualTo(SchedulingPolicyProps.CatchUp.RUN_ALL);
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_type_is_missing() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".max-jitter=5s",
+                PREFIX + ".balance-window=30s",
+                PREFIX + ".catch-up=coalesce"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("scheduling-policy");
+        });
+    }
+}
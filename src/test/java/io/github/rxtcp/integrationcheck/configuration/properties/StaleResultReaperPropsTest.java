@@ -0,0 +1,71 @@
+package io.github.rxtcp.integrationcheck.configuration.properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.context.ConfigurationPropertiesAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.ConfigurationPropertiesBindException;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты биндинга и валидации свойств {@link StaleResultReaperProps}.
+ */
+@DisplayName("StaleResultReaperProps: биндинг и валидация")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class StaleResultReaperPropsTest {
+
+    private static final String PREFIX = "application.integration.stale-result-reaper";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(
+                    ConfigurationPropertiesAutoConfiguration.class,
+                    ValidationAutoConfiguration.class
+            ))
+            .withUserConfiguration(TestConfig.class);
+
+    @EnableConfigurationProperties(StaleResultReaperProps.class)
+    static class TestConfig {
+    }
+
+    @Test
+    void should_bind_valid_properties() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".enabled=true",
+                PREFIX + ".schema=integration_health_check",
+                PREFIX + ".grace=10m",
+                PREFIX + ".batch-size=500",
+                PREFIX + ".interval=5m"
+        ).run(ctx -> {
+            assertThat(ctx).hasNotFailed();
+            final var props = ctx.getBean(StaleResultReaperProps.class);
+            assertThat(props.enabled()).isTrue();
+            assertThat(props.schema()).isEqualTo("integration_health_check");
+            assertThat(props.grace()).isEqualTo(Duration.ofMinutes(10));
+            assertThat(props.batchSize()).isEqualTo(500);
+            assertThat(props.interval()).isEqualTo(Duration.ofMinutes(5));
+        });
+    }
+
+    @Test
+    void should_fail_binding_when_batch_size_is_zero_or_grace_is_missing() {
+        contextRunner.withPropertyValues(
+                PREFIX + ".enabled=true",
+                PREFIX + ".schema=integration_health_check",
+                PREFIX + ".batch-size=0",
+                PREFIX + ".interval=5m"
+        ).run(ctx -> {
+            assertThat(ctx).hasFailed();
+            assertThat(ctx.getStartupFailure())
+                    .isInstanceOf(ConfigurationPropertiesBindException.class)
+                    .hasMessageContaining("stale-result-reaper");
+        });
+    }
+}
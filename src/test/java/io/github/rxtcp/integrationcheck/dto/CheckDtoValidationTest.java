@@ -1,5 +1,6 @@
 package io.github.rxtcp.integrationcheck.dto;
 
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
@@ -75,7 +76,8 @@ class CheckDtoValidationTest {
                     1L, blank, "d", true, 5,
                     base.nextRunAt(),
                     anyCheckType(),
-                    validRestApiProfile(1L)
+                    validRestApiProfile(1L),
+                    ScheduleMode.FIXED_DELAY, null, null, null, null, 0
             );
 
             // when
@@ -99,7 +101,8 @@ class CheckDtoValidationTest {
                     1L, "n", "d", true, invalid,
                     base.nextRunAt(),
                     anyCheckType(),
-                    validRestApiProfile(1L)
+                    validRestApiProfile(1L),
+                    ScheduleMode.FIXED_DELAY, null, null, null, null, 0
             );
 
             // when / then
@@ -117,7 +120,8 @@ class CheckDtoValidationTest {
                     1L, "n", "d", true, edge,
                     base.nextRunAt(),
                     anyCheckType(),
-                    validRestApiProfile(1L)
+                    validRestApiProfile(1L),
+                    ScheduleMode.FIXED_DELAY, null, null, null, null, 0
             );
 
             // when / then
@@ -136,7 +140,8 @@ class CheckDtoValidationTest {
                     1L, "n", "d", true, 5,
                     null,
                     anyCheckType(),
-                    validRestApiProfile(1L)
+                    validRestApiProfile(1L),
+                    ScheduleMode.FIXED_DELAY, null, null, null, null, 0
             );
 
             // when
@@ -154,7 +159,8 @@ class CheckDtoValidationTest {
                     1L, "n", "d", true, 5,
                     base.nextRunAt(),
                     null,
-                    validRestApiProfile(1L)
+                    validRestApiProfile(1L),
+                    ScheduleMode.FIXED_DELAY, null, null, null, null, 0
             );
 
             // when
@@ -172,7 +178,8 @@ class CheckDtoValidationTest {
                     1L, "n", "d", true, 5,
                     base.nextRunAt(),
                     anyCheckType(),
-                    null
+                    null,
+                    ScheduleMode.FIXED_DELAY, null, null, null, null, 0
             );
 
             // when
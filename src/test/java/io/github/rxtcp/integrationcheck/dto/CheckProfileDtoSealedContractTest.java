@@ -16,7 +16,7 @@ import static org.assertj.core.api.Assertions.assertThat;
  * <p>
  * Цели:
  * 1) Тип действительно помечен как sealed.
- * 2) Среди разрешённых подклассов присутствует {@link RestApiProfileDto}.
+ * 2) Среди разрешённых подклассов присутствуют {@link RestApiProfileDto} и {@link TcpConnectProfileDto}.
  * <p>
  * Примечание: используем рефлексию JDK 21: {@code Class#isSealed()} и {@code Class#getPermittedSubclasses()}.
  */
@@ -25,7 +25,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 class CheckProfileDtoSealedContractTest {
 
     @Test
-    void should_be_sealed_and_permit_RestApiProfileDto() {
+    void should_be_sealed_and_permit_all_profile_dtos() {
         // given
         final Class<CheckProfileDto> sealedType = CheckProfileDto.class;
 
@@ -39,10 +39,11 @@ class CheckProfileDtoSealedContractTest {
 
         // 2) Среди разрешённых подклассов есть ожидаемый DTO
         assertThat(permitted)
-                .as("разрешённые подклассы должны включать RestApiProfileDto")
-                .contains(RestApiProfileDto.class);
+                .as("разрешённые подклассы должны включать RestApiProfileDto и TcpConnectProfileDto")
+                .contains(RestApiProfileDto.class, TcpConnectProfileDto.class);
 
         // 3) Дополнительно фиксируем отношение наследования
         assertThat(CheckProfileDto.class).isAssignableFrom(RestApiProfileDto.class);
+        assertThat(CheckProfileDto.class).isAssignableFrom(TcpConnectProfileDto.class);
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package io.github.rxtcp.integrationcheck.dto;
 
 import io.github.rxtcp.integrationcheck.domain.CheckType;
 import io.github.rxtcp.integrationcheck.domain.HttpMethod;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
 
 import java.time.LocalDateTime;
 
@@ -136,7 +137,13 @@ final class TestFixtures {
                 runIntervalMin,
                 nextRunAt,
                 type,
-                profile
+                profile,
+                ScheduleMode.FIXED_DELAY,
+                null,
+                null,
+                null,
+                null,
+                0
         );
     }
 }
\ No newline at end of file
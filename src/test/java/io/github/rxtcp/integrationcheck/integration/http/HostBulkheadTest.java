@@ -0,0 +1,261 @@
+package io.github.rxtcp.integrationcheck.integration.http;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.HostBulkheadProps;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Тесты для {@link HostBulkhead}.
+ * <p>
+ * Фокус:
+ * - не более {@code limit} одновременных запросов к хосту, остальные ждут в порядке очереди;
+ * - хосты и переопределения лимитов независимы;
+ * - разрешение освобождается при ошибке и при прерывании ожидания;
+ * - разрешение передаётся ожидающему не в освобождающем потоке, ожидание ограничено {@code maxWait};
+ * - метрики очереди и ожидания с тегом {@code host}.
+ */
+@DisplayName("HostBulkhead")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class HostBulkheadTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HostBulkhead bulkhead = new HostBulkhead(
+            new HostBulkheadProps(2, Map.of("Slow.Partner", 1), Duration.ofSeconds(30)), meterRegistry);
+
+    private static void awaitSize(List<?> list, int size) {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (list.size() < size && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(list).hasSize(size);
+    }
+
+    private double queueGauge(String host) {
+        return meterRegistry.get("integration.http.host.bulkhead.queue").tag("host", host).gauge().value();
+    }
+
+    @Nested
+    @DisplayName("executeAsync()")
+    class Async {
+
+        @Test
+        void should_queue_requests_over_limit_and_run_them_in_order_on_release() throws Exception {
+            List<CompletableFuture<String>> upstream = new ArrayList<>();
+            List<Integer> started = new CopyOnWriteArrayList<>();
+            List<CompletableFuture<String>> results = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                int n = i;
+                CompletableFuture<String> call = new CompletableFuture<>();
+                upstream.add(call);
+                results.add(bulkhead.executeAsync("api.host", () -> {
+                    started.add(n);
+                    return call;
+                }));
+            }
+
+            assertThat(started).containsExactly(0, 1);
+            assertThat(bulkhead.queued("api.host")).isEqualTo(2);
+            assertThat(queueGauge("api.host")).isEqualTo(2.0);
+
+            upstream.get(1).complete("r1");
+            awaitSize(started, 3);
+            assertThat(started).containsExactly(0, 1, 2);
+            upstream.get(0).completeExceptionally(new IllegalStateException("boom"));
+            awaitSize(started, 4);
+            assertThat(started).containsExactly(0, 1, 2, 3);
+            assertThat(bulkhead.queued("api.host")).isZero();
+
+            assertThat(results.get(1)).isCompletedWithValue("r1");
+            assertThat(results.get(0)).isCompletedExceptionally();
+            upstream.get(2).complete("r2");
+            upstream.get(3).complete("r3");
+            assertThat(results.get(3).get(5, TimeUnit.SECONDS)).isEqualTo("r3");
+            assertThat(meterRegistry.get("integration.http.host.bulkhead.wait").tag("host", "api.host").timer().count())
+                    .isEqualTo(4);
+        }
+
+        @Test
+        void should_apply_host_override_case_insensitively_and_keep_hosts_independent() throws Exception {
+            CompletableFuture<String> slow = new CompletableFuture<>();
+            AtomicInteger calls = new AtomicInteger();
+
+            bulkhead.executeAsync("slow.partner", () -> slow);
+            CompletableFuture<String> queued = bulkhead.executeAsync("SLOW.PARTNER", () -> {
+                calls.incrementAndGet();
+                return CompletableFuture.completedFuture("late");
+            });
+            CompletableFuture<String> other = bulkhead.executeAsync("other.host",
+                    () -> CompletableFuture.completedFuture("free"));
+
+            assertThat(calls).hasValue(0);
+            assertThat(other).isCompletedWithValue("free");
+
+            slow.complete("done");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("late");
+        }
+
+        @Test
+        void should_hand_permit_to_waiter_off_the_releasing_thread() throws Exception {
+            CompletableFuture<String> busy = new CompletableFuture<>();
+            bulkhead.executeAsync("slow.partner", () -> busy);
+            CompletableFuture<Thread> waiterThread = new CompletableFuture<>();
+            CompletableFuture<String> queued = bulkhead.executeAsync("slow.partner", () -> {
+                waiterThread.complete(Thread.currentThread());
+                return CompletableFuture.completedFuture("next");
+            });
+
+            busy.complete("done");
+
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("next");
+            assertThat(waiterThread.join()).isNotSameAs(Thread.currentThread());
+            assertThat(waiterThread.join().getName()).startsWith("host-bulkhead-");
+        }
+
+        @Test
+        void should_fail_waiter_with_timeout_and_leave_queue_when_max_wait_expires() throws Exception {
+            HostBulkhead bounded = new HostBulkhead(new HostBulkheadProps(1, Map.of(), Duration.ofMillis(50)), meterRegistry);
+            CompletableFuture<String> busy = new CompletableFuture<>();
+            bounded.executeAsync("h", () -> busy);
+            AtomicInteger calls = new AtomicInteger();
+
+            CompletableFuture<String> expired = bounded.executeAsync("h", () -> {
+                calls.incrementAndGet();
+                return CompletableFuture.completedFuture("never");
+            });
+
+            assertThatThrownBy(() -> expired.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(HttpTimeoutException.class)
+                    .hasMessageContaining("h");
+            assertThat(calls).hasValue(0);
+            assertThat(bounded.queued("h")).isZero();
+
+            busy.complete("done");
+            assertThat(bounded.executeAsync("h", () -> CompletableFuture.completedFuture("free"))).isCompletedWithValue("free");
+            bounded.close();
+        }
+
+        @Test
+        void should_release_permit_when_action_throws() {
+            HostBulkhead single = new HostBulkhead(new HostBulkheadProps(1, Map.of(), Duration.ofSeconds(30)), meterRegistry);
+
+            CompletableFuture<String> failed = single.executeAsync("h", () -> {
+                throw new IllegalArgumentException("bad request");
+            });
+            CompletableFuture<String> next = single.executeAsync("h", () -> CompletableFuture.completedFuture("ok"));
+
+            assertThat(failed).isCompletedExceptionally();
+            assertThat(next).isCompletedWithValue("ok");
+        }
+
+        @Test
+        void should_not_limit_requests_without_host() {
+            CompletableFuture<String> result = bulkhead.executeAsync(null, () -> CompletableFuture.completedFuture("x"));
+
+            assertThat(result).isCompletedWithValue("x");
+        }
+    }
+
+    @Nested
+    @DisplayName("call()")
+    class Blocking {
+
+        @Test
+        void should_park_caller_until_permit_is_released() throws Exception {
+            CountDownLatch holding = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Thread holder = Thread.ofVirtual().start(() -> {
+                try {
+                    bulkhead.call("slow.partner", () -> {
+                        holding.countDown();
+                        release.await();
+                        return null;
+                    });
+                } catch (Exception ignored) {
+                    // не ожидается
+                }
+            });
+            assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+            CompletableFuture<String> waiter = new CompletableFuture<>();
+            Thread.ofVirtual().start(() -> {
+                try {
+                    waiter.complete(bulkhead.call("slow.partner", () -> "second"));
+                } catch (Exception e) {
+                    waiter.completeExceptionally(e);
+                }
+            });
+            while (bulkhead.queued("slow.partner") == 0) {
+                Thread.onSpinWait();
+            }
+            assertThat(waiter).isNotDone();
+
+            release.countDown();
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+            holder.join();
+        }
+
+        @Test
+        void should_leave_queue_and_keep_permits_consistent_when_interrupted() throws Exception {
+            CompletableFuture<String> busy = new CompletableFuture<>();
+            bulkhead.executeAsync("slow.partner", () -> busy);
+
+            CompletableFuture<Throwable> interrupted = new CompletableFuture<>();
+            Thread waiter = Thread.ofVirtual().start(() -> {
+                try {
+                    bulkhead.call("slow.partner", () -> "never");
+                } catch (Exception e) {
+                    interrupted.complete(e);
+                }
+            });
+            while (bulkhead.queued("slow.partner") == 0) {
+                Thread.onSpinWait();
+            }
+            waiter.interrupt();
+
+            assertThat(interrupted.get(5, TimeUnit.SECONDS)).isInstanceOf(InterruptedException.class);
+            assertThat(bulkhead.queued("slow.partner")).isZero();
+
+            busy.complete("done");
+            assertThat(bulkhead.call("slow.partner", () -> "free again")).isEqualTo("free again");
+        }
+
+        @Test
+        void should_throw_timeout_when_max_wait_expires() {
+            HostBulkhead bounded = new HostBulkhead(new HostBulkheadProps(1, Map.of(), Duration.ofMillis(50)), meterRegistry);
+            bounded.executeAsync("h", CompletableFuture::new);
+
+            assertThatThrownBy(() -> bounded.call("h", () -> "never"))
+                    .isInstanceOf(HttpTimeoutException.class)
+                    .hasMessageContaining("timed out");
+            assertThat(bounded.queued("h")).isZero();
+            bounded.close();
+        }
+
+        @Test
+        void should_propagate_action_exception_and_release_permit() throws Exception {
+            assertThatThrownBy(() -> bulkhead.call("slow.partner", () -> {
+                throw new IllegalStateException("boom");
+            })).isInstanceOf(IllegalStateException.class);
+
+            assertThat(bulkhead.call("slow.partner", () -> "ok")).isEqualTo("ok");
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.rxtcp.integrationcheck.integration.http;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.HttpClientPoolProps;
+import io.github.rxtcp.integrationcheck.domain.HttpMethod;
+import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.lang.reflect.Field;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для {@link HttpClientRegistry}.
+ * <p>
+ * Фокус:
+ * - клиенты переиспользуются для одинаковой конфигурации и различаются для разной;
+ * - метрики hit/miss и размер пула;
+ * - вытеснение простаивающих клиентов.
+ */
+@DisplayName("HttpClientRegistry")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class HttpClientRegistryTest {
+
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private final AtomicLong nanoClock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final HttpClientRegistry registry = new HttpClientRegistry(
+            RestClient.builder(),
+            new HttpClientPoolProps(HttpClient.Version.HTTP_1_1, HttpClient.Redirect.NEVER, "", 0, IDLE_TIMEOUT, Duration.ofMinutes(1)),
+            meterRegistry,
+            nanoClock::get
+    );
+
+    private static RestApiProfileDto profile(int timeoutSec) {
+        return new RestApiProfileDto(1L, 2L, "https://host", HttpMethod.GET, timeoutSec, null, null, 200);
+    }
+
+    private double poolRequests(String result) {
+        return meterRegistry.get("integration.http.client.pool.requests").tag("result", result).counter().count();
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Nested
+    @DisplayName("переиспользование клиентов")
+    class Reuse {
+
+        @Test
+        void should_return_same_clients_for_same_timeout_and_count_hit() {
+            RestClient first = registry.restClient(profile(5));
+            RestClient second = registry.restClient(profile(5));
+
+            assertThat(second).isSameAs(first);
+            assertThat(registry.httpClient(profile(5))).isSameAs(registry.httpClient(profile(5)));
+            assertThat(registry.size()).isEqualTo(1);
+            assertThat(poolRequests("miss")).isEqualTo(1.0);
+            assertThat(poolRequests("hit")).isEqualTo(3.0);
+        }
+
+        @Test
+        void should_build_separate_client_with_expected_settings_for_other_timeout() {
+            HttpClient fast = registry.httpClient(profile(3));
+            HttpClient slow = registry.httpClient(profile(30));
+
+            assertThat(fast).isNotSameAs(slow);
+            assertThat(fast.connectTimeout()).contains(Duration.ofSeconds(3));
+            assertThat(slow.connectTimeout()).contains(Duration.ofSeconds(30));
+            assertThat(fast.version()).isEqualTo(HttpClient.Version.HTTP_1_1);
+            assertThat(fast.followRedirects()).isEqualTo(HttpClient.Redirect.NEVER);
+            assertThat(fast.proxy()).isEmpty();
+            assertThat(meterRegistry.get("integration.http.client.pool.size").gauge().value()).isEqualTo(2.0);
+        }
+
+        @Test
+        void should_build_rest_client_on_shared_http_client_with_read_timeout() throws Exception {
+            RestClient.Builder rootBuilder = mock(RestClient.Builder.class);
+            RestClient.Builder clonedBuilder = mock(RestClient.Builder.class);
+            when(rootBuilder.clone()).thenReturn(clonedBuilder);
+            when(clonedBuilder.requestFactory(any())).thenReturn(clonedBuilder);
+            when(clonedBuilder.build()).thenReturn(mock(RestClient.class));
+            HttpClientRegistry mocked = new HttpClientRegistry(
+                    rootBuilder,
+                    new HttpClientPoolProps(HttpClient.Version.HTTP_2, HttpClient.Redirect.NORMAL, "", 0, IDLE_TIMEOUT, Duration.ofMinutes(1)),
+                    new SimpleMeterRegistry()
+            );
+
+            mocked.restClient(profile(15));
+            mocked.restClient(profile(15));
+
+            ArgumentCaptor<JdkClientHttpRequestFactory> rfCaptor = ArgumentCaptor.forClass(JdkClientHttpRequestFactory.class);
+            verify(clonedBuilder, times(1)).requestFactory(rfCaptor.capture());
+            Field readTimeout = JdkClientHttpRequestFactory.class.getDeclaredField("readTimeout");
+            readTimeout.setAccessible(true);
+            Field httpClient = JdkClientHttpRequestFactory.class.getDeclaredField("httpClient");
+            httpClient.setAccessible(true);
+            assertThat(readTimeout.get(rfCaptor.getValue())).isEqualTo(Duration.ofSeconds(15));
+            assertThat(httpClient.get(rfCaptor.getValue())).isSameAs(mocked.httpClient(profile(15)));
+            mocked.close();
+        }
+    }
+
+    @Nested
+    @DisplayName("evictIdle()")
+    class Eviction {
+
+        @Test
+        void should_evict_only_clients_idle_longer_than_timeout() throws Exception {
+            HttpClient stale = registry.httpClient(profile(5));
+            nanoClock.addAndGet(IDLE_TIMEOUT.toNanos() / 2);
+            HttpClient fresh = registry.httpClient(profile(10));
+            nanoClock.addAndGet(IDLE_TIMEOUT.toNanos() / 2);
+
+            registry.evictIdle();
+
+            assertThat(registry.size()).isEqualTo(1);
+            assertThat(registry.httpClient(profile(10))).isSameAs(fresh);
+            assertThat(registry.httpClient(profile(5))).isNotSameAs(stale);
+            assertThat(stale.isTerminated() || stale.awaitTermination(Duration.ofSeconds(1))).isTrue();
+            assertThat(meterRegistry.get("integration.http.client.pool.evictions").counter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        void should_keep_client_that_was_touched_recently() {
+            HttpClient client = registry.httpClient(profile(5));
+            nanoClock.addAndGet(IDLE_TIMEOUT.toNanos() - 1);
+            registry.httpClient(profile(5));
+            nanoClock.addAndGet(IDLE_TIMEOUT.toNanos() - 1);
+
+            registry.evictIdle();
+
+            assertThat(registry.httpClient(profile(5))).isSameAs(client);
+        }
+    }
+}
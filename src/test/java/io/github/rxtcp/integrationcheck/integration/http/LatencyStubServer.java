@@ -0,0 +1,96 @@
+package io.github.rxtcp.integrationcheck.integration.http;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Локальный HTTP-стаб с настраиваемой задержкой ответа для тестов и бенчмарков.
+ * <p>
+ * Запросы обслуживаются на виртуальных потоках, поэтому задержка не ограничивает пропускную способность
+ * самого стаба. Отвечает на любой путь заданным кодом и телом.
+ */
+public final class LatencyStubServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong requests = new AtomicLong();
+    private volatile Duration latency;
+
+    private LatencyStubServer(Duration latency, int status, String body) throws IOException {
+        this.latency = latency;
+        final byte[] payload = body.getBytes(StandardCharsets.UTF_8);
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        this.server.createContext("/", exchange -> {
+            try (exchange) {
+                requests.incrementAndGet();
+                exchange.getRequestBody().readAllBytes();
+                sleep(this.latency);
+                exchange.sendResponseHeaders(status, payload.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(payload);
+                }
+            }
+        });
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * Запускает стаб на свободном порту loopback-интерфейса.
+     *
+     * @param latency задержка перед отправкой ответа
+     * @param status  HTTP-код ответа
+     * @param body    тело ответа
+     */
+    public static LatencyStubServer start(Duration latency, int status, String body) throws IOException {
+        return new LatencyStubServer(latency, status, body);
+    }
+
+    /**
+     * URL стаба с указанным путём, например {@code /health}.
+     */
+    public String url(String path) {
+        return "http://%s:%d%s".formatted(
+                server.getAddress().getHostString(), server.getAddress().getPort(), path);
+    }
+
+    /**
+     * Меняет задержку для последующих запросов.
+     */
+    public void latency(Duration latency) {
+        this.latency = latency;
+    }
+
+    /**
+     * Число принятых запросов.
+     */
+    public long requests() {
+        return requests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private static void sleep(Duration duration) {
+        if (duration.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
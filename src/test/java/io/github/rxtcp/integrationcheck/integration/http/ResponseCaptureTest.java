@@ -0,0 +1,140 @@
+package io.github.rxtcp.integrationcheck.integration.http;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResponseCaptureProps;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты для {@link ResponseCapture}.
+ * <p>
+ * Фокус:
+ * - короткое тело сохраняется целиком, длинное — обрезается до лимита;
+ * - размер и SHA-256 считаются по всему телу;
+ * - кодировка берётся из {@code Content-Type};
+ * - неблокирующий обработчик тела для {@link HttpClient} даёт тот же результат;
+ * - метрики прочитанных и отброшенных байт.
+ */
+@DisplayName("ResponseCapture")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class ResponseCaptureTest {
+
+    private static final int LIMIT = 16;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ResponseCapture capture = new ResponseCapture(
+            new ResponseCaptureProps(DataSize.ofBytes(LIMIT)), meterRegistry);
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Nested
+    @DisplayName("capture(InputStream)")
+    class StreamCapture {
+
+        @Test
+        void should_keep_short_body_as_is() throws Exception {
+            byte[] body = "OK".getBytes(StandardCharsets.UTF_8);
+
+            CapturedBody captured = capture.capture(new ByteArrayInputStream(body), new HttpHeaders());
+
+            assertThat(captured.text()).isEqualTo("OK");
+            assertThat(captured.totalBytes()).isEqualTo(2);
+            assertThat(captured.truncated()).isFalse();
+            assertThat(captured.sha256()).isEqualTo(sha256(body));
+            assertThat(captured.details()).isEqualTo("OK");
+            assertThat(counter("integration.http.response.bytes.truncated")).isZero();
+        }
+
+        @Test
+        void should_truncate_long_body_and_hash_whole_content() throws Exception {
+            byte[] body = "x".repeat(20_000).getBytes(StandardCharsets.UTF_8);
+
+            CapturedBody captured = capture.capture(new ByteArrayInputStream(body), new HttpHeaders());
+
+            assertThat(captured.text()).isEqualTo("x".repeat(LIMIT));
+            assertThat(captured.totalBytes()).isEqualTo(20_000);
+            assertThat(captured.truncated()).isTrue();
+            assertThat(captured.sha256()).isEqualTo(sha256(body));
+            assertThat(captured.details())
+                    .startsWith("x".repeat(LIMIT))
+                    .contains("20000 байт")
+                    .contains(sha256(body));
+            assertThat(counter("integration.http.response.bytes.read")).isEqualTo(20_000.0);
+            assertThat(counter("integration.http.response.bytes.truncated")).isEqualTo(20_000.0 - LIMIT);
+        }
+
+        @Test
+        void should_decode_with_charset_from_content_type() throws Exception {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.CONTENT_TYPE, "text/plain;charset=windows-1251");
+
+            CapturedBody captured = capture.capture(
+                    new ByteArrayInputStream("привет".getBytes("windows-1251")), headers);
+
+            assertThat(captured.text()).isEqualTo("привет");
+        }
+
+        @Test
+        void should_return_null_details_for_empty_body() throws Exception {
+            CapturedBody captured = capture.capture(new ByteArrayInputStream(new byte[0]), new HttpHeaders());
+
+            assertThat(captured.totalBytes()).isZero();
+            assertThat(captured.details()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("bodyHandler()")
+    class AsyncCapture {
+
+        @Test
+        void should_capture_bounded_body_from_http_client() throws Exception {
+            String body = "y".repeat(10_000);
+            try (LatencyStubServer stub = LatencyStubServer.start(Duration.ZERO, 200, body);
+                 HttpClient client = HttpClient.newHttpClient()) {
+
+                HttpResponse<CapturedBody> response = client.sendAsync(
+                        HttpRequest.newBuilder(URI.create(stub.url("/big"))).build(),
+                        capture.bodyHandler()
+                ).join();
+
+                assertThat(response.statusCode()).isEqualTo(200);
+                assertThat(response.body().text()).isEqualTo("y".repeat(LIMIT));
+                assertThat(response.body().totalBytes()).isEqualTo(10_000);
+                assertThat(response.body().truncated()).isTrue();
+                assertThat(response.body().sha256()).isEqualTo(sha256(body.getBytes(StandardCharsets.UTF_8)));
+            }
+        }
+    }
+
+    @Test
+    void charsetOf_should_fall_back_to_utf8_for_missing_or_invalid_content_type() {
+        assertThat(ResponseCapture.charsetOf(null)).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(ResponseCapture.charsetOf("application/json")).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(ResponseCapture.charsetOf("not a media type")).isEqualTo(StandardCharsets.UTF_8);
+        assertThat(ResponseCapture.charsetOf("text/plain;charset=unknown-xyz")).isEqualTo(StandardCharsets.UTF_8);
+    }
+}
@@ -3,6 +3,7 @@ package io.github.rxtcp.integrationcheck.integration.http;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.rxtcp.integrationcheck.configuration.properties.RequestTemplateProps;
 import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
 import io.github.rxtcp.integrationcheck.domain.HttpMethod;
 import org.junit.jupiter.api.DisplayName;
@@ -17,25 +18,25 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
-import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 
-import java.lang.reflect.Field;
-import java.net.http.HttpClient;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.assertj.core.api.Assertions.fail;
+import static org.mockito.AdditionalMatchers.aryEq;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.RETURNS_SELF;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -49,7 +50,10 @@ import static org.mockito.Mockito.when;
  * Фокус:
  * - метод {@code prepare(...)} корректно настраивает HTTP-метод, URL, заголовки и тело;
  * - JSON заголовков валидируется и преобразуется; пустые/некорректные значения игнорируются;
- * - клиент собирается с ожидаемыми таймаутами чтения/соединения.
+ * - клиент берётся из {@link HttpClientRegistry} по профилю;
+ * - метод {@code prepareHttpRequest(...)} строит эквивалентный {@link HttpRequest} для асинхронной отправки;
+ * - шаблон запроса компилируется один раз на версию профиля и пересобирается при её изменении;
+ * - простаивающие дольше {@code idleTimeout} шаблоны вытесняются.
  */
 @DisplayName("RestRequestFactory")
 @DisplayNameGeneration(ReplaceUnderscores.class)
@@ -58,18 +62,23 @@ class RestRequestFactoryTest {
 
     // ===== Тестовые константы (говорящие имена) =====
     private static final String URL = "https://api.example.com/items";
-    private static final int TIMEOUT_SEC = 15;
     private static final String RAW_HEADERS_JSON =
             "{\"Accept\":[\"application/json\"],\"X-Trace-Id\":[\"a\",\"b\"]}";
+    private static final Duration IDLE_TIMEOUT = Duration.ofMinutes(10);
+    private static final RequestTemplateProps TEMPLATE_PROPS = new RequestTemplateProps(IDLE_TIMEOUT, Duration.ofMinutes(1));
 
     // ===== Моки зависимостей Spring =====
-    private final RestClient.Builder rootBuilder = mock(RestClient.Builder.class, RETURNS_DEEP_STUBS);
-    private final RestClient.Builder clonedBuilder = mock(RestClient.Builder.class, RETURNS_DEEP_STUBS);
+    private final HttpClientRegistry httpClientRegistry = mock(HttpClientRegistry.class);
     private final RestClient restClient = mock(RestClient.class);
     private final RestClient.RequestBodyUriSpec uriSpec = mock(RestClient.RequestBodyUriSpec.class, RETURNS_SELF);
     private final RestClient.RequestBodySpec bodySpec = mock(RestClient.RequestBodySpec.class, RETURNS_SELF);
     private final ObjectMapper objectMapper = mock(ObjectMapper.class);
 
+    /**
+     * Управляемые часы кэша шаблонов, нс.
+     */
+    private final AtomicLong clock = new AtomicLong();
+
     /**
      * Хелпер: создаёт реальный DTO-профиль (record) для теста.
      */
@@ -82,49 +91,16 @@ class RestRequestFactoryTest {
         return new RestApiProfileDto(1L, 2L, url, method, timeoutSec, headersJson, requestBody, 200);
     }
 
-    private static void assertReadTimeout(JdkClientHttpRequestFactory rf, int timeoutSec) {
-        try {
-            Duration readTimeout = (Duration) JdkClientHttpRequestFactory.class
-                    .getMethod("getReadTimeout")
-                    .invoke(rf);
-            assertThat(readTimeout).isEqualTo(Duration.ofSeconds(timeoutSec));
-        } catch (ReflectiveOperationException noGetter) {
-            try {
-                Field f = JdkClientHttpRequestFactory.class.getDeclaredField("readTimeout");
-                f.setAccessible(true);
-                Duration readTimeout = (Duration) f.get(rf);
-                assertThat(readTimeout).isEqualTo(Duration.ofSeconds(timeoutSec));
-            } catch (Exception e) {
-                fail("Не удалось проверить readTimeout через рефлексию", e);
-            }
-        }
-    }
-
-    private static void assertConnectTimeout(JdkClientHttpRequestFactory rf, int timeoutSec) {
-        try {
-            Field f = JdkClientHttpRequestFactory.class.getDeclaredField("httpClient");
-            f.setAccessible(true);
-            HttpClient httpClient = (HttpClient) f.get(rf);
-            assertThat(httpClient.connectTimeout())
-                    .isPresent()
-                    .contains(Duration.ofSeconds(timeoutSec));
-        } catch (Exception e) {
-            fail("Не удалось проверить connectTimeout у HttpClient через рефлексию", e);
-        }
-    }
-
     // Фабрика тестируемого объекта: единообразно настраивает цепочку билдера/клиента
     private RestRequestFactory newFactory() {
-        when(rootBuilder.clone()).thenReturn(clonedBuilder);
-        when(clonedBuilder.requestFactory(any())).thenReturn(clonedBuilder);
-        when(clonedBuilder.build()).thenReturn(restClient);
+        when(httpClientRegistry.restClient(any(RestApiProfileDto.class))).thenReturn(restClient);
 
         when(restClient.method(any())).thenReturn(uriSpec);
-        when(uriSpec.uri(anyString())).thenReturn(bodySpec);
+        when(uriSpec.uri(any(URI.class))).thenReturn(bodySpec);
         when(bodySpec.headers(any())).thenReturn(bodySpec);
         when(bodySpec.body(any())).thenReturn(bodySpec);
 
-        return new RestRequestFactory(rootBuilder, objectMapper);
+        return new RestRequestFactory(httpClientRegistry, objectMapper, TEMPLATE_PROPS, clock::get);
     }
 
     /**
@@ -137,8 +113,6 @@ class RestRequestFactoryTest {
         return headersCaptor.getAllValues().isEmpty() ? new HttpHeaders() : new HttpHeaders();
     }
 
-    // ===== Утилиты для стабильных проверок таймаутов =====
-
     // ===== Сценарии prepare(...) =====
     @Nested
     @DisplayName("prepare(...)")
@@ -165,12 +139,10 @@ class RestRequestFactoryTest {
 
             RestClient.RequestBodySpec result = factory.prepare(dto);
 
-            // Проверяем построение клиента и цепочку вызовов
-            verify(rootBuilder).clone();
-            verify(clonedBuilder).requestFactory(any(JdkClientHttpRequestFactory.class));
-            verify(clonedBuilder).build();
+            // Проверяем получение клиента из пула и цепочку вызовов
+            verify(httpClientRegistry).restClient(dto);
             verify(restClient).method(org.springframework.http.HttpMethod.GET);
-            verify(uriSpec).uri(URL);
+            verify(uriSpec).uri(URI.create(URL));
             verify(bodySpec).headers(any());
 
             // Применяем захваченный consumer и убеждаемся, что заголовки проставлены
@@ -241,7 +213,7 @@ class RestRequestFactoryTest {
 
             factory.prepare(dto);
 
-            verify(bodySpec, times(1)).body(eq("payload"));
+            verify(bodySpec, times(1)).body(aryEq("payload".getBytes(StandardCharsets.UTF_8)));
         }
 
         @Test
@@ -280,28 +252,129 @@ class RestRequestFactoryTest {
         }
     }
 
-    // ===== Сценарии buildClient(...) опосредованно через prepare(...) =====
+    // ===== Сценарии prepareHttpRequest(...) =====
     @Nested
-    @DisplayName("buildClient(...) via prepare(...)")
-    class BuildClientSpecs {
+    @DisplayName("prepareHttpRequest(...)")
+    class PrepareHttpRequestSpecs {
+
+        private final RestRequestFactory factory = new RestRequestFactory(httpClientRegistry, objectMapper, TEMPLATE_PROPS, clock::get);
 
         @Test
-        void should_configure_jdk_request_factory_with_expected_timeouts() {
-            RestRequestFactory factory = newFactory();
+        void should_build_request_with_method_uri_timeout_and_headers() throws Exception {
+            //noinspection unchecked
+            when(objectMapper.readValue(eq(RAW_HEADERS_JSON), any(TypeReference.class))).thenReturn(Map.of(
+                    "Accept", List.of("application/json"),
+                    "X-Trace-Id", List.of("a", "b")
+            ));
 
-            RestApiProfileDto dto = profile("https://host", HttpMethod.GET, null, TIMEOUT_SEC, null);
+            HttpRequest request = factory.prepareHttpRequest(profile(URL, HttpMethod.GET, RAW_HEADERS_JSON, 7, "ignored"));
 
-            factory.prepare(dto);
+            assertThat(request.method()).isEqualTo("GET");
+            assertThat(request.uri()).isEqualTo(URI.create(URL));
+            assertThat(request.timeout()).contains(Duration.ofSeconds(7));
+            assertThat(request.headers().allValues("Accept")).containsExactly("application/json");
+            assertThat(request.headers().allValues("X-Trace-Id")).containsExactly("a", "b");
+            assertThat(request.bodyPublisher()).hasValueSatisfying(body -> assertThat(body.contentLength()).isZero());
+            verify(httpClientRegistry, never()).restClient(any());
+        }
+
+        @Test
+        void should_attach_body_with_default_content_type_for_post() {
+            HttpRequest request = factory.prepareHttpRequest(profile(URL, HttpMethod.POST, null, 5, "payload"));
+
+            assertThat(request.method()).isEqualTo("POST");
+            assertThat(request.headers().firstValue(HttpHeaders.CONTENT_TYPE)).contains("text/plain;charset=UTF-8");
+            assertThat(request.bodyPublisher()).hasValueSatisfying(body -> assertThat(body.contentLength()).isEqualTo(7));
+        }
+
+        @Test
+        void should_keep_explicit_content_type_for_put() throws Exception {
+            //noinspection unchecked
+            when(objectMapper.readValue(anyString(), any(TypeReference.class)))
+                    .thenReturn(Map.of("content-type", List.of(MediaType.APPLICATION_JSON_VALUE)));
+
+            HttpRequest request = factory.prepareHttpRequest(profile(URL, HttpMethod.PUT, "{}", 5, "{}"));
 
-            // Захватываем переданный requestFactory
-            ArgumentCaptor<JdkClientHttpRequestFactory> rfCaptor = ArgumentCaptor.forClass(JdkClientHttpRequestFactory.class);
-            verify(clonedBuilder).requestFactory(rfCaptor.capture());
+            assertThat(request.method()).isEqualTo("PUT");
+            assertThat(request.headers().allValues(HttpHeaders.CONTENT_TYPE)).containsExactly(MediaType.APPLICATION_JSON_VALUE);
+        }
+    }
+
+    // ===== Кэш скомпилированных шаблонов =====
+    @Nested
+    @DisplayName("compile(...)")
+    class CompileCacheSpecs {
+
+        private final RestRequestFactory factory = new RestRequestFactory(httpClientRegistry, objectMapper, TEMPLATE_PROPS, clock::get);
+
+        @Test
+        void should_parse_profile_once_and_reuse_template_for_same_version() throws Exception {
+            //noinspection unchecked
+            when(objectMapper.readValue(eq(RAW_HEADERS_JSON), any(TypeReference.class)))
+                    .thenReturn(Map.of("Accept", List.of("application/json")));
+            RestApiProfileDto dto = profile(URL, HttpMethod.POST, RAW_HEADERS_JSON, 5, "payload");
+
+            CompiledRestRequest first = factory.compile(dto);
+            factory.prepareHttpRequest(dto);
+            CompiledRestRequest second = factory.compile(profile(URL, HttpMethod.POST, RAW_HEADERS_JSON, 5, "payload"));
+
+            assertThat(second).isSameAs(first);
+            assertThat(first.method()).isEqualTo(org.springframework.http.HttpMethod.POST);
+            assertThat(first.uri()).isEqualTo(URI.create(URL));
+            assertThat(first.body()).isEqualTo("payload".getBytes(StandardCharsets.UTF_8));
+            assertThat(first.headers().getContentType()).isEqualTo(MediaType.parseMediaType("text/plain;charset=UTF-8"));
+            assertThatThrownBy(() -> first.headers().add("X-Other", "v"))
+                    .isInstanceOf(UnsupportedOperationException.class);
+            verify(objectMapper, times(1)).readValue(eq(RAW_HEADERS_JSON), any(TypeReference.class));
+        }
+
+        @Test
+        void should_recompile_when_profile_row_changed() throws Exception {
+            RestApiProfileDto v1 = profile(URL, HttpMethod.GET, null, 5, null);
+            RestApiProfileDto v2 = profile(URL + "/v2", HttpMethod.GET, null, 5, null);
 
-            JdkClientHttpRequestFactory rf = rfCaptor.getValue();
-            assertThat(rf).isNotNull();
+            CompiledRestRequest first = factory.compile(v1);
+            CompiledRestRequest second = factory.compile(v2);
 
-            assertReadTimeout(rf, TIMEOUT_SEC);
-            assertConnectTimeout(rf, TIMEOUT_SEC);
+            assertThat(second).isNotSameAs(first);
+            assertThat(second.uri()).isEqualTo(URI.create(URL + "/v2"));
+            assertThat(factory.compile(v2)).isSameAs(second);
+            assertThat(factory.compiledSize()).isEqualTo(1);
+        }
+
+        @Test
+        void should_encode_illegal_characters_in_url() {
+            CompiledRestRequest compiled = factory.compile(profile("https://host/a b?q=x y", HttpMethod.GET, null, 5, null));
+
+            assertThat(compiled.uri().toString()).isEqualTo("https://host/a%20b?q=x%20y");
+        }
+
+        @Test
+        void should_not_cache_profile_with_invalid_headers() throws Exception {
+            //noinspection unchecked
+            when(objectMapper.readValue(anyString(), any(TypeReference.class)))
+                    .thenThrow(new JsonProcessingException("boom") {
+                    });
+
+            assertThatThrownBy(() -> factory.compile(profile(URL, HttpMethod.GET, "{oops}", 5, null)))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThat(factory.compiledSize()).isZero();
+        }
+
+        @Test
+        void should_evict_only_templates_idle_longer_than_idle_timeout() {
+            RestApiProfileDto stale = new RestApiProfileDto(1L, 10L, URL, HttpMethod.GET, 5, null, null, 200);
+            RestApiProfileDto active = new RestApiProfileDto(2L, 20L, URL, HttpMethod.GET, 5, null, null, 200);
+            CompiledRestRequest activeTemplate = factory.compile(active);
+            factory.compile(stale);
+
+            clock.addAndGet(IDLE_TIMEOUT.toNanos() - 1);
+            factory.compile(active);
+            clock.addAndGet(1);
+            factory.evictIdle();
+
+            assertThat(factory.compiledSize()).isEqualTo(1);
+            assertThat(factory.compile(active)).isSameAs(activeTemplate);
         }
     }
-}
\ No newline at end of file
+}
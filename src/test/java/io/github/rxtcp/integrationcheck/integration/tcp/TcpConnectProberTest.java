@@ -0,0 +1,189 @@
+package io.github.rxtcp.integrationcheck.integration.tcp;
+
+import io.github.rxtcp.integrationcheck.common.net.TimeoutDetector;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Тесты для {@link TcpConnectProber} на локальных сокетах.
+ * <p>
+ * Фокус:
+ * - успешное подключение к слушающему порту, в том числе множества проб одновременно;
+ * - отказ в соединении на закрытом порту;
+ * - таймаут, когда подключение не завершается (очередь accept заполнена);
+ * - отказ новых проб после остановки;
+ * - пробы, поставленные во время остановки, завершаются, а не зависают.
+ */
+@DisplayName("TcpConnectProber")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class TcpConnectProberTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(2);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final TcpConnectProber prober = newProber();
+
+    private TcpConnectProber newProber() {
+        try {
+            return new TcpConnectProber(meterRegistry);
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private static InetSocketAddress loopback(int port) {
+        return new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+    }
+
+    private static int closedPort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        prober.close();
+    }
+
+    @Test
+    void should_connect_to_listening_port() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            final long before = System.nanoTime();
+
+            TcpConnectResult result = prober.connect(loopback(server.getLocalPort()), TIMEOUT)
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(result.address().getPort()).isEqualTo(server.getLocalPort());
+            assertThat(result.connectedAtNanos()).isGreaterThanOrEqualTo(before);
+        }
+    }
+
+    @Test
+    void should_multiplex_many_concurrent_probes() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 500, InetAddress.getLoopbackAddress())) {
+            List<CompletableFuture<TcpConnectResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                futures.add(prober.connect(loopback(server.getLocalPort()), TIMEOUT));
+            }
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+            assertThat(futures).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+            assertThat(meterRegistry.get("integration.tcp.probes.pending").gauge().value()).isZero();
+        }
+    }
+
+    @Test
+    void should_fail_with_connect_exception_when_port_is_closed() throws Exception {
+        int port = closedPort();
+
+        assertThatThrownBy(() -> prober.connect(loopback(port), TIMEOUT).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(ConnectException.class);
+    }
+
+    @Test
+    void should_fail_with_timeout_when_connect_does_not_complete() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            List<Socket> backlog = fillAcceptQueue(server.getLocalPort());
+            try {
+                CompletableFuture<TcpConnectResult> future =
+                        prober.connect(loopback(server.getLocalPort()), Duration.ofMillis(200));
+
+                assertThatThrownBy(future::join)
+                        .isInstanceOf(CompletionException.class)
+                        .hasCauseInstanceOf(SocketTimeoutException.class)
+                        .satisfies(thrown -> assertThat(TimeoutDetector.isTimeout(thrown.getCause())).isTrue());
+                assertThat(meterRegistry.get("integration.tcp.probes.pending").gauge().value()).isZero();
+            } finally {
+                for (Socket socket : backlog) {
+                    socket.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Заполняет очередь accept сервера, который не принимает соединения: следующие SYN остаются без ответа.
+     */
+    private static List<Socket> fillAcceptQueue(int port) {
+        List<Socket> sockets = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            Socket socket = new Socket();
+            try {
+                socket.connect(loopback(port), 100);
+                sockets.add(socket);
+            } catch (Exception timedOut) {
+                closeQuietly(socket);
+                return sockets;
+            }
+        }
+        Assumptions.abort("Не удалось заполнить очередь accept на этой платформе");
+        return sockets;
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (Exception ignored) {
+            // сокет не подключён
+        }
+    }
+
+    @Test
+    void should_reject_probes_after_close() {
+        prober.close();
+
+        assertThatThrownBy(() -> prober.connect(loopback(80), TIMEOUT).join())
+                .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_complete_probes_started_concurrently_with_close() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 500, InetAddress.getLoopbackAddress())) {
+            List<CompletableFuture<TcpConnectResult>> futures = new CopyOnWriteArrayList<>();
+            List<Thread> producers = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                producers.add(Thread.ofPlatform().start(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        futures.add(prober.connect(loopback(server.getLocalPort()), TIMEOUT));
+                    }
+                }));
+            }
+
+            prober.close();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            // каждая проба завершена: подключением или отказом остановленного пробера
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                    .exceptionally(ignored -> null)
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(futures).hasSize(400).allMatch(CompletableFuture::isDone);
+        }
+    }
+}
@@ -82,4 +82,23 @@ class CheckMapperTest {
         assertThatThrownBy(() -> mapper.toDto(check))
                 .isInstanceOf(NullPointerException.class);
     }
-}
\ No newline at end of file
+
+    @Test
+    void toReference_should_restore_detached_check_without_profile() {
+        // given
+        final Check check = newCheck(CHECK_ID, CHECK_NAME);
+        check.setProfile(newRestProfile(PROFILE_ID, check));
+        final CheckDto dto = mapper.toDto(check);
+
+        // when
+        final Check reference = mapper.toReference(dto);
+
+        // then
+        assertThat(reference.getId()).isEqualTo(CHECK_ID);
+        assertThat(reference.getName()).isEqualTo(CHECK_NAME);
+        assertThat(reference.getRunIntervalMin()).isEqualTo(check.getRunIntervalMin());
+        assertThat(reference.getNextRunAt()).isEqualTo(check.getNextRunAt());
+        assertThat(reference.getType()).isEqualTo(check.getType());
+        assertThat(reference.getProfile()).isNull();
+    }
+}
@@ -11,7 +11,8 @@ import org.springframework.context.annotation.Configuration;
 @ComponentScan(basePackageClasses = {
         CheckMapper.class,
         ProfileMapper.class,
-        RestApiProfileMapper.class
+        RestApiProfileMapper.class,
+        TcpConnectProfileMapper.class
 })
 public class MapperTestConfig {
     // Здесь намеренно нет @Bean-методов: нужны только компоненты, найденные сканированием.
@@ -2,9 +2,11 @@ package io.github.rxtcp.integrationcheck.mapper;
 
 import io.github.rxtcp.integrationcheck.dto.CheckProfileDto;
 import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
 import io.github.rxtcp.integrationcheck.entity.Check;
 import io.github.rxtcp.integrationcheck.entity.CheckProfile;
 import io.github.rxtcp.integrationcheck.entity.RestApiProfile;
+import io.github.rxtcp.integrationcheck.entity.TcpConnectProfile;
 import io.github.rxtcp.integrationcheck.domain.HttpMethod;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -161,6 +163,21 @@ class ProfileMapperPolymorphismTest {
                     });
         }
 
+        @Test
+        void should_dispatch_to_tcpConnectProfile_and_map_all_fields() {
+            final Check check = newCheck(3L, "tcp");
+            final TcpConnectProfile profile = new TcpConnectProfile();
+            profile.setId(4L);
+            profile.setCheck(check);
+            profile.setHost("db.internal");
+            profile.setPort(5432);
+            profile.setConnectTimeoutMs(1500);
+
+            final CheckProfileDto dto = mapper.toDto((CheckProfile) profile);
+
+            assertThat(dto).isEqualTo(new TcpConnectProfileDto(3L, 4L, "db.internal", 5432, 1500));
+        }
+
         @Test
         void should_fail_fast_for_unknown_subtype() {
             final UnknownProfile unknown = new UnknownProfile();
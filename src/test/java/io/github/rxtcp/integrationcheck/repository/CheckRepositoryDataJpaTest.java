@@ -6,6 +6,7 @@ import io.github.rxtcp.integrationcheck.domain.HttpMethod;
 import jakarta.persistence.EntityManager;
 import org.hibernate.Hibernate;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
@@ -18,6 +19,7 @@ import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -193,6 +195,27 @@ class CheckRepositoryDataJpaTest {
         }
     }
 
+    // ===== findWithProfileByIdIn ===============================================================
+
+    @Nested
+    @DisplayName("findWithProfileByIdIn(ids)")
+    class FindWithProfileByIdIn {
+
+        @Test
+        void should_fetch_requested_checks_with_profiles_and_skip_unknown_ids() {
+            final Check first = persistCheckWithProfile(
+                    newCheck("batch-1", true, LocalDateTime.now().minusMinutes(5)), new RestApiProfile());
+            final Check second = persistCheckWithProfile(
+                    newCheck("batch-2", true, LocalDateTime.now().minusMinutes(5)), new RestApiProfile());
+            persistCheck(newCheck("batch-other", true, LocalDateTime.now().minusMinutes(5)));
+
+            final List<Check> found = repository.findWithProfileByIdIn(List.of(first.getId(), second.getId(), UNKNOWN_ID));
+
+            assertThat(found).extracting(Check::getId).containsExactlyInAnyOrder(first.getId(), second.getId());
+            assertThat(found).allSatisfy(check -> assertThat(Hibernate.isInitialized(check.getProfile())).isTrue());
+        }
+    }
+
     // ===== Уникальность имени ===================================================================
 
     @Nested
@@ -240,4 +263,70 @@ class CheckRepositoryDataJpaTest {
             assertThat(repository.findById(saved.getId())).isEmpty();
         }
     }
-}
\ No newline at end of file
+
+    // ===== Триггеры updated_at =================================================================
+
+    @Nested
+    @DisplayName("Триггеры updated_at (V16)")
+    class UpdatedAtTriggers {
+
+        private static final LocalDateTime MARK = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+        private Check saved;
+
+        private void resetUpdatedAt() {
+            em.createNativeQuery("update integration_health_check.h_check set updated_at = :mark where id = :id")
+                    .setParameter("mark", MARK).setParameter("id", saved.getId()).executeUpdate();
+            em.createNativeQuery("update integration_health_check.h_check_profile set updated_at = :mark where check_id = :id")
+                    .setParameter("mark", MARK).setParameter("id", saved.getId()).executeUpdate();
+        }
+
+        private LocalDateTime updatedAt(String table, String idColumn) {
+            final Object value = em.createNativeQuery(
+                            "select updated_at from integration_health_check." + table + " where " + idColumn + " = :id")
+                    .setParameter("id", saved.getId()).getSingleResult();
+            return value instanceof Timestamp ts ? ts.toLocalDateTime() : (LocalDateTime) value;
+        }
+
+        private void sql(String statement) {
+            em.createNativeQuery(statement).setParameter("id", saved.getId()).executeUpdate();
+        }
+
+        @BeforeEach
+        void persistWithProfile() {
+            saved = persistCheckWithProfile(newCheck("touch", true, LocalDateTime.now()), new RestApiProfile());
+            resetUpdatedAt();
+        }
+
+        @Test
+        void should_touch_check_when_definition_changes_by_sql() {
+            sql("update integration_health_check.h_check set name = 'touch-renamed' where id = :id");
+
+            assertThat(updatedAt("h_check", "id")).isAfter(MARK);
+            assertThat(updatedAt("h_check_profile", "check_id")).isEqualTo(MARK);
+        }
+
+        @Test
+        void should_not_touch_check_on_schedule_lease_and_adaptive_state_updates() {
+            sql("""
+                    update integration_health_check.h_check
+                    set next_run_at = next_run_at + interval '1' minute,
+                        lease_owner = 'node-a', lease_until = next_run_at,
+                        adaptive_interval_sec = 60, success_streak = 2
+                    where id = :id""");
+
+            assertThat(updatedAt("h_check", "id")).isEqualTo(MARK);
+        }
+
+        @Test
+        void should_touch_base_profile_when_subtype_changes_by_sql() {
+            sql("""
+                    update integration_health_check.h_check_rest_api
+                    set url = 'https://example.org/changed'
+                    where id = (select id from integration_health_check.h_check_profile where check_id = :id)""");
+
+            assertThat(updatedAt("h_check_profile", "check_id")).isAfter(MARK);
+            assertThat(updatedAt("h_check", "id")).isEqualTo(MARK);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.rxtcp.integrationcheck.repository.h2;
+
+import org.h2.api.Trigger;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * H2-эквивалент триггеров {@code updated_at} миграции {@code db/vendor/postgresql/V16}.
+ * <p>
+ * H2 не исполняет PL/pgSQL, поэтому та же логика реализована Java-триггером (H2 — только тестовая зависимость,
+ * и класс, и миграция {@code db/vendor/h2/V16} лежат в тестовом classpath):
+ * <ul>
+ *   <li>таблица с {@code updated_at} ({@code h_check}, {@code h_check_profile}) — {@code BEFORE UPDATE}:
+ *   если изменились колонки определения, а {@code updated_at} в том же UPDATE не задан, он проставляется;</li>
+ *   <li>подтип профиля ({@code h_check_rest_api}, {@code h_check_tcp_connect}) — {@code AFTER UPDATE}:
+ *   изменение строки переносится в {@code updated_at} базового профиля.</li>
+ * </ul>
+ * Колонки расписания, аренды и адаптивного состояния определением не считаются.
+ */
+public class TouchUpdatedAtTrigger implements Trigger {
+
+    private static final String UPDATED_AT = "updated_at";
+
+    /**
+     * Колонки текущего состояния проверки: их изменение {@code updated_at} не трогает.
+     */
+    private static final Set<String> STATE_COLUMNS = Set.of(
+            UPDATED_AT, "next_run_at", "lease_owner", "lease_until", "adaptive_interval_sec", "success_streak");
+
+    private String schemaName;
+    private int updatedAtIndex = -1;
+    private int idIndex = -1;
+    private int[] definitionIndexes;
+
+    @Override
+    public void init(Connection conn, String schemaName, String triggerName, String tableName,
+                     boolean before, int type) throws SQLException {
+        this.schemaName = schemaName;
+        final List<Integer> definition = new ArrayList<>();
+        try (ResultSet columns = conn.getMetaData().getColumns(null, schemaName, tableName, null)) {
+            while (columns.next()) {
+                final String column = columns.getString("COLUMN_NAME").toLowerCase(Locale.ROOT);
+                final int index = columns.getInt("ORDINAL_POSITION") - 1;
+                if (UPDATED_AT.equals(column)) {
+                    updatedAtIndex = index;
+                } else if ("id".equals(column)) {
+                    idIndex = index;
+                }
+                if (!STATE_COLUMNS.contains(column)) {
+                    definition.add(index);
+                }
+            }
+        }
+        definitionIndexes = definition.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    @Override
+    public void fire(Connection conn, Object[] oldRow, Object[] newRow) throws SQLException {
+        if (oldRow == null || newRow == null || !definitionChanged(oldRow, newRow)) {
+            return;
+        }
+        if (updatedAtIndex >= 0) {
+            if (Objects.equals(oldRow[updatedAtIndex], newRow[updatedAtIndex])) {
+                newRow[updatedAtIndex] = LocalDateTime.now();
+            }
+            return;
+        }
+        try (PreparedStatement touch = conn.prepareStatement(
+                "update " + schemaName + ".h_check_profile set updated_at = ? where id = ?")) {
+            touch.setObject(1, LocalDateTime.now());
+            touch.setObject(2, newRow[idIndex]);
+            touch.executeUpdate();
+        }
+    }
+
+    private boolean definitionChanged(Object[] oldRow, Object[] newRow) {
+        for (int index : definitionIndexes) {
+            if (!Objects.equals(oldRow[index], newRow[index])) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -17,6 +17,7 @@ import static org.mockito.Mockito.mock;
  * Проверяет условное создание бина {@link IntegrationHealthCheckScheduler}
  * в зависимости от флага:
  * application.spring-batch.jobs.integration-health-check-job.schedule.enabled
+ * и режима application.integration.scheduler.mode.
  */
 @DisplayName("IntegrationHealthCheckScheduler: условная регистрация бина")
 @DisplayNameGeneration(ReplaceUnderscores.class)
@@ -27,6 +28,7 @@ class IntegrationHealthCheckSchedulerConditionalTest {
     private static final String ENABLED = PREFIX + ".enabled";
     private static final String CRON = PREFIX + ".cron";
     private static final String ZONE = PREFIX + ".zone";
+    private static final String MODE = "application.integration.scheduler.mode";
 
     /**
      * Минимальная конфигурация контекста: сам планировщик и заглушка сервиса.
@@ -48,6 +50,30 @@ class IntegrationHealthCheckSchedulerConditionalTest {
                     )
                     .run(ctx -> assertThat(ctx).hasSingleBean(IntegrationHealthCheckScheduler.class));
         }
+
+        @Test
+        void should_create_scheduler_bean_in_cron_mode() {
+            contextRunner
+                    .withPropertyValues(
+                            ENABLED + "=true",
+                            MODE + "=cron",
+                            CRON + "=0 * * * * *",
+                            ZONE + "=UTC"
+                    )
+                    .run(ctx -> assertThat(ctx).hasSingleBean(IntegrationHealthCheckScheduler.class));
+        }
+
+        @Test
+        void should_not_create_scheduler_bean_in_wheel_mode() {
+            contextRunner
+                    .withPropertyValues(
+                            ENABLED + "=true",
+                            MODE + "=wheel",
+                            CRON + "=0 * * * * *",
+                            ZONE + "=UTC"
+                    )
+                    .run(ctx -> assertThat(ctx).doesNotHaveBean(IntegrationHealthCheckScheduler.class));
+        }
     }
 
     @Nested
@@ -0,0 +1,231 @@
+package io.github.rxtcp.integrationcheck.scheduler;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ExecutionEngineProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulerProps;
+import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.service.CheckExecution;
+import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
+import io.github.rxtcp.integrationcheck.service.reader.CheckReaderService;
+import io.github.rxtcp.integrationcheck.service.writer.CheckWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Нагрузочный тест {@link TimingWheelScheduler} на настоящих репозиториях (H2):
+ * {@code benchmark.checks} проверок {@code FIXED_RATE} с интервалом {@code benchmark.interval-seconds}
+ * в течение {@code benchmark.duration-seconds}.
+ * <p>
+ * В отличие от {@link TimingWheelSchedulerLoadTest}, сверка, аренда пачек и перечитывание сроков идут через
+ * {@link CheckReader} в БД, а следующий срок записывает {@link CheckWriter#rescheduleNextRun}; заглушкой
+ * остаётся только сама проверка — пауза {@code benchmark.probe-millis}. Замер тот же: опоздание старта запуска
+ * от его {@code next_run_at} (p50/p99/max) и пропущенные слоты.
+ * <p>
+ * Ограничения. H2 работает в той же JVM, что и колесо: каждый захват пачки (блокировка, аренда, сроки, дельта
+ * кэша определений) и каждый перенос срока расходуют процессор планировщика, поэтому пропускная способность
+ * упирается в число ядер машины теста, а не в колесо. На одном ядре порог выдерживается при 1 000 проверок
+ * с интервалом 10 с (100 запусков в секунду: p99 0,01–0,5 с), при 3 000 — уже нет. Поэтому по умолчанию здесь
+ * 1 000 проверок, а не 10 000, как в {@link TimingWheelSchedulerLoadTest}. Первый проход по интервалу — прогрев,
+ * его запуски считаются, но в опоздание не входят. Сетевые задержки PostgreSQL H2 не воспроизводит.
+ * Запуск: {@code mvn test -Dbenchmark=true -Dtest=TimingWheelSchedulerH2LoadTest}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource(properties = "application.spring-batch.jobs.integration-health-check-job.schedule.enabled=false")
+@DisplayName("TimingWheelScheduler: нагрузочный тест секундных интервалов на H2")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class TimingWheelSchedulerH2LoadTest {
+
+    private static final int CHECKS = Integer.getInteger("benchmark.checks", 1_000);
+    private static final int INTERVAL_SECONDS = Integer.getInteger("benchmark.interval-seconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("benchmark.duration-seconds", 60);
+    private static final int PROBE_MILLIS = Integer.getInteger("benchmark.probe-millis", 50);
+    private static final long MAX_P99_LAG_MILLIS = Long.getLong("benchmark.max-p99-lag-millis", 1_000);
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+
+    /**
+     * Первый id проверок теста: строки не пересекаются с проверками других тестов в общей базе H2.
+     */
+    private static final long FIRST_ID = 10_000_000L;
+
+    // конкретный тип: бин checkReader в общем тестовом контексте может быть подменён моком
+    @Autowired
+    private CheckReaderService checkReader;
+    @Autowired
+    private CheckWriter checkWriter;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<Long, Integer> runs = new ConcurrentHashMap<>();
+    /**
+     * Начало замера опоздания: первый проход по интервалу прогревает JIT и пул соединений и в замер не входит.
+     */
+    private volatile LocalDateTime measuredFrom;
+    private final List<Long> lags = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        jdbcTemplate.update("delete from integration_health_check.h_check where id >= ?", FIRST_ID);
+    }
+
+    @Test
+    void checks_with_second_intervals_should_start_on_schedule() throws Exception {
+        // первые сроки — после прогрева и первой полной сверки, равномерно по интервалу
+        final LocalDateTime start = LocalDateTime.now().plus(WARM_UP);
+        seed(start);
+        measuredFrom = start.plusSeconds(INTERVAL_SECONDS);
+        final double missedBefore = missedSlots();
+        final TimingWheelScheduler scheduler = new TimingWheelScheduler(checkReader, execution(),
+                new SchedulerProps(SchedulerProps.Mode.WHEEL, Duration.ofMillis(1), 64, Duration.ofSeconds(5),
+                        Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofSeconds(5)),
+                new ExecutionEngineProps(ExecutionEngineProps.Type.DIRECT, 100, 64, "wheel-h2-load-"),
+                new SimpleMeterRegistry());
+        final ScheduledExecutorService resync = Executors.newSingleThreadScheduledExecutor();
+
+        scheduler.start();
+        try {
+            scheduler.resync();
+            resync.scheduleWithFixedDelay(scheduler::resync, 5, 5, TimeUnit.SECONDS);
+            TimeUnit.SECONDS.sleep(DURATION_SECONDS);
+        } finally {
+            resync.shutdownNow();
+            scheduler.stop();
+        }
+
+        final long[] sorted;
+        synchronized (lags) {
+            sorted = lags.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+        final long p50 = percentile(sorted, 0.50);
+        final long p99 = percentile(sorted, 0.99);
+        final long max = sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+        final double missed = missedSlots() - missedBefore;
+        final int minRuns = runs.values().stream().mapToInt(Integer::intValue).min().orElse(0);
+
+        System.out.printf("checks=%d, interval=%ds, duration=%ds, probe=%dms (H2)%n", CHECKS, INTERVAL_SECONDS, DURATION_SECONDS, PROBE_MILLIS);
+        System.out.printf("runs=%d (min per check %d), missed slots=%.0f%n", sorted.length, minRuns, missed);
+        System.out.printf("start lag: p50=%d ms, p99=%d ms, max=%d ms%n", p50, p99, max);
+
+        assertThat(runs).hasSize(CHECKS);
+        assertThat(minRuns).isGreaterThanOrEqualTo((DURATION_SECONDS - (int) WARM_UP.toSeconds()) / INTERVAL_SECONDS - 1);
+        assertThat(missed).isZero();
+        assertThat(p99).isLessThanOrEqualTo(MAX_P99_LAG_MILLIS);
+    }
+
+    /**
+     * Вставляет проверки TCP с профилями пакетами; сроки распределены по интервалу от {@code start}.
+     * Определения изменены в прошлом с шагом в минуту, как при правках по одной: общая недавняя отметка
+     * {@code updated_at} держала бы все строки в перекрытии дельты кэша, и каждый захват перечитывал бы их все.
+     */
+    private void seed(LocalDateTime start) {
+        final long spreadMillis = INTERVAL_SECONDS * 1_000L;
+        final LocalDateTime definedAt = start.minusDays(1);
+        final List<Object[]> checks = new ArrayList<>(CHECKS);
+        final List<Object[]> profiles = new ArrayList<>(CHECKS);
+        final List<Object[]> tcpProfiles = new ArrayList<>(CHECKS);
+        LongStream.range(0, CHECKS).forEach(n -> {
+            final long id = FIRST_ID + n;
+            final LocalDateTime nextRunAt = start.plus(Duration.ofMillis(n * spreadMillis / CHECKS));
+            final Timestamp updatedAt = Timestamp.valueOf(definedAt.minusMinutes(n));
+            checks.add(new Object[]{id, "wheel-load-" + id, INTERVAL_SECONDS, Timestamp.valueOf(nextRunAt), updatedAt});
+            profiles.add(new Object[]{id, id, updatedAt});
+            tcpProfiles.add(new Object[]{id});
+        });
+        jdbcTemplate.batchUpdate("""
+                insert into integration_health_check.h_check
+                    (id, name, enabled, run_interval_min, run_interval_sec, next_run_at, updated_at, type_code, schedule_mode)
+                values (?, ?, true, 1, ?, ?, ?, 'TCP_CONNECT', 'FIXED_RATE')""", checks);
+        jdbcTemplate.batchUpdate("""
+                insert into integration_health_check.h_check_profile (id, check_id, updated_at, type_code)
+                values (?, ?, ?, 'TCP_CONNECT')""", profiles);
+        jdbcTemplate.batchUpdate("""
+                insert into integration_health_check.h_check_tcp_connect (id, host, port, connect_timeout_ms)
+                values (?, 'localhost', 80, 1000)""", tcpProfiles);
+    }
+
+    /**
+     * Запуск пачки: фиксирует опоздание (после прогрева), ждёт {@link #PROBE_MILLIS} и переносит сроки через {@link CheckWriter}.
+     */
+    private CheckExecution execution() {
+        return new CheckExecution() {
+            @Override
+            public void execute(long checkId) {
+                throw new UnsupportedOperationException("колесо запускает пачки через executeChecks");
+            }
+
+            @Override
+            public void executeChecks(List<CheckDto> checks) {
+                final LocalDateTime startedAt = LocalDateTime.now();
+                final List<CheckDto> own = checks.stream().filter(check -> check.id() >= FIRST_ID).toList();
+                final long[] batchLags = own.stream()
+                        .filter(check -> !check.nextRunAt().isBefore(measuredFrom))
+                        .mapToLong(check -> Duration.between(check.nextRunAt(), startedAt).toMillis())
+                        .toArray();
+                synchronized (lags) {
+                    for (long lag : batchLags) {
+                        lags.add(lag);
+                    }
+                }
+                try {
+                    TimeUnit.MILLISECONDS.sleep(PROBE_MILLIS);
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                final CheckResult result = CheckResult.builder()
+                        .status(CheckRunStatus.SUCCEEDED)
+                        .finishedAt(LocalDateTime.now())
+                        .build();
+                for (CheckDto check : own) {
+                    checkWriter.rescheduleNextRun(Check.builder()
+                            .id(check.id())
+                            .runIntervalMin(check.runIntervalMin())
+                            .runIntervalSec(check.runIntervalSec())
+                            .nextRunAt(check.nextRunAt())
+                            .scheduleMode(check.scheduleMode())
+                            .build(), result);
+                    runs.merge(check.id(), 1, Integer::sum);
+                }
+            }
+        };
+    }
+
+    private double missedSlots() {
+        final var counter = meterRegistry.find("integration.schedule.missed.slots").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.rxtcp.integrationcheck.scheduler;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ExecutionEngineProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulerProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulingPolicyProps;
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.CheckScheduleDto;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.service.CheckExecution;
+import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
+import io.github.rxtcp.integrationcheck.service.schedule.FixedRateSchedule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Нагрузочный тест {@link TimingWheelScheduler}: {@code benchmark.checks} проверок {@code FIXED_RATE}
+ * с интервалом {@code benchmark.interval-seconds} в течение {@code benchmark.duration-seconds}.
+ * <p>
+ * БД заменена таблицей сроков в памяти, запуск пачки — паузой {@code benchmark.probe-millis}; следующий срок
+ * считает настоящий {@link FixedRateSchedule}. Замер — опоздание старта запуска от его {@code next_run_at}
+ * (p50/p99/max) и пропущенные слоты.
+ * <p>
+ * Ограничение: без БД замер показывает только накладные расходы колеса и исполнителя — захват, аренда
+ * и перенос сроков здесь ничего не стоят. Тот же сценарий на настоящих репозиториях —
+ * {@link TimingWheelSchedulerH2LoadTest}. Запуск:
+ * {@code mvn test -Dbenchmark=true -Dtest=TimingWheelSchedulerLoadTest}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("TimingWheelScheduler: нагрузочный тест секундных интервалов")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class TimingWheelSchedulerLoadTest {
+
+    private static final int CHECKS = Integer.getInteger("benchmark.checks", 10_000);
+    private static final int INTERVAL_SECONDS = Integer.getInteger("benchmark.interval-seconds", 10);
+    private static final int DURATION_SECONDS = Integer.getInteger("benchmark.duration-seconds", 60);
+    private static final int PROBE_MILLIS = Integer.getInteger("benchmark.probe-millis", 50);
+    private static final long MAX_P99_LAG_MILLIS = Long.getLong("benchmark.max-p99-lag-millis", 1_000);
+    private static final Duration WARM_UP = Duration.ofSeconds(5);
+
+    /**
+     * Текущий {@code next_run_at} проверок — таблица {@code h_check}.
+     */
+    private final Map<Long, LocalDateTime> nextRunAt = new ConcurrentHashMap<>();
+    private final LocalDateTime definedAt = LocalDateTime.now().minusDays(1);
+    private final Map<Long, Integer> runs = new ConcurrentHashMap<>();
+    private final List<Long> lags = new ArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final FixedRateSchedule fixedRateSchedule = new FixedRateSchedule(
+            new SchedulingPolicyProps(SchedulingPolicyProps.Type.INTERVAL, Duration.ZERO, Duration.ZERO,
+                    SchedulingPolicyProps.CatchUp.COALESCE),
+            meterRegistry);
+
+    @Test
+    void checks_with_second_intervals_should_start_on_schedule() throws Exception {
+        // первые сроки — после прогрева и первой полной сверки, равномерно по интервалу
+        final LocalDateTime start = LocalDateTime.now().plus(WARM_UP);
+        final long spreadMillis = INTERVAL_SECONDS * 1_000L;
+        for (long id = 1; id <= CHECKS; id++) {
+            nextRunAt.put(id, start.plus(Duration.ofMillis(id * spreadMillis / CHECKS)));
+        }
+        final AtomicLong readerCalls = new AtomicLong();
+        final TimingWheelScheduler scheduler = new TimingWheelScheduler(reader(readerCalls), execution(),
+                new SchedulerProps(SchedulerProps.Mode.WHEEL, Duration.ofMillis(1), 64, Duration.ofSeconds(5),
+                        Duration.ofMinutes(10), Duration.ofMinutes(1), Duration.ofSeconds(5)),
+                new ExecutionEngineProps(ExecutionEngineProps.Type.DIRECT, 100, 64, "wheel-load-"),
+                meterRegistry);
+        final ScheduledExecutorService resync = Executors.newSingleThreadScheduledExecutor();
+
+        scheduler.start();
+        try {
+            scheduler.resync();
+            resync.scheduleWithFixedDelay(scheduler::resync, 5, 5, TimeUnit.SECONDS);
+            TimeUnit.SECONDS.sleep(DURATION_SECONDS);
+        } finally {
+            resync.shutdownNow();
+            scheduler.stop();
+        }
+
+        final long[] sorted;
+        synchronized (lags) {
+            sorted = lags.stream().mapToLong(Long::longValue).sorted().toArray();
+        }
+        final long p50 = percentile(sorted, 0.50);
+        final long p99 = percentile(sorted, 0.99);
+        final long max = sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+        final double missed = meterRegistry.get("integration.schedule.missed.slots").counter().count();
+        final int minRuns = runs.values().stream().mapToInt(Integer::intValue).min().orElse(0);
+
+        System.out.printf("checks=%d, interval=%ds, duration=%ds, probe=%dms%n", CHECKS, INTERVAL_SECONDS, DURATION_SECONDS, PROBE_MILLIS);
+        System.out.printf("runs=%d (min per check %d), reader calls=%d, missed slots=%.0f%n",
+                sorted.length, minRuns, readerCalls.get(), missed);
+        System.out.printf("start lag: p50=%d ms, p99=%d ms, max=%d ms%n", p50, p99, max);
+
+        assertThat(runs).hasSize(CHECKS);
+        assertThat(minRuns).isGreaterThanOrEqualTo((DURATION_SECONDS - (int) WARM_UP.toSeconds()) / INTERVAL_SECONDS - 1);
+        assertThat(missed).isZero();
+        assertThat(p99).isLessThanOrEqualTo(MAX_P99_LAG_MILLIS);
+    }
+
+    /**
+     * Чтение из таблицы сроков: захват отдаёт все проверки, изменений в обход узла нет.
+     */
+    private CheckReader reader(AtomicLong calls) {
+        final CheckReader reader = mock(CheckReader.class, withSettings().stubOnly());
+        when(reader.findEnabledSchedules()).thenAnswer(invocation -> schedules(nextRunAt.keySet()));
+        when(reader.findSchedulesChangedSince(any())).thenReturn(List.of());
+        when(reader.claimChecks(any())).thenAnswer(invocation -> {
+            calls.incrementAndGet();
+            final Collection<Long> ids = invocation.getArgument(0);
+            return ids.stream().map(this::check).toList();
+        });
+        when(reader.findSchedules(any())).thenAnswer(invocation -> {
+            calls.incrementAndGet();
+            return schedules(invocation.getArgument(0));
+        });
+        return reader;
+    }
+
+    /**
+     * Запуск пачки: фиксирует опоздание, ждёт {@link #PROBE_MILLIS} и переносит сроки как {@code CheckWriter}.
+     */
+    private CheckExecution execution() {
+        final CheckExecution execution = mock(CheckExecution.class, withSettings().stubOnly());
+        doAnswer(invocation -> {
+            final List<CheckDto> checks = invocation.getArgument(0);
+            final LocalDateTime startedAt = LocalDateTime.now();
+            final long[] batchLags = checks.stream()
+                    .mapToLong(check -> Duration.between(check.nextRunAt(), startedAt).toMillis())
+                    .toArray();
+            synchronized (lags) {
+                Arrays.stream(batchLags).forEach(lags::add);
+            }
+            TimeUnit.MILLISECONDS.sleep(PROBE_MILLIS);
+            final CheckResult result = CheckResult.builder().finishedAt(LocalDateTime.now()).build();
+            for (CheckDto check : checks) {
+                final Check reference = Check.builder()
+                        .id(check.id())
+                        .runIntervalMin(check.runIntervalMin())
+                        .runIntervalSec(check.runIntervalSec())
+                        .nextRunAt(check.nextRunAt())
+                        .scheduleMode(check.scheduleMode())
+                        .build();
+                nextRunAt.put(check.id(), fixedRateSchedule.nextRunAt(reference, result));
+                runs.merge(check.id(), 1, Integer::sum);
+            }
+            return null;
+        }).when(execution).executeChecks(anyList());
+        return execution;
+    }
+
+    private CheckDto check(long id) {
+        return new CheckDto(id, "check-" + id, null, true, 1, nextRunAt.get(id), CheckType.TCP_CONNECT,
+                new TcpConnectProfileDto(id, id, "localhost", 80, 1000), ScheduleMode.FIXED_RATE, INTERVAL_SECONDS,
+                null, null, null, 0);
+    }
+
+    private List<CheckScheduleDto> schedules(Collection<Long> ids) {
+        return ids.stream()
+                .map(id -> new CheckScheduleDto(id, true, nextRunAt.get(id), definedAt, null, 0))
+                .toList();
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1)];
+    }
+}
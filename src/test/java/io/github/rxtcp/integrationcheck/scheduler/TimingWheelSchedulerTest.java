@@ -0,0 +1,208 @@
+package io.github.rxtcp.integrationcheck.scheduler;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ExecutionEngineProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulerProps;
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.CheckScheduleDto;
+import io.github.rxtcp.integrationcheck.service.CheckExecution;
+import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Юнит-тесты {@link TimingWheelScheduler} на реальных часах с заглушками чтения и исполнения.
+ * <p>
+ * Фокус:
+ * - проверка запускается в момент своего {@code next_run_at}, а не на ближайшем тике, и не раньше него;
+ * - после запуска срок перечитывается и проверка возвращается в колесо;
+ * - незахваченная проверка повторяется через {@code retryDelay};
+ * - срок, сдвинутый запуском в прошлое (догоняние FIXED_RATE), запускается сразу;
+ * - дельта-сверка убирает выключенные проверки, полная — удалённые.
+ */
+@DisplayName("TimingWheelScheduler")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class TimingWheelSchedulerTest {
+
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(30);
+    private static final Duration FULL_RESYNC_INTERVAL = Duration.ofMinutes(10);
+    private static final Duration DELTA_OVERLAP = Duration.ofMinutes(1);
+
+    private final Clock clock = Clock.systemDefaultZone();
+    private final AtomicLong nanos = new AtomicLong();
+    private final CheckReader checkReader = mock(CheckReader.class);
+    private final CheckExecution checkExecution = mock(CheckExecution.class);
+    private SimpleMeterRegistry meterRegistry;
+    private TimingWheelScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = new TimingWheelScheduler(checkReader, checkExecution,
+                new SchedulerProps(SchedulerProps.Mode.WHEEL, Duration.ofMillis(1), 64, Duration.ofSeconds(5),
+                        FULL_RESYNC_INTERVAL, DELTA_OVERLAP, RETRY_DELAY),
+                new ExecutionEngineProps(ExecutionEngineProps.Type.DIRECT, 10, 2, "wheel-test-"),
+                meterRegistry, clock, nanos::get);
+        scheduler.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.stop();
+    }
+
+    private static LocalDateTime at(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long millis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private static CheckScheduleDto schedule(long id, boolean enabled, LocalDateTime nextRunAt, LocalDateTime updatedAt) {
+        return new CheckScheduleDto(id, enabled, nextRunAt, updatedAt, null, 0);
+    }
+
+    private static CheckDto check(long id) {
+        return new CheckDto(id, "check-" + id, null, true, 5, LocalDateTime.now(), CheckType.TCP_CONNECT, null,
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0);
+    }
+
+    @Test
+    void should_dispatch_check_at_its_next_run_at_and_put_it_back_with_new_deadline() {
+        long dueAt = clock.millis() + 200;
+        LocalDateTime next = at(dueAt).plusMinutes(5);
+        when(checkReader.findEnabledSchedules()).thenReturn(List.of(schedule(1, true, at(dueAt), at(dueAt - 1_000))));
+        CheckDto claimed = check(1);
+        when(checkReader.claimChecks(List.of(1L))).thenReturn(List.of(claimed));
+        when(checkReader.findSchedules(List.of(1L))).thenReturn(List.of(schedule(1, true, next, at(dueAt))));
+
+        scheduler.resync();
+        assertThat(scheduler.deadlineOf(1)).isEqualTo(dueAt);
+
+        verify(checkExecution, timeout(5_000)).executeChecks(List.of(claimed));
+        await().atMost(5, SECONDS)
+                .untilAsserted(() -> assertThat(scheduler.deadlineOf(1)).isEqualTo(millis(next)));
+        assertThat(clock.millis()).isGreaterThanOrEqualTo(dueAt);
+        var lag = meterRegistry.get("integration.scheduler.wheel.lag").timer();
+        assertThat(lag.count()).isEqualTo(1);
+        // диспетчер просыпается к сроку, а не к следующему тику cron
+        assertThat(lag.max(MILLISECONDS)).isLessThan(1_000);
+        assertThat(meterRegistry.get("integration.scheduler.wheel.dispatched").tag("result", "claimed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void should_round_sub_millisecond_next_run_at_up_so_check_is_not_dispatched_before_it() {
+        LocalDateTime nextRunAt = at(clock.millis() + 60_000).plusNanos(882_000);
+        when(checkReader.findEnabledSchedules()).thenReturn(List.of(schedule(7, true, nextRunAt, nextRunAt.minusMinutes(1))));
+
+        scheduler.resync();
+
+        assertThat(scheduler.deadlineOf(7)).isEqualTo(millis(nextRunAt) + 1);
+    }
+
+    @Test
+    void should_retry_due_check_not_claimed_by_this_node_after_retry_delay() {
+        LocalDateTime overdue = LocalDateTime.now().minusMinutes(1);
+        when(checkReader.findEnabledSchedules()).thenReturn(List.of(schedule(2, true, overdue, overdue)));
+        when(checkReader.claimChecks(List.of(2L))).thenReturn(List.of());
+        when(checkReader.findSchedules(List.of(2L))).thenReturn(List.of(schedule(2, true, overdue, overdue)));
+        long before = clock.millis();
+
+        scheduler.resync();
+
+        await().atMost(5, SECONDS)
+                .untilAsserted(() -> assertThat(scheduler.deadlineOf(2)).isNotNull());
+        assertThat(scheduler.deadlineOf(2)).isBetween(before + RETRY_DELAY.toMillis(), clock.millis() + RETRY_DELAY.toMillis());
+        verify(checkExecution, never()).executeChecks(any());
+        assertThat(meterRegistry.get("integration.scheduler.wheel.dispatched").tag("result", "skipped").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void should_dispatch_immediately_when_run_moved_deadline_to_past_slot() {
+        LocalDateTime overdue = LocalDateTime.now().withNano(0).minusMinutes(12);
+        LocalDateTime missedSlot = overdue.plusMinutes(5);
+        LocalDateTime next = LocalDateTime.now().withNano(0).plusMinutes(5);
+        when(checkReader.findEnabledSchedules()).thenReturn(List.of(schedule(3, true, overdue, overdue)));
+        CheckDto claimed = check(3);
+        when(checkReader.claimChecks(List.of(3L))).thenReturn(List.of(claimed));
+        when(checkReader.findSchedules(List.of(3L))).thenReturn(
+                List.of(schedule(3, true, missedSlot, overdue)),
+                List.of(schedule(3, true, next, overdue)));
+
+        scheduler.resync();
+
+        // пропущенный слот запускается сразу, а не через retryDelay
+        verify(checkExecution, timeout(5_000).times(2)).executeChecks(List.of(claimed));
+        await().atMost(5, SECONDS)
+                .untilAsserted(() -> assertThat(scheduler.deadlineOf(3)).isEqualTo(millis(next)));
+    }
+
+    @Test
+    void delta_resync_should_read_since_watermark_minus_overlap_and_drop_disabled_checks() {
+        LocalDateTime later = LocalDateTime.now().withNano(0).plusHours(1);
+        LocalDateTime updatedAt = LocalDateTime.now().minusHours(1);
+        when(checkReader.findEnabledSchedules()).thenReturn(List.of(
+                schedule(3, true, later, updatedAt),
+                schedule(4, true, later, updatedAt.minusDays(1))));
+        scheduler.resync();
+
+        LocalDateTime changedAt = updatedAt.plusMinutes(30);
+        when(checkReader.findSchedulesChangedSince(updatedAt.minus(DELTA_OVERLAP)))
+                .thenReturn(List.of(schedule(3, false, later, changedAt), schedule(5, true, later.plusHours(1), changedAt)));
+        scheduler.resync();
+
+        assertThat(scheduler.deadlineOf(3)).isNull();
+        assertThat(scheduler.deadlineOf(4)).isEqualTo(millis(later));
+        assertThat(scheduler.deadlineOf(5)).isEqualTo(millis(later.plusHours(1)));
+
+        // следующая дельта — от отметки последнего изменения
+        scheduler.resync();
+        verify(checkReader).findSchedulesChangedSince(changedAt.minus(DELTA_OVERLAP));
+    }
+
+    @Test
+    void full_resync_should_drop_checks_missing_from_database() {
+        LocalDateTime later = LocalDateTime.now().withNano(0).plusHours(1);
+        when(checkReader.findEnabledSchedules())
+                .thenReturn(List.of(schedule(6, true, later, later), schedule(7, true, later, later)))
+                .thenReturn(List.of(schedule(7, true, later, later)));
+        scheduler.resync();
+
+        nanos.addAndGet(FULL_RESYNC_INTERVAL.toNanos());
+        scheduler.resync();
+
+        assertThat(scheduler.deadlineOf(6)).isNull();
+        assertThat(scheduler.deadlineOf(7)).isEqualTo(millis(later));
+        assertThat(scheduler.size()).isEqualTo(1);
+        assertThat(meterRegistry.get("integration.scheduler.wheel.resyncs").tag("kind", "full").counter().count())
+                .isEqualTo(2.0);
+    }
+}
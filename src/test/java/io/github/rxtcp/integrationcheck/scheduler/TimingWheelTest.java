@@ -0,0 +1,124 @@
+package io.github.rxtcp.integrationcheck.scheduler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Юнит-тесты {@link TimingWheel}.
+ * <p>
+ * Фокус:
+ * - идентификатор отдаётся ровно в тик своего срока, не раньше;
+ * - дальние сроки уходят на верхние уровни и пересыпаются вниз без потери точности;
+ * - перепланирование заменяет срок, отмена убирает идентификатор;
+ * - уже наступивший срок не планируется.
+ */
+@DisplayName("TimingWheel")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private static List<Long> ids(List<TimingWheel.Expired> expired) {
+        return expired.stream().map(TimingWheel.Expired::id).toList();
+    }
+
+    @Test
+    void should_fire_at_deadline_and_not_before() {
+        TimingWheel wheel = new TimingWheel(1, 8, START);
+
+        assertThat(wheel.schedule(1, START + 5)).isTrue();
+
+        assertThat(wheel.nextExpiration()).isEqualTo(START + 5);
+        assertThat(wheel.advance(START + 4)).isEmpty();
+        assertThat(wheel.advance(START + 5)).containsExactly(new TimingWheel.Expired(1, START + 5));
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.nextExpiration()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void should_cascade_far_deadlines_through_overflow_levels_with_tick_precision() {
+        TimingWheel wheel = new TimingWheel(1, 4, START);
+        // 4 ячейки по 1 мс: 1 000 мс — третий-пятый уровень
+        long far = START + 1_000;
+        wheel.schedule(7, far);
+
+        List<Long> fired = new ArrayList<>();
+        long now = START;
+        while (fired.isEmpty()) {
+            // продвижение до ближайшей ячейки, как это делает диспетчер
+            now = wheel.nextExpiration();
+            assertThat(now).isLessThanOrEqualTo(far);
+            fired.addAll(ids(wheel.advance(now)));
+        }
+
+        assertThat(fired).containsExactly(7L);
+        assertThat(now).isEqualTo(far);
+    }
+
+    @Test
+    void should_return_all_expired_ids_in_deadline_order() {
+        TimingWheel wheel = new TimingWheel(1, 16, START);
+        Random random = new Random(42);
+        List<Long> deadlines = new ArrayList<>();
+        for (long id = 0; id < 1_000; id++) {
+            long deadline = START + 1 + random.nextInt(100_000);
+            deadlines.add(deadline);
+            wheel.schedule(id, deadline);
+        }
+
+        List<TimingWheel.Expired> expired = wheel.advance(START + 200_000);
+
+        assertThat(expired).hasSize(1_000);
+        assertThat(expired).extracting(TimingWheel.Expired::deadlineMillis).isSorted();
+        assertThat(expired).allSatisfy(e -> assertThat(e.deadlineMillis()).isEqualTo(deadlines.get((int) e.id())));
+    }
+
+    @Test
+    void should_replace_deadline_on_reschedule() {
+        TimingWheel wheel = new TimingWheel(1, 8, START);
+        wheel.schedule(1, START + 3);
+        wheel.schedule(1, START + 50);
+
+        assertThat(wheel.advance(START + 10)).isEmpty();
+        assertThat(wheel.deadlineOf(1)).isEqualTo(START + 50);
+        assertThat(ids(wheel.advance(START + 50))).containsExactly(1L);
+    }
+
+    @Test
+    void should_drop_cancelled_id() {
+        TimingWheel wheel = new TimingWheel(1, 8, START);
+        wheel.schedule(1, START + 3);
+        wheel.schedule(2, START + 3);
+
+        wheel.cancel(1);
+
+        assertThat(wheel.ids()).containsExactly(2L);
+        assertThat(ids(wheel.advance(START + 3))).containsExactly(2L);
+    }
+
+    @Test
+    void should_not_schedule_deadline_that_already_passed() {
+        TimingWheel wheel = new TimingWheel(10, 8, START);
+        wheel.schedule(1, START + 100);
+
+        // срок в пределах текущего тика — уже наступил; прежний срок идентификатора снимается
+        assertThat(wheel.schedule(1, START + 5)).isFalse();
+        assertThat(wheel.deadlineOf(1)).isNull();
+        assertThat(wheel.advance(START + 1_000)).isEmpty();
+    }
+
+    @Test
+    void should_reject_invalid_geometry() {
+        assertThatThrownBy(() -> new TimingWheel(0, 8, START)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TimingWheel(1, 1, START)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
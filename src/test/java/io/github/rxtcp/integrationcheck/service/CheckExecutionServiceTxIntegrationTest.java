@@ -8,11 +8,11 @@ import io.github.rxtcp.integrationcheck.entity.CheckResult;
 import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
 import io.github.rxtcp.integrationcheck.domain.CheckType;
 import io.github.rxtcp.integrationcheck.domain.HttpMethod;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
 import io.github.rxtcp.integrationcheck.mapper.CheckMapper;
 import io.github.rxtcp.integrationcheck.service.processor.CheckProcessor;
 import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
 import io.github.rxtcp.integrationcheck.service.writer.CheckResultWriter;
-import io.github.rxtcp.integrationcheck.service.writer.CheckWriter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
@@ -61,8 +61,6 @@ class CheckExecutionServiceTxIntegrationTest {
     @MockitoBean
     CheckProcessor checkProcessor;
     @MockitoBean
-    CheckWriter checkWriter;
-    @MockitoBean
     CheckResultWriter checkResultWriter;
 
     // ===== Хелперы DTO/Entity (с фиксированными значениями) =====================================
@@ -89,7 +87,8 @@ class CheckExecutionServiceTxIntegrationTest {
                 5,
                 NOW.plusMinutes(1),
                 CheckType.REST_API,
-                profileDto()
+                profileDto(),
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0
         );
     }
 
@@ -134,11 +133,9 @@ class CheckExecutionServiceTxIntegrationTest {
         given(checkProcessor.process(any(CheckDto.class)))
                 .willReturn(new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "ok"));
 
-        // Завершение истории и перенос nextRunAt
-        given(checkResultWriter.recordProcessEnd(any(CheckResult.class), any(CheckResultDto.class)))
+        // Завершение истории и перенос nextRunAt одним коммитом
+        given(checkResultWriter.completeProcess(any(CheckResult.class), any(CheckResultDto.class)))
                 .willReturn(CheckResult.builder().id(RESULT_ID).build());
-        given(checkWriter.updateNextExecutionTime(any(Check.class), any()))
-                .willReturn(checkEntity());
 
         // when
         service.execute(CHECK_ID);
@@ -154,7 +151,6 @@ class CheckExecutionServiceTxIntegrationTest {
         then(checkResultWriter).should().recordProcessStart(any());
         then(checkMapper).should().toDto(any(Check.class));
         then(checkProcessor).should().process(any(CheckDto.class));
-        then(checkResultWriter).should().recordProcessEnd(any(CheckResult.class), any(CheckResultDto.class));
-        then(checkWriter).should().updateNextExecutionTime(any(Check.class), any());
+        then(checkResultWriter).should().completeProcess(any(CheckResult.class), any(CheckResultDto.class));
     }
 }
\ No newline at end of file
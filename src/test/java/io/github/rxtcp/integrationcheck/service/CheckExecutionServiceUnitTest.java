@@ -8,11 +8,11 @@ import io.github.rxtcp.integrationcheck.entity.CheckResult;
 import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
 import io.github.rxtcp.integrationcheck.domain.CheckType;
 import io.github.rxtcp.integrationcheck.domain.HttpMethod;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
 import io.github.rxtcp.integrationcheck.mapper.CheckMapper;
 import io.github.rxtcp.integrationcheck.service.processor.CheckProcessor;
 import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
 import io.github.rxtcp.integrationcheck.service.writer.CheckResultWriter;
-import io.github.rxtcp.integrationcheck.service.writer.CheckWriter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
@@ -24,6 +24,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.FAILED;
 import static io.github.rxtcp.integrationcheck.domain.FailureReason.ERROR;
@@ -59,8 +61,6 @@ class CheckExecutionServiceUnitTest {
     @Mock
     CheckProcessor checkProcessor;
     @Mock
-    CheckWriter checkWriter;
-    @Mock
     CheckResultWriter checkResultWriter;
 
     @InjectMocks
@@ -77,7 +77,8 @@ class CheckExecutionServiceUnitTest {
     private static CheckDto checkDto() {
         return new CheckDto(
                 CHECK_ID, "name", "desc", true, 5,
-                NEXT_DTO_RUN_AT, CheckType.REST_API, profileDto()
+                NEXT_DTO_RUN_AT, CheckType.REST_API, profileDto(),
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0
         );
     }
 
@@ -111,26 +112,23 @@ class CheckExecutionServiceUnitTest {
                 .status(CheckRunStatus.SUCCEEDED)
                 .details("ok")
                 .build();
-        Check updated = checkEntity(CHECK_ID);
 
         when(checkReader.findWithProfileById(CHECK_ID)).thenReturn(entity);
         when(checkResultWriter.recordProcessStart(entity)).thenReturn(started);
         when(checkMapper.toDto(entity)).thenReturn(dto);
         when(checkProcessor.process(dto)).thenReturn(resultDto);
-        when(checkResultWriter.recordProcessEnd(started, resultDto)).thenReturn(finished);
-        when(checkWriter.updateNextExecutionTime(entity, finished)).thenReturn(updated);
+        when(checkResultWriter.completeProcess(started, resultDto)).thenReturn(finished);
 
         // when
         assertThatNoException().isThrownBy(() -> service.execute(CHECK_ID));
 
         // then
-        InOrder inOrder = inOrder(checkReader, checkResultWriter, checkMapper, checkProcessor, checkWriter);
+        InOrder inOrder = inOrder(checkReader, checkResultWriter, checkMapper, checkProcessor);
         inOrder.verify(checkReader).findWithProfileById(CHECK_ID);
         inOrder.verify(checkResultWriter).recordProcessStart(entity);
         inOrder.verify(checkMapper).toDto(entity);
         inOrder.verify(checkProcessor).process(dto);
-        inOrder.verify(checkResultWriter).recordProcessEnd(started, resultDto);
-        inOrder.verify(checkWriter).updateNextExecutionTime(entity, finished);
+        inOrder.verify(checkResultWriter).completeProcess(started, resultDto);
         inOrder.verifyNoMoreInteractions();
     }
 
@@ -146,23 +144,20 @@ class CheckExecutionServiceUnitTest {
         when(checkResultWriter.recordProcessStart(entity)).thenReturn(started);
         when(checkMapper.toDto(entity)).thenReturn(dto);
         when(checkProcessor.process(dto)).thenThrow(new IllegalStateException("boom"));
-        when(checkWriter.updateNextExecutionTime(any(), any())).thenReturn(entity);
 
         ArgumentCaptor<CheckResultDto> dtoCaptor = ArgumentCaptor.forClass(CheckResultDto.class);
-        when(checkResultWriter.recordProcessEnd(any(CheckResult.class), any(CheckResultDto.class)))
+        when(checkResultWriter.completeProcess(any(CheckResult.class), any(CheckResultDto.class)))
                 .thenReturn(CheckResult.builder().id(1L).status(FAILED).build());
 
         // when
         service.execute(id);
 
         // then — сервис должен зафиксировать FAILED с причиной ERROR и подробностями
-        verify(checkResultWriter).recordProcessEnd(same(started), dtoCaptor.capture());
+        verify(checkResultWriter).completeProcess(same(started), dtoCaptor.capture());
         CheckResultDto failed = dtoCaptor.getValue();
         assertThat(failed.status()).isEqualTo(FAILED);
         assertThat(failed.failureReason()).isEqualTo(ERROR);
         assertThat(failed.details()).contains("boom");
-
-        verify(checkWriter).updateNextExecutionTime(same(entity), any(CheckResult.class));
     }
 
     @Test
@@ -174,7 +169,7 @@ class CheckExecutionServiceUnitTest {
         assertThatNoException().isThrownBy(() -> service.execute(999L));
 
         verify(checkReader).findWithProfileById(999L);
-        verifyNoInteractions(checkMapper, checkProcessor, checkWriter, checkResultWriter);
+        verifyNoInteractions(checkMapper, checkProcessor, checkResultWriter);
     }
 
     @Test
@@ -190,14 +185,115 @@ class CheckExecutionServiceUnitTest {
         when(checkResultWriter.recordProcessStart(entity)).thenReturn(started);
         when(checkMapper.toDto(entity)).thenReturn(dto);
         when(checkProcessor.process(dto)).thenReturn(ok);
-        when(checkResultWriter.recordProcessEnd(started, ok))
-                .thenReturn(CheckResult.builder().id(5L).status(CheckRunStatus.SUCCEEDED).build());
-        when(checkWriter.updateNextExecutionTime(any(), any()))
+        when(checkResultWriter.completeProcess(started, ok))
                 .thenThrow(new IllegalStateException("update fail"));
 
         // when / then — исключение финализации не должно «протечь» наружу
         assertThatNoException().isThrownBy(() -> service.execute(id));
 
-        verify(checkWriter).updateNextExecutionTime(eq(entity), any(CheckResult.class));
+        verify(checkResultWriter).completeProcess(eq(started), any(CheckResultDto.class));
+    }
+
+    @Test
+    void executeBatch_should_process_all_checks_in_one_call_and_finalize_each() {
+        // given
+        Check first = checkEntity(1L);
+        Check second = checkEntity(2L);
+        CheckResult firstStarted = processingResult(11L);
+        CheckResult secondStarted = processingResult(12L);
+        CheckDto firstDto = new CheckDto(1L, "a", null, true, 5, NEXT_DTO_RUN_AT, CheckType.REST_API, profileDto(),
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0);
+        CheckDto secondDto = new CheckDto(2L, "b", null, true, 5, NEXT_DTO_RUN_AT, CheckType.REST_API, profileDto(),
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0);
+        CheckResultDto ok = new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "ok");
+
+        when(checkReader.findWithProfileByIds(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(checkResultWriter.recordProcessStarts(List.of(first, second))).thenReturn(List.of(firstStarted, secondStarted));
+        when(checkMapper.toDto(first)).thenReturn(firstDto);
+        when(checkMapper.toDto(second)).thenReturn(secondDto);
+        // для второй проверки стратегия результата не вернула
+        when(checkProcessor.processBatch(List.of(firstDto, secondDto))).thenReturn(Map.of(1L, ok));
+        when(checkResultWriter.completeProcess(any(), any())).thenReturn(processingResult(0L));
+
+        // when
+        assertThatNoException().isThrownBy(() -> service.executeBatch(List.of(1L, 2L)));
+
+        // then
+        verify(checkProcessor).processBatch(List.of(firstDto, secondDto));
+        verify(checkResultWriter).completeProcess(same(firstStarted), same(ok));
+        ArgumentCaptor<CheckResultDto> missing = ArgumentCaptor.forClass(CheckResultDto.class);
+        verify(checkResultWriter).completeProcess(same(secondStarted), missing.capture());
+        assertThat(missing.getValue().status()).isEqualTo(FAILED);
+        assertThat(missing.getValue().failureReason()).isEqualTo(ERROR);
+    }
+
+    @Test
+    void executeBatch_should_fail_every_check_when_batch_processing_throws() {
+        // given
+        Check entity = checkEntity(CHECK_ID);
+        CheckResult started = processingResult(RESULT_ID);
+        CheckDto dto = checkDto();
+
+        when(checkReader.findWithProfileByIds(List.of(CHECK_ID))).thenReturn(List.of(entity));
+        when(checkResultWriter.recordProcessStarts(List.of(entity))).thenReturn(List.of(started));
+        when(checkMapper.toDto(entity)).thenReturn(dto);
+        when(checkProcessor.processBatch(any())).thenThrow(new IllegalStateException("batch boom"));
+        when(checkResultWriter.completeProcess(any(), any())).thenReturn(started);
+
+        // when
+        service.executeBatch(List.of(CHECK_ID));
+
+        // then
+        ArgumentCaptor<CheckResultDto> dtoCaptor = ArgumentCaptor.forClass(CheckResultDto.class);
+        verify(checkResultWriter).completeProcess(same(started), dtoCaptor.capture());
+        assertThat(dtoCaptor.getValue().status()).isEqualTo(FAILED);
+        assertThat(dtoCaptor.getValue().details()).contains("batch boom");
+    }
+
+    @Test
+    void executeChecks_should_use_given_dtos_without_reading_checks() {
+        // given
+        CheckDto dto = checkDto();
+        Check reference = checkEntity(CHECK_ID);
+        CheckResult started = processingResult(RESULT_ID);
+        CheckResultDto ok = new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "ok");
+
+        when(checkMapper.toReference(dto)).thenReturn(reference);
+        when(checkResultWriter.recordProcessStarts(List.of(reference))).thenReturn(List.of(started));
+        when(checkProcessor.processBatch(List.of(dto))).thenReturn(Map.of(CHECK_ID, ok));
+        when(checkResultWriter.completeProcess(any(), any())).thenReturn(started);
+
+        // when
+        service.executeChecks(List.of(dto));
+
+        // then
+        verify(checkResultWriter).completeProcess(same(started), same(ok));
+        verifyNoInteractions(checkReader);
+    }
+
+    @Test
+    void executeBatch_should_record_starts_one_by_one_when_batch_start_fails() {
+        // given
+        Check first = checkEntity(1L);
+        Check second = checkEntity(2L);
+        CheckResult secondStarted = processingResult(12L);
+        CheckDto secondDto = new CheckDto(2L, "b", null, true, 5, NEXT_DTO_RUN_AT, CheckType.REST_API, profileDto(),
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0);
+        CheckResultDto ok = new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "ok");
+
+        when(checkReader.findWithProfileByIds(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(checkResultWriter.recordProcessStarts(any())).thenThrow(new IllegalStateException("batch insert failed"));
+        when(checkResultWriter.recordProcessStart(first)).thenThrow(new IllegalStateException("insert failed"));
+        when(checkResultWriter.recordProcessStart(second)).thenReturn(secondStarted);
+        when(checkMapper.toDto(second)).thenReturn(secondDto);
+        when(checkProcessor.processBatch(List.of(secondDto))).thenReturn(Map.of(2L, ok));
+        when(checkResultWriter.completeProcess(any(), any())).thenReturn(secondStarted);
+
+        // when
+        service.executeBatch(List.of(1L, 2L));
+
+        // then
+        verify(checkProcessor).processBatch(List.of(secondDto));
+        verify(checkResultWriter).completeProcess(same(secondStarted), same(ok));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,276 @@
+package io.github.rxtcp.integrationcheck.service;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.CheckLeaseProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.ExecutionEngineProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.IntegrationHealthCheckJobProps;
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
+import io.github.rxtcp.integrationcheck.entity.EngineTick;
+import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
+import io.github.rxtcp.integrationcheck.service.writer.EngineTickWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Тесты для {@link DirectIntegrationHealthCheckService}.
+ *
+ * Что проверяем:
+ * - окно выравнивается по границе и фиксируется до чтения проверок;
+ * - повторный тик того же окна пропускается без исключений;
+ * - должные проверки выполняются пачками заданного размера с ограничением параллельности;
+ * - сводка тика содержит число проверок и ошибочных пачек;
+ * - с арендой окно не фиксируется, порции захватываются, пока захватывать нечего;
+ * - тик выполняется вне потока вызова, перекрывающийся тик пропускается.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DirectIntegrationHealthCheckService")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class DirectIntegrationHealthCheckServiceTest {
+
+    private static final int WINDOW_SECONDS = 60;
+    private static final int LEASE_BATCH_SIZE = 4;
+
+    @Mock
+    private CheckReader checkReader;
+    @Mock
+    private EngineTickWriter engineTickWriter;
+    private final IntegrationHealthCheckJobProps.Schedule scheduleProps =
+            new IntegrationHealthCheckJobProps.Schedule(true, "0 * * * * *", "UTC", WINDOW_SECONDS);
+
+    private final Set<List<Long>> executedSlices = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    private DirectIntegrationHealthCheckService service(CheckExecution checkExecution, int sliceSize, int concurrencyLimit) {
+        return service(checkExecution, sliceSize, concurrencyLimit, false);
+    }
+
+    private DirectIntegrationHealthCheckService service(CheckExecution checkExecution, int sliceSize, int concurrencyLimit,
+                                                        boolean leaseEnabled) {
+        return new DirectIntegrationHealthCheckService(
+                checkReader, checkExecution, engineTickWriter, scheduleProps,
+                new ExecutionEngineProps(ExecutionEngineProps.Type.DIRECT, sliceSize, concurrencyLimit, "direct-test-"),
+                new CheckLeaseProps(leaseEnabled, "node-1", LEASE_BATCH_SIZE, Duration.ofMinutes(5)));
+    }
+
+    private static List<CheckDto> dueChecks(LongStream ids) {
+        return ids.mapToObj(id -> new CheckDto(id, "check-" + id, null, true, 1, LocalDateTime.now(), CheckType.TCP_CONNECT,
+                new TcpConnectProfileDto(id, id, "localhost", 80, 1000),
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0)).toList();
+    }
+
+    /**
+     * Исполнение, запоминающее пачки и максимальное число одновременно выполняемых пачек.
+     */
+    private CheckExecution recordingExecution() {
+        return new CheckExecution() {
+            @Override
+            public void execute(long checkId) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void executeBatch(List<Long> checkIds) {
+                maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                executedSlices.add(List.copyOf(checkIds));
+                inFlight.decrementAndGet();
+            }
+        };
+    }
+
+    @Test
+    void should_execute_due_checks_in_bounded_slices_and_record_summary() {
+        // given
+        EngineTick tick = new EngineTick();
+        given(engineTickWriter.recordTickStart(any())).willReturn(tick);
+        given(checkReader.findDueChecks()).willReturn(dueChecks(LongStream.rangeClosed(1, 10)));
+        given(engineTickWriter.recordTickEnd(tick, 10, 0)).willReturn(tick);
+
+        // when
+        service(recordingExecution(), 3, 2).runTick();
+
+        // then
+        assertThat(executedSlices).containsExactlyInAnyOrder(
+                List.of(1L, 2L, 3L), List.of(4L, 5L, 6L), List.of(7L, 8L, 9L), List.of(10L));
+        assertThat(maxInFlight.get()).isBetween(1, 2);
+        verify(engineTickWriter).recordTickEnd(tick, 10, 0);
+    }
+
+    @Test
+    void should_align_window_start_to_window_boundary() {
+        // given
+        given(engineTickWriter.recordTickStart(any())).willThrow(new DataIntegrityViolationException("dup"));
+
+        // when
+        service(recordingExecution(), 10, 1).runTick();
+
+        // then
+        ArgumentCaptor<LocalDateTime> windowStart = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(engineTickWriter).recordTickStart(windowStart.capture());
+        assertThat(windowStart.getValue().getSecond()).isZero();
+        assertThat(windowStart.getValue().getNano()).isZero();
+    }
+
+    @Test
+    void should_skip_tick_when_window_is_already_recorded() {
+        // given
+        given(engineTickWriter.recordTickStart(any())).willThrow(new DataIntegrityViolationException("dup"));
+
+        // when / then
+        assertThatCode(() -> service(recordingExecution(), 10, 1).runTick()).doesNotThrowAnyException();
+        verifyNoInteractions(checkReader);
+        assertThat(executedSlices).isEmpty();
+    }
+
+    @Test
+    void should_count_failed_slices_and_keep_running_others() {
+        // given
+        EngineTick tick = new EngineTick();
+        given(engineTickWriter.recordTickStart(any())).willReturn(tick);
+        given(checkReader.findDueChecks()).willReturn(dueChecks(LongStream.rangeClosed(1, 4)));
+        given(engineTickWriter.recordTickEnd(any(), anyInt(), anyInt())).willReturn(tick);
+        AtomicInteger executed = new AtomicInteger();
+        CheckExecution execution = new CheckExecution() {
+            @Override
+            public void execute(long checkId) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void executeBatch(List<Long> checkIds) {
+                if (checkIds.contains(1L)) {
+                    throw new IllegalStateException("boom");
+                }
+                executed.addAndGet(checkIds.size());
+            }
+        };
+
+        // when
+        service(execution, 2, 2).runTick();
+
+        // then
+        assertThat(executed.get()).isEqualTo(2);
+        verify(engineTickWriter).recordTickEnd(tick, 4, 1);
+    }
+
+    @Test
+    void should_record_summary_when_reading_due_checks_fails() {
+        // given
+        EngineTick tick = new EngineTick();
+        given(engineTickWriter.recordTickStart(any())).willReturn(tick);
+        given(checkReader.findDueChecks()).willThrow(new IllegalStateException("db down"));
+        given(engineTickWriter.recordTickEnd(tick, 0, 1)).willReturn(tick);
+
+        // when / then
+        assertThatCode(() -> service(recordingExecution(), 10, 1).runTick()).doesNotThrowAnyException();
+        verify(engineTickWriter).recordTickEnd(tick, 0, 1);
+    }
+
+    @Test
+    void with_leases_should_execute_claimed_batches_until_nothing_left_without_engine_tick() {
+        // given
+        given(checkReader.claimDueChecks(any(), eq(LEASE_BATCH_SIZE))).willReturn(
+                dueChecks(LongStream.rangeClosed(1, 4)),
+                dueChecks(LongStream.rangeClosed(5, 6)),
+                List.of());
+
+        // when
+        service(recordingExecution(), 3, 2, true).runTick();
+
+        // then
+        assertThat(executedSlices).containsExactlyInAnyOrder(
+                List.of(1L, 2L, 3L), List.of(4L), List.of(5L, 6L));
+        verify(checkReader, times(3)).claimDueChecks(any(), eq(LEASE_BATCH_SIZE));
+        verifyNoInteractions(engineTickWriter);
+    }
+
+    @Test
+    void with_leases_should_claim_checks_due_at_tick_start_in_every_batch() {
+        // given
+        given(checkReader.claimDueChecks(any(), anyInt())).willReturn(dueChecks(LongStream.rangeClosed(1, 2)), List.of());
+        LocalDateTime before = LocalDateTime.now();
+
+        // when
+        service(recordingExecution(), 10, 1, true).runTick();
+
+        // then
+        ArgumentCaptor<LocalDateTime> dueBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(checkReader, times(2)).claimDueChecks(dueBefore.capture(), anyInt());
+        assertThat(dueBefore.getAllValues()).hasSize(2).containsOnly(dueBefore.getValue());
+        assertThat(dueBefore.getValue()).isBetween(before, LocalDateTime.now());
+    }
+
+    @Test
+    void with_leases_should_not_throw_when_claim_fails() {
+        // given
+        given(checkReader.claimDueChecks(any(), anyInt())).willThrow(new IllegalStateException("db down"));
+
+        // when / then
+        assertThatCode(() -> service(recordingExecution(), 10, 1, true).runTick()).doesNotThrowAnyException();
+        assertThat(executedSlices).isEmpty();
+        verifyNoInteractions(engineTickWriter);
+    }
+
+    @Test
+    void check_health_should_run_tick_off_caller_thread_and_skip_overlapping_tick() throws Exception {
+        // given: тик занят чтением должных проверок, пока тест не отпустит его
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> tickThread = new AtomicReference<>();
+        given(engineTickWriter.recordTickStart(any())).willReturn(new EngineTick());
+        given(checkReader.findDueChecks()).willAnswer(invocation -> {
+            tickThread.set(Thread.currentThread().getName());
+            reading.countDown();
+            release.await();
+            return List.of();
+        });
+        DirectIntegrationHealthCheckService service = service(recordingExecution(), 10, 1);
+
+        // when
+        service.checkHealth();
+        assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+        service.checkHealth();
+        release.countDown();
+
+        // then: поток вызова не занят тиком, второй тик пропущен
+        verify(engineTickWriter, timeout(5_000)).recordTickEnd(any(), eq(0), eq(0));
+        assertThat(tickThread.get()).isEqualTo("direct-test-tick");
+        verify(engineTickWriter, times(1)).recordTickStart(any());
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.rxtcp.integrationcheck.service;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.CheckLeaseProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.ExecutionEngineProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.IntegrationHealthCheckJobProps;
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
+import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
+import io.github.rxtcp.integrationcheck.service.writer.EngineTickWriter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * Бенчмарк тика на Spring Batch ({@code PER_CHECK}) против прямого движка {@link DirectIntegrationHealthCheckService}.
+ * <p>
+ * Проверки не выполняются (no-op {@link CheckExecution}), поэтому замер отражает только накладные расходы
+ * движка: число SQL-запросов к базе (по статистике H2) и длительность тика. Запуск:
+ * {@code mvn test -Dbenchmark=true -Dtest=ExecutionEngineBenchmarkTest}; параметр — {@code benchmark.checks}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBatchTest
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource(properties = {
+        "application.spring-batch.jobs.integration-health-check-job.worker-step.partition-mode=PER_CHECK",
+        "application.spring-batch.jobs.integration-health-check-job.schedule.enabled=false"
+})
+@DisplayName("Движки исполнения: бенчмарк накладных расходов тика")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class ExecutionEngineBenchmarkTest {
+
+    private static final int CHECKS = Integer.getInteger("benchmark.checks", 10_000);
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+    @Autowired
+    private JobExplorer jobExplorer;
+    @Autowired
+    private EngineTickWriter engineTickWriter;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // имена совпадают с параметрами бинов job'а, чтобы моки подменили и тестовые бины других контекстов
+    @MockitoBean(name = "checkReader")
+    private CheckReader checkReader;
+    @MockitoBean(name = "checkExecution")
+    private CheckExecution noOpExecution;
+
+    @Test
+    void compare_batch_and_direct_engine_overhead() {
+        final List<CheckDto> dueChecks = LongStream.rangeClosed(1, CHECKS)
+                .mapToObj(id -> new CheckDto(id, "check-" + id, null, true, 1, LocalDateTime.now(), CheckType.TCP_CONNECT,
+                        new TcpConnectProfileDto(id, id, "localhost", 80, 1000),
+                        ScheduleMode.FIXED_DELAY, null, null, null, null, 0))
+                .toList();
+        given(checkReader.findDueChecks()).willReturn(dueChecks);
+
+        final Measurement batch = measure(this::runBatchTick);
+        final Measurement direct = measure(() -> directEngine().runTick());
+
+        System.out.printf("checks=%d%n", CHECKS);
+        System.out.printf("batch  (PER_CHECK): statements=%d, elapsed=%d ms%n", batch.statements(), batch.elapsedMillis());
+        System.out.printf("direct            : statements=%d, elapsed=%d ms%n", direct.statements(), direct.elapsedMillis());
+
+        assertThat(direct.statements()).isLessThan(batch.statements());
+    }
+
+    private void runBatchTick() {
+        try {
+            final JobExecution execution = jobLauncherTestUtils.launchJob();
+            await()
+                    .pollInterval(Duration.ofMillis(200))
+                    .atMost(Duration.ofMinutes(30))
+                    .until(() -> !jobExplorer.getJobExecution(execution.getId()).isRunning());
+            assertThat(jobExplorer.getJobExecution(execution.getId()).getStatus()).isEqualTo(BatchStatus.COMPLETED);
+        } catch (Exception exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    private DirectIntegrationHealthCheckService directEngine() {
+        return new DirectIntegrationHealthCheckService(
+                checkReader, noOpExecution, engineTickWriter,
+                new IntegrationHealthCheckJobProps.Schedule(false, "0 * * * * *", "UTC", 60),
+                new ExecutionEngineProps(ExecutionEngineProps.Type.DIRECT, 500, 20, "bench-direct-"),
+                new CheckLeaseProps(false, "bench-node", 1000, Duration.ofMinutes(5)));
+    }
+
+    /**
+     * Выполняет тик и снимает число выполненных запросов по статистике H2 ({@code QUERY_STATISTICS}).
+     */
+    private Measurement measure(Runnable tick) {
+        jdbcTemplate.execute("SET QUERY_STATISTICS_MAX_ENTRIES 10000");
+        jdbcTemplate.execute("SET QUERY_STATISTICS TRUE");
+        final long started = System.nanoTime();
+        tick.run();
+        final long elapsedMillis = Duration.ofNanos(System.nanoTime() - started).toMillis();
+        final Long statements = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(execution_count), 0) FROM information_schema.query_statistics", Long.class);
+        jdbcTemplate.execute("SET QUERY_STATISTICS FALSE");
+        return new Measurement(statements, elapsedMillis);
+    }
+
+    private record Measurement(long statements, long elapsedMillis) {
+    }
+}
@@ -0,0 +1,168 @@
+package io.github.rxtcp.integrationcheck.service.maintenance;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultPartitioningProps;
+import io.github.rxtcp.integrationcheck.service.maintenance.CheckResultPartitionMaintenance.Partition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для {@link CheckResultPartitionMaintenance}.
+ * <p>
+ * Фокус:
+ * - создаются только суточные секции, не покрытые существующими (включая legacy-секцию);
+ * - удаляются секции, верхняя граница которых не позже {@code now - retention}; DEFAULT не трогается;
+ * - ошибка по одной секции не прерывает проход;
+ * - разбор границ из {@code pg_get_expr}.
+ */
+@DisplayName("CheckResultPartitionMaintenance")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class CheckResultPartitionMaintenanceTest {
+
+    private static final String SCHEMA = "integration_health_check";
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 10, 12, 0);
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CheckResultPartitionMaintenance maintenance = new CheckResultPartitionMaintenance(
+            jdbcTemplate,
+            new ResultPartitioningProps(true, SCHEMA, 2, Duration.ofDays(30), Duration.ofHours(1)),
+            meterRegistry,
+            Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @SuppressWarnings("unchecked")
+    private void givenPartitions(Partition... partitions) {
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(SCHEMA), eq("h_check_result")))
+                .thenReturn(List.of(partitions));
+    }
+
+    private static Partition day(String name, LocalDateTime from) {
+        return new Partition(name, false, from, from.plusDays(1));
+    }
+
+    private List<String> executedSql() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeastOnce()).execute(sql.capture());
+        return sql.getAllValues();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    @Test
+    void should_create_missing_days_not_covered_by_existing_partitions() {
+        // given: legacy покрывает всё до завтрашнего дня
+        givenPartitions(
+                new Partition("h_check_result_legacy", false, null, LocalDateTime.of(2024, 3, 11, 0, 0)),
+                new Partition("h_check_result_default", true, null, null));
+
+        // when
+        maintenance.maintain();
+
+        // then
+        assertThat(executedSql()).containsExactly(
+                "CREATE TABLE IF NOT EXISTS integration_health_check.h_check_result_p20240311 PARTITION OF "
+                        + "integration_health_check.h_check_result FOR VALUES FROM ('2024-03-11T00:00') TO ('2024-03-12T00:00')",
+                "CREATE TABLE IF NOT EXISTS integration_health_check.h_check_result_p20240312 PARTITION OF "
+                        + "integration_health_check.h_check_result FOR VALUES FROM ('2024-03-12T00:00') TO ('2024-03-13T00:00')");
+        assertThat(counter("integration.result.partitions.created")).isEqualTo(2.0);
+    }
+
+    @Test
+    void should_drop_partitions_older_than_retention_but_keep_default_and_recent() {
+        // given
+        givenPartitions(
+                new Partition("h_check_result_legacy", false, null, LocalDateTime.of(2024, 1, 5, 0, 0)),
+                day("h_check_result_p20240208", LocalDateTime.of(2024, 2, 8, 0, 0)),
+                day("h_check_result_p20240209", LocalDateTime.of(2024, 2, 9, 0, 0)),
+                new Partition("h_check_result_default", true, null, null),
+                day("h_check_result_p20240310", LocalDateTime.of(2024, 3, 10, 0, 0)),
+                day("h_check_result_p20240311", LocalDateTime.of(2024, 3, 11, 0, 0)),
+                day("h_check_result_p20240312", LocalDateTime.of(2024, 3, 12, 0, 0)));
+
+        // when
+        maintenance.maintain();
+
+        // then: граница удаления = 2024-02-09T12:00, секция за 09.02 ещё содержит свежие строки
+        assertThat(executedSql()).containsExactly(
+                "DROP TABLE IF EXISTS integration_health_check.h_check_result_legacy",
+                "DROP TABLE IF EXISTS integration_health_check.h_check_result_p20240208");
+        assertThat(counter("integration.result.partitions.dropped")).isEqualTo(2.0);
+    }
+
+    @Test
+    void should_continue_after_failure_on_one_partition() {
+        // given
+        givenPartitions(day("h_check_result_p20240310", LocalDateTime.of(2024, 3, 10, 0, 0)));
+        doThrow(new DataIntegrityViolationException("default has rows"))
+                .when(jdbcTemplate).execute(startsWith("CREATE TABLE IF NOT EXISTS integration_health_check.h_check_result_p20240311"));
+
+        // when
+        maintenance.maintain();
+
+        // then
+        assertThat(executedSql()).hasSize(2);
+        assertThat(counter("integration.result.partitions.failures")).isEqualTo(1.0);
+        assertThat(counter("integration.result.partitions.created")).isEqualTo(1.0);
+    }
+
+    @Nested
+    @DisplayName("Partition.of(...)")
+    class BoundParsing {
+
+        @Test
+        void should_parse_range_bounds() {
+            Partition partition = Partition.of("p",
+                    "FOR VALUES FROM ('2024-03-10 00:00:00') TO ('2024-03-11 00:00:00.5')");
+
+            assertThat(partition.isDefault()).isFalse();
+            assertThat(partition.lower()).isEqualTo(LocalDateTime.of(2024, 3, 10, 0, 0));
+            assertThat(partition.upper()).isEqualTo(LocalDateTime.of(2024, 3, 11, 0, 0, 0, 500_000_000));
+        }
+
+        @Test
+        void should_parse_open_bounds_and_default() {
+            Partition legacy = Partition.of("legacy", "FOR VALUES FROM (MINVALUE) TO ('2024-03-11 00:00:00')");
+            Partition open = Partition.of("open", "FOR VALUES FROM ('2024-03-11 00:00:00') TO (MAXVALUE)");
+
+            assertThat(legacy.lower()).isNull();
+            assertThat(legacy.upper()).isEqualTo(LocalDateTime.of(2024, 3, 11, 0, 0));
+            assertThat(open.upper()).isNull();
+            assertThat(Partition.of("default", "DEFAULT").isDefault()).isTrue();
+        }
+
+        @Test
+        void overlaps_should_respect_half_open_ranges() {
+            Partition partition = day("p", LocalDateTime.of(2024, 3, 10, 0, 0));
+
+            assertThat(partition.overlaps(LocalDateTime.of(2024, 3, 10, 0, 0), LocalDateTime.of(2024, 3, 11, 0, 0))).isTrue();
+            assertThat(partition.overlaps(LocalDateTime.of(2024, 3, 11, 0, 0), LocalDateTime.of(2024, 3, 12, 0, 0))).isFalse();
+            assertThat(partition.overlaps(LocalDateTime.of(2024, 3, 9, 0, 0), LocalDateTime.of(2024, 3, 10, 0, 0))).isFalse();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package io.github.rxtcp.integrationcheck.service.maintenance;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.StaleResultReaperProps;
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.entity.TcpConnectProfile;
+import io.github.rxtcp.integrationcheck.repository.CheckRepository;
+import io.github.rxtcp.integrationcheck.service.payload.CheckResultPayloadStore;
+import io.github.rxtcp.integrationcheck.service.rollup.CheckResultRollup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.UUID;
+
+import static io.github.rxtcp.integrationcheck.domain.FailureReason.ABANDONED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Интеграционные тесты {@link StaleCheckResultReaper} на схеме Flyway.
+ * <p>
+ * Фокус:
+ * - брошенными считаются только строки {@code PROCESSING} старше таймаута профиля плюс {@code grace};
+ * - завершённые строки получают {@code FAILED/ABANDONED}, проверка — новый {@code next_run_at} без аренды;
+ * - интервал в секундах, если задан, заменяет интервал в минутах;
+ * - проверки, уже перенесённые более поздним запуском, и строки без проверки не переносятся;
+ * - повторный проход ничего не меняет.
+ * <p>
+ * Восстановление создаётся с часами в 2002 году: строки тестов не пересекаются со строками других тестов
+ * и удаляются по {@code started_at}.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("StaleCheckResultReaper — интеграция")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class StaleCheckResultReaperIntegrationTest {
+
+    private static final String SCHEMA = "integration_health_check";
+    private static final LocalDateTime NOW = LocalDateTime.of(2002, 6, 1, 12, 0);
+    private static final Duration GRACE = Duration.ofMinutes(10);
+    private static final int RUN_INTERVAL_MIN = 5;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private CheckRepository checkRepository;
+
+    private final CheckResultRollup checkResultRollup = mock(CheckResultRollup.class);
+    private final CheckResultPayloadStore checkResultPayloadStore = mock(CheckResultPayloadStore.class);
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    @AfterEach
+    void deleteTestResults() {
+        meterRegistry = new SimpleMeterRegistry();
+        jdbcTemplate.update("DELETE FROM %s.h_check_result WHERE started_at < TIMESTAMP '2003-01-01 00:00:00'".formatted(SCHEMA));
+    }
+
+    private StaleCheckResultReaper reaper(int batchSize) {
+        return new StaleCheckResultReaper(jdbcTemplate, transactionTemplate, checkResultRollup, checkResultPayloadStore,
+                new StaleResultReaperProps(true, SCHEMA, GRACE, batchSize, Duration.ofMinutes(5)),
+                meterRegistry,
+                Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+    }
+
+    /**
+     * Проверка с TCP-профилем (таймаут соединения 30 с) и заданным сроком запуска.
+     */
+    private Check persistCheck(LocalDateTime nextRunAt) {
+        Check check = Check.builder()
+                .name("reaper-" + UUID.randomUUID())
+                .description("desc")
+                .enabled(true)
+                .runIntervalMin(RUN_INTERVAL_MIN)
+                .nextRunAt(nextRunAt)
+                .type(CheckType.TCP_CONNECT)
+                .build();
+        check.attachProfile(new TcpConnectProfile("reaper.local", 5432, 30_000), CheckType.TCP_CONNECT);
+        return checkRepository.saveAndFlush(check);
+    }
+
+    private long insertProcessing(Long checkId, LocalDateTime startedAt) {
+        jdbcTemplate.update("INSERT INTO %s.h_check_result (check_id, started_at, status) VALUES (?, ?, 'PROCESSING')".formatted(SCHEMA),
+                checkId, Timestamp.valueOf(startedAt));
+        return jdbcTemplate.queryForObject("SELECT max(id) FROM %s.h_check_result WHERE started_at = ?".formatted(SCHEMA),
+                Long.class, Timestamp.valueOf(startedAt));
+    }
+
+    private Map<String, Object> result(long id) {
+        return jdbcTemplate.queryForMap("SELECT status, failure_reason, finished_at, details FROM %s.h_check_result WHERE id = ?"
+                .formatted(SCHEMA), id);
+    }
+
+    private Map<String, Object> schedule(Check check) {
+        return jdbcTemplate.queryForMap("SELECT next_run_at, lease_owner FROM %s.h_check WHERE id = ?".formatted(SCHEMA), check.getId());
+    }
+
+    @Test
+    void should_fail_abandoned_runs_and_reschedule_their_checks() {
+        Check check = persistCheck(NOW.minusHours(1));
+        jdbcTemplate.update("UPDATE %s.h_check SET lease_owner = 'crashed-node', lease_until = ? WHERE id = ?".formatted(SCHEMA),
+                Timestamp.valueOf(NOW.minusMinutes(50)), check.getId());
+        long abandoned = insertProcessing(check.getId(), NOW.minusHours(1));
+        // начат 10 мин 20 с назад: таймаут 30 с плюс grace 10 мин ещё не истекли
+        long inFlight = insertProcessing(check.getId(), NOW.minusMinutes(10).minusSeconds(20));
+        try {
+            int reaped = reaper(100).reap();
+
+            assertThat(reaped).isEqualTo(1);
+            assertThat(result(abandoned))
+                    .containsEntry("status", "FAILED")
+                    .containsEntry("failure_reason", ABANDONED.name())
+                    .containsEntry("finished_at", Timestamp.valueOf(NOW))
+                    .containsEntry("details", StaleCheckResultReaper.ABANDONED_DETAILS);
+            assertThat(result(inFlight)).containsEntry("status", "PROCESSING");
+            assertThat(schedule(check))
+                    .containsEntry("next_run_at", Timestamp.valueOf(NOW.plusMinutes(RUN_INTERVAL_MIN)))
+                    .containsEntry("lease_owner", null);
+            ArgumentCaptor<CheckResult> recorded = ArgumentCaptor.forClass(CheckResult.class);
+            verify(checkResultRollup).record(recorded.capture());
+            assertThat(recorded.getValue().getCheck().getId()).isEqualTo(check.getId());
+            assertThat(recorded.getValue().getFailureReason()).isEqualTo(ABANDONED);
+            assertThat(recorded.getValue().getStartedAt()).isEqualTo(NOW.minusHours(1));
+            assertThat(meterRegistry.get("integration.result.abandoned").counter().count()).isEqualTo(1.0);
+
+            // повторный проход: брошенных строк больше нет
+            assertThat(reaper(100).reap()).isZero();
+        } finally {
+            jdbcTemplate.update("DELETE FROM %s.h_check_result WHERE check_id = ?".formatted(SCHEMA), check.getId());
+            checkRepository.delete(check);
+        }
+    }
+
+    @Test
+    void should_reschedule_by_interval_in_seconds_when_set() {
+        Check check = persistCheck(NOW.minusHours(1));
+        check.setRunIntervalSec(10);
+        check = checkRepository.saveAndFlush(check);
+        insertProcessing(check.getId(), NOW.minusHours(1));
+        try {
+            assertThat(reaper(100).reap()).isEqualTo(1);
+
+            assertThat(schedule(check)).containsEntry("next_run_at", Timestamp.valueOf(NOW.plusSeconds(10)));
+        } finally {
+            jdbcTemplate.update("DELETE FROM %s.h_check_result WHERE check_id = ?".formatted(SCHEMA), check.getId());
+            checkRepository.delete(check);
+        }
+    }
+
+    @Test
+    void should_not_move_check_already_rescheduled_by_later_run() {
+        LocalDateTime alreadyScheduled = NOW.plusMinutes(3);
+        Check check = persistCheck(alreadyScheduled);
+        long abandoned = insertProcessing(check.getId(), NOW.minusHours(2));
+        try {
+            assertThat(reaper(100).reap()).isEqualTo(1);
+
+            assertThat(result(abandoned)).containsEntry("status", "FAILED");
+            assertThat(schedule(check)).containsEntry("next_run_at", Timestamp.valueOf(alreadyScheduled));
+        } finally {
+            jdbcTemplate.update("DELETE FROM %s.h_check_result WHERE check_id = ?".formatted(SCHEMA), check.getId());
+            checkRepository.delete(check);
+        }
+    }
+
+    @Test
+    void should_fail_runs_of_deleted_checks_in_several_batches() {
+        long first = insertProcessing(null, NOW.minusHours(3));
+        long second = insertProcessing(null, NOW.minusHours(2).minusMinutes(30));
+        long third = insertProcessing(null, NOW.minusHours(2));
+
+        assertThat(reaper(2).reap()).isEqualTo(3);
+
+        assertThat(result(first)).containsEntry("failure_reason", ABANDONED.name());
+        assertThat(result(second)).containsEntry("failure_reason", ABANDONED.name());
+        assertThat(result(third)).containsEntry("failure_reason", ABANDONED.name());
+        verify(checkResultRollup, never()).record(any());
+    }
+}
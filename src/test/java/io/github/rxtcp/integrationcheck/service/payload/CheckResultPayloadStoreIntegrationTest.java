@@ -0,0 +1,179 @@
+package io.github.rxtcp.integrationcheck.service.payload;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultPayloadProps;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Интеграционные тесты {@link CheckResultPayloadStore} на схеме Flyway.
+ * <p>
+ * Фокус:
+ * - одинаковые детали хранятся одной строкой, повтор не обращается к БД;
+ * - длинные детали сжимаются и читаются обратно без потерь;
+ * - {@code last_seen_at} обновляется не чаще {@code touchInterval}, неиспользуемые детали удаляются;
+ * - хеш из откатившейся транзакции не запоминается.
+ * <p>
+ * Хранилища создаются с часами в 2020 году: строки тестов не пересекаются со строками других тестов
+ * и удаляются по {@code created_at}.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("CheckResultPayloadStore — интеграция")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class CheckResultPayloadStoreIntegrationTest {
+
+    private static final String SCHEMA = "integration_health_check";
+    private static final LocalDateTime T0 = LocalDateTime.of(2020, 3, 1, 12, 0);
+    private static final Duration TOUCH_INTERVAL = Duration.ofDays(1);
+    private static final Duration RETENTION = Duration.ofDays(35);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    @AfterEach
+    void deleteTestPayloads() {
+        meterRegistry = new SimpleMeterRegistry();
+        jdbcTemplate.update("DELETE FROM %s.h_check_result_payload WHERE created_at < TIMESTAMP '2021-01-01 00:00:00'"
+                .formatted(SCHEMA));
+    }
+
+    private CheckResultPayloadStore store(LocalDateTime now, boolean enabled) {
+        return new CheckResultPayloadStore(jdbcTemplate,
+                new ResultPayloadProps(enabled, SCHEMA, 1, DataSize.ofBytes(64), 100, TOUCH_INTERVAL, RETENTION, Duration.ofHours(1)),
+                meterRegistry,
+                Clock.fixed(now.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault()));
+    }
+
+    private CheckResultPayloadStore store(LocalDateTime now) {
+        return store(now, true);
+    }
+
+    private static String uniqueBody() {
+        return "{\"status\":\"UP\",\"instance\":\"" + UUID.randomUUID() + "\"," + "\"padding\":\"%s\"}".formatted("x".repeat(2_000));
+    }
+
+    private int rows(byte[] hash) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM %s.h_check_result_payload WHERE hash = ?".formatted(SCHEMA),
+                Integer.class, (Object) hash);
+    }
+
+    private LocalDateTime lastSeenAt(byte[] hash) {
+        return jdbcTemplate.queryForObject("SELECT last_seen_at FROM %s.h_check_result_payload WHERE hash = ?".formatted(SCHEMA),
+                LocalDateTime.class, (Object) hash);
+    }
+
+    private double writes(String result) {
+        return meterRegistry.get("integration.result.payload.writes").tag("result", result).counter().count();
+    }
+
+    @Test
+    void should_store_identical_details_once_and_compress_them() {
+        CheckResultPayloadStore store = store(T0);
+        String body = uniqueBody();
+
+        byte[] first = store.store(body);
+        byte[] second = store.store(body);
+
+        assertThat(first).hasSize(32).isEqualTo(second);
+        assertThat(rows(first)).isEqualTo(1);
+        assertThat(writes("inserted")).isEqualTo(1.0);
+        assertThat(writes("cached")).isEqualTo(1.0);
+        String codec = jdbcTemplate.queryForObject("SELECT codec FROM %s.h_check_result_payload WHERE hash = ?".formatted(SCHEMA),
+                String.class, (Object) first);
+        assertThat(codec).isEqualTo(PayloadCodec.DEFLATE.name());
+        assertThat(meterRegistry.get("integration.result.payload.bytes").tag("kind", "stored").counter().count())
+                .isLessThan(meterRegistry.get("integration.result.payload.bytes").tag("kind", "raw").counter().count() / 5);
+        assertThat(store.load(first)).contains(body);
+    }
+
+    @Test
+    void should_keep_short_details_uncompressed_and_read_them_back() {
+        CheckResultPayloadStore store = store(T0);
+        String body = "OK " + UUID.randomUUID().toString().substring(0, 8);
+
+        byte[] hash = store.store(body);
+
+        assertThat(store.load(hash)).contains(body);
+        String codec = jdbcTemplate.queryForObject("SELECT codec FROM %s.h_check_result_payload WHERE hash = ?".formatted(SCHEMA),
+                String.class, (Object) hash);
+        assertThat(codec).isEqualTo(PayloadCodec.NONE.name());
+    }
+
+    @Test
+    void should_touch_existing_details_only_after_touch_interval() {
+        String body = uniqueBody();
+        byte[] hash = store(T0).store(body);
+
+        // другой экземпляр (пустой кэш) в пределах touchInterval — строка не обновляется
+        store(T0.plusHours(12)).store(body);
+        assertThat(lastSeenAt(hash)).isEqualTo(T0);
+
+        // после touchInterval — last_seen_at сдвигается
+        store(T0.plusDays(2)).store(body);
+        assertThat(lastSeenAt(hash)).isEqualTo(T0.plusDays(2));
+        assertThat(rows(hash)).isEqualTo(1);
+        assertThat(writes("existing")).isEqualTo(2.0);
+    }
+
+    @Test
+    void purge_should_delete_details_unused_longer_than_retention() {
+        byte[] stale = store(T0).store(uniqueBody());
+        byte[] fresh = store(T0.plusDays(10)).store(uniqueBody());
+
+        store(T0.plus(RETENTION).plusDays(1)).purge();
+
+        assertThat(rows(stale)).isZero();
+        assertThat(rows(fresh)).isEqualTo(1);
+        assertThat(meterRegistry.get("integration.result.payload.purged").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void should_not_remember_hash_from_rolled_back_transaction() {
+        CheckResultPayloadStore store = store(T0);
+        String body = uniqueBody();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            store.store(body);
+            status.setRollbackOnly();
+        });
+        byte[] hash = store.store(body);
+
+        // после отката строки нет, поэтому повтор вставляет её заново, а не берёт хеш из памяти
+        assertThat(rows(hash)).isEqualTo(1);
+        assertThat(writes("inserted")).isEqualTo(2.0);
+        assertThat(writes("cached")).isZero();
+    }
+
+    @Test
+    void should_do_nothing_when_disabled() {
+        CheckResultPayloadStore store = store(T0, false);
+
+        assertThat(store.store(uniqueBody())).isNull();
+        assertThat(store.store(null)).isNull();
+        assertThat(writes("inserted")).isZero();
+    }
+}
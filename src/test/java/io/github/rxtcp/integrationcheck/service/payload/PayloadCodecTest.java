@@ -0,0 +1,70 @@
+package io.github.rxtcp.integrationcheck.service.payload;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Тесты для {@link PayloadCodec}.
+ */
+@DisplayName("PayloadCodec")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class PayloadCodecTest {
+
+    private static final byte[] JSON = "{\"status\":\"UP\",\"components\":{\"db\":{\"status\":\"UP\"}}}".repeat(20)
+            .getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void deflate_should_round_trip_and_shrink_repetitive_content() {
+        byte[] encoded = PayloadCodec.DEFLATE.encode(JSON, 1);
+
+        assertThat(encoded.length).isLessThan(JSON.length / 5);
+        assertThat(PayloadCodec.DEFLATE.decode(encoded, JSON.length)).isEqualTo(JSON);
+    }
+
+    @Test
+    void encodeBest_should_keep_short_content_as_is() {
+        byte[] raw = "OK".getBytes(StandardCharsets.UTF_8);
+
+        PayloadCodec.Encoded encoded = PayloadCodec.encodeBest(raw, 1, 64);
+
+        assertThat(encoded.codec()).isEqualTo(PayloadCodec.NONE);
+        assertThat(encoded.content()).isEqualTo(raw);
+    }
+
+    @Test
+    void encodeBest_should_keep_incompressible_content_as_is() {
+        byte[] random = new byte[4096];
+        new Random(42).nextBytes(random);
+
+        PayloadCodec.Encoded encoded = PayloadCodec.encodeBest(random, 1, 64);
+
+        assertThat(encoded.codec()).isEqualTo(PayloadCodec.NONE);
+        assertThat(encoded.content()).isEqualTo(random);
+    }
+
+    @Test
+    void encodeBest_should_deflate_compressible_content_above_threshold() {
+        PayloadCodec.Encoded encoded = PayloadCodec.encodeBest(JSON, 1, 64);
+
+        assertThat(encoded.codec()).isEqualTo(PayloadCodec.DEFLATE);
+        assertThat(encoded.codec().decode(encoded.content(), JSON.length)).isEqualTo(JSON);
+    }
+
+    @Test
+    void deflate_decode_should_reject_truncated_content() {
+        byte[] encoded = PayloadCodec.DEFLATE.encode(JSON, 1);
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length / 2);
+
+        assertThatThrownBy(() -> PayloadCodec.DEFLATE.decode(truncated, JSON.length))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
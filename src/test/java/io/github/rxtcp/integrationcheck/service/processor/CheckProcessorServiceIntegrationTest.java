@@ -7,6 +7,7 @@ import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
 import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
 import io.github.rxtcp.integrationcheck.domain.CheckType;
 import io.github.rxtcp.integrationcheck.domain.HttpMethod;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
 import io.github.rxtcp.integrationcheck.service.processor.strategy.CheckStrategy;
 import io.github.rxtcp.integrationcheck.service.processor.strategy.CheckStrategyFactory;
 import org.junit.jupiter.api.DisplayName;
@@ -47,7 +48,7 @@ class CheckProcessorServiceIntegrationTest {
     @MockitoBean
     private CheckStrategyFactory strategyFactory;
 
-    @MockitoBean
+    @MockitoBean(name = "restApiCheckStrategy")
     private CheckStrategy strategy;
 
     /**
@@ -65,7 +66,8 @@ class CheckProcessorServiceIntegrationTest {
                 RUN_INTERVAL_MIN,
                 LocalDateTime.now().plusMinutes(1),
                 type,
-                profile
+                profile,
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0
         );
     }
 
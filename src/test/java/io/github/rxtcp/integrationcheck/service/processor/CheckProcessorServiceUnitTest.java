@@ -6,7 +6,9 @@ import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
 import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
 import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
 import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.FailureReason;
 import io.github.rxtcp.integrationcheck.domain.HttpMethod;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
 import io.github.rxtcp.integrationcheck.service.processor.strategy.CheckStrategy;
 import io.github.rxtcp.integrationcheck.service.processor.strategy.CheckStrategyFactory;
 import org.junit.jupiter.api.DisplayName;
@@ -19,13 +21,24 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.BDDMockito.times;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CheckProcessorService")
@@ -52,18 +65,23 @@ class CheckProcessorServiceUnitTest {
      * Конструирует валидный DTO проверки заданного типа.
      */
     private static CheckDto newCheckDto(CheckType type) {
+        return newCheckDto(CHECK_ID, type);
+    }
+
+    private static CheckDto newCheckDto(long id, CheckType type) {
         CheckProfileDto profile = new RestApiProfileDto(
                 CHECK_ID, PROFILE_ID, URL, HttpMethod.GET, TIMEOUT_SEC, null, null, 200
         );
         return new CheckDto(
-                CHECK_ID,
+                id,
                 "name",
                 "desc",
                 true,
                 RUN_INTERVAL_MIN,
                 LocalDateTime.now().plusMinutes(RUN_INTERVAL_MIN),
                 type,
-                profile
+                profile,
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0
         );
     }
 
@@ -108,4 +126,105 @@ class CheckProcessorServiceUnitTest {
         then(strategyFactory).should().getStrategy(input.type());
         then(strategy).should().execute(input);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("processAsync(): делегирует асинхронному выполнению выбранной стратегии")
+    void should_delegate_async_execution_to_strategy() {
+        // given
+        CheckDto input = newCheckDto(CheckType.REST_API);
+        CheckResultDto expected = new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "ok");
+
+        given(strategyFactory.getStrategy(input.type())).willReturn(strategy);
+        given(strategy.executeAsync(input)).willReturn(CompletableFuture.completedFuture(expected));
+
+        // when
+        CompletableFuture<CheckResultDto> actual = service.processAsync(input);
+
+        // then
+        then(strategy).should(times(1)).executeAsync(input);
+        then(strategy).shouldHaveNoMoreInteractions();
+        assertThat(actual).isCompletedWithValue(expected);
+    }
+
+    @Test
+    @DisplayName("processBatch(): запускает проверки всех групп через стратегии своих типов до ожидания результатов")
+    void should_start_all_type_groups_before_joining() throws Exception {
+        // given
+        CheckStrategy tcpStrategy = mock(CheckStrategy.class);
+        CheckDto rest1 = newCheckDto(1L, CheckType.REST_API);
+        CheckDto tcp = newCheckDto(2L, CheckType.TCP_CONNECT);
+        CheckDto rest2 = newCheckDto(3L, CheckType.REST_API);
+        CheckResultDto ok = new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "ok");
+        CompletableFuture<CheckResultDto> slowRest = new CompletableFuture<>();
+
+        given(strategyFactory.getStrategy(CheckType.REST_API)).willReturn(strategy);
+        given(strategyFactory.getStrategy(CheckType.TCP_CONNECT)).willReturn(tcpStrategy);
+        given(strategy.executeAsync(rest1)).willReturn(slowRest);
+        given(strategy.executeAsync(rest2)).willReturn(CompletableFuture.completedFuture(ok));
+        given(tcpStrategy.executeAsync(tcp)).willReturn(CompletableFuture.completedFuture(ok));
+
+        // when: первая группа ещё выполняется, а вторая уже запущена
+        CompletableFuture<Map<Long, CheckResultDto>> actual =
+                CompletableFuture.supplyAsync(() -> service.processBatch(List.of(rest1, tcp, rest2)));
+        then(tcpStrategy).should(timeout(5_000)).executeAsync(tcp);
+        assertThat(actual).isNotDone();
+        slowRest.complete(ok);
+
+        // then
+        assertThat(actual.get(5, TimeUnit.SECONDS)).containsOnlyKeys(1L, 2L, 3L);
+        then(strategy).should(never()).executeBatch(any());
+    }
+
+    @Test
+    @DisplayName("processBatch(): сбой группы одного типа даёт FAILED/ERROR только её проверкам")
+    void should_fail_only_checks_of_failed_type_group() {
+        // given
+        CheckStrategy tcpStrategy = mock(CheckStrategy.class);
+        CheckDto rest = newCheckDto(1L, CheckType.REST_API);
+        CheckDto tcp1 = newCheckDto(2L, CheckType.TCP_CONNECT);
+        CheckDto tcp2 = newCheckDto(3L, CheckType.TCP_CONNECT);
+        CheckResultDto ok = new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "ok");
+
+        given(strategyFactory.getStrategy(CheckType.REST_API)).willReturn(strategy);
+        given(strategyFactory.getStrategy(CheckType.TCP_CONNECT)).willReturn(tcpStrategy);
+        given(strategy.executeAsync(rest)).willReturn(CompletableFuture.completedFuture(ok));
+        given(tcpStrategy.executeAsync(tcp1)).willThrow(new IllegalStateException("selector down"));
+        given(tcpStrategy.executeAsync(tcp2)).willReturn(CompletableFuture.failedFuture(new IllegalStateException("probe lost")));
+
+        // when
+        Map<Long, CheckResultDto> actual = service.processBatch(List.of(rest, tcp1, tcp2));
+
+        // then
+        assertThat(actual.get(1L)).isEqualTo(ok);
+        assertThat(actual.get(2L).status()).isEqualTo(CheckRunStatus.FAILED);
+        assertThat(actual.get(2L).failureReason()).isEqualTo(FailureReason.ERROR);
+        assertThat(actual.get(2L).details()).isEqualTo("selector down");
+        assertThat(actual.get(3L).failureReason()).isEqualTo(FailureReason.ERROR);
+        assertThat(actual.get(3L).details()).isEqualTo("probe lost");
+    }
+
+    @Test
+    @DisplayName("executeBatch() по умолчанию: запускает executeAsync() для всех проверок, затем ждёт результаты")
+    void default_executeBatch_should_fan_out_over_executeAsync() {
+        // given
+        CheckStrategy fanOut = mock(CheckStrategy.class, CALLS_REAL_METHODS);
+        CheckDto first = newCheckDto(1L, CheckType.REST_API);
+        CheckDto second = newCheckDto(2L, CheckType.REST_API);
+        CheckResultDto ok = new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "ok");
+        CheckResultDto failed = new CheckResultDto(CheckRunStatus.FAILED, null, "no");
+        CompletableFuture<CheckResultDto> firstFuture = new CompletableFuture<>();
+        doAnswer(invocation -> {
+            // к запуску второй проверки первая ещё не завершена
+            assertThat(firstFuture).isNotDone();
+            firstFuture.complete(ok);
+            return CompletableFuture.completedFuture(failed);
+        }).when(fanOut).executeAsync(second);
+        doReturn(firstFuture).when(fanOut).executeAsync(first);
+
+        // when
+        Map<Long, CheckResultDto> actual = fanOut.executeBatch(List.of(first, second));
+
+        // then
+        assertThat(actual).containsExactly(entry(1L, ok), entry(2L, failed));
+    }
+}
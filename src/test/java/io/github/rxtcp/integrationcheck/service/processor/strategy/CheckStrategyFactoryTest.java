@@ -4,6 +4,7 @@ import io.github.rxtcp.integrationcheck.dto.CheckDto;
 import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
 import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
 import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
@@ -36,7 +37,8 @@ final class CheckStrategyFactoryTest {
                 1L, "n", null, true, 5,
                 LocalDateTime.now().plusMinutes(1),
                 type,
-                null
+                null,
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0
         );
     }
 
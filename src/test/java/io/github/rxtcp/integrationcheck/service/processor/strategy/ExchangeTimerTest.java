@@ -0,0 +1,61 @@
+package io.github.rxtcp.integrationcheck.service.processor.strategy;
+
+import io.github.rxtcp.integrationcheck.dto.CheckTimings;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты для {@link ExchangeTimer}: длительности фаз считаются между соседними отметками.
+ */
+@DisplayName("ExchangeTimer")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class ExchangeTimerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private void advanceMicros(long micros) {
+        clock.addAndGet(TimeUnit.MICROSECONDS.toNanos(micros));
+    }
+
+    @Test
+    void should_compute_phase_durations_between_marks() {
+        ExchangeTimer timer = ExchangeTimer.start(clock::get);
+        advanceMicros(150);
+        timer.dnsResolved();
+        advanceMicros(20);
+        timer.requestSent();
+        advanceMicros(4_000);
+        timer.headersReceived();
+        advanceMicros(300);
+        timer.bodyRead();
+        advanceMicros(30);
+
+        CheckTimings timings = timer.finish();
+
+        assertThat(timings).isEqualTo(new CheckTimings(150, null, 4_000, 300, 4_500));
+    }
+
+    @Test
+    void should_measure_connect_from_dns_and_leave_unreached_phases_null() {
+        ExchangeTimer timer = ExchangeTimer.start(clock::get);
+        advanceMicros(100);
+        timer.dnsResolved();
+        advanceMicros(900);
+        timer.connected();
+
+        CheckTimings timings = timer.finish();
+
+        assertThat(timings.dnsMicros()).isEqualTo(100);
+        assertThat(timings.connectMicros()).isEqualTo(900);
+        assertThat(timings.ttfbMicros()).isNull();
+        assertThat(timings.bodyMicros()).isNull();
+        assertThat(timings.totalMicros()).isEqualTo(1_000);
+    }
+}
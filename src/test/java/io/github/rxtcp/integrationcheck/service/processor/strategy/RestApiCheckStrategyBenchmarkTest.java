@@ -0,0 +1,123 @@
+package io.github.rxtcp.integrationcheck.service.processor.strategy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.rxtcp.integrationcheck.configuration.properties.HostBulkheadProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.HttpClientPoolProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.RequestTemplateProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.ResponseCaptureProps;
+import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.HttpMethod;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
+import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
+import io.github.rxtcp.integrationcheck.integration.http.HostBulkhead;
+import io.github.rxtcp.integrationcheck.integration.http.HostResolver;
+import io.github.rxtcp.integrationcheck.integration.http.HttpClientRegistry;
+import io.github.rxtcp.integrationcheck.integration.http.LatencyStubServer;
+import io.github.rxtcp.integrationcheck.integration.http.ResponseCapture;
+import io.github.rxtcp.integrationcheck.integration.http.RestRequestFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Бенчмарк блокирующего и асинхронного путей {@link RestApiCheckStrategy} против локального стаба с задержкой.
+ * <p>
+ * Блокирующий путь ограничен пулом потоков того же размера, что и {@code worker-step.concurrency-limit}
+ * по умолчанию; асинхронный путь отправляет все запросы сразу (bulkhead хоста не ограничивает). Запуск: {@code mvn test -Dbenchmark=true
+ * -Dtest=RestApiCheckStrategyBenchmarkTest}; параметры — {@code benchmark.checks}, {@code benchmark.latency-ms}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@DisplayName("RestApiCheckStrategy: бенчмарк блокирующего и асинхронного выполнения")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class RestApiCheckStrategyBenchmarkTest {
+
+    private static final int CHECKS = Integer.getInteger("benchmark.checks", 1_000);
+    private static final Duration LATENCY = Duration.ofMillis(Integer.getInteger("benchmark.latency-ms", 200));
+    private static final int BLOCKING_POOL_SIZE = 20;
+
+    private LatencyStubServer stub;
+    private HttpClientRegistry registry;
+    private RestApiCheckStrategy strategy;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = LatencyStubServer.start(LATENCY, 200, "OK");
+        final HttpClientPoolProps poolProps = new HttpClientPoolProps(HttpClient.Version.HTTP_1_1, HttpClient.Redirect.NEVER,
+                "", 0, Duration.ofMinutes(10), Duration.ofMinutes(1));
+        registry = new HttpClientRegistry(RestClient.builder(), poolProps, new SimpleMeterRegistry());
+        strategy = new RestApiCheckStrategy(
+                new RestRequestFactory(registry, new ObjectMapper(), new RequestTemplateProps(Duration.ofMinutes(10), Duration.ofMinutes(1))),
+                registry,
+                new ResponseCapture(new ResponseCaptureProps(DataSize.ofKilobytes(64)), new SimpleMeterRegistry()),
+                new HostResolver(),
+                new HostBulkhead(new HostBulkheadProps(Integer.MAX_VALUE, Map.of(), Duration.ofSeconds(30)), new SimpleMeterRegistry())
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+        stub.close();
+    }
+
+    private List<CheckDto> checks() {
+        return IntStream.range(0, CHECKS)
+                .mapToObj(i -> new CheckDto(
+                        (long) i, "check-" + i, null, true, 1, LocalDateTime.now(), CheckType.REST_API,
+                        new RestApiProfileDto((long) i, (long) i, stub.url("/health"), HttpMethod.GET, 30, null, null, 200),
+                        ScheduleMode.FIXED_DELAY, null, null, null, null, 0
+                ))
+                .toList();
+    }
+
+    @Test
+    void async_path_should_outperform_bounded_blocking_path() throws Exception {
+        final List<CheckDto> checks = checks();
+
+        final long blockingNanos;
+        try (ExecutorService pool = Executors.newFixedThreadPool(BLOCKING_POOL_SIZE)) {
+            final long start = System.nanoTime();
+            final List<Future<CheckResultDto>> futures = new ArrayList<>();
+            checks.forEach(check -> futures.add(pool.submit(() -> strategy.execute(check))));
+            for (Future<CheckResultDto> future : futures) {
+                assertThat(future.get().status()).isEqualTo(CheckRunStatus.SUCCEEDED);
+            }
+            blockingNanos = System.nanoTime() - start;
+        }
+
+        final long asyncStart = System.nanoTime();
+        final List<CompletableFuture<CheckResultDto>> futures = checks.stream().map(strategy::executeAsync).toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        final long asyncNanos = System.nanoTime() - asyncStart;
+        futures.forEach(f -> assertThat(f.join().status()).isEqualTo(CheckRunStatus.SUCCEEDED));
+
+        System.out.printf("checks=%d latency=%dms blocking(pool=%d)=%dms async=%dms%n",
+                CHECKS, LATENCY.toMillis(), BLOCKING_POOL_SIZE,
+                Duration.ofNanos(blockingNanos).toMillis(), Duration.ofNanos(asyncNanos).toMillis());
+        assertThat(asyncNanos).isLessThan(blockingNanos);
+    }
+}
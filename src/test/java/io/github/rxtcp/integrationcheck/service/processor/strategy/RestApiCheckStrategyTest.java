@@ -8,7 +8,17 @@ import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
 import io.github.rxtcp.integrationcheck.domain.CheckType;
 import io.github.rxtcp.integrationcheck.domain.FailureReason;
 import io.github.rxtcp.integrationcheck.domain.HttpMethod;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
+import io.github.rxtcp.integrationcheck.configuration.properties.HostBulkheadProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.ResponseCaptureProps;
+import io.github.rxtcp.integrationcheck.integration.http.CapturedBody;
+import io.github.rxtcp.integrationcheck.integration.http.HostBulkhead;
+import io.github.rxtcp.integrationcheck.integration.http.HostResolver;
+import io.github.rxtcp.integrationcheck.integration.http.HttpClientRegistry;
+import io.github.rxtcp.integrationcheck.integration.http.ResponseCapture;
 import io.github.rxtcp.integrationcheck.integration.http.RestRequestFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
@@ -18,18 +28,40 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.client.RestClient;
 
+import java.io.ByteArrayInputStream;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 /**
@@ -39,7 +71,10 @@ import static org.mockito.Mockito.when;
  * - успешный сценарий (коды совпали, тело прокинулось);
  * - обработку несовпадающего кода ответа;
  * - маппинг таймаута в FAILURE=TIMEOUT;
- * - маппинг прочих ошибок в FAILURE=ERROR.
+ * - маппинг прочих ошибок в FAILURE=ERROR;
+ * - асинхронный путь executeAsync() через {@link HttpClient#sendAsync};
+ * - в асинхронном пути запрос уходит после асинхронного разрешения имени;
+ * - истечение ожидания разрешения хоста даёт FAILED=TIMEOUT.
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("RestApiCheckStrategy")
@@ -51,11 +86,32 @@ class RestApiCheckStrategyTest {
     @Mock
     private RestClient.RequestBodySpec requestSpec;
     @Mock
-    private RestClient.ResponseSpec responseSpec;
+    private RestClient.RequestHeadersSpec.ConvertibleClientHttpResponse clientResponse;
+    @Mock
+    private HttpClientRegistry httpClientRegistry;
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private HttpResponse<CapturedBody> httpResponse;
+    @Mock
+    private HostResolver hostResolver;
+    @Spy
+    private HostBulkhead hostBulkhead = new HostBulkhead(new HostBulkheadProps(1, Map.of(), Duration.ofSeconds(30)), new SimpleMeterRegistry());
+    @Spy
+    private ResponseCapture responseCapture =
+            new ResponseCapture(new ResponseCaptureProps(DataSize.ofKilobytes(64)), new SimpleMeterRegistry());
 
     @InjectMocks
     private RestApiCheckStrategy strategy;
 
+    @BeforeEach
+    void stubUri() {
+        lenient().when(restRequestFactory.uriOf(any(RestApiProfileDto.class)))
+                .thenReturn(URI.create("https://example.org/health"));
+        lenient().when(hostResolver.resolveAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(new InetAddress[0]));
+    }
+
     // ===== Хелперы =====
 
     private static RestApiProfileDto newProfile(int expectedCode) {
@@ -77,19 +133,40 @@ class RestApiCheckStrategyTest {
                 1L, "rest", "desc", true, 1,
                 LocalDateTime.now().plusMinutes(1),
                 CheckType.REST_API,
-                p
+                p,
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0
         );
     }
 
     /**
-     * Настраивает «плоскую» fluent-цепочку RestClient и возвращает заданный HTTP-ответ.
+     * Настраивает цепочку RestClient: exchange() вызывает переданную функцию с заданным HTTP-ответом.
      */
-    private void stubFluentChainReturning(ResponseEntity<String> entity) {
+    private void stubExchangeReturning(HttpStatus status, String body) throws Exception {
         when(restRequestFactory.prepare(any(RestApiProfileDto.class))).thenReturn(requestSpec);
-        when(requestSpec.retrieve()).thenReturn(responseSpec);
-        // onStatus возвращает тот же ResponseSpec, чтобы цепочка была единообразной
-        when(responseSpec.onStatus(any(), any())).thenReturn(responseSpec);
-        when(responseSpec.toEntity(String.class)).thenReturn(entity);
+        when(clientResponse.getStatusCode()).thenReturn(status);
+        when(clientResponse.getHeaders()).thenReturn(new HttpHeaders());
+        when(clientResponse.getBody()).thenReturn(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+        when(requestSpec.exchange(any())).thenAnswer(inv -> inv
+                .<RestClient.RequestHeadersSpec.ExchangeFunction<?>>getArgument(0)
+                .exchange(null, clientResponse));
+    }
+
+    /**
+     * Настраивает цепочку RestClient: exchange() завершается исключением.
+     */
+    private void stubExchangeThrowing(RuntimeException exception) {
+        when(restRequestFactory.prepare(any(RestApiProfileDto.class))).thenReturn(requestSpec);
+        when(requestSpec.exchange(any())).thenThrow(exception);
+    }
+
+    /**
+     * Настраивает асинхронную отправку через {@link HttpClient} и возвращает заданный future ответа.
+     */
+    private void stubSendAsyncReturning(CompletableFuture<HttpResponse<CapturedBody>> future) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("https://example.org/health")).build();
+        when(restRequestFactory.prepareHttpRequest(any(RestApiProfileDto.class))).thenReturn(request);
+        when(httpClientRegistry.httpClient(any(RestApiProfileDto.class))).thenReturn(httpClient);
+        doReturn(future).when(httpClient).sendAsync(same(request), any());
     }
 
     // ===== Тесты =====
@@ -102,36 +179,41 @@ class RestApiCheckStrategyTest {
 
     @Test
     @DisplayName("execute(): SUCCEEDED когда ожидаемый HTTP-код совпал с фактическим")
-    void execute_returns_succeeded_when_expected_code_matches_actual() {
+    void execute_returns_succeeded_when_expected_code_matches_actual() throws Exception {
         // given
         var profile = newProfile(200);
         var input = newInput(profile);
-        stubFluentChainReturning(new ResponseEntity<>("OK", HttpStatus.OK));
+        stubExchangeReturning(HttpStatus.OK, "OK");
 
         // when
         CheckResultDto result = strategy.execute(input);
 
         // then
         // Проверяем цепочку вызовов в ожидаемом порядке
-        InOrder inOrder = inOrder(restRequestFactory, requestSpec, responseSpec);
+        InOrder inOrder = inOrder(restRequestFactory, requestSpec, responseCapture);
         inOrder.verify(restRequestFactory).prepare(same(profile));
-        inOrder.verify(requestSpec).retrieve();
-        inOrder.verify(responseSpec).onStatus(any(), any());
-        inOrder.verify(responseSpec).toEntity(String.class);
+        inOrder.verify(requestSpec).exchange(any());
+        inOrder.verify(responseCapture).capture(any(), any());
         inOrder.verifyNoMoreInteractions();
 
         assertThat(result.status()).isEqualTo(CheckRunStatus.SUCCEEDED);
         assertThat(result.failureReason()).isNull();
         assertThat(result.details()).isEqualTo("OK");
+        assertThat(result.timings().dnsMicros()).isNotNull();
+        assertThat(result.timings().ttfbMicros()).isNotNull();
+        assertThat(result.timings().bodyMicros()).isNotNull();
+        assertThat(result.timings().totalMicros()).isNotNull();
+        verify(hostResolver).resolve("example.org");
+        verify(hostBulkhead).call(eq("example.org"), any());
     }
 
     @Test
     @DisplayName("execute(): FAILED/HTTP_STATUS_MISMATCH при несоответствии HTTP-кода")
-    void execute_returns_failed_with_http_status_mismatch_on_code_difference() {
+    void execute_returns_failed_with_http_status_mismatch_on_code_difference() throws Exception {
         // given
         var profile = newProfile(200);
         var input = newInput(profile);
-        stubFluentChainReturning(new ResponseEntity<>("ERR-BODY", HttpStatus.INTERNAL_SERVER_ERROR));
+        stubExchangeReturning(HttpStatus.INTERNAL_SERVER_ERROR, "ERR-BODY");
 
         // when
         CheckResultDto result = strategy.execute(input);
@@ -153,10 +235,7 @@ class RestApiCheckStrategyTest {
         var input = newInput(profile);
 
         RuntimeException timeout = new RuntimeException("socket timeout");
-        when(restRequestFactory.prepare(any(RestApiProfileDto.class))).thenReturn(requestSpec);
-        when(requestSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.onStatus(any(), any())).thenReturn(responseSpec);
-        when(responseSpec.toEntity(String.class)).thenThrow(timeout);
+        stubExchangeThrowing(timeout);
 
         // Мокаем статический детектор таймаута и отмечаем именно наш exception как таймаут.
         try (MockedStatic<TimeoutDetector> mocked = mockStatic(TimeoutDetector.class)) {
@@ -181,10 +260,7 @@ class RestApiCheckStrategyTest {
         var input = newInput(profile);
 
         IllegalStateException arbitrary = new IllegalStateException("boom");
-        when(restRequestFactory.prepare(any(RestApiProfileDto.class))).thenReturn(requestSpec);
-        when(requestSpec.retrieve()).thenReturn(responseSpec);
-        when(responseSpec.onStatus(any(), any())).thenReturn(responseSpec);
-        when(responseSpec.toEntity(String.class)).thenThrow(arbitrary);
+        stubExchangeThrowing(arbitrary);
 
         try (MockedStatic<TimeoutDetector> mocked = mockStatic(TimeoutDetector.class)) {
             mocked.when(() -> TimeoutDetector.isTimeout(any())).thenReturn(false);
@@ -198,4 +274,119 @@ class RestApiCheckStrategyTest {
             assertThat(result.details()).contains("boom");
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("executeAsync(): SUCCEEDED когда ожидаемый HTTP-код совпал с фактическим")
+    void executeAsync_returns_succeeded_when_expected_code_matches_actual() {
+        // given
+        var profile = newProfile(200);
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpResponse.body()).thenReturn(new CapturedBody("OK", 2, false, "hash"));
+        stubSendAsyncReturning(CompletableFuture.completedFuture(httpResponse));
+
+        // when
+        CheckResultDto result = strategy.executeAsync(newInput(profile)).join();
+
+        // then
+        assertThat(result.status()).isEqualTo(CheckRunStatus.SUCCEEDED);
+        assertThat(result.failureReason()).isNull();
+        assertThat(result.details()).isEqualTo("OK");
+    }
+
+    @Test
+    @DisplayName("executeAsync(): FAILED/HTTP_STATUS_MISMATCH при несоответствии HTTP-кода")
+    void executeAsync_returns_failed_with_http_status_mismatch_on_code_difference() {
+        // given
+        when(httpResponse.statusCode()).thenReturn(503);
+        when(httpResponse.body()).thenReturn(new CapturedBody("DOWN", 4, false, "hash"));
+        stubSendAsyncReturning(CompletableFuture.completedFuture(httpResponse));
+
+        // when
+        CheckResultDto result = strategy.executeAsync(newInput(newProfile(200))).join();
+
+        // then
+        assertThat(result.status()).isEqualTo(CheckRunStatus.FAILED);
+        assertThat(result.failureReason()).isEqualTo(FailureReason.HTTP_STATUS_MISMATCH);
+        assertThat(result.details()).contains("получен HTTP код = 503").contains("DOWN");
+    }
+
+    @Test
+    @DisplayName("executeAsync(): FAILED/TIMEOUT при таймауте запроса")
+    void executeAsync_returns_failed_timeout_on_request_timeout() {
+        // given
+        stubSendAsyncReturning(CompletableFuture.failedFuture(new HttpTimeoutException("request timed out")));
+
+        // when
+        CheckResultDto result = strategy.executeAsync(newInput(newProfile(200))).join();
+
+        // then
+        assertThat(result.status()).isEqualTo(CheckRunStatus.FAILED);
+        assertThat(result.failureReason()).isEqualTo(FailureReason.TIMEOUT);
+        assertThat(result.details()).contains("request timed out");
+        assertThat(result.timings().ttfbMicros()).isNull();
+        assertThat(result.timings().totalMicros()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("executeAsync(): FAILED/ERROR при ошибке подготовки запроса")
+    void executeAsync_returns_failed_error_when_request_preparation_fails() {
+        // given
+        when(restRequestFactory.prepareHttpRequest(any(RestApiProfileDto.class)))
+                .thenThrow(new IllegalArgumentException("bad headers"));
+
+        // when
+        CompletableFuture<CheckResultDto> future = strategy.executeAsync(newInput(newProfile(200)));
+
+        // then
+        assertThat(future).isCompleted();
+        CheckResultDto result = future.join();
+        assertThat(result.status()).isEqualTo(CheckRunStatus.FAILED);
+        assertThat(result.failureReason()).isEqualTo(FailureReason.ERROR);
+        assertThat(result.details()).contains("bad headers");
+    }
+
+    @Test
+    @DisplayName("executeAsync(): запрос уходит только после асинхронного разрешения имени хоста")
+    void executeAsync_sends_request_after_async_dns_resolution() throws Exception {
+        // given
+        CompletableFuture<InetAddress[]> resolution = new CompletableFuture<>();
+        when(hostResolver.resolveAsync("example.org")).thenReturn(resolution);
+        when(httpResponse.statusCode()).thenReturn(200);
+        when(httpResponse.body()).thenReturn(new CapturedBody("OK", 2, false, "hash"));
+        stubSendAsyncReturning(CompletableFuture.completedFuture(httpResponse));
+
+        // when
+        CompletableFuture<CheckResultDto> future = strategy.executeAsync(newInput(newProfile(200)));
+
+        // then: поток вызова не ждёт DNS
+        assertThat(future).isNotDone();
+        verifyNoInteractions(httpClient);
+        verify(hostResolver, never()).resolve(anyString());
+
+        resolution.completeExceptionally(new UnknownHostException("example.org"));
+        CheckResultDto result = future.join();
+        assertThat(result.status()).isEqualTo(CheckRunStatus.SUCCEEDED);
+        assertThat(result.timings().dnsMicros()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("executeAsync(): FAILED/TIMEOUT без запроса, когда истекло ожидание разрешения хоста")
+    void executeAsync_returns_failed_timeout_when_host_permit_wait_expires() throws Exception {
+        // given: единственное разрешение хоста занято, ожидание ограничено 50 мс
+        HostBulkhead busyBulkhead = new HostBulkhead(
+                new HostBulkheadProps(1, Map.of(), Duration.ofMillis(50)), new SimpleMeterRegistry());
+        busyBulkhead.executeAsync("example.org", CompletableFuture::new);
+        RestApiCheckStrategy limited = new RestApiCheckStrategy(
+                restRequestFactory, httpClientRegistry, responseCapture, hostResolver, busyBulkhead);
+
+        // when
+        CheckResultDto result = limited.executeAsync(newInput(newProfile(200))).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(result.status()).isEqualTo(CheckRunStatus.FAILED);
+        assertThat(result.failureReason()).isEqualTo(FailureReason.TIMEOUT);
+        assertThat(result.details()).contains("example.org");
+        verifyNoInteractions(httpClient);
+        busyBulkhead.close();
+    }
+}
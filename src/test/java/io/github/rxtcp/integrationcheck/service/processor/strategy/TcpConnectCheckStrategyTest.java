@@ -0,0 +1,182 @@
+package io.github.rxtcp.integrationcheck.service.processor.strategy;
+
+import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.FailureReason;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
+import io.github.rxtcp.integrationcheck.integration.http.HostResolver;
+import io.github.rxtcp.integrationcheck.integration.tcp.TcpConnectProber;
+import io.github.rxtcp.integrationcheck.integration.tcp.TcpConnectResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Юнит-тесты стратегии TCP-проверок.
+ * Проверяем:
+ * - корректный тип стратегии;
+ * - успешное подключение с таймингами DNS и connect;
+ * - маппинг таймаута в FAILURE=TIMEOUT, отказа и ошибки DNS — в FAILURE=ERROR;
+ * - синхронный execute() совпадает с асинхронным путём;
+ * - имя разрешается асинхронно, при неудаче подключения пробуется следующий адрес хоста.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TcpConnectCheckStrategy")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class TcpConnectCheckStrategyTest {
+
+    private static final InetAddress ADDRESS = InetAddress.getLoopbackAddress();
+
+    @Mock
+    private HostResolver hostResolver;
+    @Mock
+    private TcpConnectProber tcpConnectProber;
+
+    @InjectMocks
+    private TcpConnectCheckStrategy strategy;
+
+    private static CheckDto check() {
+        return new CheckDto(1L, "tcp", "d", true, 1, LocalDateTime.now(), CheckType.TCP_CONNECT,
+                new TcpConnectProfileDto(1L, 2L, "db.local", 5432, 750),
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0);
+    }
+
+    private static CompletableFuture<InetAddress[]> resolved(InetAddress... addresses) {
+        return CompletableFuture.completedFuture(addresses);
+    }
+
+    @Test
+    void getType_should_return_TCP_CONNECT() {
+        assertThat(strategy.getType()).isEqualTo(CheckType.TCP_CONNECT);
+    }
+
+    @Test
+    void should_succeed_and_report_dns_and_connect_timings() throws Exception {
+        when(hostResolver.resolveAsync("db.local")).thenReturn(resolved(ADDRESS));
+        var address = new InetSocketAddress(ADDRESS, 5432);
+        when(tcpConnectProber.connect(address, Duration.ofMillis(750)))
+                .thenReturn(CompletableFuture.completedFuture(new TcpConnectResult(address, System.nanoTime())));
+
+        CheckResultDto result = strategy.executeAsync(check()).join();
+
+        assertThat(result.status()).isEqualTo(CheckRunStatus.SUCCEEDED);
+        assertThat(result.failureReason()).isNull();
+        assertThat(result.details()).contains("db.local:5432");
+        assertThat(result.timings().dnsMicros()).isNotNull();
+        assertThat(result.timings().connectMicros()).isNotNull();
+        assertThat(result.timings().ttfbMicros()).isNull();
+        assertThat(result.timings().totalMicros()).isNotNull();
+    }
+
+    @Test
+    void should_map_timeout_to_TIMEOUT() throws Exception {
+        when(hostResolver.resolveAsync("db.local")).thenReturn(resolved(ADDRESS));
+        when(tcpConnectProber.connect(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new SocketTimeoutException("Connect timed out")));
+
+        CheckResultDto result = strategy.execute(check());
+
+        assertThat(result.status()).isEqualTo(CheckRunStatus.FAILED);
+        assertThat(result.failureReason()).isEqualTo(FailureReason.TIMEOUT);
+        assertThat(result.timings().connectMicros()).isNull();
+    }
+
+    @Test
+    void should_map_connection_refused_to_ERROR() throws Exception {
+        when(hostResolver.resolveAsync("db.local")).thenReturn(resolved(ADDRESS));
+        when(tcpConnectProber.connect(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new ConnectException("Connection refused")));
+
+        CheckResultDto result = strategy.execute(check());
+
+        assertThat(result.status()).isEqualTo(CheckRunStatus.FAILED);
+        assertThat(result.failureReason()).isEqualTo(FailureReason.ERROR);
+        assertThat(result.details()).contains("db.local:5432").contains("Connection refused");
+    }
+
+    @Test
+    void should_map_unknown_host_to_ERROR_without_probing() throws Exception {
+        when(hostResolver.resolveAsync("db.local"))
+                .thenReturn(CompletableFuture.failedFuture(new UnknownHostException("db.local")));
+
+        CheckResultDto result = strategy.executeAsync(check()).join();
+
+        assertThat(result.status()).isEqualTo(CheckRunStatus.FAILED);
+        assertThat(result.failureReason()).isEqualTo(FailureReason.ERROR);
+        assertThat(result.timings().dnsMicros()).isNull();
+        verifyNoInteractions(tcpConnectProber);
+    }
+
+    @Test
+    void should_not_resolve_host_on_caller_thread() throws Exception {
+        CompletableFuture<InetAddress[]> resolution = new CompletableFuture<>();
+        when(hostResolver.resolveAsync("db.local")).thenReturn(resolution);
+        var address = new InetSocketAddress(ADDRESS, 5432);
+        when(tcpConnectProber.connect(address, Duration.ofMillis(750)))
+                .thenReturn(CompletableFuture.completedFuture(new TcpConnectResult(address, System.nanoTime())));
+
+        CompletableFuture<CheckResultDto> future = strategy.executeAsync(check());
+
+        assertThat(future).isNotDone();
+        verify(hostResolver, never()).resolve(any());
+        verifyNoInteractions(tcpConnectProber);
+
+        resolution.complete(new InetAddress[]{ADDRESS});
+        assertThat(future.join().status()).isEqualTo(CheckRunStatus.SUCCEEDED);
+    }
+
+    @Test
+    void should_try_next_address_when_connect_to_first_fails() throws Exception {
+        InetAddress first = InetAddress.getByAddress("db.local", new byte[]{10, 0, 0, 1});
+        when(hostResolver.resolveAsync("db.local")).thenReturn(resolved(first, ADDRESS));
+        when(tcpConnectProber.connect(new InetSocketAddress(first, 5432), Duration.ofMillis(750)))
+                .thenReturn(CompletableFuture.failedFuture(new ConnectException("Network is unreachable")));
+        var second = new InetSocketAddress(ADDRESS, 5432);
+        when(tcpConnectProber.connect(second, Duration.ofMillis(750)))
+                .thenReturn(CompletableFuture.completedFuture(new TcpConnectResult(second, System.nanoTime())));
+
+        CheckResultDto result = strategy.executeAsync(check()).join();
+
+        assertThat(result.status()).isEqualTo(CheckRunStatus.SUCCEEDED);
+        verify(tcpConnectProber).connect(second, Duration.ofMillis(750));
+    }
+
+    @Test
+    void should_report_last_address_failure_when_all_addresses_fail() throws Exception {
+        InetAddress first = InetAddress.getByAddress("db.local", new byte[]{10, 0, 0, 1});
+        when(hostResolver.resolveAsync("db.local")).thenReturn(resolved(first, ADDRESS));
+        when(tcpConnectProber.connect(new InetSocketAddress(first, 5432), Duration.ofMillis(750)))
+                .thenReturn(CompletableFuture.failedFuture(new ConnectException("Network is unreachable")));
+        when(tcpConnectProber.connect(new InetSocketAddress(ADDRESS, 5432), Duration.ofMillis(750)))
+                .thenReturn(CompletableFuture.failedFuture(new SocketTimeoutException("Connect timed out")));
+
+        CheckResultDto result = strategy.executeAsync(check()).join();
+
+        assertThat(result.status()).isEqualTo(CheckRunStatus.FAILED);
+        assertThat(result.failureReason()).isEqualTo(FailureReason.TIMEOUT);
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.rxtcp.integrationcheck.service.reader;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.CheckCacheProps;
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
+import io.github.rxtcp.integrationcheck.mapper.DueCheckRowMapper;
+import io.github.rxtcp.integrationcheck.repository.CheckRepository;
+import io.github.rxtcp.integrationcheck.repository.DueCheckRow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для {@link CheckDefinitionCache}.
+ * <p>
+ * Фокус:
+ * - первая загрузка и загрузка по истечении интервала — полные, между ними — дельта;
+ * - дельта читается с отметки последнего изменения минус перекрытие;
+ * - изменённые проверки заменяются, выключенные удаляются, удалённые уходят при полной загрузке;
+ * - промахи возвращаются отдельно и учитываются в метриках.
+ */
+@DisplayName("CheckDefinitionCache")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class CheckDefinitionCacheTest {
+
+    private static final Duration FULL_REFRESH_INTERVAL = Duration.ofMinutes(10);
+    private static final Duration DELTA_OVERLAP = Duration.ofSeconds(30);
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 2, 3, 4, 5);
+
+    private final CheckRepository checkRepository = mock(CheckRepository.class);
+    private final DueCheckRowMapper mapper = mock(DueCheckRowMapper.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong nanos = new AtomicLong();
+    private final CheckDefinitionCache cache = new CheckDefinitionCache(
+            checkRepository, mapper, new CheckCacheProps(true, FULL_REFRESH_INTERVAL, DELTA_OVERLAP),
+            meterRegistry, nanos::get);
+
+    @BeforeEach
+    void mapRowsByName() {
+        when(mapper.toDto(any())).thenAnswer(invocation -> dto(invocation.getArgument(0)));
+    }
+
+    private static DueCheckRow row(long id, String host, boolean enabled, LocalDateTime updatedAt) {
+        DueCheckRow row = mock(DueCheckRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getHost()).thenReturn(host);
+        when(row.getEnabled()).thenReturn(enabled);
+        when(row.getUpdatedAt()).thenReturn(updatedAt);
+        return row;
+    }
+
+    private static CheckDto dto(DueCheckRow row) {
+        return new CheckDto(row.getId(), "check-" + row.getId(), null, row.getEnabled(), 1, T0, CheckType.TCP_CONNECT,
+                new TcpConnectProfileDto(row.getId(), row.getId(), row.getHost(), 80, 1000),
+                ScheduleMode.FIXED_DELAY, null, null, null, null, 0);
+    }
+
+    private static String hostOf(CheckDto check) {
+        return ((TcpConnectProfileDto) check.profile()).host();
+    }
+
+    private double counter(String name, String tag, String value) {
+        return meterRegistry.get(name).tag(tag, value).counter().count();
+    }
+
+    @Test
+    void should_load_all_enabled_checks_on_first_refresh() {
+        // given
+        var rows = Stream.of(row(1L, "a", true, T0), row(2L, "b", true, T0.plusSeconds(5)));
+        when(checkRepository.streamEnabledChecks()).thenReturn(rows);
+
+        // when
+        cache.refresh();
+
+        // then
+        var lookup = cache.getAll(List.of(1L, 2L, 3L));
+        assertThat(lookup.found()).extracting(CheckDto::id).containsExactly(1L, 2L);
+        assertThat(lookup.missing()).containsExactly(3L);
+        assertThat(counter("integration.check.cache.refreshes", "kind", "full")).isEqualTo(1.0);
+        assertThat(counter("integration.check.cache.requests", "result", "hit")).isEqualTo(2.0);
+        assertThat(counter("integration.check.cache.requests", "result", "miss")).isEqualTo(1.0);
+        assertThat(meterRegistry.get("integration.check.cache.size").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void should_apply_delta_from_latest_change_minus_overlap() {
+        // given
+        var initial = Stream.of(row(1L, "a", true, T0), row(2L, "b", true, T0.plusSeconds(5)));
+        when(checkRepository.streamEnabledChecks()).thenReturn(initial);
+        cache.refresh();
+        var changed = Stream.of(
+                row(1L, "a2", true, T0.plusMinutes(1)), row(2L, "b", false, T0.plusMinutes(1)), row(3L, "c", true, T0.plusMinutes(1)));
+        when(checkRepository.streamChecksChangedSince(T0.plusSeconds(5).minus(DELTA_OVERLAP))).thenReturn(changed);
+
+        // when
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+        cache.refresh();
+
+        // then
+        var lookup = cache.getAll(List.of(1L, 2L, 3L));
+        assertThat(lookup.found()).extracting(CheckDefinitionCacheTest::hostOf).containsExactly("a2", "c");
+        assertThat(lookup.missing()).containsExactly(2L);
+        assertThat(counter("integration.check.cache.refreshes", "kind", "delta")).isEqualTo(1.0);
+        verify(checkRepository).streamEnabledChecks();
+    }
+
+    @Test
+    void should_reload_fully_after_interval_and_drop_deleted_checks() {
+        // given
+        var initial = Stream.of(row(1L, "a", true, T0), row(2L, "b", true, T0));
+        var afterDelete = Stream.of(row(1L, "a", true, T0));
+        when(checkRepository.streamEnabledChecks()).thenReturn(initial).thenReturn(afterDelete);
+        cache.refresh();
+
+        // when
+        nanos.addAndGet(FULL_REFRESH_INTERVAL.toNanos());
+        cache.refresh();
+
+        // then
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getAll(List.of(2L)).missing()).containsExactly(2L);
+        assertThat(counter("integration.check.cache.refreshes", "kind", "full")).isEqualTo(2.0);
+        verify(checkRepository, never()).streamChecksChangedSince(any());
+    }
+
+    @Test
+    void should_keep_checks_put_after_miss() {
+        // given
+        when(checkRepository.streamEnabledChecks()).thenReturn(Stream.empty());
+        cache.refresh();
+        var loaded = dto(row(7L, "g", true, T0));
+
+        // when
+        cache.putAll(List.of(loaded));
+
+        // then
+        assertThat(cache.getAll(List.of(7L)).found()).containsExactly(loaded);
+    }
+}
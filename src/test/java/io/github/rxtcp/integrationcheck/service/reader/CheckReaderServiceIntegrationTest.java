@@ -1,9 +1,17 @@
 package io.github.rxtcp.integrationcheck.service.reader;
 
+import io.github.rxtcp.integrationcheck.dto.CheckDto;
+import io.github.rxtcp.integrationcheck.dto.CheckScheduleDto;
+import io.github.rxtcp.integrationcheck.dto.RestApiProfileDto;
+import io.github.rxtcp.integrationcheck.dto.TcpConnectProfileDto;
 import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckProfile;
 import io.github.rxtcp.integrationcheck.entity.RestApiProfile;
+import io.github.rxtcp.integrationcheck.entity.TcpConnectProfile;
+import io.github.rxtcp.integrationcheck.configuration.properties.CheckLeaseProps;
 import io.github.rxtcp.integrationcheck.domain.CheckType;
 import io.github.rxtcp.integrationcheck.domain.HttpMethod;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
 import io.github.rxtcp.integrationcheck.repository.CheckRepository;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.DisplayName;
@@ -11,15 +19,20 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -30,12 +43,27 @@ class CheckReaderServiceIntegrationTest {
 
     private static final int RUN_INTERVAL_MIN = 5;
 
+    /**
+     * Срок запуска проверок тестов аренды: раньше сроков проверок остальных тестов, поэтому захват
+     * с {@code dueBefore} в 2001 году видит только их.
+     */
+    private static final LocalDateTime LEASE_DUE_AT = LocalDateTime.of(2001, 1, 1, 0, 0);
+    private static final LocalDateTime LEASE_DUE_BEFORE = LEASE_DUE_AT.plusDays(1);
+
     private final CheckReaderService service;
     private final CheckRepository checkRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CheckLeaseProps checkLeaseProps;
 
-    CheckReaderServiceIntegrationTest(CheckReaderService service, CheckRepository checkRepository) {
+    CheckReaderServiceIntegrationTest(CheckReaderService service, CheckRepository checkRepository,
+                                      JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                                      CheckLeaseProps checkLeaseProps) {
         this.service = service;
         this.checkRepository = checkRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.checkLeaseProps = checkLeaseProps;
     }
 
     // ========================= ТЕСТЫ =========================
@@ -88,8 +116,270 @@ class CheckReaderServiceIntegrationTest {
         // Обратную ссылку (loaded.getProfile().getCheck()) не трогаем, чтобы не ловить LazyInitialization вне TX.
     }
 
+    @Test
+    @DisplayName("findDueChecks: одним запросом возвращает должные проверки с профилями обоих подтипов")
+    void should_return_due_checks_with_profiles_of_both_subtypes() {
+        LocalDateTime now = LocalDateTime.now();
+
+        Check rest = withProfile(persistCheck(true, now.minusMinutes(1)), newRestProfile(), CheckType.REST_API);
+
+        Check tcp = withProfile(persistCheck(true, now.minusMinutes(1)), new TcpConnectProfile("db.local", 5432, 1500), CheckType.TCP_CONNECT);
+
+        Check future = withProfile(persistCheck(true, now.plusMinutes(30)), newRestProfile(), CheckType.REST_API);
+
+        List<CheckDto> due = service.findDueChecks();
+
+        assertThat(due).extracting(CheckDto::id)
+                .contains(rest.getId(), tcp.getId())
+                .doesNotContain(future.getId());
+
+        CheckDto restDto = due.stream().filter(dto -> dto.id().equals(rest.getId())).findFirst().orElseThrow();
+        assertThat(restDto.name()).isEqualTo(rest.getName());
+        assertThat(restDto.enabled()).isTrue();
+        assertThat(restDto.runIntervalMin()).isEqualTo(RUN_INTERVAL_MIN);
+        assertThat(restDto.type()).isEqualTo(CheckType.REST_API);
+        assertThat(restDto.profile()).isInstanceOfSatisfying(RestApiProfileDto.class, profile -> {
+            assertThat(profile.checkId()).isEqualTo(rest.getId());
+            assertThat(profile.profileId()).isEqualTo(rest.getProfile().getId());
+            assertThat(profile.url()).isEqualTo("https://example.org/health");
+            assertThat(profile.httpMethod()).isEqualTo(HttpMethod.values()[0]);
+            assertThat(profile.timeoutSeconds()).isEqualTo(10);
+            assertThat(profile.expectedHttpCode()).isEqualTo(200);
+        });
+
+        CheckDto tcpDto = due.stream().filter(dto -> dto.id().equals(tcp.getId())).findFirst().orElseThrow();
+        assertThat(tcpDto.type()).isEqualTo(CheckType.TCP_CONNECT);
+        assertThat(tcpDto.profile()).isEqualTo(
+                new TcpConnectProfileDto(tcp.getId(), tcp.getProfile().getId(), "db.local", 5432, 1500));
+    }
+
+    @Test
+    @DisplayName("findDueChecks: изменение профиля попадает в кэш определений на следующем тике")
+    void should_refresh_cached_definition_after_profile_change() {
+        Check check = withProfile(persistCheck(true, LocalDateTime.now().minusMinutes(1)),
+                new TcpConnectProfile("old.local", 5432, 1500), CheckType.TCP_CONNECT);
+        assertThat(hostOf(service.findDueChecks(), check)).isEqualTo("old.local");
+
+        ((TcpConnectProfile) check.getProfile()).setHost("new.local");
+        check = checkRepository.saveAndFlush(check);
+
+        assertThat(hostOf(service.findDueChecks(), check)).isEqualTo("new.local");
+    }
+
+    @Test
+    @DisplayName("findDueChecks: кэшированное определение получает текущий next_run_at, режим расписания и интервал в секундах")
+    void should_return_current_next_run_at_and_schedule_mode_of_cached_definition() {
+        LocalDateTime firstRun = LocalDateTime.now().minusMinutes(10).withNano(0);
+        Check check = persistCheck(true, firstRun);
+        check.setScheduleMode(ScheduleMode.FIXED_RATE);
+        check.setRunIntervalSec(10);
+        check = withProfile(check, new TcpConnectProfile("rate.local", 5432, 1500), CheckType.TCP_CONNECT);
+        assertThat(dueDto(check).nextRunAt()).isEqualTo(firstRun);
+
+        // перенос срока не меняет определение (updated_at): кэш его не перечитывает
+        LocalDateTime secondRun = firstRun.plusMinutes(RUN_INTERVAL_MIN);
+        jdbcTemplate.update("UPDATE integration_health_check.h_check SET next_run_at = ? WHERE id = ?",
+                Timestamp.valueOf(secondRun), check.getId());
+
+        CheckDto dto = dueDto(check);
+        assertThat(dto.nextRunAt()).isEqualTo(secondRun);
+        assertThat(dto.scheduleMode()).isEqualTo(ScheduleMode.FIXED_RATE);
+        assertThat(dto.runIntervalSec()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("updateNextRunAt: состояние адаптивного интервала сохраняется и попадает в кэшированное определение")
+    void should_return_current_adaptive_state_of_cached_definition() {
+        LocalDateTime firstRun = LocalDateTime.now().minusMinutes(10).withNano(0);
+        Check check = persistCheck(true, firstRun);
+        check.setAdaptiveMinIntervalSec(10);
+        check = withProfile(check, new TcpConnectProfile("adaptive.local", 5432, 1500), CheckType.TCP_CONNECT);
+        assertThat(dueDto(check).adaptiveIntervalSec()).isNull();
+
+        long id = check.getId();
+        LocalDateTime secondRun = firstRun.plusSeconds(150);
+        transactionTemplate.executeWithoutResult(status -> checkRepository.updateNextRunAt(id, secondRun, 150, 2, checkLeaseProps.owner()));
+
+        CheckDto dto = dueDto(check);
+        assertThat(dto.nextRunAt()).isEqualTo(secondRun);
+        assertThat(dto.adaptiveMinIntervalSec()).isEqualTo(10);
+        assertThat(dto.adaptiveIntervalSec()).isEqualTo(150);
+        assertThat(dto.successStreak()).isEqualTo(2);
+    }
+
+    private CheckDto dueDto(Check check) {
+        return service.findDueChecks().stream()
+                .filter(dto -> dto.id().equals(check.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static String hostOf(List<CheckDto> due, Check check) {
+        return due.stream()
+                .filter(dto -> dto.id().equals(check.getId()))
+                .map(dto -> ((TcpConnectProfileDto) dto.profile()).host())
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @Test
+    @DisplayName("claimDueChecks: арендует должные проверки узлу и не отдаёт их повторно до истечения аренды")
+    void should_lease_due_checks_and_skip_leased_ones() {
+        List<Check> checks = List.of(leaseCheck(), leaseCheck(), leaseCheck());
+        try {
+            List<CheckDto> first = service.claimDueChecks(LEASE_DUE_BEFORE, 2);
+            List<CheckDto> second = service.claimDueChecks(LEASE_DUE_BEFORE, 2);
+            List<CheckDto> third = service.claimDueChecks(LEASE_DUE_BEFORE, 2);
+
+            assertThat(first).hasSize(2);
+            assertThat(second).hasSize(1);
+            assertThat(third).isEmpty();
+            assertThat(Stream.concat(first.stream(), second.stream()).map(CheckDto::id))
+                    .containsExactlyInAnyOrderElementsOf(checks.stream().map(Check::getId).toList());
+            assertThat(first.getFirst().profile()).isInstanceOf(TcpConnectProfileDto.class);
+            assertThat(leaseOwner(checks.getFirst())).isNotBlank();
+            assertThat(leaseUntil(checks.getFirst())).isAfter(LocalDateTime.now());
+        } finally {
+            checkRepository.deleteAll(checks);
+        }
+    }
+
+    @Test
+    @DisplayName("claimDueChecks: проверку с истёкшей арендой захватывает заново")
+    void should_reclaim_check_with_expired_lease() {
+        Check check = leaseCheck();
+        try {
+            assertThat(service.claimDueChecks(LEASE_DUE_BEFORE, 10)).hasSize(1);
+            jdbcTemplate.update("UPDATE integration_health_check.h_check SET lease_owner = 'crashed-node', lease_until = ? WHERE id = ?",
+                    LocalDateTime.now().minusSeconds(1), check.getId());
+
+            assertThat(service.claimDueChecks(LEASE_DUE_BEFORE, 10)).extracting(CheckDto::id).containsExactly(check.getId());
+            assertThat(leaseOwner(check)).isNotEqualTo("crashed-node");
+        } finally {
+            checkRepository.delete(check);
+        }
+    }
+
+    @Test
+    @DisplayName("claimDueChecks: пропускает строки, заблокированные захватом другого узла, не дожидаясь его")
+    void should_skip_rows_locked_by_concurrent_claim() {
+        List<Check> checks = List.of(leaseCheck(), leaseCheck());
+        try {
+            List<CheckDto> claimedMeanwhile = transactionTemplate.execute(status -> {
+                // «другой узел» держит блокировку первой строки до конца своей транзакции; блокируем по id:
+                // H2, в отличие от PostgreSQL, с LIMIT блокирует все просмотренные строки, а не только возвращённые
+                jdbcTemplate.queryForList("SELECT id FROM integration_health_check.h_check WHERE id = ? FOR UPDATE",
+                        Long.class, checks.getFirst().getId());
+                return service.claimDueChecks(LEASE_DUE_BEFORE, 10);
+            });
+
+            assertThat(claimedMeanwhile).extracting(CheckDto::id).containsExactly(checks.get(1).getId());
+        } finally {
+            checkRepository.deleteAll(checks);
+        }
+    }
+
+    @Test
+    @DisplayName("updateNextRunAt: перенос срока запуска снимает аренду")
+    void should_release_lease_when_next_run_is_rescheduled() {
+        Check check = leaseCheck();
+        try {
+            service.claimDueChecks(LEASE_DUE_BEFORE, 10);
+
+            transactionTemplate.executeWithoutResult(status ->
+                    checkRepository.updateNextRunAt(check.getId(), LEASE_DUE_AT.plusMinutes(RUN_INTERVAL_MIN),
+                            checkLeaseProps.owner()));
+
+            assertThat(leaseOwner(check)).isNull();
+            assertThat(leaseUntil(check)).isNull();
+            assertThat(service.claimDueChecks(LEASE_DUE_BEFORE, 10)).extracting(CheckDto::id).containsExactly(check.getId());
+        } finally {
+            checkRepository.delete(check);
+        }
+    }
+
+    @Test
+    @DisplayName("updateNextRunAt: аренду, перехваченную другим узлом, опоздавший запуск не снимает")
+    void should_keep_lease_of_other_node_when_next_run_is_rescheduled() {
+        Check check = leaseCheck();
+        try {
+            service.claimDueChecks(LEASE_DUE_BEFORE, 10);
+            LocalDateTime otherLeaseUntil = LocalDateTime.now().plusMinutes(5).withNano(0);
+            jdbcTemplate.update("UPDATE integration_health_check.h_check SET lease_owner = 'other-node', lease_until = ? WHERE id = ?",
+                    otherLeaseUntil, check.getId());
+
+            transactionTemplate.executeWithoutResult(status ->
+                    checkRepository.updateNextRunAt(check.getId(), LEASE_DUE_AT.plusMinutes(RUN_INTERVAL_MIN),
+                            checkLeaseProps.owner()));
+
+            assertThat(leaseOwner(check)).isEqualTo("other-node");
+            assertThat(leaseUntil(check)).isEqualTo(otherLeaseUntil);
+        } finally {
+            checkRepository.delete(check);
+        }
+    }
+
+    @Test
+    @DisplayName("claimChecks: арендует из заданных только наступившие и не арендованные проверки")
+    void should_claim_only_due_and_free_checks_among_given_ids() {
+        Check due = leaseCheck();
+        Check leased = leaseCheck();
+        Check notYetDue = withProfile(persistCheck(true, LocalDateTime.now().plusHours(1)),
+                new TcpConnectProfile("lease.local", 5432, 1500), CheckType.TCP_CONNECT);
+        try {
+            assertThat(service.claimChecks(List.of(leased.getId()))).hasSize(1);
+
+            List<CheckDto> claimed = service.claimChecks(List.of(due.getId(), leased.getId(), notYetDue.getId()));
+
+            assertThat(claimed).extracting(CheckDto::id).containsExactly(due.getId());
+            assertThat(leaseOwner(due)).isNotBlank();
+            assertThat(leaseOwner(notYetDue)).isNull();
+        } finally {
+            checkRepository.deleteAll(List.of(due, leased, notYetDue));
+        }
+    }
+
+    @Test
+    @DisplayName("findSchedules: расписания по id и изменённые с отметки, включая выключенные")
+    void should_return_schedules_by_ids_and_changed_since() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+        Check enabled = persistCheck(true, LEASE_DUE_AT);
+        Check disabled = persistCheck(false, LEASE_DUE_AT);
+        try {
+            assertThat(service.findSchedules(List.of(enabled.getId(), disabled.getId(), -1L)))
+                    .extracting(CheckScheduleDto::id, CheckScheduleDto::enabled, CheckScheduleDto::nextRunAt)
+                    .containsExactlyInAnyOrder(
+                            tuple(enabled.getId(), true, LEASE_DUE_AT),
+                            tuple(disabled.getId(), false, LEASE_DUE_AT));
+            assertThat(service.findSchedulesChangedSince(before)).extracting(CheckScheduleDto::id)
+                    .contains(enabled.getId(), disabled.getId());
+            assertThat(service.findEnabledSchedules()).extracting(CheckScheduleDto::id)
+                    .contains(enabled.getId())
+                    .doesNotContain(disabled.getId());
+        } finally {
+            checkRepository.deleteAll(List.of(enabled, disabled));
+        }
+    }
+
+    private String leaseOwner(Check check) {
+        return jdbcTemplate.queryForObject("SELECT lease_owner FROM integration_health_check.h_check WHERE id = ?",
+                String.class, check.getId());
+    }
+
+    private LocalDateTime leaseUntil(Check check) {
+        return jdbcTemplate.queryForObject("SELECT lease_until FROM integration_health_check.h_check WHERE id = ?",
+                LocalDateTime.class, check.getId());
+    }
+
     // ======================= ФИКСТУРЫ ========================
 
+    /**
+     * Должная проверка с TCP-профилем и сроком запуска {@link #LEASE_DUE_AT}.
+     */
+    private Check leaseCheck() {
+        return withProfile(persistCheck(true, LEASE_DUE_AT), new TcpConnectProfile("lease.local", 5432, 1500), CheckType.TCP_CONNECT);
+    }
+
     @Test
     @DisplayName("findWithProfileById: при отсутствии бросает EntityNotFoundException с id")
     void should_throw_EntityNotFoundException_when_entity_absent() {
@@ -100,6 +390,14 @@ class CheckReaderServiceIntegrationTest {
                 .hasMessageContaining("id=%d".formatted(unknownId));
     }
 
+    /**
+     * Привязывает профиль и возвращает сохранённую (слитую) сущность с id профиля.
+     */
+    private Check withProfile(Check check, CheckProfile profile, CheckType type) {
+        check.attachProfile(profile, type);
+        return checkRepository.saveAndFlush(check);
+    }
+
     /**
      * Сохраняет Check с уникальным именем, чтобы избежать конфликтов на CI.
      */
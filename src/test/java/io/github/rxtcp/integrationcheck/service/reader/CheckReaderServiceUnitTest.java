@@ -1,5 +1,7 @@
 package io.github.rxtcp.integrationcheck.service.reader;
 
+import io.github.rxtcp.integrationcheck.configuration.properties.CheckCacheProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.CheckLeaseProps;
 import io.github.rxtcp.integrationcheck.entity.Check;
 import io.github.rxtcp.integrationcheck.repository.CheckRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -8,17 +10,25 @@ import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("CheckReaderService — чтение идентификаторов и сущностей")
@@ -81,4 +91,33 @@ class CheckReaderServiceUnitTest {
         then(checkRepository).should().findWithProfileById(MISSING_ID);
         then(checkRepository).shouldHaveNoMoreInteractions();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("claimChecks — обновляет кэш определений только после коммита аренды")
+    void should_refresh_definition_cache_after_lease_commit() {
+        // given
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        TransactionStatus leaseStatus = mock(TransactionStatus.class);
+        TransactionStatus readStatus = mock(TransactionStatus.class);
+        given(transactionManager.getTransaction(any())).willReturn(leaseStatus, readStatus);
+        CheckDefinitionCache checkDefinitionCache = mock(CheckDefinitionCache.class);
+        given(checkDefinitionCache.getAll(anyList())).willReturn(new CheckDefinitionCache.Lookup(List.of(), List.of()));
+        given(checkRepository.lockClaimableCheckIdsIn(any(), any())).willReturn(List.of(FOUND_ID));
+        given(checkRepository.findSchedulesByIdIn(List.of(FOUND_ID))).willReturn(List.of());
+        CheckReaderService claimer = new CheckReaderService(checkRepository, null, null, checkDefinitionCache,
+                new CheckCacheProps(true, Duration.ofMinutes(10), Duration.ofSeconds(5)),
+                new CheckLeaseProps(true, "node-1", 100, Duration.ofMinutes(5)),
+                transactionManager);
+
+        // when
+        claimer.claimChecks(List.of(FOUND_ID));
+
+        // then
+        InOrder order = inOrder(checkRepository, transactionManager, checkDefinitionCache);
+        order.verify(checkRepository).lockClaimableCheckIdsIn(any(), any());
+        order.verify(checkRepository).lease(any(), any(), any());
+        order.verify(transactionManager).commit(leaseStatus);
+        order.verify(checkDefinitionCache).refresh();
+        order.verify(transactionManager).commit(readStatus);
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.rxtcp.integrationcheck.service.rollup;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultRollupProps;
+import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
+import io.github.rxtcp.integrationcheck.domain.FailureReason;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.service.rollup.CheckRollupStore.BucketKey;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.FAILED;
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.PROCESSING;
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.SUCCEEDED;
+import static io.github.rxtcp.integrationcheck.domain.FailureReason.TIMEOUT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Тесты для {@link CheckResultRollup}.
+ * <p>
+ * Фокус:
+ * - запуски одной проверки за минуту сворачиваются в один агрегат;
+ * - внутри транзакции запуск учитывается только после коммита;
+ * - неудачный сброс возвращает агрегаты в накопитель;
+ * - выключенный накопитель и незавершённые запуски ничего не пишут.
+ */
+@DisplayName("CheckResultRollup")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class CheckResultRollupTest {
+
+    private static final LocalDateTime MINUTE_START = LocalDateTime.of(2025, 1, 2, 10, 15);
+
+    private final CheckRollupStore checkRollupStore = mock(CheckRollupStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CheckResultRollup rollup(boolean enabled) {
+        return new CheckResultRollup(checkRollupStore,
+                new ResultRollupProps(enabled, "integration_health_check", Duration.ofSeconds(10),
+                        Duration.ofMinutes(5), Duration.ofMinutes(5), Duration.ofDays(2), Duration.ofDays(35)),
+                meterRegistry);
+    }
+
+    private static CheckResult result(long checkId, LocalDateTime startedAt, CheckRunStatus status,
+                                      FailureReason reason, Integer totalMicros) {
+        Check check = new Check();
+        check.setId(checkId);
+        return CheckResult.builder()
+                .check(check)
+                .startedAt(startedAt)
+                .status(status)
+                .failureReason(reason)
+                .totalMicros(totalMicros)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<BucketKey, RollupCounts> appended() {
+        ArgumentCaptor<Map<BucketKey, RollupCounts>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(checkRollupStore).append(captor.capture());
+        return new HashMap<>(captor.getValue());
+    }
+
+    private double flushed(String result) {
+        return meterRegistry.get("integration.result.rollup.flushed").tag("result", result).counter().count();
+    }
+
+    @Test
+    void should_fold_runs_of_same_check_and_minute_into_one_bucket() {
+        var rollup = rollup(true);
+        rollup.record(result(1L, MINUTE_START.plusSeconds(5), SUCCEEDED, null, 20_000));
+        rollup.record(result(1L, MINUTE_START.plusSeconds(50), FAILED, TIMEOUT, 5_000_000));
+        rollup.record(result(1L, MINUTE_START.plusMinutes(1), SUCCEEDED, null, 30_000));
+        rollup.record(result(2L, MINUTE_START, SUCCEEDED, null, 1_000));
+
+        rollup.flush();
+
+        Map<BucketKey, RollupCounts> buckets = appended();
+        assertThat(buckets).hasSize(3);
+        RollupCounts first = buckets.get(new BucketKey(1L, MINUTE_START));
+        assertThat(first.getTotal()).isEqualTo(2);
+        assertThat(first.getTimeouts()).isEqualTo(1);
+        assertThat(first.getLatencyMaxMicros()).isEqualTo(5_000_000);
+        assertThat(rollup.pendingBuckets()).isZero();
+        assertThat(flushed("written")).isEqualTo(3.0);
+    }
+
+    @Test
+    void should_skip_processing_runs_results_without_check_and_disabled_rollup() {
+        var enabled = rollup(true);
+        enabled.record(result(1L, MINUTE_START, PROCESSING, null, null));
+        enabled.record(CheckResult.builder().startedAt(MINUTE_START).status(SUCCEEDED).build());
+        var disabled = rollup(false);
+        disabled.record(result(1L, MINUTE_START, SUCCEEDED, null, 1));
+
+        enabled.flush();
+        disabled.flush();
+
+        assertThat(enabled.pendingBuckets()).isZero();
+        verify(checkRollupStore, never()).append(anyMap());
+    }
+
+    @Test
+    void should_count_run_only_after_commit_inside_transaction() {
+        var rollup = rollup(true);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            rollup.record(result(1L, MINUTE_START, SUCCEEDED, null, 1));
+            assertThat(rollup.pendingBuckets()).isZero();
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(rollup.pendingBuckets()).isEqualTo(1);
+    }
+
+    @Test
+    void should_restore_buckets_after_failed_flush_and_retry() {
+        var rollup = rollup(true);
+        rollup.record(result(1L, MINUTE_START, SUCCEEDED, null, 1));
+        doThrow(new DataAccessResourceFailureException("db down")).when(checkRollupStore).append(anyMap());
+
+        rollup.flush();
+        rollup.record(result(1L, MINUTE_START, FAILED, TIMEOUT, 2));
+
+        assertThat(rollup.pendingBuckets()).isEqualTo(1);
+        assertThat(flushed("failed")).isEqualTo(1.0);
+
+        // повторный сброс отдаёт восстановленный агрегат вместе с новым запуском
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<BucketKey, RollupCounts>> captor = ArgumentCaptor.forClass(Map.class);
+        rollup.flush();
+        verify(checkRollupStore, times(2)).append(captor.capture());
+        assertThat(captor.getValue().get(new BucketKey(1L, MINUTE_START)).getTotal()).isEqualTo(2);
+    }
+}
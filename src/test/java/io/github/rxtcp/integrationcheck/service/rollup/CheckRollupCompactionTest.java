@@ -0,0 +1,96 @@
+package io.github.rxtcp.integrationcheck.service.rollup;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultRollupProps;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.DAY;
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.HOUR;
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.MINUTE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для {@link CheckRollupCompaction}.
+ * <p>
+ * Фокус:
+ * - часы сворачиваются с отставанием {@code compactionDelay}, сутки — до отметки часов;
+ * - удаляются только строки, уже свёрнутые в более крупную гранулярность;
+ * - ошибка БД учитывается в метрике и не пробрасывается.
+ */
+@DisplayName("CheckRollupCompaction")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class CheckRollupCompactionTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 10, 12, 3);
+
+    private final CheckRollupStore checkRollupStore = mock(CheckRollupStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CheckRollupCompaction compaction = new CheckRollupCompaction(
+            checkRollupStore,
+            new ResultRollupProps(true, "integration_health_check", Duration.ofSeconds(10),
+                    Duration.ofMinutes(5), Duration.ofMinutes(5), Duration.ofDays(2), Duration.ofDays(35)),
+            meterRegistry,
+            Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    void should_fold_hours_then_days_and_purge_folded_rows_by_retention() {
+        // given
+        LocalDateTime hours = LocalDateTime.of(2025, 3, 10, 11, 0);
+        LocalDateTime days = LocalDateTime.of(2025, 3, 10, 0, 0);
+        when(checkRollupStore.fold(HOUR, NOW.minusMinutes(5))).thenReturn(hours);
+        when(checkRollupStore.fold(DAY, hours)).thenReturn(days);
+        when(checkRollupStore.purge(any(), any())).thenReturn(3);
+
+        // when
+        compaction.compact();
+
+        // then
+        verify(checkRollupStore).purge(MINUTE, NOW.minusDays(2));
+        verify(checkRollupStore).purge(HOUR, NOW.minusDays(35));
+        assertThat(meterRegistry.get("integration.result.rollup.compactions").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("integration.result.rollup.purged").counter().count()).isEqualTo(6.0);
+    }
+
+    @Test
+    void should_not_purge_rows_that_are_not_folded_yet() {
+        // given: компактизация отстала — отметки старше срока хранения
+        LocalDateTime hours = LocalDateTime.of(2025, 3, 1, 5, 0);
+        LocalDateTime days = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(checkRollupStore.fold(HOUR, NOW.minusMinutes(5))).thenReturn(hours);
+        when(checkRollupStore.fold(DAY, hours)).thenReturn(days);
+
+        // when
+        compaction.compact();
+
+        // then
+        verify(checkRollupStore).purge(MINUTE, hours);
+        verify(checkRollupStore).purge(HOUR, days);
+    }
+
+    @Test
+    void should_count_failure_and_skip_rest_of_pass() {
+        when(checkRollupStore.fold(HOUR, NOW.minusMinutes(5)))
+                .thenThrow(new DataAccessResourceFailureException("db down"));
+
+        compaction.compact();
+
+        verify(checkRollupStore, never()).fold(eq(DAY), any());
+        verify(checkRollupStore, never()).purge(any(), any());
+        assertThat(meterRegistry.get("integration.result.rollup.compaction.failures").counter().count()).isEqualTo(1.0);
+    }
+}
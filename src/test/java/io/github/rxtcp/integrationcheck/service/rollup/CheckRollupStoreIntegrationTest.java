@@ -0,0 +1,142 @@
+package io.github.rxtcp.integrationcheck.service.rollup;
+
+import io.github.rxtcp.integrationcheck.service.rollup.CheckRollupStore.BucketKey;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.FAILED;
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.SUCCEEDED;
+import static io.github.rxtcp.integrationcheck.domain.FailureReason.TIMEOUT;
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.DAY;
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.HOUR;
+import static io.github.rxtcp.integrationcheck.service.rollup.RollupGranularity.MINUTE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Интеграционные тесты {@link CheckRollupStore} на схеме Flyway.
+ * <p>
+ * Фокус:
+ * - частичные минутные агрегаты одной минуты суммируются при чтении;
+ * - свёртка минут в часы и часов в сутки сдвигает отметки и идемпотентна;
+ * - после удаления свёрнутых минут итог за интервал не меняется и не задваивается.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("CheckRollupStore — интеграция")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class CheckRollupStoreIntegrationTest {
+
+    private static final String SCHEMA = "integration_health_check";
+    private static final long CHECK_ID = 9_000_001L;
+    private static final LocalDateTime DAY_1 = LocalDateTime.of(2020, 1, 1, 0, 0);
+    private static final LocalDateTime DAY_2 = DAY_1.plusDays(1);
+
+    @Autowired
+    private CheckRollupStore store;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    @AfterEach
+    void resetRollups() {
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            jdbcTemplate.update("DELETE FROM %s.%s".formatted(SCHEMA, granularity.table()));
+        }
+        jdbcTemplate.update("UPDATE %s.h_check_rollup_watermark SET compacted_until = TIMESTAMP '1970-01-01 00:00:00'"
+                .formatted(SCHEMA));
+    }
+
+    private static RollupCounts counts(int succeeded, int timeouts, int latencyMicros) {
+        RollupCounts counts = new RollupCounts();
+        for (int i = 0; i < succeeded; i++) {
+            counts.add(SUCCEEDED, null, latencyMicros);
+        }
+        for (int i = 0; i < timeouts; i++) {
+            counts.add(FAILED, TIMEOUT, latencyMicros);
+        }
+        return counts;
+    }
+
+    private void append(LocalDateTime minute, RollupCounts counts) {
+        store.append(Map.of(new BucketKey(CHECK_ID, minute), counts));
+    }
+
+    private void givenMinutes() {
+        append(DAY_1.plusHours(10).plusMinutes(5), counts(2, 0, 20_000));
+        append(DAY_1.plusHours(10).plusMinutes(5), counts(0, 1, 5_000_000));   // второй сброс той же минуты
+        append(DAY_1.plusHours(11).plusMinutes(30), counts(1, 0, 3_000));
+        append(DAY_2.plusMinutes(10), counts(1, 0, 40_000));
+        append(DAY_2.plusHours(5).plusMinutes(59), counts(0, 1, 7_000_000));
+    }
+
+    private long rows(RollupGranularity granularity) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM %s.%s".formatted(SCHEMA, granularity.table()), Long.class);
+    }
+
+    @Test
+    void should_summarize_partial_minute_rows_before_compaction() {
+        givenMinutes();
+
+        RollupCounts total = store.summarize(CHECK_ID, DAY_1, DAY_2.plusDays(1));
+
+        assertThat(total.getTotal()).isEqualTo(6);
+        assertThat(total.getSucceeded()).isEqualTo(4);
+        assertThat(total.getTimeouts()).isEqualTo(2);
+        assertThat(total.getLatencyMinMicros()).isEqualTo(3_000);
+        assertThat(total.getLatencyMaxMicros()).isEqualTo(7_000_000);
+        assertThat(store.summarize(CHECK_ID + 1, DAY_1, DAY_2).getTotal()).isZero();
+    }
+
+    @Test
+    void should_fold_minutes_into_hours_and_days_and_advance_watermarks() {
+        givenMinutes();
+
+        LocalDateTime hours = store.fold(HOUR, DAY_2.plusHours(3).plusMinutes(30));
+        LocalDateTime days = store.fold(DAY, hours);
+
+        assertThat(hours).isEqualTo(DAY_2.plusHours(3));
+        assertThat(days).isEqualTo(DAY_2);
+        assertThat(store.watermarks()).containsEntry("HOUR", hours).containsEntry("DAY", days);
+        assertThat(rows(HOUR)).isEqualTo(3);
+        assertThat(rows(DAY)).isEqualTo(1);
+
+        RollupCounts tenOClock = store.summarize(CHECK_ID, DAY_1.plusHours(10), DAY_1.plusHours(11));
+        assertThat(tenOClock.getTotal()).isEqualTo(3);
+        assertThat(tenOClock.getTimeouts()).isEqualTo(1);
+        assertThat(tenOClock.getLatencySumMicros()).isEqualTo(5_040_000);
+        assertThat(tenOClock.histogram()).containsExactly(0, 2, 0, 0, 0, 0, 0, 1, 0, 0);
+
+        // повторная свёртка до той же границы ничего не меняет
+        assertThat(store.fold(HOUR, DAY_2.plusHours(3).plusMinutes(59))).isEqualTo(hours);
+        assertThat(rows(HOUR)).isEqualTo(3);
+    }
+
+    @Test
+    void should_keep_totals_after_purging_folded_minutes() {
+        givenMinutes();
+        LocalDateTime hours = store.fold(HOUR, DAY_2.plusHours(3));
+        store.fold(DAY, hours);
+
+        int purged = store.purge(MINUTE, hours);
+
+        assertThat(purged).isEqualTo(4);
+        assertThat(rows(MINUTE)).isEqualTo(1);
+        RollupCounts total = store.summarize(CHECK_ID, DAY_1, DAY_2.plusDays(1));
+        assertThat(total.getTotal()).isEqualTo(6);
+        assertThat(total.getSucceeded()).isEqualTo(4);
+        assertThat(total.availability()).hasValue(4.0 / 6);
+        assertThat(store.summarize(CHECK_ID, DAY_1.plusHours(11), DAY_2.plusHours(1)).getTotal()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.rxtcp.integrationcheck.service.rollup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.FAILED;
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.PROCESSING;
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.SUCCEEDED;
+import static io.github.rxtcp.integrationcheck.domain.FailureReason.ABANDONED;
+import static io.github.rxtcp.integrationcheck.domain.FailureReason.HTTP_STATUS_MISMATCH;
+import static io.github.rxtcp.integrationcheck.domain.FailureReason.TIMEOUT;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Тесты для {@link RollupCounts}.
+ * <p>
+ * Фокус:
+ * - счётчики статусов и причин, {@code PROCESSING} не учитывается;
+ * - сумма/минимум/максимум и корзины гистограммы (граница включительно);
+ * - сложение агрегатов и перенос через значения колонок.
+ */
+@DisplayName("RollupCounts")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class RollupCountsTest {
+
+    @Test
+    void should_count_statuses_reasons_and_latency() {
+        RollupCounts counts = new RollupCounts();
+
+        counts.add(SUCCEEDED, null, 10_000);
+        counts.add(FAILED, TIMEOUT, 12_000_000);
+        counts.add(FAILED, HTTP_STATUS_MISMATCH, null);
+        counts.add(FAILED, ABANDONED, null);
+        counts.add(PROCESSING, null, 1);
+
+        assertThat(counts.getTotal()).isEqualTo(4);
+        assertThat(counts.getSucceeded()).isEqualTo(1);
+        assertThat(counts.getFailed()).isEqualTo(3);
+        assertThat(counts.getTimeouts()).isEqualTo(1);
+        assertThat(counts.getHttpStatusMismatches()).isEqualTo(1);
+        assertThat(counts.getAbandoned()).isEqualTo(1);
+        assertThat(counts.getErrors()).isZero();
+        assertThat(counts.getLatencyCount()).isEqualTo(2);
+        assertThat(counts.getLatencySumMicros()).isEqualTo(12_010_000);
+        assertThat(counts.getLatencyMinMicros()).isEqualTo(10_000);
+        assertThat(counts.getLatencyMaxMicros()).isEqualTo(12_000_000);
+        assertThat(counts.histogram()).containsExactly(1, 0, 0, 0, 0, 0, 0, 0, 0, 1);
+        assertThat(counts.availability()).hasValue(1.0 / 4);
+        assertThat(counts.meanLatencyMicros()).hasValue(6_005_000.0);
+    }
+
+    @Test
+    void should_add_other_counts_and_keep_extremes() {
+        RollupCounts left = new RollupCounts();
+        left.add(SUCCEEDED, null, 300_000);
+        RollupCounts right = new RollupCounts();
+        right.add(SUCCEEDED, null, 40_000);
+        right.add(FAILED, null, null);
+
+        left.add(right);
+
+        assertThat(left.getTotal()).isEqualTo(3);
+        assertThat(left.getSucceeded()).isEqualTo(2);
+        assertThat(left.getLatencyMinMicros()).isEqualTo(40_000);
+        assertThat(left.getLatencyMaxMicros()).isEqualTo(300_000);
+        assertThat(left.histogram()).containsExactly(0, 1, 0, 0, 1, 0, 0, 0, 0, 0);
+    }
+
+    @Test
+    void should_round_trip_through_column_values() {
+        RollupCounts counts = new RollupCounts();
+        counts.add(FAILED, TIMEOUT, 2_000_000);
+
+        Object[] values = counts.values();
+        RollupCounts restored = RollupCounts.of(values);
+
+        assertThat(values).hasSize(RollupCounts.COLUMNS.size());
+        assertThat(restored.values()).containsExactly(values);
+    }
+
+    @Test
+    void empty_counts_should_have_no_availability_and_treat_null_counters_as_zero() {
+        RollupCounts empty = RollupCounts.of(new Object[RollupCounts.COLUMNS.size()]);
+
+        assertThat(empty.getTotal()).isZero();
+        assertThat(empty.getLatencyMinMicros()).isNull();
+        assertThat(empty.availability()).isEmpty();
+        assertThat(empty.meanLatencyMicros()).isEmpty();
+    }
+}
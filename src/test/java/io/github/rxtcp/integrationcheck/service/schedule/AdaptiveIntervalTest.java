@@ -0,0 +1,154 @@
+package io.github.rxtcp.integrationcheck.service.schedule;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.AdaptiveIntervalProps;
+import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
+import io.github.rxtcp.integrationcheck.dto.CheckScheduleDto;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.service.reader.CheckReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Юнит-тесты {@link AdaptiveInterval}: сужение после сбоя до нижней границы, расширение после серии успехов
+ * до верхней, неадаптивные проверки не меняются, метрика сэкономленных запусков и её очистка от неактивных проверок.
+ */
+@DisplayName("AdaptiveInterval")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class AdaptiveIntervalTest {
+
+    private static final int SUCCESS_THRESHOLD = 3;
+    private static final CheckResult SUCCEEDED = CheckResult.builder().status(CheckRunStatus.SUCCEEDED).build();
+    private static final CheckResult FAILED = CheckResult.builder().status(CheckRunStatus.FAILED).build();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CheckReader checkReader = mock(CheckReader.class);
+    private final AdaptiveInterval adaptiveInterval = new AdaptiveInterval(
+            new AdaptiveIntervalProps(SUCCESS_THRESHOLD, 2, Duration.ofMinutes(10)), checkReader, meterRegistry);
+
+    /**
+     * Проверка с интервалом 60 с и нижней границей 10 с.
+     */
+    private static Check adaptiveCheck(long id, Integer maxIntervalSec) {
+        return Check.builder().id(id).runIntervalMin(1)
+                .adaptiveMinIntervalSec(10).adaptiveMaxIntervalSec(maxIntervalSec).build();
+    }
+
+    private double savedPerHour() {
+        return meterRegistry.get("integration.schedule.adaptive.saved.probes.per.hour").gauge().value();
+    }
+
+    @Test
+    void should_not_touch_check_without_lower_bound() {
+        Check check = Check.builder().id(1L).runIntervalMin(1).build();
+
+        assertThat(adaptiveInterval.adapt(check, FAILED)).isFalse();
+
+        assertThat(check.getAdaptiveIntervalSec()).isNull();
+        assertThat(SchedulingPolicies.intervalOf(check)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void should_tighten_interval_after_each_failure_down_to_lower_bound() {
+        Check check = adaptiveCheck(1L, null);
+
+        assertThat(adaptiveInterval.adapt(check, FAILED)).isTrue();
+        assertThat(check.getAdaptiveIntervalSec()).isEqualTo(30);
+        adaptiveInterval.adapt(check, FAILED);
+        assertThat(check.getAdaptiveIntervalSec()).isEqualTo(15);
+        adaptiveInterval.adapt(check, FAILED);
+        assertThat(check.getAdaptiveIntervalSec()).isEqualTo(10);
+
+        assertThat(SchedulingPolicies.intervalOf(check)).isEqualTo(Duration.ofSeconds(10));
+        // 360 запусков в час вместо 60
+        assertThat(savedPerHour()).isEqualTo(-300.0);
+    }
+
+    @Test
+    void should_relax_interval_after_consecutive_successes_up_to_configured_interval() {
+        Check check = adaptiveCheck(1L, null);
+        check.setAdaptiveIntervalSec(10);
+
+        adaptiveInterval.adapt(check, SUCCEEDED);
+        adaptiveInterval.adapt(check, SUCCEEDED);
+        assertThat(check.getAdaptiveIntervalSec()).isEqualTo(10);
+        assertThat(check.getSuccessStreak()).isEqualTo(2);
+
+        adaptiveInterval.adapt(check, SUCCEEDED);
+        assertThat(check.getAdaptiveIntervalSec()).isEqualTo(20);
+        assertThat(check.getSuccessStreak()).isZero();
+
+        for (int i = 0; i < 3 * SUCCESS_THRESHOLD; i++) {
+            adaptiveInterval.adapt(check, SUCCEEDED);
+        }
+        assertThat(check.getAdaptiveIntervalSec()).isEqualTo(60);
+        assertThat(check.getSuccessStreak()).isEqualTo(SUCCESS_THRESHOLD);
+        assertThat(savedPerHour()).isZero();
+    }
+
+    @Test
+    void should_reset_success_streak_on_failure() {
+        Check check = adaptiveCheck(1L, null);
+        check.setAdaptiveIntervalSec(20);
+        check.setSuccessStreak(2);
+
+        adaptiveInterval.adapt(check, FAILED);
+
+        assertThat(check.getAdaptiveIntervalSec()).isEqualTo(10);
+        assertThat(check.getSuccessStreak()).isZero();
+    }
+
+    @Test
+    void should_relax_stable_check_beyond_configured_interval_up_to_upper_bound() {
+        Check stable = adaptiveCheck(1L, 240);
+        Check failing = adaptiveCheck(2L, 240);
+
+        for (int i = 0; i < 3 * SUCCESS_THRESHOLD; i++) {
+            adaptiveInterval.adapt(stable, SUCCEEDED);
+        }
+        adaptiveInterval.adapt(failing, FAILED);
+
+        assertThat(stable.getAdaptiveIntervalSec()).isEqualTo(240);
+        assertThat(failing.getAdaptiveIntervalSec()).isEqualTo(30);
+        // стабильная: 60 - 15 = 45 сэкономлено; со сбоем: 60 - 120 = -60
+        assertThat(savedPerHour()).isEqualTo(-15.0);
+    }
+
+    @Test
+    void should_drop_saved_probes_of_checks_no_longer_enabled() {
+        Check kept = adaptiveCheck(1L, null);
+        Check removed = adaptiveCheck(2L, null);
+        adaptiveInterval.adapt(kept, FAILED);
+        adaptiveInterval.adapt(removed, FAILED);
+        assertThat(savedPerHour()).isEqualTo(-120.0);
+
+        when(checkReader.findEnabledSchedules()).thenReturn(List.of(schedule(1L), schedule(3L)));
+
+        adaptiveInterval.prune();
+
+        // осталась только проверка 1: 60 - 120 = -60
+        assertThat(savedPerHour()).isEqualTo(-60.0);
+    }
+
+    @Test
+    void should_not_read_schedules_when_nothing_to_prune() {
+        adaptiveInterval.prune();
+
+        verifyNoInteractions(checkReader);
+    }
+
+    private static CheckScheduleDto schedule(long id) {
+        return new CheckScheduleDto(id, true, null, null, null, 0);
+    }
+}
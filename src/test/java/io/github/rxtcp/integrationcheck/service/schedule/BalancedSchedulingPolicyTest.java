@@ -0,0 +1,109 @@
+package io.github.rxtcp.integrationcheck.service.schedule;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulingPolicyProps;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.repository.CheckRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Юнит-тесты {@link BalancedSchedulingPolicy}.
+ * <p>
+ * Фокус:
+ * - свободная расчётная секунда выбирается как есть;
+ * - одновременно завершённые проверки разводятся по секундам окна;
+ * - занятость загружается из БД при первом расчёте и заново при сверке, окно не выходит за половину интервала.
+ */
+@DisplayName("BalancedSchedulingPolicy")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class BalancedSchedulingPolicyTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 1, 12, 0, 0);
+    private static final Clock CLOCK = Clock.fixed(NOW.atZone(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    private final CheckRepository checkRepository = mock(CheckRepository.class);
+
+    private BalancedSchedulingPolicy policy(Duration balanceWindow) {
+        return new BalancedSchedulingPolicy(checkRepository,
+                new SchedulingPolicyProps(SchedulingPolicyProps.Type.BALANCED, Duration.ZERO, balanceWindow,
+                        SchedulingPolicyProps.CatchUp.COALESCE), CLOCK);
+    }
+
+    private static Check check(int intervalMin) {
+        return Check.builder().id(1L).runIntervalMin(intervalMin).build();
+    }
+
+    private static CheckResult finishedAt(LocalDateTime finishedAt) {
+        return CheckResult.builder().finishedAt(finishedAt).build();
+    }
+
+    @Test
+    void should_keep_target_second_when_it_is_free() {
+        when(checkRepository.findUpcomingRunTimes(any())).thenReturn(List.of());
+
+        assertThat(policy(Duration.ofSeconds(30)).nextRunAt(check(5), finishedAt(NOW))).isEqualTo(NOW.plusMinutes(5));
+    }
+
+    @Test
+    void should_spread_checks_finished_together_over_the_window_around_loaded_seconds() {
+        LocalDateTime target = NOW.plusMinutes(5);
+        // расчётная секунда уже занята двумя запусками из БД
+        when(checkRepository.findUpcomingRunTimes(NOW)).thenReturn(List.of(target, target));
+        BalancedSchedulingPolicy policy = policy(Duration.ofSeconds(10));
+
+        Map<LocalDateTime, Integer> perSecond = new TreeMap<>();
+        IntStream.range(0, 40).forEach(i -> perSecond.merge(policy.nextRunAt(check(5), finishedAt(NOW)), 1, Integer::sum));
+
+        // окно ±10 с: 40 новых запусков занимают 20 свободных секунд по два, не добавляясь к занятой расчётной
+        assertThat(perSecond).hasSize(20).doesNotContainKey(target);
+        assertThat(perSecond.values()).containsOnly(2);
+        assertThat(perSecond.keySet()).allSatisfy(second ->
+                assertThat(Duration.between(target, second).abs()).isLessThanOrEqualTo(Duration.ofSeconds(10)));
+        verify(checkRepository, times(1)).findUpcomingRunTimes(any());
+    }
+
+    @Test
+    void should_limit_window_to_half_of_interval() {
+        when(checkRepository.findUpcomingRunTimes(any())).thenReturn(List.of());
+        BalancedSchedulingPolicy policy = policy(Duration.ofHours(1));
+
+        IntStream.range(0, 200).forEach(i -> {
+            LocalDateTime next = policy.nextRunAt(check(1), finishedAt(NOW));
+            assertThat(next).isBetween(NOW.plusSeconds(30), NOW.plusSeconds(90));
+        });
+    }
+
+    @Test
+    void should_pick_up_runs_placed_by_other_nodes_on_resync() {
+        LocalDateTime target = NOW.plusMinutes(5);
+        when(checkRepository.findUpcomingRunTimes(NOW)).thenReturn(List.of());
+        BalancedSchedulingPolicy policy = policy(Duration.ofSeconds(10));
+        assertThat(policy.nextRunAt(check(5), finishedAt(NOW.minusSeconds(1)))).isEqualTo(target.minusSeconds(1));
+
+        // другие узлы тем временем заняли расчётную секунду
+        when(checkRepository.findUpcomingRunTimes(NOW)).thenReturn(List.of(target.minusSeconds(1), target, target));
+        policy.resync();
+
+        assertThat(policy.nextRunAt(check(5), finishedAt(NOW))).isNotEqualTo(target);
+        verify(checkRepository, times(2)).findUpcomingRunTimes(any());
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.rxtcp.integrationcheck.service.schedule;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulingPolicyProps;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Юнит-тесты {@link FixedRateSchedule}: слоты не дрейфуют от времени выполнения,
+ * пропущенные слоты схлопываются ({@code COALESCE}) или догоняются по одному ({@code RUN_ALL}).
+ */
+@DisplayName("FixedRateSchedule")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class FixedRateScheduleTest {
+
+    private static final LocalDateTime PLANNED = LocalDateTime.of(2025, 3, 1, 12, 0, 0);
+    private static final int INTERVAL_MIN = 5;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private FixedRateSchedule schedule(SchedulingPolicyProps.CatchUp catchUp) {
+        return new FixedRateSchedule(
+                new SchedulingPolicyProps(SchedulingPolicyProps.Type.INTERVAL, Duration.ZERO, Duration.ZERO, catchUp),
+                meterRegistry);
+    }
+
+    private static Check check(LocalDateTime nextRunAt) {
+        return Check.builder().id(1L).runIntervalMin(INTERVAL_MIN).nextRunAt(nextRunAt)
+                .scheduleMode(ScheduleMode.FIXED_RATE).build();
+    }
+
+    private static CheckResult finishedAt(LocalDateTime finishedAt) {
+        return CheckResult.builder().finishedAt(finishedAt).build();
+    }
+
+    private double missedSlots() {
+        return meterRegistry.get("integration.schedule.missed.slots").counter().count();
+    }
+
+    @Test
+    void should_not_drift_with_execution_time() {
+        FixedRateSchedule schedule = schedule(SchedulingPolicyProps.CatchUp.COALESCE);
+        LocalDateTime planned = PLANNED;
+
+        // каждый запуск стартует с опозданием 20 с и выполняется 40 с — слоты остаются на сетке
+        for (int i = 0; i < 100; i++) {
+            LocalDateTime next = schedule.nextRunAt(check(planned), finishedAt(planned.plusMinutes(1)));
+            assertThat(next).isEqualTo(planned.plusMinutes(INTERVAL_MIN));
+            planned = next;
+        }
+        assertThat(planned).isEqualTo(PLANNED.plusMinutes(100L * INTERVAL_MIN));
+        assertThat(missedSlots()).isZero();
+    }
+
+    @Test
+    void should_coalesce_missed_slots_into_first_slot_after_finish() {
+        // запуск 12:00 завершился в 12:17: слоты 12:05, 12:10, 12:15 пропущены
+        LocalDateTime next = schedule(SchedulingPolicyProps.CatchUp.COALESCE)
+                .nextRunAt(check(PLANNED), finishedAt(PLANNED.plusMinutes(17)));
+
+        assertThat(next).isEqualTo(PLANNED.plusMinutes(20));
+        assertThat(missedSlots()).isEqualTo(3.0);
+    }
+
+    @Test
+    void should_run_next_slot_in_order_when_catching_up_all() {
+        LocalDateTime next = schedule(SchedulingPolicyProps.CatchUp.RUN_ALL)
+                .nextRunAt(check(PLANNED), finishedAt(PLANNED.plusMinutes(17)));
+
+        assertThat(next).isEqualTo(PLANNED.plusMinutes(INTERVAL_MIN));
+        assertThat(missedSlots()).isZero();
+    }
+
+    @Test
+    void should_count_interval_from_finish_when_planned_time_is_unknown() {
+        LocalDateTime next = schedule(SchedulingPolicyProps.CatchUp.COALESCE)
+                .nextRunAt(check(null), finishedAt(PLANNED));
+
+        assertThat(next).isEqualTo(PLANNED.plusMinutes(INTERVAL_MIN));
+    }
+}
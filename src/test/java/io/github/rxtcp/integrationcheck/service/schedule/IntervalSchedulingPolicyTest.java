@@ -0,0 +1,60 @@
+package io.github.rxtcp.integrationcheck.service.schedule;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulingPolicyProps;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Юнит-тесты {@link IntervalSchedulingPolicy}: без сдвига — ровно {@code finishedAt + интервал},
+ * со сдвигом — в пределах {@code maxJitter} и половины интервала.
+ */
+@DisplayName("IntervalSchedulingPolicy")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class IntervalSchedulingPolicyTest {
+
+    private static final LocalDateTime FINISHED_AT = LocalDateTime.of(2025, 3, 1, 12, 0, 0);
+
+    private static IntervalSchedulingPolicy policy(Duration maxJitter) {
+        return new IntervalSchedulingPolicy(new SchedulingPolicyProps(SchedulingPolicyProps.Type.INTERVAL, maxJitter, Duration.ZERO,
+                SchedulingPolicyProps.CatchUp.COALESCE));
+    }
+
+    private static Check check(int intervalMin) {
+        return Check.builder().id(1L).runIntervalMin(intervalMin).build();
+    }
+
+    @Test
+    void should_add_interval_to_finish_time_without_jitter() {
+        CheckResult result = CheckResult.builder().finishedAt(FINISHED_AT).build();
+
+        assertThat(policy(Duration.ZERO).nextRunAt(check(15), result)).isEqualTo(FINISHED_AT.plusMinutes(15));
+    }
+
+    @Test
+    void should_prefer_interval_in_seconds_when_set() {
+        CheckResult result = CheckResult.builder().finishedAt(FINISHED_AT).build();
+        Check check = Check.builder().id(1L).runIntervalMin(15).runIntervalSec(10).build();
+
+        assertThat(policy(Duration.ZERO).nextRunAt(check, result)).isEqualTo(FINISHED_AT.plusSeconds(10));
+    }
+
+    @Test
+    void should_keep_jitter_within_max_jitter_and_half_of_interval() {
+        CheckResult result = CheckResult.builder().finishedAt(FINISHED_AT).build();
+        IntervalSchedulingPolicy policy = policy(Duration.ofMinutes(10));
+
+        IntStream.range(0, 200).forEach(i -> assertThat(policy.nextRunAt(check(1), result))
+                .isAfterOrEqualTo(FINISHED_AT.plusMinutes(1))
+                .isBefore(FINISHED_AT.plusSeconds(90)));
+    }
+}
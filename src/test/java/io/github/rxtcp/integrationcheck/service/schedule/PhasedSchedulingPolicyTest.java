@@ -0,0 +1,102 @@
+package io.github.rxtcp.integrationcheck.service.schedule;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulingPolicyProps;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.LongStream;
+
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Юнит-тесты {@link PhasedSchedulingPolicy}.
+ * <p>
+ * Фокус:
+ * - проверки, завершённые одновременно, получают сроки, распределённые по интервалу;
+ * - проверка в своей фазе запускается ровно через интервал, после простоя возвращается в фазу;
+ * - до следующего запуска проходит от половины до полутора интервалов;
+ * - случайный сдвиг не превышает {@code maxJitter}.
+ */
+@DisplayName("PhasedSchedulingPolicy")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class PhasedSchedulingPolicyTest {
+
+    private static final int INTERVAL_MIN = 5;
+    private static final LocalDateTime FINISHED_AT = LocalDateTime.of(2025, 3, 1, 12, 0, 0);
+
+    private final PhasedSchedulingPolicy policy = policy(Duration.ZERO);
+
+    private static PhasedSchedulingPolicy policy(Duration maxJitter) {
+        return new PhasedSchedulingPolicy(new SchedulingPolicyProps(SchedulingPolicyProps.Type.PHASED, maxJitter, Duration.ZERO,
+                SchedulingPolicyProps.CatchUp.COALESCE));
+    }
+
+    private static Check check(long id) {
+        return Check.builder().id(id).runIntervalMin(INTERVAL_MIN).build();
+    }
+
+    private static CheckResult finishedAt(LocalDateTime finishedAt) {
+        return CheckResult.builder().finishedAt(finishedAt).build();
+    }
+
+    @Test
+    void should_spread_checks_finished_together_over_the_interval() {
+        // 3 000 проверок, завершённых в одну секунду, по 10 корзинам интервала в 30 с
+        Map<Long, Integer> perBucket = new TreeMap<>();
+        LongStream.rangeClosed(1, 3_000).forEach(id -> {
+            LocalDateTime next = policy.nextRunAt(check(id), finishedAt(FINISHED_AT));
+            long offset = Duration.between(FINISHED_AT, next).toSeconds();
+            perBucket.merge(offset / 30, 1, Integer::sum);
+        });
+
+        assertThat(perBucket).hasSize(10);
+        // равномерно: 300 ± 25 %
+        assertThat(perBucket.values()).allSatisfy(count -> assertThat(count).isBetween(225, 375));
+    }
+
+    @Test
+    void should_keep_exact_interval_for_check_running_in_its_phase_and_return_to_phase_after_delay() {
+        Check check = check(42);
+        LocalDateTime slot = policy.nextRunAt(check, finishedAt(FINISHED_AT));
+
+        // запуск в свой слот, завершился через 3 с → следующий слот ровно через интервал
+        LocalDateTime next = policy.nextRunAt(check, finishedAt(slot.plusSeconds(3)));
+        assertThat(next).isEqualTo(slot.plusMinutes(INTERVAL_MIN));
+
+        // простой 17 мин 20 с: срок снова в той же фазе
+        LocalDateTime afterOutage = policy.nextRunAt(check, finishedAt(slot.plusMinutes(17).plusSeconds(20)));
+        assertThat(Duration.between(slot, afterOutage).toSeconds() % (INTERVAL_MIN * 60L)).isZero();
+    }
+
+    @Test
+    void should_schedule_between_half_and_one_and_a_half_intervals_after_finish() {
+        LongStream.rangeClosed(1, 500).forEach(id -> {
+            LocalDateTime finished = FINISHED_AT.plusSeconds(id * 7);
+            LocalDateTime next = policy.nextRunAt(check(id), finishedAt(finished));
+            assertThat(next).isAfterOrEqualTo(finished.plusSeconds(INTERVAL_MIN * 30L))
+                    .isBefore(finished.plusSeconds(INTERVAL_MIN * 90L));
+        });
+    }
+
+    @Test
+    void should_add_bounded_jitter_to_phase_slot() {
+        Duration maxJitter = Duration.ofSeconds(10);
+        PhasedSchedulingPolicy jittered = policy(maxJitter);
+        LocalDateTime slot = policy.nextRunAt(check(7), finishedAt(FINISHED_AT));
+
+        LongStream.range(0, 200).forEach(i -> {
+            LocalDateTime next = jittered.nextRunAt(check(7), finishedAt(FINISHED_AT));
+            assertThat(next).isAfterOrEqualTo(slot).isBefore(slot.plus(maxJitter));
+        });
+        assertThat(slot.truncatedTo(SECONDS)).isEqualTo(slot);
+    }
+}
@@ -0,0 +1,251 @@
+package io.github.rxtcp.integrationcheck.service.writer;
+
+import io.github.rxtcp.integrationcheck.configuration.properties.ResultSinkProps;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.service.payload.CheckResultPayloadStore;
+import io.github.rxtcp.integrationcheck.service.rollup.CheckResultRollup;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.SUCCEEDED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Тесты для {@link CheckResultBuffer}.
+ * <p>
+ * Фокус:
+ * - пачка уходит по размеру и по таймеру;
+ * - заполненный буфер пишет строку в потоке вызова, не теряя её;
+ * - остановка дописывает очередь и не ждёт интервала сброса;
+ * - неудавшаяся пачка повторяется и не теряет строки;
+ * - после повторов пачка пишется построчно, теряется и учитывается в метрике только отвергнутая строка;
+ * - детали сохраняются в хранилище деталей до вставки пачки;
+ * - в агрегаты попадают только записанные строки.
+ */
+@DisplayName("CheckResultBuffer")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class CheckResultBufferTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CheckResultRollup checkResultRollup = mock(CheckResultRollup.class);
+    private final CheckResultPayloadStore checkResultPayloadStore = mock(CheckResultPayloadStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private CheckResultBuffer buffer;
+
+    private CheckResultBuffer buffer(int capacity, int batchSize, Duration flushInterval, Duration offerTimeout) {
+        buffer = new CheckResultBuffer(jdbcTemplate, checkResultRollup, checkResultPayloadStore,
+                new ResultSinkProps(ResultSinkProps.Mode.WRITE_BEHIND, "integration_health_check",
+                        capacity, batchSize, flushInterval, offerTimeout, 2, Duration.ofMillis(10)),
+                meterRegistry);
+        return buffer;
+    }
+
+    private void recordBatches() {
+        doAnswer(invocation -> {
+            Collection<?> rows = invocation.getArgument(1);
+            batchSizes.add(rows.size());
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    private static CheckResult finished() {
+        var now = LocalDateTime.now();
+        return CheckResult.builder().startedAt(now).finishedAt(now).status(SUCCEEDED).build();
+    }
+
+    private double rows(String result) {
+        return meterRegistry.get("integration.result.buffer.rows").tag("result", result).counter().count();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.close();
+        }
+    }
+
+    @Test
+    void should_flush_full_batches_by_size() {
+        recordBatches();
+        var sink = buffer(1_000, 10, Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+        for (int i = 0; i < 30; i++) {
+            sink.enqueue(finished());
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> batchSizes.stream().mapToInt(Integer::intValue).sum() == 30);
+        assertThat(batchSizes).containsOnly(10);
+        assertThat(rows("written")).isEqualTo(30.0);
+    }
+
+    @Test
+    void should_flush_partial_batch_after_interval() {
+        recordBatches();
+        var sink = buffer(1_000, 100, Duration.ofMillis(100), Duration.ofSeconds(1));
+
+        sink.enqueue(finished());
+        sink.enqueue(finished());
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> !batchSizes.isEmpty());
+        assertThat(batchSizes).containsExactly(2);
+        assertThat(sink.depth()).isZero();
+        assertThat(meterRegistry.get("integration.result.buffer.lag").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void should_write_in_caller_thread_when_buffer_stays_full() throws Exception {
+        // первая вставка блокируется, пока тест не отпустит поток записи
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch writing = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Collection<?> rows = invocation.getArgument(1);
+            if (!Thread.currentThread().getName().equals("check-result-flusher")) {
+                batchSizes.add(-rows.size());
+                return new int[0][];
+            }
+            writing.countDown();
+            release.await();
+            batchSizes.add(rows.size());
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        var sink = buffer(1, 1, Duration.ofMillis(10), Duration.ofMillis(20));
+
+        sink.enqueue(finished());
+        assertThat(writing.await(5, TimeUnit.SECONDS)).isTrue();
+        sink.enqueue(finished());   // занимает единственное место в очереди
+        sink.enqueue(finished());   // места нет — запись в потоке вызова
+        release.countDown();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> batchSizes.size() == 3);
+        assertThat(batchSizes).containsExactlyInAnyOrder(-1, 1, 1);
+        assertThat(meterRegistry.get("integration.result.buffer.overflow").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void should_drain_queue_on_close() {
+        recordBatches();
+        var sink = buffer(1_000, 1_000, Duration.ofSeconds(10), Duration.ofSeconds(1));
+        for (int i = 0; i < 25; i++) {
+            sink.enqueue(finished());
+        }
+
+        sink.close();
+
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(25);
+        assertThat(sink.depth()).isZero();
+        verify(checkResultRollup, times(25)).record(any(CheckResult.class));
+    }
+
+    @Test
+    void should_stop_without_waiting_out_flush_interval() {
+        recordBatches();
+        var sink = buffer(1_000, 1_000, Duration.ofMinutes(1), Duration.ofSeconds(1));
+        sink.enqueue(finished());
+
+        long started = System.nanoTime();
+        sink.close();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - started)).isLessThan(Duration.ofSeconds(5));
+        assertThat(batchSizes).containsExactly(1);
+    }
+
+    @Test
+    void should_retry_failed_batch_without_losing_rows() {
+        doAnswer(invocation -> {
+            Collection<?> rows = invocation.getArgument(1);
+            if (batchSizes.isEmpty()) {
+                batchSizes.add(0);
+                throw new DataAccessResourceFailureException("db down");
+            }
+            batchSizes.add(rows.size());
+            return new int[0][];
+        }).when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        var sink = buffer(1_000, 2, Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+        for (int i = 0; i < 4; i++) {
+            sink.enqueue(finished());
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> batchSizes.size() == 3);
+        assertThat(batchSizes).containsExactly(0, 2, 2);
+        assertThat(rows("failed")).isZero();
+        assertThat(rows("written")).isEqualTo(4.0);
+        verify(checkResultRollup, timeout(1_000).times(4)).record(any(CheckResult.class));
+    }
+
+    @Test
+    void should_write_rows_one_by_one_and_drop_only_rejected_row() {
+        doThrow(new DataIntegrityViolationException("fk violation"))
+                .when(jdbcTemplate).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        // вторую строку СУБД отвергает (проверку удалили, пока результат лежал в буфере)
+        AtomicInteger rowInserts = new AtomicInteger();
+        when(jdbcTemplate.update(anyString(), any(PreparedStatementSetter.class))).thenAnswer(invocation -> {
+            if (rowInserts.incrementAndGet() == 2) {
+                throw new DataIntegrityViolationException("fk violation");
+            }
+            return 1;
+        });
+        var sink = buffer(1_000, 3, Duration.ofSeconds(10), Duration.ofSeconds(1));
+
+        for (int i = 0; i < 3; i++) {
+            sink.enqueue(finished());
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> rows("written") + rows("failed") == 3.0);
+        // исходная попытка и два повтора, затем построчная запись
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), any(Collection.class), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(rowInserts).hasValue(3);
+        assertThat(rows("failed")).isEqualTo(1.0);
+        assertThat(rows("written")).isEqualTo(2.0);
+        // в агрегатах учитываются только записанные строки
+        verify(checkResultRollup, timeout(1_000).times(2)).record(any(CheckResult.class));
+    }
+
+    @Test
+    void should_store_details_in_payload_store_before_insert() {
+        recordBatches();
+        var sink = buffer(1_000, 2, Duration.ofMillis(200), Duration.ofSeconds(1));
+        CheckResult withDetails = finished();
+        withDetails.setDetails("{\"status\":\"UP\"}");
+
+        sink.enqueue(withDetails);
+        sink.enqueue(finished());
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> batchSizes.stream().mapToInt(Integer::intValue).sum() == 2);
+        verify(checkResultPayloadStore).store("{\"status\":\"UP\"}");
+        verify(checkResultPayloadStore).store(null);
+        // запись в очереди не меняется: хеш уходит только в параметры вставки
+        assertThat(withDetails.getDetails()).isEqualTo("{\"status\":\"UP\"}");
+        assertThat(withDetails.getDetailsHash()).isNull();
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.rxtcp.integrationcheck.service.writer;
+
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.repository.CheckRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Бенчмарк вставки стартов {@code h_check_result}: по одной записи на транзакцию
+ * ({@link CheckResultWriterService#recordProcessStart}) против пачки в одной транзакции
+ * ({@link CheckResultWriterService#recordProcessStarts}).
+ * <p>
+ * Идентификаторы выдаются последовательностью блоками по {@code allocationSize}, поэтому пачка уходит
+ * JDBC batch'ами без обращения к базе за каждым id. Замер — число SQL-запросов (по статистике H2)
+ * и пропускная способность. Запуск: {@code mvn test -Dbenchmark=true -Dtest=CheckResultInsertBenchmarkTest};
+ * параметры — {@code benchmark.rows} и {@code benchmark.batch}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("CheckResultWriterService: бенчмарк вставки стартов")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class CheckResultInsertBenchmarkTest {
+
+    private static final int ROWS = Integer.getInteger("benchmark.rows", 5_000);
+    private static final int BATCH = Integer.getInteger("benchmark.batch", 500);
+
+    @Autowired
+    private CheckResultWriterService service;
+    @Autowired
+    private CheckRepository checkRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void compare_per_row_and_batched_start_inserts() {
+        final List<Check> checks = checkRepository.saveAll(IntStream.range(0, ROWS)
+                .mapToObj(i -> Check.builder()
+                        .name("insert-bench-" + UUID.randomUUID())
+                        .enabled(true)
+                        .runIntervalMin(1)
+                        .nextRunAt(LocalDateTime.now().plusDays(1))
+                        .type(CheckType.REST_API)
+                        .build())
+                .toList());
+
+        final Measurement perRow = measure(() -> checks.forEach(service::recordProcessStart));
+        final Measurement batched = measure(() -> {
+            for (int from = 0; from < checks.size(); from += BATCH) {
+                service.recordProcessStarts(checks.subList(from, Math.min(from + BATCH, checks.size())));
+            }
+        });
+
+        System.out.printf("rows=%d, batch=%d%n", ROWS, BATCH);
+        System.out.printf("per-row : statements=%d, elapsed=%d ms, %.0f rows/s%n",
+                perRow.statements(), perRow.elapsedMillis(), perRow.rowsPerSecond());
+        System.out.printf("batched : statements=%d, elapsed=%d ms, %.0f rows/s%n",
+                batched.statements(), batched.elapsedMillis(), batched.rowsPerSecond());
+
+        assertThat(batched.statements()).isLessThan(perRow.statements());
+        assertThat(batched.rowsPerSecond()).isGreaterThan(perRow.rowsPerSecond());
+    }
+
+    /**
+     * Выполняет вставку и снимает число запросов по статистике H2 ({@code QUERY_STATISTICS}).
+     */
+    private Measurement measure(Runnable inserts) {
+        jdbcTemplate.execute("SET QUERY_STATISTICS_MAX_ENTRIES 10000");
+        jdbcTemplate.execute("SET QUERY_STATISTICS TRUE");
+        final long started = System.nanoTime();
+        inserts.run();
+        final long elapsedMillis = Math.max(1, Duration.ofNanos(System.nanoTime() - started).toMillis());
+        final Long statements = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(execution_count), 0) FROM information_schema.query_statistics", Long.class);
+        jdbcTemplate.execute("SET QUERY_STATISTICS FALSE");
+        return new Measurement(statements, elapsedMillis);
+    }
+
+    private record Measurement(long statements, long elapsedMillis) {
+
+        double rowsPerSecond() {
+            return ROWS * 1000.0 / elapsedMillis;
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package io.github.rxtcp.integrationcheck.service.writer;
 
 import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
+import io.github.rxtcp.integrationcheck.dto.CheckTimings;
 import io.github.rxtcp.integrationcheck.entity.Check;
 import io.github.rxtcp.integrationcheck.entity.CheckResult;
 import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
 import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.FailureReason;
 import io.github.rxtcp.integrationcheck.repository.CheckRepository;
 import io.github.rxtcp.integrationcheck.repository.CheckResultRepository;
+import io.github.rxtcp.integrationcheck.service.payload.CheckResultPayloadStore;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
@@ -15,12 +18,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.UUID;
 
 import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.PROCESSING;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
 
 @ActiveProfiles("test")
 @SpringBootTest
@@ -35,16 +45,22 @@ class CheckResultWriterServiceIntegrationTest {
     private final CheckResultWriterService service;
     private final CheckRepository checkRepository;
     private final CheckResultRepository checkResultRepository;
+    private final CheckResultPayloadStore checkResultPayloadStore;
     private final EntityManager em;
 
+    @MockitoSpyBean
+    private CheckWriter checkWriter;
+
     @Autowired
     CheckResultWriterServiceIntegrationTest(CheckResultWriterService service,
                                             CheckRepository checkRepository,
                                             CheckResultRepository checkResultRepository,
+                                            CheckResultPayloadStore checkResultPayloadStore,
                                             EntityManager em) {
         this.service = service;
         this.checkRepository = checkRepository;
         this.checkResultRepository = checkResultRepository;
+        this.checkResultPayloadStore = checkResultPayloadStore;
         this.em = em;
     }
 
@@ -67,7 +83,8 @@ class CheckResultWriterServiceIntegrationTest {
         assertThat(started.getFinishedAt()).isNull();
 
         // when: завершение
-        CheckResultDto dto = new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "done");
+        CheckResultDto dto = new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "done",
+                new CheckTimings(1_200, null, 35_000, 800, 37_500));
         LocalDateTime beforeEnd = LocalDateTime.now();
         CheckResult ended = service.recordProcessEnd(started, dto);
         LocalDateTime afterEnd = LocalDateTime.now();
@@ -75,7 +92,8 @@ class CheckResultWriterServiceIntegrationTest {
         // then: финал корректен, startedAt не изменился
         assertThat(ended.getId()).isEqualTo(started.getId());
         assertThat(ended.getStatus()).isEqualTo(CheckRunStatus.SUCCEEDED);
-        assertThat(ended.getDetails()).isEqualTo("done");
+        assertThat(ended.getDetails()).isNull();
+        assertThat(ended.getDetailsHash()).isNotNull();
         assertThat(ended.getFailureReason()).isNull();
         assertThat(ended.getFinishedAt()).isAfterOrEqualTo(beforeEnd).isBeforeOrEqualTo(afterEnd);
         assertThat(ended.getStartedAt()).isEqualTo(started.getStartedAt());
@@ -84,10 +102,15 @@ class CheckResultWriterServiceIntegrationTest {
         em.clear();
         CheckResult reloaded = checkResultRepository.findById(ended.getId()).orElseThrow();
         assertThat(reloaded.getStatus()).isEqualTo(CheckRunStatus.SUCCEEDED);
-        assertThat(reloaded.getDetails()).isEqualTo("done");
+        assertThat(checkResultPayloadStore.detailsOf(reloaded)).isEqualTo("done");
         assertThat(reloaded.getStartedAt()).isNotNull();
         assertThat(reloaded.getFinishedAt()).isNotNull();
         assertThat(reloaded.getCheck().getId()).isEqualTo(check.getId());
+        assertThat(reloaded.getDnsMicros()).isEqualTo(1_200);
+        assertThat(reloaded.getConnectMicros()).isNull();
+        assertThat(reloaded.getTtfbMicros()).isEqualTo(35_000);
+        assertThat(reloaded.getBodyMicros()).isEqualTo(800);
+        assertThat(reloaded.getTotalMicros()).isEqualTo(37_500);
     }
 
     @Test
@@ -106,6 +129,119 @@ class CheckResultWriterServiceIntegrationTest {
         }
     }
 
+    @Test
+    @DisplayName("completeProcess: итог запуска и next_run_at проверки сохраняются вместе")
+    void should_persist_outcome_and_next_run_at_in_one_call() {
+        // given
+        Check check = persistCheck();
+        CheckResult started = service.recordProcessStart(check);
+        CheckResultDto dto = new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "done",
+                new CheckTimings(null, null, 10_000, 500, 11_000));
+
+        // when
+        CheckResult completed = service.completeProcess(started, dto);
+
+        // then
+        em.clear();
+        CheckResult reloaded = checkResultRepository.findById(started.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(CheckRunStatus.SUCCEEDED);
+        assertThat(checkResultPayloadStore.detailsOf(reloaded)).isEqualTo("done");
+        assertThat(reloaded.getTtfbMicros()).isEqualTo(10_000);
+        assertThat(reloaded.getFinishedAt()).isNotNull();
+        Check reloadedCheck = checkRepository.findById(check.getId()).orElseThrow();
+        assertThat(reloadedCheck.getNextRunAt())
+                .isCloseTo(completed.getFinishedAt().plusMinutes(RUN_INTERVAL_MIN), within(1, ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("completeProcess: сбой переноса расписания откатывает и итог — одна транзакция")
+    void should_roll_back_outcome_when_reschedule_fails() {
+        // given
+        Check check = persistCheck();
+        CheckResult started = service.recordProcessStart(check);
+        doThrow(new IllegalStateException("reschedule failed")).when(checkWriter).rescheduleNextRun(any(), any());
+
+        // when
+        assertThatThrownBy(() -> service.completeProcess(started, new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "done")))
+                .isInstanceOf(IllegalStateException.class);
+
+        // then: строка осталась в состоянии старта
+        em.clear();
+        CheckResult reloaded = checkResultRepository.findById(started.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(PROCESSING);
+        assertThat(reloaded.getFinishedAt()).isNull();
+    }
+
+    @Test
+    @DisplayName("completeProcess: запуск, уже завершённый жнецом как ABANDONED, не перезаписывается и не переносит расписание")
+    void should_keep_abandoned_outcome_and_next_run_at_when_run_completes_late() {
+        // given: жнец завершил запуск и перенёс расписание раньше, чем запуск дописал итог
+        Check check = persistCheck();
+        CheckResult started = service.recordProcessStart(check);
+        CheckResult abandoned = checkResultRepository.findById(started.getId()).orElseThrow();
+        abandoned.setStatus(CheckRunStatus.FAILED);
+        abandoned.setFailureReason(FailureReason.ABANDONED);
+        abandoned.setFinishedAt(LocalDateTime.now());
+        checkResultRepository.saveAndFlush(abandoned);
+        LocalDateTime nextRunAt = checkRepository.findById(check.getId()).orElseThrow().getNextRunAt();
+
+        // when
+        service.completeProcess(started, new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "late"));
+
+        // then
+        em.clear();
+        CheckResult reloaded = checkResultRepository.findById(started.getId()).orElseThrow();
+        assertThat(reloaded.getStatus()).isEqualTo(CheckRunStatus.FAILED);
+        assertThat(reloaded.getFailureReason()).isEqualTo(FailureReason.ABANDONED);
+        assertThat(checkRepository.findById(check.getId()).orElseThrow().getNextRunAt())
+                .isCloseTo(nextRunAt, within(1, ChronoUnit.MILLIS));
+    }
+
+    @Test
+    @DisplayName("completeProcess: одинаковые детали разных запусков хранятся один раз и ссылаются на один хеш")
+    void should_store_identical_details_once() {
+        // given
+        Check check = persistCheck();
+        String body = "{\"status\":\"UP\",\"id\":\"" + UUID.randomUUID() + "\"}";
+
+        // when
+        CheckResult first = service.completeProcess(service.recordProcessStart(check),
+                new CheckResultDto(CheckRunStatus.SUCCEEDED, null, body));
+        CheckResult second = service.completeProcess(service.recordProcessStart(check),
+                new CheckResultDto(CheckRunStatus.SUCCEEDED, null, body));
+
+        // then
+        em.clear();
+        CheckResult firstReloaded = checkResultRepository.findById(first.getId()).orElseThrow();
+        CheckResult secondReloaded = checkResultRepository.findById(second.getId()).orElseThrow();
+        assertThat(firstReloaded.getDetails()).isNull();
+        assertThat(firstReloaded.getDetailsHash()).isEqualTo(secondReloaded.getDetailsHash());
+        assertThat(checkResultPayloadStore.detailsOf(secondReloaded)).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("recordProcessStarts: пачка стартов сохраняется одной транзакцией с идентификаторами из последовательности")
+    void should_persist_batch_of_starts_with_distinct_ids() {
+        // given
+        List<Check> checks = List.of(persistCheck(), persistCheck(), persistCheck());
+
+        // when
+        List<CheckResult> started = service.recordProcessStarts(checks);
+
+        // then
+        assertThat(started).hasSize(3)
+                .extracting(CheckResult::getId)
+                .doesNotContainNull()
+                .doesNotHaveDuplicates();
+        em.clear();
+        for (int i = 0; i < checks.size(); i++) {
+            CheckResult reloaded = checkResultRepository.findById(started.get(i).getId()).orElseThrow();
+            assertThat(reloaded.getStatus()).isEqualTo(PROCESSING);
+            assertThat(reloaded.getCheck().getId()).isEqualTo(checks.get(i).getId());
+            assertThat(reloaded.getFinishedAt()).isNull();
+        }
+    }
+
     /**
      * Создаёт и сохраняет Check с уникальным именем для исключения конфликтов на CI.
      */
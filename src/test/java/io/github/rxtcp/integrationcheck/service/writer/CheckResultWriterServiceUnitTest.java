@@ -5,6 +5,8 @@ import io.github.rxtcp.integrationcheck.entity.Check;
 import io.github.rxtcp.integrationcheck.entity.CheckResult;
 import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
 import io.github.rxtcp.integrationcheck.repository.CheckResultRepository;
+import io.github.rxtcp.integrationcheck.service.payload.CheckResultPayloadStore;
+import io.github.rxtcp.integrationcheck.service.rollup.CheckResultRollup;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
@@ -36,6 +38,12 @@ class CheckResultWriterServiceUnitTest {
 
     @Mock
     CheckResultRepository checkResultRepository;
+    @Mock
+    CheckWriter checkWriter;
+    @Mock
+    CheckResultRollup checkResultRollup;
+    @Mock
+    CheckResultPayloadStore checkResultPayloadStore;
 
     @InjectMocks
     CheckResultWriterService service;
@@ -67,6 +75,8 @@ class CheckResultWriterServiceUnitTest {
         ArgumentCaptor<CheckResult> captor = ArgumentCaptor.forClass(CheckResult.class);
         then(checkResultRepository).should().save(captor.capture());
         then(checkResultRepository).shouldHaveNoMoreInteractions();
+        then(checkResultRollup).shouldHaveNoInteractions();
+        then(checkResultPayloadStore).shouldHaveNoInteractions();
 
         CheckResult toSave = captor.getValue();
         // Проверяем, что в save ушли корректные данные
@@ -113,6 +123,8 @@ class CheckResultWriterServiceUnitTest {
         // then
         then(checkResultRepository).should().save(same(current));
         then(checkResultRepository).shouldHaveNoMoreInteractions();
+        then(checkResultRollup).should().record(same(current));
+        then(checkResultPayloadStore).should().externalize(same(current));
 
         assertThat(updated.getId()).isEqualTo(5L);
         assertThat(updated.getCheck()).isSameAs(check);
@@ -128,4 +140,56 @@ class CheckResultWriterServiceUnitTest {
         assertThat(updated.getStartedAt()).isEqualTo(FIXED_STARTED_AT);
         assertThat(updated.getStartedAt()).isBeforeOrEqualTo(updated.getFinishedAt());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("completeProcess: итог — UPDATE по id, расписание — через CheckWriter, без save()")
+    void completeProcess_should_update_outcome_and_reschedule_without_merge() {
+        // given
+        Check check = new Check();
+        check.setId(10L);
+        CheckResult current = CheckResult.builder()
+                .id(5L)
+                .check(check)
+                .startedAt(FIXED_STARTED_AT)
+                .status(PROCESSING)
+                .build();
+        CheckResultDto dto = new CheckResultDto(CheckRunStatus.FAILED, null, "bad");
+        given(checkResultRepository.updateOutcome(same(current))).willReturn(1);
+
+        // when
+        CheckResult completed = service.completeProcess(current, dto);
+
+        // then
+        then(checkResultRepository).should().updateOutcome(same(current));
+        then(checkResultRepository).shouldHaveNoMoreInteractions();
+        then(checkWriter).should().rescheduleNextRun(same(check), same(current));
+        then(checkResultRollup).should().record(same(current));
+        then(checkResultPayloadStore).should().externalize(same(current));
+        assertThat(completed).isSameAs(current);
+        assertThat(completed.getStatus()).isEqualTo(CheckRunStatus.FAILED);
+        assertThat(completed.getDetails()).isEqualTo("bad");
+        assertThat(completed.getFinishedAt()).isAfterOrEqualTo(FIXED_STARTED_AT);
+    }
+
+    @Test
+    @DisplayName("completeProcess: запись, уже завершённая жнецом, не переносит расписание и не учитывается повторно")
+    void completeProcess_should_skip_reschedule_and_rollup_when_run_already_finished() {
+        // given
+        Check check = new Check();
+        check.setId(10L);
+        CheckResult current = CheckResult.builder()
+                .id(5L)
+                .check(check)
+                .startedAt(FIXED_STARTED_AT)
+                .status(PROCESSING)
+                .build();
+        given(checkResultRepository.updateOutcome(same(current))).willReturn(0);
+
+        // when
+        service.completeProcess(current, new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "late"));
+
+        // then
+        then(checkWriter).shouldHaveNoInteractions();
+        then(checkResultRollup).shouldHaveNoInteractions();
+    }
+}
@@ -43,23 +43,21 @@ class CheckWriterServiceIntegrationTest {
     }
 
     @Test
-    @DisplayName("должен вычислять nextRunAt = finishedAt + interval, сохранять и реально персистить в БД")
-    void should_persist_computed_nextRunAt() {
+    @DisplayName("rescheduleNextRun: обновляет next_run_at в БД точечным UPDATE")
+    void should_persist_rescheduled_nextRunAt_with_bulk_update() {
         // given
         Check check = persistCheck(INTERVAL_MINUTES);
+        em.clear();
         CheckResult result = CheckResult.builder()
                 .finishedAt(FINISHED_AT)
                 .build();
 
         // when
-        Check returned = service.updateNextExecutionTime(check, result);
+        Check returned = service.rescheduleNextRun(check, result);
 
-        // then: сервис вернул обновлённую проверку с ожидаемым nextRunAt
-        assertThat(returned.getId()).isEqualTo(check.getId());
+        // then
         assertThat(returned.getNextRunAt()).isEqualTo(FINISHED_AT.plusMinutes(INTERVAL_MINUTES));
-
-        // and: состояние действительно сохранено в БД
-        em.clear(); // сбрасываем контекст, чтобы читать «как из БД»
+        em.clear();
         Check reloaded = checkRepository.findById(check.getId()).orElseThrow();
         assertThat(reloaded.getNextRunAt()).isEqualTo(FINISHED_AT.plusMinutes(INTERVAL_MINUTES));
     }
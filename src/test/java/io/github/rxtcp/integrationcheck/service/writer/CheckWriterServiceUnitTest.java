@@ -1,102 +1,155 @@
 package io.github.rxtcp.integrationcheck.service.writer;
 
+import io.github.rxtcp.integrationcheck.configuration.properties.AdaptiveIntervalProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.CheckLeaseProps;
+import io.github.rxtcp.integrationcheck.configuration.properties.SchedulingPolicyProps;
 import io.github.rxtcp.integrationcheck.entity.Check;
 import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
 import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.ScheduleMode;
 import io.github.rxtcp.integrationcheck.repository.CheckRepository;
+import io.github.rxtcp.integrationcheck.service.schedule.AdaptiveInterval;
+import io.github.rxtcp.integrationcheck.service.schedule.FixedRateSchedule;
+import io.github.rxtcp.integrationcheck.service.schedule.IntervalSchedulingPolicy;
+import io.github.rxtcp.integrationcheck.service.schedule.SchedulingPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
-@DisplayName("CheckWriterService — обновление nextRunAt и сохранение")
+@DisplayName("CheckWriterService — перенос nextRunAt")
 @DisplayNameGeneration(ReplaceUnderscores.class)
 class CheckWriterServiceUnitTest {
 
     // ---- Константы для стабильности тестов ----------------------------------------------------
     private static final long CHECK_ID = 10L;
     private static final int RUN_INTERVAL_MIN = 15;
+    private static final String NODE = "node-1";
 
     private static final LocalDateTime INITIAL_NEXT_RUN_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
     private static final LocalDateTime FINISHED_AT = LocalDateTime.of(2025, 1, 2, 3, 4, 5);
 
+    private static final SchedulingPolicyProps POLICY_PROPS = new SchedulingPolicyProps(
+            SchedulingPolicyProps.Type.INTERVAL, Duration.ZERO, Duration.ZERO, SchedulingPolicyProps.CatchUp.COALESCE);
+
     @Mock
     CheckRepository checkRepository;
 
+    @Spy
+    SchedulingPolicy schedulingPolicy = new IntervalSchedulingPolicy(POLICY_PROPS);
+
+    @Spy
+    FixedRateSchedule fixedRateSchedule = new FixedRateSchedule(POLICY_PROPS, new SimpleMeterRegistry());
+
+    @Spy
+    AdaptiveInterval adaptiveInterval = new AdaptiveInterval(new AdaptiveIntervalProps(3, 2, Duration.ofMinutes(10)), null, new SimpleMeterRegistry());
+
+    @Spy
+    CheckLeaseProps checkLeaseProps = new CheckLeaseProps(true, NODE, 100, Duration.ofMinutes(5));
+
     @InjectMocks
     CheckWriterService service;
 
     @Test
-    @DisplayName("должен выставлять nextRunAt=finishedAt+interval, вызывать save и возвращать результат репозитория")
-    void should_set_nextRunAt_and_save_and_return_repo_result() {
+    @DisplayName("rescheduleNextRun: должен бросать NPE, если finishedAt=null, и не обращаться к репозиторию")
+    void rescheduleNextRun_should_throw_npe_when_finishedAt_is_null_and_not_touch_repository() {
+        // given
+        Check check = new Check();
+        check.setRunIntervalMin(5);
+
+        CheckResult result = new CheckResult(); // finishedAt == null
+
+        // when / then
+        assertThatThrownBy(() -> service.rescheduleNextRun(check, result))
+                .isInstanceOf(NullPointerException.class);
+
+        verifyNoInteractions(checkRepository);
+    }
+
+    @Test
+    @DisplayName("rescheduleNextRun: один UPDATE по id без save() и возврат той же проверки")
+    void rescheduleNextRun_should_update_by_id_without_save() {
         // given
         Check check = Check.builder()
                 .id(CHECK_ID)
-                .name("name")
-                .description("desc")
-                .enabled(true)
                 .runIntervalMin(RUN_INTERVAL_MIN)
                 .nextRunAt(INITIAL_NEXT_RUN_AT)
-                .type(CheckType.values()[0])
                 .build();
-
         CheckResult result = CheckResult.builder()
                 .finishedAt(FINISHED_AT)
                 .build();
 
-        // Репозиторий вернёт «другой» экземпляр — проверим, что сервис возвращает именно его
-        Check repoReturn = new Check();
-        repoReturn.setId(CHECK_ID);
-        given(checkRepository.save(any(Check.class))).willReturn(repoReturn);
-
         // when
-        Check returned = service.updateNextExecutionTime(check, result);
+        Check returned = service.rescheduleNextRun(check, result);
 
         // then
-        ArgumentCaptor<Check> captor = ArgumentCaptor.forClass(Check.class);
-        then(checkRepository).should().save(captor.capture());
-
-        Check savedArg = captor.getValue();
-        assertThat(savedArg)
-                .as("в save должен уходить исходный объект проверки")
-                .isSameAs(check);
-        assertThat(savedArg.getNextRunAt())
-                .as("nextRunAt должен быть выставлен как finishedAt + runIntervalMin")
-                .isEqualTo(FINISHED_AT.plusMinutes(RUN_INTERVAL_MIN));
-
-        assertThat(returned)
-                .as("метод должен вернуть то, что вернул репозиторий")
-                .isSameAs(repoReturn);
+        then(checkRepository).should().updateNextRunAt(CHECK_ID, FINISHED_AT.plusMinutes(RUN_INTERVAL_MIN), NODE);
+        then(checkRepository).shouldHaveNoMoreInteractions();
+        assertThat(returned).isSameAs(check);
+        assertThat(returned.getNextRunAt()).isEqualTo(FINISHED_AT.plusMinutes(RUN_INTERVAL_MIN));
     }
 
     @Test
-    @DisplayName("должен бросать NPE, если finishedAt=null, и не обращаться к репозиторию")
-    void should_throw_npe_when_finishedAt_is_null_and_not_touch_repository() {
-        // given
-        Check check = new Check();
-        check.setRunIntervalMin(5);
+    @DisplayName("rescheduleNextRun: проверка FIXED_RATE отсчитывает интервал от запланированного времени, а не от завершения")
+    void rescheduleNextRun_should_anchor_fixed_rate_check_to_planned_time() {
+        // given: запуск по плану в 00:00 завершился в 00:02
+        Check check = Check.builder()
+                .id(CHECK_ID)
+                .runIntervalMin(RUN_INTERVAL_MIN)
+                .nextRunAt(INITIAL_NEXT_RUN_AT)
+                .scheduleMode(ScheduleMode.FIXED_RATE)
+                .build();
+        CheckResult result = CheckResult.builder()
+                .finishedAt(INITIAL_NEXT_RUN_AT.plusMinutes(2))
+                .build();
 
-        CheckResult result = new CheckResult(); // finishedAt == null
+        // when
+        Check returned = service.rescheduleNextRun(check, result);
 
-        // when / then
-        assertThatThrownBy(() -> service.updateNextExecutionTime(check, result))
-                .isInstanceOf(NullPointerException.class);
+        // then
+        then(checkRepository).should().updateNextRunAt(CHECK_ID, INITIAL_NEXT_RUN_AT.plusMinutes(RUN_INTERVAL_MIN), NODE);
+        then(schedulingPolicy).shouldHaveNoInteractions();
+        assertThat(returned.getNextRunAt()).isEqualTo(INITIAL_NEXT_RUN_AT.plusMinutes(RUN_INTERVAL_MIN));
+    }
 
-        verifyNoInteractions(checkRepository);
+    @Test
+    @DisplayName("rescheduleNextRun: сбой адаптивной проверки сужает интервал и сохраняет состояние тем же UPDATE")
+    void rescheduleNextRun_should_tighten_adaptive_interval_after_failure() {
+        // given: интервал 15 мин, нижняя граница 60 с
+        Check check = Check.builder()
+                .id(CHECK_ID)
+                .runIntervalMin(RUN_INTERVAL_MIN)
+                .nextRunAt(INITIAL_NEXT_RUN_AT)
+                .adaptiveMinIntervalSec(60)
+                .successStreak(2)
+                .build();
+        CheckResult result = CheckResult.builder()
+                .status(CheckRunStatus.FAILED)
+                .finishedAt(FINISHED_AT)
+                .build();
+
+        // when
+        service.rescheduleNextRun(check, result);
+
+        // then
+        int tightened = RUN_INTERVAL_MIN * 60 / 2;
+        then(checkRepository).should().updateNextRunAt(CHECK_ID, FINISHED_AT.plusSeconds(tightened), tightened, 0, NODE);
+        then(checkRepository).shouldHaveNoMoreInteractions();
     }
-}
\ No newline at end of file
+}
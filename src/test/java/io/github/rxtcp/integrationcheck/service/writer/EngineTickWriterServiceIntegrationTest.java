@@ -0,0 +1,76 @@
+package io.github.rxtcp.integrationcheck.service.writer;
+
+import io.github.rxtcp.integrationcheck.entity.EngineTick;
+import io.github.rxtcp.integrationcheck.repository.EngineTickRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.FAILED;
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.PROCESSING;
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.SUCCEEDED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@DisplayName("EngineTickWriterService — интеграция")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class EngineTickWriterServiceIntegrationTest {
+
+    private static final LocalDateTime WINDOW = LocalDateTime.of(2024, 1, 2, 3, 4, 30);
+
+    @Autowired
+    private EngineTickWriterService service;
+    @Autowired
+    private EngineTickRepository repository;
+
+    @AfterEach
+    void cleanup() {
+        repository.deleteAll();
+    }
+
+    @Test
+    void should_persist_tick_start_then_summary() {
+        EngineTick started = service.recordTickStart(WINDOW);
+
+        assertThat(started.getId()).isNotNull();
+        assertThat(started.getStatus()).isEqualTo(PROCESSING);
+        assertThat(started.getFinishedAt()).isNull();
+
+        service.recordTickEnd(started, 10_000, 0);
+
+        EngineTick reloaded = repository.findById(started.getId()).orElseThrow();
+        assertThat(reloaded.getWindowStart()).isEqualTo(WINDOW);
+        assertThat(reloaded.getStatus()).isEqualTo(SUCCEEDED);
+        assertThat(reloaded.getDueCount()).isEqualTo(10_000);
+        assertThat(reloaded.getErrorCount()).isZero();
+        assertThat(reloaded.getFinishedAt()).isAfterOrEqualTo(reloaded.getStartedAt());
+    }
+
+    @Test
+    void should_mark_tick_failed_when_some_slices_failed() {
+        EngineTick started = service.recordTickStart(WINDOW);
+
+        EngineTick ended = service.recordTickEnd(started, 3, 1);
+
+        assertThat(ended.getStatus()).isEqualTo(FAILED);
+    }
+
+    @Test
+    void should_reject_second_tick_for_same_window() {
+        service.recordTickStart(WINDOW);
+
+        assertThatThrownBy(() -> service.recordTickStart(WINDOW))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(repository.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.rxtcp.integrationcheck.service.writer;
+
+import io.github.rxtcp.integrationcheck.domain.CheckRunStatus;
+import io.github.rxtcp.integrationcheck.domain.CheckType;
+import io.github.rxtcp.integrationcheck.domain.FailureReason;
+import io.github.rxtcp.integrationcheck.dto.CheckResultDto;
+import io.github.rxtcp.integrationcheck.dto.CheckTimings;
+import io.github.rxtcp.integrationcheck.entity.Check;
+import io.github.rxtcp.integrationcheck.entity.CheckResult;
+import io.github.rxtcp.integrationcheck.repository.CheckRepository;
+import io.github.rxtcp.integrationcheck.repository.CheckResultRepository;
+import io.github.rxtcp.integrationcheck.service.payload.CheckResultPayloadStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator.ReplaceUnderscores;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static io.github.rxtcp.integrationcheck.domain.CheckRunStatus.PROCESSING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.awaitility.Awaitility.await;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@TestPropertySource(properties = {
+        "application.integration.result-sink.mode=write-behind",
+        "application.integration.result-sink.batch-size=5",
+        "application.integration.result-sink.flush-interval=100ms"
+})
+@DisplayName("WriteBehindCheckResultWriter — интеграция")
+@DisplayNameGeneration(ReplaceUnderscores.class)
+class WriteBehindCheckResultWriterIntegrationTest {
+
+    @Autowired
+    private CheckResultWriter writer;
+    @Autowired
+    private CheckRepository checkRepository;
+    @Autowired
+    private CheckResultRepository checkResultRepository;
+    @Autowired
+    private CheckResultPayloadStore checkResultPayloadStore;
+
+    @Test
+    void should_select_write_behind_writer_by_mode() {
+        assertThat(writer).isInstanceOf(WriteBehindCheckResultWriter.class);
+    }
+
+    @Test
+    void should_not_touch_database_on_start_and_insert_finished_row_on_flush() {
+        // given
+        Check check = persistCheck();
+
+        // when: старт — только в памяти
+        CheckResult started = writer.recordProcessStart(check);
+
+        // then
+        assertThat(started.getId()).isNull();
+        assertThat(started.getStatus()).isEqualTo(PROCESSING);
+        assertThat(resultsOf(check)).isEmpty();
+
+        // when: завершение — строка уходит в буфер
+        writer.recordProcessEnd(started, new CheckResultDto(CheckRunStatus.FAILED, FailureReason.TIMEOUT, "slow",
+                new CheckTimings(1_200, null, 35_000, null, 37_500)));
+
+        // then: после сброса в БД одна полная строка
+        await().atMost(Duration.ofSeconds(5)).until(() -> resultsOf(check).size() == 1);
+        CheckResult stored = resultsOf(check).getFirst();
+        assertThat(stored.getStatus()).isEqualTo(CheckRunStatus.FAILED);
+        assertThat(stored.getFailureReason()).isEqualTo(FailureReason.TIMEOUT);
+        assertThat(stored.getStartedAt()).isCloseTo(started.getStartedAt(), within(1, ChronoUnit.MILLIS));
+        assertThat(stored.getFinishedAt()).isCloseTo(started.getFinishedAt(), within(1, ChronoUnit.MILLIS));
+        assertThat(stored.getDnsMicros()).isEqualTo(1_200);
+        assertThat(stored.getBodyMicros()).isNull();
+        assertThat(stored.getTotalMicros()).isEqualTo(37_500);
+        assertThat(stored.getDetails()).isNull();
+        assertThat(stored.getDetailsHash()).isNotNull();
+        assertThat(checkResultPayloadStore.detailsOf(stored)).isEqualTo("slow");
+    }
+
+    @Test
+    void should_persist_many_results_in_batches() {
+        // given
+        Check check = persistCheck();
+
+        // when
+        List<CheckResult> started = IntStream.range(0, 12).mapToObj(i -> writer.recordProcessStart(check)).toList();
+        started.forEach(result -> writer.recordProcessEnd(result, new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "ok")));
+
+        // then
+        await().atMost(Duration.ofSeconds(5)).until(() -> resultsOf(check).size() == 12);
+    }
+
+    @Test
+    void should_reschedule_check_immediately_while_result_waits_in_buffer() {
+        // given
+        Check check = persistCheck();
+        CheckResult started = writer.recordProcessStart(check);
+
+        // when
+        CheckResult completed = writer.completeProcess(started, new CheckResultDto(CheckRunStatus.SUCCEEDED, null, "ok"));
+
+        // then
+        assertThat(checkRepository.findById(check.getId()).orElseThrow().getNextRunAt())
+                .isCloseTo(completed.getFinishedAt().plusMinutes(5), within(1, ChronoUnit.MILLIS));
+    }
+
+    private List<CheckResult> resultsOf(Check check) {
+        return checkResultRepository.findAll().stream()
+                .filter(r -> r.getCheck() != null && check.getId().equals(r.getCheck().getId()))
+                .toList();
+    }
+
+    private Check persistCheck() {
+        return checkRepository.saveAndFlush(Check.builder()
+                .name("write-behind-" + UUID.randomUUID())
+                .description("desc")
+                .enabled(true)
+                .runIntervalMin(5)
+                .nextRunAt(LocalDateTime.now().plusMinutes(5))
+                .type(CheckType.REST_API)
+                .build());
+    }
+}